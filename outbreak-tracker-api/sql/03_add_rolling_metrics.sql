@@ -0,0 +1,12 @@
+-- Adds rolling trend metrics computed during ingestion to covid_data
+-- Existing rows are backfilled on the next application startup (CovidDataInitializer)
+USE covid_tracker;
+
+ALTER TABLE covid_data
+    ADD COLUMN average_new_cases_7d DOUBLE NULL AFTER critical_cases,
+    ADD COLUMN average_new_cases_14d DOUBLE NULL AFTER average_new_cases_7d,
+    ADD COLUMN week_over_week_growth DOUBLE NULL AFTER average_new_cases_14d,
+    ADD COLUMN doubling_time_days DOUBLE NULL AFTER week_over_week_growth;
+
+-- Verify table change
+DESCRIBE covid_data;
@@ -4,7 +4,9 @@ import com.outbreaktracker.api.aiinsights.model.CovidInsightsResponse;
 import com.outbreaktracker.api.aiinsights.model.PrecautionGroup;
 import com.outbreaktracker.api.aiinsights.service.AiInsightsService;
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.RtPoint;
 import com.outbreaktracker.api.outbreak.service.CovidDataService;
+import com.outbreaktracker.api.outbreak.service.ReproductionService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -36,15 +38,18 @@ public class AiInsightsServiceImpl implements AiInsightsService {
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final CovidDataService covidDataService;
+    private final ReproductionService reproductionService;
     private final WebClient webClient;
     private final String model;
     private final boolean aiEnabled;
 
     public AiInsightsServiceImpl(CovidDataService covidDataService,
+                                 ReproductionService reproductionService,
                                  @Value("${openai.api.key:}") String apiKey,
                                  @Value("${openai.model:gpt-4o-mini}") String model,
                                  @Value("${openai.enabled:true}") boolean enabled) {
         this.covidDataService = covidDataService;
+        this.reproductionService = reproductionService;
         this.model = model;
         this.aiEnabled = enabled && apiKey != null && !apiKey.trim().isEmpty();
 
@@ -73,6 +78,7 @@ public class AiInsightsServiceImpl implements AiInsightsService {
         if (countryData == null) {
             throw new RuntimeException("Country not found: " + countryName);
         }
+        RtPoint rt = reproductionService.getLatestRt(countryData.getCountry());
 
         CovidInsightsResponse response = new CovidInsightsResponse();
         response.setCountry(countryData.getCountry());
@@ -86,7 +92,7 @@ public class AiInsightsServiceImpl implements AiInsightsService {
 
         if (aiEnabled) {
             try {
-                String prompt = buildInsightsPrompt(countryData);
+                String prompt = buildInsightsPrompt(countryData, rt);
                 String aiResponse = callOpenAI(prompt, 0.7);
                 parseInsightsResponse(aiResponse, response);
                 return response;
@@ -95,7 +101,7 @@ public class AiInsightsServiceImpl implements AiInsightsService {
             }
         }
 
-        response.setOverallAssessment(generateFallbackAssessment(countryData));
+        response.setOverallAssessment(generateFallbackAssessment(countryData, rt));
         return response;
     }
     
@@ -103,28 +109,15 @@ public class AiInsightsServiceImpl implements AiInsightsService {
      * Builds AI prompt with outbreak data and instructions
      * Creates structured prompt for OpenAI to generate insights
      */
-    private String buildInsightsPrompt(CovidData data) {
+    private String buildInsightsPrompt(CovidData data, RtPoint rt) {
         // Calculate mortality rate
         double mortalityRate = 0.0;
         if (data.getTotalCases() != null && data.getTotalCases() > 0 && data.getTotalDeaths() != null) {
             mortalityRate = (data.getTotalDeaths() * 100.0) / data.getTotalCases();
         }
         
-        // Determine trend based on new cases
-        String trendContext = "";
-        if (data.getNewCases() != null) {
-            if (data.getNewCases() > 10000) {
-                trendContext = "significant daily increase";
-            } else if (data.getNewCases() > 1000) {
-                trendContext = "moderate daily increase";
-            } else if (data.getNewCases() > 100) {
-                trendContext = "minor daily increase";
-            } else if (data.getNewCases() > 0) {
-                trendContext = "minimal daily increase";
-            } else {
-                trendContext = "no new cases reported";
-            }
-        }
+        // Determine trend from the estimated reproduction number and the rolling 7-day average
+        String trendContext = describeTrend(data, rt);
         
         // Calculate active case percentage
         double activeCaseRate = 0.0;
@@ -136,13 +129,14 @@ public class AiInsightsServiceImpl implements AiInsightsService {
                 "You are a public health expert analyzing respiratory outbreak data.\n\n" +
                 "Country: %s\n" +
                 "Total Cases: %,d\n" +
-                "New Cases Today: %,d (%s)\n" +
+                "New Cases Today: %,d\n" +
+                "%s" +
                 "Total Deaths: %,d (%.1f%% mortality)\n" +
                 "Active Cases: %,d (%.1f%% of total)\n\n" +
                 "Provide TWO sections:\n\n" +
                 "1. ASSESSMENT (EXACTLY 2 sentences):\n" +
                 "   - Reference SPECIFIC numbers from the data\n" +
-                "   - Analyze current situation focusing on key metrics\n" +
+                "   - Analyze current situation focusing on key metrics and the recent trend\n" +
                 "   - Keep it concise, natural and data-driven\n" +
                 "   - IMPORTANT: Must be EXACTLY 2 sentences, no more\n\n" +
                 "2. TARGETED_PRECAUTIONS (JSON array):\n" +
@@ -180,6 +174,64 @@ public class AiInsightsServiceImpl implements AiInsightsService {
         );
     }
     
+    /**
+     * Describes the recent trend for the prompt using the Rt estimate and the rolling metrics computed at ingestion
+     * Growth bands: above +25% rapidly rising, +5% rising, -5% stable, -25% declining, else rapidly declining
+     */
+    private String describeTrend(CovidData data, RtPoint rt) {
+        StringBuilder trend = new StringBuilder();
+        if (rt != null) {
+            trend.append(String.format("Effective Reproduction Number (Rt): %.2f (95%% interval %.2f-%.2f, %s)\n",
+                    rt.getRt(), rt.getLower(), rt.getUpper(), describeRt(rt)));
+        }
+        if (data.getAverageNewCases7d() == null) {
+            return rt != null ? trend.toString() : "Trend: insufficient case history\n";
+        }
+
+        trend.append(String.format("7-Day Average: %,.0f new cases/day", data.getAverageNewCases7d()));
+        if (data.getAverageNewCases14d() != null) {
+            trend.append(String.format(" (14-day average: %,.0f)", data.getAverageNewCases14d()));
+        }
+        trend.append("\n");
+
+        Double growth = data.getWeekOverWeekGrowth();
+        if (growth != null) {
+            String direction;
+            if (growth > 0.25) {
+                direction = "rapidly rising";
+            } else if (growth > 0.05) {
+                direction = "rising";
+            } else if (growth >= -0.05) {
+                direction = "stable";
+            } else if (growth >= -0.25) {
+                direction = "declining";
+            } else {
+                direction = "rapidly declining";
+            }
+            trend.append(String.format("Week-over-Week Change: %+.1f%% (%s)\n", growth * 100, direction));
+        } else if (data.getAverageNewCases7d() <= 0) {
+            trend.append("Week-over-Week Change: no new cases in the past week\n");
+        }
+
+        if (data.getDoublingTimeDays() != null) {
+            trend.append(String.format("Case Doubling Time: %,.0f days\n", data.getDoublingTimeDays()));
+        }
+        return trend.toString();
+    }
+
+    /**
+     * Labels an Rt estimate; growth or decline is only claimed when the credible interval excludes 1
+     * Bands: above 1.2 growing quickly, above 1 growing, below 0.8 declining quickly, below 1 declining
+     */
+    private String describeRt(RtPoint rt) {
+        if (rt.getLower() != null && rt.getLower() > 1.0) {
+            return rt.getRt() > 1.2 ? "growing quickly" : "growing";
+        } else if (rt.getUpper() != null && rt.getUpper() < 1.0) {
+            return rt.getRt() < 0.8 ? "declining quickly" : "declining";
+        }
+        return "stable";
+    }
+
     /**
      * Calls OpenAI API with prompt and temperature settings
      * Returns raw AI-generated response text
@@ -286,26 +338,29 @@ public class AiInsightsServiceImpl implements AiInsightsService {
     
     /**
      * Generates rule-based assessment when AI is unavailable
-     * Uses simple heuristics based on case counts
+     * Uses simple heuristics based on case counts and the current Rt estimate
      */
-    private String generateFallbackAssessment(CovidData data) {
+    private String generateFallbackAssessment(CovidData data, RtPoint rt) {
         String countryName = data.getCountry();
         long totalCases = data.getTotalCases() != null ? data.getTotalCases() : 0;
         long activeCases = data.getActiveCases() != null ? data.getActiveCases() : 0;
-        
+
+        String rtSentence = rt == null ? "" : String.format(
+                "Each case currently leads to an estimated %.2f further cases, so transmission is %s. ",
+                rt.getRt(), describeRt(rt));
         if (totalCases > 10000000) {
-            return String.format("%s has experienced significant respiratory outbreak impact with over %,d total cases. " +
+            return String.format("%s has experienced significant respiratory outbreak impact with over %,d total cases. %s" +
                     "With %,d active cases currently, continued vigilance and health precautions are important. " +
                     "Stay informed about local guidelines and vaccination availability.",
-                    countryName, totalCases, activeCases);
+                    countryName, totalCases, rtSentence, activeCases);
         } else if (totalCases > 1000000) {
-            return String.format("%s has reported %,d total respiratory outbreak cases with %,d currently active. " +
+            return String.format("%s has reported %,d total respiratory outbreak cases with %,d currently active. %s" +
                     "Following public health guidelines and staying vaccinated can help protect yourself and your community.",
-                    countryName, totalCases, activeCases);
+                    countryName, totalCases, activeCases, rtSentence);
         } else {
-            return String.format("%s has recorded %,d total respiratory outbreak cases. " +
+            return String.format("%s has recorded %,d total respiratory outbreak cases. %s" +
                     "Continue to follow local health guidelines and maintain recommended safety measures.",
-                    countryName, totalCases);
+                    countryName, totalCases, rtSentence);
         }
     }
 }
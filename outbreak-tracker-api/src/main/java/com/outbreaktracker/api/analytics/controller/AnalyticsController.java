@@ -1,5 +1,6 @@
 package com.outbreaktracker.api.analytics.controller;
 
+import com.outbreaktracker.api.analytics.model.AnalyticsDashboard;
 import com.outbreaktracker.api.analytics.model.AnalyticsInsightsResponse;
 import com.outbreaktracker.api.analytics.service.AnalyticsService;
 import com.outbreaktracker.api.analytics.service.AnalyticsAiService;
@@ -66,6 +67,16 @@ public class AnalyticsController {
         return ResponseEntity.ok(analyticsService.getTimeline());
     }
 
+    /**
+     * GET /api/analytics/dashboard - Returns summary and timeline in one response
+     * Used by the analytics page instead of separate /summary and /timeline calls
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<AnalyticsDashboard> getDashboard() {
+        logger.info("GET /api/analytics/dashboard - Fetching analytics dashboard");
+        return ResponseEntity.ok(analyticsService.getDashboard());
+    }
+
     /**
      * GET /api/analytics/ai-insights - Returns AI-powered system analysis
      * Provides intelligent performance analysis and recommendations using OpenAI
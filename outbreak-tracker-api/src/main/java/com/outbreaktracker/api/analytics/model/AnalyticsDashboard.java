@@ -0,0 +1,95 @@
+package com.outbreaktracker.api.analytics.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Model representing everything the analytics dashboard needs in one payload
+ * Combines GET /api/analytics/summary and GET /api/analytics/timeline
+ */
+public class AnalyticsDashboard {
+
+    private long totalRequests;
+    private Map<String, Long> endpointStats = new HashMap<>();
+    private Map<String, Double> responseTimeStats = new HashMap<>();
+    private Map<String, Map<String, Long>> successErrorRates = new HashMap<>();
+    private List<Map<String, Object>> timeline = new ArrayList<>();
+    private LocalDateTime generatedAt;
+
+    public AnalyticsDashboard() {
+    }
+
+    public AnalyticsDashboard(long totalRequests, Map<String, Long> endpointStats,
+                              Map<String, Double> responseTimeStats,
+                              Map<String, Map<String, Long>> successErrorRates,
+                              List<Map<String, Object>> timeline, LocalDateTime generatedAt) {
+        this.totalRequests = totalRequests;
+        this.endpointStats = endpointStats;
+        this.responseTimeStats = responseTimeStats;
+        this.successErrorRates = successErrorRates;
+        this.timeline = timeline;
+        this.generatedAt = generatedAt;
+    }
+
+    // Getters and Setters
+    public long getTotalRequests() {
+        return totalRequests;
+    }
+
+    public void setTotalRequests(long totalRequests) {
+        this.totalRequests = totalRequests;
+    }
+
+    public Map<String, Long> getEndpointStats() {
+        return endpointStats;
+    }
+
+    public void setEndpointStats(Map<String, Long> endpointStats) {
+        this.endpointStats = endpointStats;
+    }
+
+    public Map<String, Double> getResponseTimeStats() {
+        return responseTimeStats;
+    }
+
+    public void setResponseTimeStats(Map<String, Double> responseTimeStats) {
+        this.responseTimeStats = responseTimeStats;
+    }
+
+    public Map<String, Map<String, Long>> getSuccessErrorRates() {
+        return successErrorRates;
+    }
+
+    public void setSuccessErrorRates(Map<String, Map<String, Long>> successErrorRates) {
+        this.successErrorRates = successErrorRates;
+    }
+
+    public List<Map<String, Object>> getTimeline() {
+        return timeline;
+    }
+
+    public void setTimeline(List<Map<String, Object>> timeline) {
+        this.timeline = timeline;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalyticsDashboard{" +
+                "totalRequests=" + totalRequests +
+                ", endpoints=" + endpointStats.size() +
+                ", timeline=" + timeline.size() +
+                ", generatedAt=" + generatedAt +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package com.outbreaktracker.api.analytics.service;
 
+import com.outbreaktracker.api.analytics.model.AnalyticsDashboard;
+
 import java.util.List;
 import java.util.Map;
 
@@ -42,5 +44,11 @@ public interface AnalyticsService {
      * @return List of request metrics with timestamp, endpoint, method, status code, response time
      */
     List<Map<String, Object>> getTimeline();
-}
 
+    /**
+     * Returns summary stats and timeline together, computed from a single read of the metrics
+     * Reused for all requests within one analytics window
+     * @return Dashboard payload with all aggregations and the recent timeline
+     */
+    AnalyticsDashboard getDashboard();
+}
@@ -1,12 +1,15 @@
 package com.outbreaktracker.api.analytics.service.impl;
 
+import com.outbreaktracker.api.analytics.model.AnalyticsDashboard;
 import com.outbreaktracker.api.analytics.model.ApiRequestMetric;
 import com.outbreaktracker.api.analytics.repository.AnalyticsRepository;
 import com.outbreaktracker.api.analytics.service.AnalyticsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -23,6 +26,12 @@ public class AnalyticsServiceImpl implements AnalyticsService {
 
     private final AnalyticsRepository analyticsRepository;
 
+    @Value("${analytics.dashboard.window-ms:10000}")
+    private long dashboardWindowMs = 10000;
+
+    /** Dashboard computed for the current analytics window */
+    private volatile DashboardWindow dashboardWindow;
+
     public AnalyticsServiceImpl(AnalyticsRepository analyticsRepository) {
         this.analyticsRepository = analyticsRepository;
     }
@@ -34,8 +43,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public Map<String, Long> getEndpointStats() {
         logger.debug("Fetching endpoint statistics");
-        
-        List<ApiRequestMetric> allMetrics = analyticsRepository.findAll();
+        return countByEndpoint(analyticsRepository.findAll());
+    }
+
+    private static Map<String, Long> countByEndpoint(List<ApiRequestMetric> allMetrics) {
         Map<String, Long> endpointCounts = new HashMap<>();
         
         for (ApiRequestMetric metric : allMetrics) {
@@ -53,8 +64,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public Map<String, Double> getResponseTimeStats() {
         logger.debug("Fetching response time statistics");
-        
-        List<ApiRequestMetric> allMetrics = analyticsRepository.findAll();
+        return averageResponseTimes(analyticsRepository.findAll());
+    }
+
+    private static Map<String, Double> averageResponseTimes(List<ApiRequestMetric> allMetrics) {
         Map<String, Long> endpointTotalTime = new HashMap<>();
         Map<String, Long> endpointCounts = new HashMap<>();
         
@@ -86,8 +99,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public Map<String, Map<String, Long>> getSuccessErrorRates() {
         logger.debug("Fetching success/error rate statistics");
-        
-        List<ApiRequestMetric> allMetrics = analyticsRepository.findAll();
+        return successErrorRates(analyticsRepository.findAll());
+    }
+
+    private static Map<String, Map<String, Long>> successErrorRates(List<ApiRequestMetric> allMetrics) {
         Map<String, Map<String, Long>> result = new HashMap<>();
         
         for (ApiRequestMetric metric : allMetrics) {
@@ -121,9 +136,10 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public List<Map<String, Object>> getTimeline() {
         logger.debug("Fetching request timeline");
-        
-        List<ApiRequestMetric> allMetrics = analyticsRepository.findAll();
-        
+        return timeline(analyticsRepository.findAll());
+    }
+
+    private static List<Map<String, Object>> timeline(List<ApiRequestMetric> allMetrics) {
         // Sort by timestamp descending (most recent first)
         Collections.sort(allMetrics, new Comparator<ApiRequestMetric>() {
             @Override
@@ -149,5 +165,51 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         
         return timeline;
     }
-}
 
+    /**
+     * Returns summary stats and timeline in one payload
+     * Reads the metrics collection once (instead of once per statistic) and reuses the
+     * result for every request within the same analytics window (analytics.dashboard.window-ms)
+     */
+    @Override
+    public AnalyticsDashboard getDashboard() {
+        long windowIndex = System.currentTimeMillis() / Math.max(1, dashboardWindowMs);
+        DashboardWindow cached = dashboardWindow;
+        if (cached != null && cached.windowIndex == windowIndex) {
+            return cached.dashboard;
+        }
+
+        logger.debug("Computing analytics dashboard for window {}", windowIndex);
+        List<ApiRequestMetric> allMetrics = analyticsRepository.findAll();
+        Map<String, Long> endpointStats = countByEndpoint(allMetrics);
+
+        long totalRequests = 0;
+        for (Long count : endpointStats.values()) {
+            totalRequests += count;
+        }
+
+        AnalyticsDashboard dashboard = new AnalyticsDashboard(
+                totalRequests,
+                endpointStats,
+                averageResponseTimes(allMetrics),
+                successErrorRates(allMetrics),
+                timeline(allMetrics),
+                LocalDateTime.now());
+        dashboardWindow = new DashboardWindow(windowIndex, dashboard);
+        return dashboard;
+    }
+
+    /**
+     * Dashboard together with the analytics window it was computed for
+     */
+    private static final class DashboardWindow {
+
+        private final long windowIndex;
+        private final AnalyticsDashboard dashboard;
+
+        DashboardWindow(long windowIndex, AnalyticsDashboard dashboard) {
+            this.windowIndex = windowIndex;
+            this.dashboard = dashboard;
+        }
+    }
+}
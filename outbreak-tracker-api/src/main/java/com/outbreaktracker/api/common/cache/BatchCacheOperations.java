@@ -0,0 +1,31 @@
+package com.outbreaktracker.api.common.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Multi-key cache access for batch endpoints
+ * Spring's Cache abstraction only offers single-key get/put; this reads or writes many
+ * entries of one cache in a single round trip
+ *
+ * Only available when Redis caching is enabled (spring.cache.redis.enabled=true)
+ */
+public interface BatchCacheOperations {
+
+    /**
+     * Reads many entries of one cache at once
+     *
+     * @param cacheName Cache name as used in @Cacheable
+     * @param keys      Cache keys (without the cache name prefix)
+     * @return Map of key to cached value; missing keys are absent
+     */
+    Map<String, Object> multiGet(String cacheName, Collection<String> keys);
+
+    /**
+     * Writes many entries of one cache at once, with the standard cache TTL
+     *
+     * @param cacheName Cache name as used in @Cacheable
+     * @param entries   Map of key to value (null values are skipped)
+     */
+    void multiPut(String cacheName, Map<String, ?> entries);
+}
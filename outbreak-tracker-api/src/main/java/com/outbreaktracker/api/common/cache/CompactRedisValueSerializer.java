@@ -0,0 +1,405 @@
+package com.outbreaktracker.api.common.cache;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary Redis value serializer for cached outbreak data
+ *
+ * Encodes CovidData, List<CovidData> and GlobalStats without JSON field names or
+ * embedded class metadata. Any other value type is delegated to JSON.
+ *
+ * Layout (all integers are unsigned varints unless noted):
+ * - header: MAGIC byte, FORMAT_VERSION byte, type tag byte
+ * - string: (byteLength + 1) followed by UTF-8 bytes, 0 means null
+ * - longs:  presence bitmask, then one zig-zag varint per non-null field
+ * - doubles: presence bitmask, then 8 bytes (IEEE 754 bits, big-endian) per non-null field
+ * - list:   element count, a table of the distinct lastUpdated labels (count, then strings),
+ *           then each element without its own header; an element's lastUpdated is written
+ *           as (table index + 1), 0 meaning null, instead of repeating the string per row
+ *
+ * Values not starting with MAGIC are decoded as JSON, so entries written by the
+ * previous serializer stay readable. Unknown format versions decode to null,
+ * which the cache treats as a miss.
+ */
+public class CompactRedisValueSerializer implements RedisSerializer<Object> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactRedisValueSerializer.class);
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte FORMAT_VERSION = 3;
+
+    private static final byte TYPE_COVID_DATA = 1;
+    private static final byte TYPE_COVID_DATA_LIST = 2;
+    private static final byte TYPE_GLOBAL_STATS = 3;
+
+    private final RedisSerializer<Object> fallback;
+
+    public CompactRedisValueSerializer() {
+        this(new GenericJackson2JsonRedisSerializer());
+    }
+
+    public CompactRedisValueSerializer(RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof CovidData) {
+            ByteWriter out = header(TYPE_COVID_DATA, 64);
+            writeCovidData(out, (CovidData) value);
+            out.writeString(((CovidData) value).getLastUpdated());
+            return out.toByteArray();
+        }
+        if (value instanceof GlobalStats) {
+            ByteWriter out = header(TYPE_GLOBAL_STATS, 64);
+            writeGlobalStats(out, (GlobalStats) value);
+            return out.toByteArray();
+        }
+        if (isCovidDataList(value)) {
+            List<?> list = (List<?>) value;
+            ByteWriter out = header(TYPE_COVID_DATA_LIST, 16 + list.size() * 48);
+            out.writeVarLong(list.size());
+            Map<String, Integer> labelIndexes = new LinkedHashMap<>();
+            for (Object element : list) {
+                String label = ((CovidData) element).getLastUpdated();
+                if (label != null && !labelIndexes.containsKey(label)) {
+                    labelIndexes.put(label, labelIndexes.size());
+                }
+            }
+            out.writeVarLong(labelIndexes.size());
+            for (String label : labelIndexes.keySet()) {
+                out.writeString(label);
+            }
+            for (Object element : list) {
+                CovidData data = (CovidData) element;
+                writeCovidData(out, data);
+                out.writeVarLong(data.getLastUpdated() == null ? 0 : labelIndexes.get(data.getLastUpdated()) + 1L);
+            }
+            return out.toByteArray();
+        }
+        return fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3) {
+            throw new SerializationException("Truncated cache value header");
+        }
+        if (bytes[1] != FORMAT_VERSION) {
+            logger.debug("Ignoring cache value with unsupported format version {}", bytes[1]);
+            return null;
+        }
+
+        ByteReader in = new ByteReader(bytes, 3);
+        try {
+            switch (bytes[2]) {
+                case TYPE_COVID_DATA:
+                    CovidData data = readCovidData(in);
+                    data.setLastUpdated(in.readString());
+                    return data;
+                case TYPE_GLOBAL_STATS:
+                    return readGlobalStats(in);
+                case TYPE_COVID_DATA_LIST:
+                    long size = in.readVarLong();
+                    long labelCount = in.readVarLong();
+                    // Every element and label takes at least one byte; anything larger is corrupt
+                    if (size < 0 || size > in.remaining() || labelCount < 0 || labelCount > in.remaining()) {
+                        logger.debug("Ignoring cache value with implausible list size {}", size);
+                        return null;
+                    }
+                    String[] labels = new String[(int) labelCount];
+                    for (int i = 0; i < labels.length; i++) {
+                        labels[i] = in.readString();
+                    }
+                    List<CovidData> list = new ArrayList<>((int) size);
+                    for (int i = 0; i < size; i++) {
+                        CovidData element = readCovidData(in);
+                        int label = (int) in.readVarLong();
+                        element.setLastUpdated(label == 0 ? null : labels[label - 1]);
+                        list.add(element);
+                    }
+                    return list;
+                default:
+                    throw new SerializationException("Unknown cache value type tag: " + bytes[2]);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated cache value", e);
+        }
+    }
+
+    private static boolean isCovidDataList(Object value) {
+        if (!(value instanceof List)) {
+            return false;
+        }
+        for (Object element : (List<?>) value) {
+            if (!(element instanceof CovidData)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteWriter header(byte typeTag, int expectedSize) {
+        ByteWriter out = new ByteWriter(expectedSize);
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(typeTag);
+        return out;
+    }
+
+    /**
+     * Writes everything but lastUpdated, which the caller writes inline or as a label reference
+     */
+    private static void writeCovidData(ByteWriter out, CovidData data) {
+        out.writeString(data.getCountry());
+        out.writeNullableLongs(
+                data.getTotalCases(),
+                data.getNewCases(),
+                data.getTotalDeaths(),
+                data.getNewDeaths(),
+                data.getTotalRecovered(),
+                data.getActiveCases(),
+                data.getCriticalCases());
+        out.writeNullableDoubles(
+                data.getAverageNewCases7d(),
+                data.getAverageNewCases14d(),
+                data.getWeekOverWeekGrowth(),
+                data.getDoublingTimeDays());
+    }
+
+    private static CovidData readCovidData(ByteReader in) {
+        CovidData data = new CovidData();
+        data.setCountry(in.readString());
+        Long[] values = in.readNullableLongs(7);
+        data.setTotalCases(values[0]);
+        data.setNewCases(values[1]);
+        data.setTotalDeaths(values[2]);
+        data.setNewDeaths(values[3]);
+        data.setTotalRecovered(values[4]);
+        data.setActiveCases(values[5]);
+        data.setCriticalCases(values[6]);
+        Double[] rolling = in.readNullableDoubles(4);
+        data.setAverageNewCases7d(rolling[0]);
+        data.setAverageNewCases14d(rolling[1]);
+        data.setWeekOverWeekGrowth(rolling[2]);
+        data.setDoublingTimeDays(rolling[3]);
+        return data;
+    }
+
+    private static void writeGlobalStats(ByteWriter out, GlobalStats stats) {
+        out.writeNullableLongs(
+                stats.getTotalCases(),
+                stats.getTotalDeaths(),
+                stats.getTotalRecovered(),
+                stats.getActiveCases(),
+                stats.getCriticalCases());
+        out.writeVarLong(zigZag(stats.getAffectedCountries()));
+        out.writeNullableDoubles(
+                stats.getAverageNewCases7d(),
+                stats.getAverageNewCases14d(),
+                stats.getWeekOverWeekGrowth(),
+                stats.getDoublingTimeDays());
+        out.writeString(stats.getLastUpdated());
+    }
+
+    private static GlobalStats readGlobalStats(ByteReader in) {
+        GlobalStats stats = new GlobalStats();
+        Long[] values = in.readNullableLongs(5);
+        stats.setTotalCases(values[0]);
+        stats.setTotalDeaths(values[1]);
+        stats.setTotalRecovered(values[2]);
+        stats.setActiveCases(values[3]);
+        stats.setCriticalCases(values[4]);
+        stats.setAffectedCountries((int) unZigZag(in.readVarLong()));
+        Double[] rolling = in.readNullableDoubles(4);
+        stats.setAverageNewCases7d(rolling[0]);
+        stats.setAverageNewCases14d(rolling[1]);
+        stats.setWeekOverWeekGrowth(rolling[2]);
+        stats.setDoublingTimeDays(rolling[3]);
+        stats.setLastUpdated(in.readString());
+        return stats;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Growable byte buffer with varint helpers
+     */
+    private static final class ByteWriter {
+
+        private byte[] buffer;
+        private int position;
+
+        ByteWriter(int initialCapacity) {
+            this.buffer = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeNullableLongs(Long... values) {
+            long presence = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    presence |= 1L << i;
+                }
+            }
+            writeVarLong(presence);
+            for (Long value : values) {
+                if (value != null) {
+                    writeVarLong(zigZag(value));
+                }
+            }
+        }
+
+        void writeNullableDoubles(Double... values) {
+            long presence = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    presence |= 1L << i;
+                }
+            }
+            writeVarLong(presence);
+            for (Double value : values) {
+                if (value != null) {
+                    long bits = Double.doubleToLongBits(value);
+                    ensureCapacity(8);
+                    for (int shift = 56; shift >= 0; shift -= 8) {
+                        buffer[position++] = (byte) (bits >>> shift);
+                    }
+                }
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    /**
+     * Sequential reader over an encoded value
+     */
+    private static final class ByteReader {
+
+        private final byte[] buffer;
+        private int position;
+
+        ByteReader(byte[] buffer, int offset) {
+            this.buffer = buffer;
+            this.position = offset;
+        }
+
+        int remaining() {
+            return buffer.length - position;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("Malformed varint in cache value");
+        }
+
+        Long[] readNullableLongs(int count) {
+            long presence = readVarLong();
+            Long[] values = new Long[count];
+            for (int i = 0; i < count; i++) {
+                if ((presence & (1L << i)) != 0) {
+                    values[i] = unZigZag(readVarLong());
+                }
+            }
+            return values;
+        }
+
+        Double[] readNullableDoubles(int count) {
+            long presence = readVarLong();
+            Double[] values = new Double[count];
+            for (int i = 0; i < count; i++) {
+                if ((presence & (1L << i)) != 0) {
+                    long bits = 0;
+                    for (int b = 0; b < 8; b++) {
+                        bits = (bits << 8) | (buffer[position++] & 0xFFL);
+                    }
+                    values[i] = Double.longBitsToDouble(bits);
+                }
+            }
+            return values;
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            length--;
+            if (position + length > buffer.length) {
+                throw new SerializationException("Truncated string in cache value");
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
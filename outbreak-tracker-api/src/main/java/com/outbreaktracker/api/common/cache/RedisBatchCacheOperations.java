@@ -0,0 +1,98 @@
+package com.outbreaktracker.api.common.cache;
+
+import com.outbreaktracker.api.common.config.RedisConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis implementation of BatchCacheOperations
+ * Uses MGET for reads and a pipelined SET ... PX for writes, with the same key prefix
+ * ("cacheName::key"), value serializer and TTL as the RedisCacheManager in RedisConfig,
+ * so entries are interchangeable with those written by @Cacheable
+ */
+@Component
+@ConditionalOnProperty(name = "spring.cache.redis.enabled", havingValue = "true")
+public class RedisBatchCacheOperations implements BatchCacheOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisBatchCacheOperations.class);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisSerializer<Object> cacheValueSerializer;
+
+    public RedisBatchCacheOperations(RedisConnectionFactory connectionFactory,
+                                     RedisSerializer<Object> cacheValueSerializer) {
+        this.connectionFactory = connectionFactory;
+        this.cacheValueSerializer = cacheValueSerializer;
+    }
+
+    @Override
+    public Map<String, Object> multiGet(String cacheName, Collection<String> keys) {
+        Map<String, Object> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        byte[][] rawKeys = new byte[keyList.size()][];
+        for (int i = 0; i < keyList.size(); i++) {
+            rawKeys[i] = rawKey(cacheName, keyList.get(i));
+        }
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            List<byte[]> values = connection.stringCommands().mGet(rawKeys);
+            for (int i = 0; values != null && i < values.size(); i++) {
+                Object value = cacheValueSerializer.deserialize(values.get(i));
+                if (value != null) {
+                    result.put(keyList.get(i), value);
+                }
+            }
+        } catch (Exception e) {
+            // Cache is an optimization - treat failures as misses
+            logger.warn("Redis multi-get on cache '{}' failed: {}", cacheName, e.getMessage());
+        }
+
+        logger.debug("Cache '{}' multi-get: {} of {} keys hit", cacheName, result.size(), keys.size());
+        return result;
+    }
+
+    @Override
+    public void multiPut(String cacheName, Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Expiration ttl = Expiration.from(RedisConfig.CACHE_TTL);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (Map.Entry<String, ?> entry : entries.entrySet()) {
+                if (entry.getValue() != null) {
+                    connection.stringCommands().set(rawKey(cacheName, entry.getKey()),
+                            cacheValueSerializer.serialize(entry.getValue()),
+                            ttl, RedisStringCommands.SetOption.upsert());
+                }
+            }
+            connection.closePipeline();
+        } catch (Exception e) {
+            logger.warn("Redis multi-put on cache '{}' failed: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private static byte[] rawKey(String cacheName, String key) {
+        return (CacheKeyPrefix.simple().compute(cacheName) + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
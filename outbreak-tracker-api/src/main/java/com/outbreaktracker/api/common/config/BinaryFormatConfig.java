@@ -0,0 +1,33 @@
+package com.outbreaktracker.api.common.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary response formats
+ * Registers Jackson Smile (application/x-jackson-smile) and CBOR (application/cbor) converters next
+ * to JSON, so API clients that send a matching Accept header get the same bodies in a compact
+ * binary encoding. JSON stays the default when Accept is absent or lists JSON first.
+ *
+ * Both mappers are built from Spring Boot's Jackson2ObjectMapperBuilder, so spring.jackson.*
+ * settings, registered modules and @JsonComponent serializers apply to every format alike
+ * (the builder bean is prototype-scoped, so setting the factory here does not leak into JSON).
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
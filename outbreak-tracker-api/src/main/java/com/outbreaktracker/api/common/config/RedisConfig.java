@@ -1,5 +1,9 @@
 package com.outbreaktracker.api.common.config;
 
+import com.outbreaktracker.api.common.cache.CompactRedisValueSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +13,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -18,19 +23,39 @@ import java.time.Duration;
  * Only enabled when spring.cache.redis.enabled=true
  * When disabled, caching is bypassed and requests go directly to database
  * Cache entries expire after 2 minutes
+ * Value encoding is selected by outbreak.cache.value-codec (binary or json)
  */
 @Configuration
 @ConditionalOnProperty(name = "spring.cache.redis.enabled", havingValue = "true", matchIfMissing = false)
 public class RedisConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(RedisConfig.class);
+
+    /** Time to live for all cache entries */
+    public static final Duration CACHE_TTL = Duration.ofMinutes(2);
+
+    @Value("${outbreak.cache.value-codec:json}")
+    private String valueCodec;
+
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer() {
+        if ("binary".equalsIgnoreCase(valueCodec)) {
+            logger.info("Redis cache values use compact binary encoding");
+            return new CompactRedisValueSerializer();
+        }
+        logger.info("Redis cache values use JSON encoding");
+        return new GenericJackson2JsonRedisSerializer();
+    }
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisSerializer<Object> cacheValueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(2)) // Cache expires after 2 minutes
+                .entryTtl(CACHE_TTL) // Cache expires after 2 minutes
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                        .fromSerializer(cacheValueSerializer))
                 .disableCachingNullValues();
 
         return RedisCacheManager.builder(connectionFactory)
@@ -0,0 +1,12 @@
+package com.outbreaktracker.api.common.exception;
+
+/**
+ * Thrown when a request needs the in-memory dataset before the first load has finished
+ * Mapped to 503 Service Unavailable by GlobalExceptionHandler; clients should retry later
+ */
+public class DatasetNotLoadedException extends IllegalStateException {
+
+    public DatasetNotLoadedException() {
+        super("Outbreak dataset is not loaded yet");
+    }
+}
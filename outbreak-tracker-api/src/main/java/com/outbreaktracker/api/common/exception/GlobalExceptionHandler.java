@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -34,6 +35,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Handles missing or malformed request bodies - returns 400 Bad Request
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        logger.warn("Unreadable request body: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse("Bad Request", "Request body is missing or malformed");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Handles requests that arrive before the first dataset load - returns 503 Service Unavailable
+     */
+    @ExceptionHandler(DatasetNotLoadedException.class)
+    public ResponseEntity<ErrorResponse> handleDatasetNotLoadedException(DatasetNotLoadedException ex) {
+        logger.warn("Service unavailable: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse("Service Unavailable", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
     /**
      * Handles all other exceptions - returns 500 Internal Server Error
      */
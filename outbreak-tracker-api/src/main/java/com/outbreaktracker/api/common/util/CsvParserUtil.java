@@ -1,6 +1,8 @@
 package com.outbreaktracker.api.common.util;
 
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.RollingMetrics;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -12,9 +14,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -25,15 +31,19 @@ import java.util.Map;
  * - Date columns contain cumulative confirmed cases
  * 
  * Processing:
- * 1. Identifies date columns (excludes metadata: Province/State, Country/Region, Lat, Long)
- * 2. Extracts latest 2 dates for calculating new cases
- * 3. Aggregates provinces/states by country (sums values)
+ * 1. Identifies date columns (excludes metadata: Province/State, Country/Region, Lat, Long;
+ *    other columns whose header is not a date are skipped with a warning)
+ * 2. Aggregates provinces/states by country (sums values for every date)
+ * 3. Uses the latest 2 dates for current totals and new cases
  * 4. Estimates other metrics (deaths, recovered, etc.) since CSV only has confirmed cases
  */
 public class CsvParserUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(CsvParserUtil.class);
 
+    /** Date format of the CSV date column headers (e.g. "3/9/23") */
+    private static final DateTimeFormatter DATE_COLUMN_FORMAT = DateTimeFormatter.ofPattern("M/d/yy", Locale.US);
+
     /**
      * Parses CSV file and returns list of CovidData objects aggregated by country
      * 
@@ -42,8 +52,23 @@ public class CsvParserUtil {
      * @throws IOException if file cannot be read or parsed
      */
     public static List<CovidData> parseCovidDataFromCsv(Resource csvResource) throws IOException {
+        return toCovidData(parseCaseHistory(csvResource));
+    }
+
+    /**
+     * Parses the full daily history from the CSV file
+     * 
+     * Processing:
+     * 1. Identifies date columns (excludes metadata: Province/State, Country/Region, Lat, Long)
+     * 2. Reads every date column of every row into a primitive array
+     * 3. Aggregates provinces/states by country (sums values per date)
+     * 
+     * @param csvResource CSV file resource
+     * @return Cumulative confirmed cases per country and date
+     * @throws IOException if file cannot be read or parsed
+     */
+    public static CaseHistory parseCaseHistory(Resource csvResource) throws IOException {
         logger.info("Parsing respiratory outbreak data from CSV file...");
-        List<CovidData> dataList = new ArrayList<>();
 
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(csvResource.getInputStream(), StandardCharsets.UTF_8));
@@ -57,22 +82,56 @@ public class CsvParserUtil {
             // Step 1: Extract all column headers
             List<String> headers = csvParser.getHeaderNames();
             
-            // Step 2: Identify date columns (exclude metadata columns)
-            List<String> dateColumns = identifyDateColumns(headers);
-            
-            // Step 3: Get the two most recent dates for calculating new cases
-            String latestDate = dateColumns.isEmpty() ? null : dateColumns.get(dateColumns.size() - 1);
-            String previousDate = dateColumns.size() < 2 ? null : dateColumns.get(dateColumns.size() - 2);
+            // Step 2: Identify date columns (exclude metadata and other non-date columns)
+            List<String> dateColumns = new ArrayList<>();
+            List<LocalDate> dateList = new ArrayList<>();
+            for (String header : identifyDateColumns(headers)) {
+                LocalDate date = parseDateColumn(header);
+                if (date == null) {
+                    logger.warn("Skipping non-date column: {}", header);
+                } else {
+                    dateColumns.add(header);
+                    dateList.add(date);
+                }
+            }
+            LocalDate[] dates = dateList.toArray(new LocalDate[0]);
+            int[] columnIndexes = new int[dateColumns.size()];
+            for (int day = 0; day < dateColumns.size(); day++) {
+                columnIndexes[day] = headers.indexOf(dateColumns.get(day));
+            }
 
-            // Step 4: Aggregate data by country (since CSV has multiple rows per country)
-            Map<String, CovidData> countryMap = aggregateDataByCountry(csvParser, latestDate, previousDate);
-            
-            // Step 5: Convert map values to list for return
-            dataList.addAll(countryMap.values());
-            
-            logger.info("Successfully parsed {} country records from CSV", dataList.size());
+            // Step 3: Aggregate data by country (since CSV has multiple rows per country)
+            Map<String, long[]> cumulativeCases = aggregateSeriesByCountry(csvParser, columnIndexes);
+
+            logger.info("Successfully parsed {} days of history for {} countries from CSV",
+                    dates.length, cumulativeCases.size());
+            return new CaseHistory(dates, dateColumns.toArray(new String[0]), cumulativeCases);
+        }
+    }
+
+    /**
+     * Builds one CovidData object per country from the two most recent dates of the history
+     * 
+     * @param history Parsed daily history
+     * @return List of CovidData objects (one per country)
+     */
+    public static List<CovidData> toCovidData(CaseHistory history) {
+        int dayCount = history.getDayCount();
+        String latestDate = dayCount == 0 ? null : history.getDateLabel(dayCount - 1);
+
+        List<CovidData> dataList = new ArrayList<>(history.getCumulativeCases().size());
+        for (Map.Entry<String, long[]> entry : history.getCumulativeCases().entrySet()) {
+            long[] series = entry.getValue();
+            long latestCases = dayCount < 1 ? 0L : series[dayCount - 1];
+            long previousCases = dayCount < 2 ? 0L : series[dayCount - 2];
+            CovidData data = createCovidData(entry.getKey(), latestCases, previousCases, latestDate);
+            if (dayCount > 0) {
+                RollingMetrics.apply(data, series, dayCount - 1);
+            }
+            dataList.add(data);
         }
 
+        logger.info("Successfully parsed {} country records from CSV", dataList.size());
         return dataList;
     }
 
@@ -96,35 +155,44 @@ public class CsvParserUtil {
     }
 
     /**
-     * Aggregates CSV records by country (sums province/state values)
+     * Parses a date column header such as "3/9/23"
+     * 
+     * @return Parsed date, or null if the header is not a date (e.g. an added "Combined_Key" column)
+     */
+    private static LocalDate parseDateColumn(String header) {
+        try {
+            return LocalDate.parse(header, DATE_COLUMN_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Aggregates CSV records by country (sums province/state values per date)
      * 
      * @param csvParser CSV parser with records
-     * @param latestDate Latest date column name
-     * @param previousDate Previous date column name (for calculating new cases)
-     * @return Map of country name to CovidData object
+     * @param columnIndexes Column index of each date, in date order
+     * @return Map of country name to cumulative cases per date
      */
-    private static Map<String, CovidData> aggregateDataByCountry(
-            CSVParser csvParser, String latestDate, String previousDate) {
-        
-        Map<String, CovidData> countryMap = new HashMap<>();
+    private static Map<String, long[]> aggregateSeriesByCountry(CSVParser csvParser, int[] columnIndexes) {
+        Map<String, long[]> countryMap = new LinkedHashMap<>();
 
         for (CSVRecord record : csvParser) {
             try {
                 String country = record.get("Country/Region");
-                
-                // Extract case counts for latest and previous dates
-                Long latestCases = latestDate != null ? parseLong(record.get(latestDate)) : 0L;
-                Long previousCases = previousDate != null ? parseLong(record.get(previousDate)) : 0L;
-                
-                // Check if this country already exists (from previous province/state)
-                CovidData existingData = countryMap.get(country);
-                if (existingData == null) {
-                    // New country - create fresh data object
-                    CovidData data = createCovidData(country, latestCases, previousCases, latestDate);
-                    countryMap.put(country, data);
-                } else {
-                    // Country exists - aggregate values from multiple provinces/states
-                    aggregateExistingCountry(existingData, latestCases, previousCases);
+
+                // Read the whole row before merging so a malformed record leaves no partial sums
+                long[] rowSeries = new long[columnIndexes.length];
+                for (int day = 0; day < columnIndexes.length; day++) {
+                    rowSeries[day] = parseLong(record.get(columnIndexes[day]));
+                }
+
+                // Country exists - aggregate values from multiple provinces/states
+                long[] existing = countryMap.putIfAbsent(country, rowSeries);
+                if (existing != null) {
+                    for (int day = 0; day < rowSeries.length; day++) {
+                        existing[day] += rowSeries[day];
+                    }
                 }
             } catch (Exception e) {
                 // Skip malformed records and continue processing
@@ -137,6 +205,7 @@ public class CsvParserUtil {
 
     /**
      * Creates CovidData object with estimated metrics
+     * Also used to rebuild country values for past dates from the stored history
      * 
      * CSV only contains confirmed cases. Estimates:
      * - Deaths: 2% of total cases
@@ -150,8 +219,8 @@ public class CsvParserUtil {
      * @param latestDate Latest date string
      * @return New CovidData object
      */
-    private static CovidData createCovidData(String country, Long latestCases, 
-                                             Long previousCases, String latestDate) {
+    public static CovidData createCovidData(String country, Long latestCases, 
+                                            Long previousCases, String latestDate) {
         CovidData data = new CovidData();
         data.setCountry(country);
         data.setTotalCases(latestCases);
@@ -169,27 +238,66 @@ public class CsvParserUtil {
     }
 
     /**
-     * Aggregates data for an existing country (adds province/state values)
-     * Recalculates estimated metrics based on new totals
+     * Parses the country alias file (tab-separated: alias, canonical country name)
+     * Lines starting with # are comments
      * 
-     * @param existingData Existing CovidData object to update
-     * @param latestCases Latest date case count from current record
-     * @param previousCases Previous date case count from current record
+     * @param aliasResource Alias file resource
+     * @return Map of alias to canonical country name
+     * @throws IOException if file cannot be read or parsed
      */
-    private static void aggregateExistingCountry(CovidData existingData, 
-                                                  Long latestCases, Long previousCases) {
-        // Aggregate case counts
-        existingData.setTotalCases(existingData.getTotalCases() + latestCases);
-        existingData.setNewCases(existingData.getNewCases() + (latestCases - previousCases));
-        
-        // Recalculate estimated metrics based on new totals
-        long totalCases = existingData.getTotalCases();
-        long newCases = existingData.getNewCases();
-        existingData.setTotalDeaths((long)(totalCases * 0.02));
-        existingData.setNewDeaths((long)(newCases * 0.02));
-        existingData.setTotalRecovered((long)(totalCases * 0.90));
-        existingData.setActiveCases((long)(totalCases * 0.08));
-        existingData.setCriticalCases((long)(totalCases * 0.01));
+    public static Map<String, String> parseCountryAliases(Resource aliasResource) throws IOException {
+        Map<String, String> aliases = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(aliasResource.getInputStream(), StandardCharsets.UTF_8));
+             CSVParser csvParser = new CSVParser(reader, CSVFormat.TDF.builder()
+                     .setCommentMarker('#')
+                     .setIgnoreEmptyLines(true)
+                     .setTrim(true)
+                     .build())) {
+
+            for (CSVRecord record : csvParser) {
+                if (record.size() < 2) {
+                    logger.warn("Skipping invalid alias record on line {}", record.getRecordNumber());
+                    continue;
+                }
+                aliases.put(record.get(0), record.get(1));
+            }
+        }
+
+        return aliases;
+    }
+
+    /**
+     * Parses the country region file (tab-separated: country name, continent, WHO region code)
+     * Lines starting with # are comments; an empty WHO region column means none applies
+     *
+     * @param regionResource Region file resource
+     * @return Map of country name to {continent, WHO region or null}
+     * @throws IOException if file cannot be read or parsed
+     */
+    public static Map<String, String[]> parseCountryRegions(Resource regionResource) throws IOException {
+        Map<String, String[]> regions = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(regionResource.getInputStream(), StandardCharsets.UTF_8));
+             CSVParser csvParser = new CSVParser(reader, CSVFormat.TDF.builder()
+                     .setCommentMarker('#')
+                     .setIgnoreEmptyLines(true)
+                     .setTrim(true)
+                     .build())) {
+
+            for (CSVRecord record : csvParser) {
+                if (record.size() < 2 || record.get(1).isEmpty()) {
+                    logger.warn("Skipping invalid region record on line {}", record.getRecordNumber());
+                    continue;
+                }
+                String whoRegion = record.size() > 2 && !record.get(2).isEmpty() ? record.get(2) : null;
+                regions.put(record.get(0), new String[]{record.get(1), whoRegion});
+            }
+        }
+
+        return regions;
     }
 
     /**
@@ -0,0 +1,207 @@
+package com.outbreaktracker.api.outbreak.alert;
+
+import com.outbreaktracker.api.outbreak.model.AlertReport;
+import com.outbreaktracker.api.outbreak.model.OutbreakAlert;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.RollingMetrics;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Flags countries whose daily new cases break out of their recent baseline
+ *
+ * Every DatasetRefreshedEvent queues a detection run on the "anomaly-detector" thread; the
+ * refresh itself returns immediately. A run advances one CountryDetector per country, in
+ * DetectionTask batches on the shared analytics pool, then replaces the AlertReport that
+ * /api/alerts reads.
+ *
+ * Detector state is kept between runs: when a refresh only appends days, each country resumes
+ * from the last day it consumed and processes just the new ones. A country is rebuilt from day
+ * zero only if its earlier values were revised or the history starts on a different date.
+ */
+@Component
+public class AnomalyDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnomalyDetector.class);
+
+    /** Detectors updated sequentially by one DetectionTask; each update is a handful of arithmetic steps */
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+
+    private final double lambda;
+    private final double threshold;
+    private final double minDailyCases;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator;
+
+    // Only touched inside detect(), which is synchronized; detectors are indexed by the ids of detectorCountries
+    private CountryDetector[] detectors = new CountryDetector[0];
+    private CountryRecords detectorCountries;
+    private LocalDate firstDate;
+
+    private volatile AlertReport report = new AlertReport(0L, null, 0, Collections.emptyList());
+
+    public AnomalyDetector(@Value("${outbreak.alerts.ewma-lambda:0.2}") double lambda,
+                           @Value("${outbreak.alerts.threshold:5.0}") double threshold,
+                           @Value("${outbreak.alerts.min-daily-cases:10}") double minDailyCases,
+                           ForkJoinPool analyticsPool) {
+        if (lambda <= 0.0 || lambda > 1.0) {
+            throw new IllegalArgumentException("outbreak.alerts.ewma-lambda must be in (0, 1]");
+        }
+        this.lambda = lambda;
+        this.threshold = threshold;
+        this.minDailyCases = minDailyCases;
+        this.pool = analyticsPool;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "anomaly-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a detection run for the new snapshot
+     * Runs are executed one at a time, in publish order
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        DatasetSnapshot snapshot = event.getSnapshot();
+        coordinator.execute(() -> {
+            try {
+                detect(snapshot);
+            } catch (RuntimeException e) {
+                logger.error("Anomaly detection failed for dataset version {}", snapshot.getVersion(), e);
+            }
+        });
+    }
+
+    /**
+     * Returns the alerts of the latest completed run
+     */
+    public AlertReport getReport() {
+        return report;
+    }
+
+    /**
+     * Scores every country of the snapshot and publishes the resulting report
+     */
+    public synchronized AlertReport detect(DatasetSnapshot snapshot) {
+        long start = System.nanoTime();
+        DatasetSeries series = snapshot.getSeries();
+        int dayCount = series.getDayCount();
+        int countryCount = snapshot.getCountryCount();
+
+        LocalDate seriesStart = dayCount == 0 ? null : series.getDate(0);
+        if (seriesStart == null || !seriesStart.equals(firstDate)) {
+            detectors = new CountryDetector[0];
+            detectorCountries = null;
+            firstDate = seriesStart;
+        }
+
+        // Align detectors with the new country ids; anything not resumable starts from scratch
+        int[] previousIds = detectorCountries == null ? null : snapshot.getRecords().matchIds(detectorCountries);
+        CountryDetector[] aligned = new CountryDetector[countryCount];
+        int resumed = 0;
+        for (int id = 0; id < countryCount; id++) {
+            CountryDetector previous = previousIds == null || previousIds[id] < 0 ? null : detectors[previousIds[id]];
+            if (previous != null && previous.canResume(series.getCumulativeCases(id))) {
+                aligned[id] = previous;
+                resumed++;
+            } else {
+                aligned[id] = new CountryDetector(lambda);
+            }
+        }
+
+        pool.invoke(new DetectionTask(series, aligned, 0, countryCount));
+
+        List<OutbreakAlert> alerts = new ArrayList<>();
+        for (int id = 0; id < countryCount; id++) {
+            CountryDetector detector = aligned[id];
+            if (dayCount > 0 && isAlerting(detector, series.getCumulativeCases(id), dayCount - 1)) {
+                alerts.add(new OutbreakAlert(snapshot.getCountryName(id),
+                        series.getDate(dayCount - 1).toString(),
+                        series.getDate(detector.getAlarmStartDay()).toString(),
+                        detector.getLastNewCases(),
+                        detector.getLastBaseline(),
+                        detector.getLastStandardScore(),
+                        detector.getCusum()));
+            }
+        }
+        alerts.sort(Comparator.comparingDouble(OutbreakAlert::getScore).reversed()
+                .thenComparing(OutbreakAlert::getCountry));
+        detectors = aligned;
+        detectorCountries = snapshot.getRecords();
+
+        AlertReport result = new AlertReport(snapshot.getVersion(),
+                dayCount == 0 ? null : series.getDate(dayCount - 1).toString(),
+                countryCount, Collections.unmodifiableList(alerts));
+        report = result;
+
+        logger.info("Anomaly detection for dataset version {}: {} countries resumed, {} rebuilt, {} alerts in {} ms",
+                snapshot.getVersion(), resumed, countryCount - resumed, alerts.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private boolean isAlerting(CountryDetector detector, SeriesView cumulative, int lastDay) {
+        if (detector.getCusum() <= threshold) {
+            return false;
+        }
+        // Ignore countries whose recent volume is too small for a meaningful baseline
+        Double weeklyAverage = RollingMetrics.averageNewCases(cumulative, lastDay, RollingMetrics.WEEK);
+        return weeklyAverage != null && weeklyAverage >= minDailyCases;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Advances the detectors of a range of country ids, splitting the range in halves
+     */
+    private static final class DetectionTask extends RecursiveAction {
+
+        private final DatasetSeries series;
+        private final CountryDetector[] detectors;
+        private final int from;
+        private final int to;
+
+        DetectionTask(DatasetSeries series, CountryDetector[] detectors, int from, int to) {
+            this.series = series;
+            this.detectors = detectors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int id = from; id < to; id++) {
+                    detectors[id].advance(series.getCumulativeCases(id));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DetectionTask(series, detectors, from, middle),
+                    new DetectionTask(series, detectors, middle, to));
+        }
+    }
+}
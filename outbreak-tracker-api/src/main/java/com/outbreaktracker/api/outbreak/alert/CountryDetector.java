@@ -0,0 +1,116 @@
+package com.outbreaktracker.api.outbreak.alert;
+
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+
+/**
+ * EWMA baseline plus one-sided CUSUM over one country's daily new cases
+ *
+ * Each day is scored against the baseline of the days before it:
+ * - standard score z = (x - mean) / sd, capped at MAX_STANDARD_SCORE so a single reporting
+ *   batch cannot raise an alert on its own
+ * - CUSUM S = max(0, S + z - CUSUM_SLACK), which grows only while days stay above baseline
+ * - the baseline then absorbs the day: exponentially weighted mean and variance with weight lambda
+ *
+ * The standard deviation never drops below sqrt(mean + 1) (Poisson noise), so flat stretches of
+ * zeros do not turn the next small count into an extreme score. Negative new cases (data
+ * corrections) count as zero. The state only depends on the days seen so far, so appending a
+ * day is a single update().
+ */
+final class CountryDetector {
+
+    static final double CUSUM_SLACK = 0.5;
+    static final double MAX_STANDARD_SCORE = 3.0;
+    static final int WARM_UP_DAYS = 14;
+
+    private final double lambda;
+
+    private int processedDays;
+    private long prefixHash = SeriesView.EMPTY_PREFIX_HASH;
+    private double mean;
+    private double variance;
+    private double cusum;
+    private int alarmStartDay = -1;
+    private long lastNewCases;
+    private double lastBaseline;
+    private double lastStandardScore;
+
+    CountryDetector(double lambda) {
+        this.lambda = lambda;
+    }
+
+    /**
+     * True if this state was built from a prefix of the given cumulative series (see SeriesView.startsWith)
+     */
+    boolean canResume(SeriesView cumulative) {
+        return cumulative.startsWith(processedDays, prefixHash);
+    }
+
+    /**
+     * Consumes the days of the series not seen yet
+     */
+    void advance(SeriesView cumulative) {
+        for (int day = processedDays; day < cumulative.size(); day++) {
+            long previous = day == 0 ? 0L : cumulative.get(day - 1);
+            update(cumulative.get(day), cumulative.get(day) - previous);
+        }
+    }
+
+    void update(long cumulative, long newCases) {
+        double x = Math.max(0L, newCases);
+        int day = processedDays;
+
+        if (day == 0) {
+            mean = x;
+            variance = 0.0;
+        } else {
+            double sd = Math.max(Math.sqrt(variance), Math.sqrt(mean + 1.0));
+            lastBaseline = mean;
+            lastStandardScore = (x - mean) / sd;
+            if (day >= WARM_UP_DAYS) {
+                double previousCusum = cusum;
+                cusum = Math.max(0.0, cusum + Math.min(lastStandardScore, MAX_STANDARD_SCORE) - CUSUM_SLACK);
+                if (cusum == 0.0) {
+                    alarmStartDay = -1;
+                } else if (previousCusum == 0.0) {
+                    alarmStartDay = day;
+                }
+            }
+
+            double diff = x - mean;
+            double increment = lambda * diff;
+            mean += increment;
+            variance = (1.0 - lambda) * (variance + diff * increment);
+        }
+
+        lastNewCases = newCases;
+        prefixHash = SeriesView.extendHash(prefixHash, cumulative);
+        processedDays = day + 1;
+    }
+
+    int getProcessedDays() {
+        return processedDays;
+    }
+
+    double getCusum() {
+        return cusum;
+    }
+
+    /**
+     * Day index where the current CUSUM run started, or -1 if it is at zero
+     */
+    int getAlarmStartDay() {
+        return alarmStartDay;
+    }
+
+    long getLastNewCases() {
+        return lastNewCases;
+    }
+
+    double getLastBaseline() {
+        return lastBaseline;
+    }
+
+    double getLastStandardScore() {
+        return lastStandardScore;
+    }
+}
@@ -0,0 +1,24 @@
+package com.outbreaktracker.api.outbreak.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fork-join pool shared by the analytics recomputed after every refresh
+ * (anomaly detection, forecasts, curve similarity and projections)
+ *
+ * All of them start on the same DatasetRefreshedEvent. Each keeps its own single coordinator
+ * thread, which only waits on this pool, so the CPU-bound work of all four never uses more than
+ * outbreak.analytics.parallelism threads at once.
+ */
+@Configuration
+public class AnalyticsPoolConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool analyticsPool(@Value("${outbreak.analytics.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,30 @@
+package com.outbreaktracker.api.outbreak.config;
+
+import com.outbreaktracker.api.outbreak.interceptor.DatasetETagInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration for outbreak data endpoints
+ * Registers conditional GET (ETag / Last-Modified) handling for dataset-backed read endpoints
+ */
+@Configuration
+public class OutbreakWebConfig implements WebMvcConfigurer {
+
+    private final DatasetETagInterceptor datasetETagInterceptor;
+
+    public OutbreakWebConfig(DatasetETagInterceptor datasetETagInterceptor) {
+        this.datasetETagInterceptor = datasetETagInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Runs after MetricsInterceptor (order 0) so 304 responses are still recorded
+        registry.addInterceptor(datasetETagInterceptor)
+                .addPathPatterns("/api/global", "/api/global/series", "/api/countries", "/api/countries/**",
+                        "/api/country/**", "/api/rankings/**", "/api/dashboard", "/api/aggregate",
+                        "/api/regions", "/api/regions/**", "/api/rt")
+                .order(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.alert.AnomalyDetector;
+import com.outbreaktracker.api.outbreak.model.AlertReport;
+import com.outbreaktracker.api.outbreak.model.OutbreakAlert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for outbreak anomaly alerts
+ * Serves the report computed by AnomalyDetector after the latest refresh
+ */
+@RestController
+@RequestMapping("/api/alerts")
+public class AlertController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertController.class);
+
+    /** Maximum number of alerts returned by one request */
+    public static final int MAX_LIMIT = 500;
+
+    private final AnomalyDetector anomalyDetector;
+
+    public AlertController(AnomalyDetector anomalyDetector) {
+        this.anomalyDetector = anomalyDetector;
+    }
+
+    /**
+     * GET /api/alerts?limit=50 - Returns countries whose new cases broke out of their recent baseline
+     * Highest score first; version is the dataset version the alerts were computed for
+     */
+    @GetMapping
+    public ResponseEntity<AlertReport> getAlerts(@RequestParam(defaultValue = "50") int limit) {
+        logger.info("GET /api/alerts - Fetching up to {} outbreak alerts", limit);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        AlertReport report = anomalyDetector.getReport();
+        if (report.getAlerts().size() <= limit) {
+            return ResponseEntity.ok(report);
+        }
+        List<OutbreakAlert> top = report.getAlerts().subList(0, limit);
+        return ResponseEntity.ok(new AlertReport(report.getVersion(), report.getDate(),
+                report.getEvaluatedCountries(), top));
+    }
+}
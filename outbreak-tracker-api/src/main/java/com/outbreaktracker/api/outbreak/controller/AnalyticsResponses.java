@@ -0,0 +1,30 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Responses for analytics computed in the background (forecasts, projections, Rt, similarity)
+ *
+ * While a refit runs, services answer from the previous dataset version's results. The ETag
+ * of these endpoints names the current version, so such a body is sent with
+ * Cache-Control: no-store; otherwise a client could keep revalidating the stale body with 304s
+ * until the next refresh.
+ */
+final class AnalyticsResponses {
+
+    private AnalyticsResponses() {
+    }
+
+    /**
+     * Starts a 200 response for a result computed for the given dataset version
+     */
+    static ResponseEntity.BodyBuilder ok(long resultVersion, OutbreakDataStore outbreakDataStore) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (resultVersion < outbreakDataStore.getVersion()) {
+            builder.cacheControl(CacheControl.noStore());
+        }
+        return builder;
+    }
+}
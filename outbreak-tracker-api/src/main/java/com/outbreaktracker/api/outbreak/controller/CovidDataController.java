@@ -1,14 +1,27 @@
 package com.outbreaktracker.api.outbreak.controller;
 
+import com.outbreaktracker.api.outbreak.model.CountryDelta;
+import com.outbreaktracker.api.outbreak.model.CountryLookupResult;
+import com.outbreaktracker.api.outbreak.model.CountryPage;
+import com.outbreaktracker.api.outbreak.model.CountrySeries;
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.model.DashboardBundle;
 import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import com.outbreaktracker.api.outbreak.model.RangeAggregate;
+import com.outbreaktracker.api.outbreak.model.RegionSummary;
+import com.outbreaktracker.api.outbreak.model.SeriesGranularity;
 import com.outbreaktracker.api.outbreak.service.CovidDataService;
+import com.outbreaktracker.api.outbreak.store.CountryNameIndex;
+import com.outbreaktracker.api.outbreak.store.CountryQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +36,12 @@ public class CovidDataController {
 
     private static final Logger logger = LoggerFactory.getLogger(CovidDataController.class);
 
+    /** Maximum number of names accepted by POST /api/countries/batch */
+    public static final int MAX_BATCH_SIZE = 250;
+
+    /** Maximum number of points returned by GET /api/country/{name}/series */
+    public static final int MAX_SERIES_POINTS = 5000;
+
     private final CovidDataService covidDataService;
 
     public CovidDataController(CovidDataService covidDataService) {
@@ -39,19 +58,134 @@ public class CovidDataController {
         return ResponseEntity.ok(globalStats);
     }
 
+    /**
+     * GET /api/global?asOf=2021-06-30 - Returns worldwide statistics as of a past date
+     */
+    @GetMapping(value = "/global", params = "asOf")
+    public ResponseEntity<GlobalStats> getGlobalStatsAsOf(@RequestParam String asOf) {
+        logger.info("GET /api/global?asOf={} - Fetching global outbreak statistics as of date", asOf);
+        return ResponseEntity.ok(covidDataService.getGlobalStatsAsOf(requireDate("asOf", asOf)));
+    }
+
+    /**
+     * GET /api/global/series?from=2021-01-01&to=2021-06-30&maxPoints=200&granularity=month
+     * Returns the worldwide cumulative and new cases, with the same parameters as a country series
+     */
+    @GetMapping("/global/series")
+    public ResponseEntity<CountrySeries> getGlobalSeries(@RequestParam(required = false) String from,
+                                                         @RequestParam(required = false) String to,
+                                                         @RequestParam(required = false) Integer maxPoints,
+                                                         @RequestParam(defaultValue = "day") String granularity) {
+        logger.info("GET /api/global/series - Fetching {} series from {} to {} (maxPoints={})",
+                granularity, from, to, maxPoints);
+
+        LocalDate fromDate = parseDate("from", from);
+        LocalDate toDate = parseDate("to", to);
+        validateSeriesRange(fromDate, toDate, maxPoints);
+        SeriesGranularity seriesGranularity = SeriesGranularity.fromFieldName(granularity);
+
+        return ResponseEntity.ok(covidDataService.getGlobalSeries(fromDate, toDate, maxPoints, seriesGranularity));
+    }
+
+    /**
+     * GET /api/dashboard - Returns global stats and all countries in one response
+     * Used by the dashboard's initial load instead of separate /global and /countries calls
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardBundle> getDashboard() {
+        logger.info("GET /api/dashboard - Fetching dashboard bundle");
+        return ResponseEntity.ok(covidDataService.getDashboard());
+    }
+
     /**
      * GET /api/countries - Returns outbreak data for all countries
+     * With any of sort, order, filter, fields, limit or cursor it returns one page instead:
+     * e.g. /api/countries?filter=newCases>1000&sort=newCases&order=desc&fields=country,newCases&limit=20
+     * and the response's nextCursor is passed back as cursor for the following page
+     * asOf=2021-06-30 answers (with or without the parameters above) as of a past date
      */
     @GetMapping("/countries")
+    public ResponseEntity<?> getCountries(@RequestParam(required = false) String sort,
+                                          @RequestParam(required = false) String order,
+                                          @RequestParam(name = "filter", required = false) List<String> filters,
+                                          @RequestParam(required = false) String fields,
+                                          @RequestParam(required = false) Integer limit,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) String asOf) {
+        LocalDate asOfDate = parseDate("asOf", asOf);
+        if (sort == null && order == null && filters == null && fields == null && limit == null && cursor == null) {
+            if (asOfDate == null) {
+                return getAllCountries();
+            }
+            logger.info("GET /api/countries?asOf={} - Fetching outbreak data for all countries as of date", asOf);
+            return ResponseEntity.ok(covidDataService.getAllCountriesDataAsOf(asOfDate));
+        }
+
+        logger.info("GET /api/countries - Querying countries (sort={}, order={}, filters={}, limit={}, asOf={})",
+                sort, order, filters, limit, asOf);
+        CountryQuery query = CountryQuery.parse(sort, order, filters, fields, limit, cursor);
+        CountryPage page = covidDataService.queryCountries(query, asOfDate);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Returns outbreak data for all countries (GET /api/countries without query parameters)
+     */
     public ResponseEntity<List<CovidData>> getAllCountries() {
         logger.info("GET /api/countries - Fetching outbreak data for all countries");
         List<CovidData> countries = covidDataService.getAllCountriesData();
         return ResponseEntity.ok(countries);
     }
 
+    /**
+     * GET /api/countries?sinceVersion=N - Returns only countries changed or removed since dataset version N
+     * Responds with fullResync=true when N is older than the retained changelog
+     */
+    @GetMapping(value = "/countries", params = "sinceVersion")
+    public ResponseEntity<CountryDelta> getCountriesChangedSince(@RequestParam long sinceVersion) {
+        logger.info("GET /api/countries?sinceVersion={} - Fetching countries changed since version", sinceVersion);
+        return ResponseEntity.ok(covidDataService.getCountriesChangedSince(sinceVersion));
+    }
+
+    /**
+     * GET /api/countries/suggest?q= - Returns country name suggestions for the dashboard search box
+     * Served from the in-memory name index; matches name prefixes, word starts and aliases
+     */
+    @GetMapping("/countries/suggest")
+    public ResponseEntity<List<String>> suggestCountries(@RequestParam("q") String query,
+                                                         @RequestParam(defaultValue = "10") int limit) {
+        logger.info("GET /api/countries/suggest - Suggesting countries for query: {}", query);
+        if (limit < 1 || limit > CountryNameIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + CountryNameIndex.MAX_SUGGESTIONS);
+        }
+        return ResponseEntity.ok(covidDataService.suggestCountries(query, limit));
+    }
+
+    /**
+     * POST /api/countries/batch - Returns outbreak data for several countries in one request
+     * Body: JSON array of country names or aliases, e.g. ["USA", "India", "Atlantis"]
+     * Response: object keyed by requested name; unmatched names have found=false
+     */
+    @PostMapping("/countries/batch")
+    public ResponseEntity<Map<String, CountryLookupResult>> getCountriesBatch(@RequestBody List<String> countryNames) {
+        logger.info("POST /api/countries/batch - Fetching outbreak data for {} countries",
+                countryNames == null ? 0 : countryNames.size());
+        if (countryNames == null || countryNames.isEmpty()) {
+            throw new IllegalArgumentException("Request body must be a non-empty array of country names");
+        }
+        if (countryNames.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " countries can be requested at once");
+        }
+        if (countryNames.contains(null)) {
+            throw new IllegalArgumentException("Country names must not be null");
+        }
+        return ResponseEntity.ok(covidDataService.getCountriesData(countryNames));
+    }
+
     /**
      * GET /api/country/{name} - Returns respiratory outbreak data for a specific country
-     * Case-insensitive search (e.g., "USA", "usa", "Usa" all work)
+     * Case-, accent- and punctuation-insensitive, and accepts aliases
+     * (e.g., "US", "USA", "United States" all work)
      */
     @GetMapping("/country/{name}")
     public ResponseEntity<?> getCountryByName(@PathVariable String name) {
@@ -69,6 +203,134 @@ public class CovidDataController {
         return ResponseEntity.ok(countryData);
     }
 
+    /**
+     * GET /api/country/{name}?asOf=2021-06-30 - Returns data for a specific country as of a past date
+     */
+    @GetMapping(value = "/country/{name}", params = "asOf")
+    public ResponseEntity<?> getCountryByNameAsOf(@PathVariable String name, @RequestParam String asOf) {
+        logger.info("GET /api/country/{}?asOf={} - Fetching outbreak data for country as of date", name, asOf);
+
+        CovidData countryData = covidDataService.getCountryDataAsOf(name, requireDate("asOf", asOf));
+        if (countryData == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + name);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return ResponseEntity.ok(countryData);
+    }
+
+    /**
+     * GET /api/country/{name}/series?from=2021-01-01&to=2021-06-30&maxPoints=200&granularity=week
+     * Returns the country's cumulative and new cases over a date range (ISO dates, both optional)
+     * granularity is day (default), week (ISO weeks) or month; weeks and months are precomputed per refresh
+     * Ranges with more than maxPoints points are downsampled with a shape-preserving algorithm
+     */
+    @GetMapping("/country/{name}/series")
+    public ResponseEntity<?> getCountrySeries(@PathVariable String name,
+                                              @RequestParam(required = false) String from,
+                                              @RequestParam(required = false) String to,
+                                              @RequestParam(required = false) Integer maxPoints,
+                                              @RequestParam(defaultValue = "day") String granularity) {
+        logger.info("GET /api/country/{}/series - Fetching {} series from {} to {} (maxPoints={})",
+                name, granularity, from, to, maxPoints);
+
+        LocalDate fromDate = parseDate("from", from);
+        LocalDate toDate = parseDate("to", to);
+        validateSeriesRange(fromDate, toDate, maxPoints);
+        SeriesGranularity seriesGranularity = SeriesGranularity.fromFieldName(granularity);
+
+        CountrySeries series = covidDataService.getCountrySeries(name, fromDate, toDate, maxPoints, seriesGranularity);
+        if (series == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + name);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return ResponseEntity.ok(series);
+    }
+
+    /**
+     * GET /api/aggregate?country=US&from=2020-03-01&to=2020-06-30&metric=newCases
+     * Returns a metric summed over a date range (ISO dates, both optional), answered in constant time
+     * Omit country for worldwide totals; metric is newCases (default) or newDeaths, since running
+     * totals such as totalCases cannot be summed day by day (400)
+     */
+    @GetMapping("/aggregate")
+    public ResponseEntity<?> getRangeAggregate(@RequestParam(required = false) String country,
+                                               @RequestParam(required = false) String from,
+                                               @RequestParam(required = false) String to,
+                                               @RequestParam(defaultValue = "newCases") String metric) {
+        logger.info("GET /api/aggregate - Summing {} for {} from {} to {}", metric, country, from, to);
+
+        LocalDate fromDate = parseDate("from", from);
+        LocalDate toDate = parseDate("to", to);
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        CovidMetric covidMetric = CovidMetric.fromFieldName(metric);
+        if (!covidMetric.isFlow()) {
+            throw new IllegalArgumentException("metric must be newCases or newDeaths; " + metric
+                    + " is a running total and cannot be summed over a date range");
+        }
+        String countryName = country == null || country.trim().isEmpty() ? null : country;
+
+        RangeAggregate aggregate = covidDataService.getRangeAggregate(countryName, covidMetric, fromDate, toDate);
+        if (aggregate == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + country);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return ResponseEntity.ok(aggregate);
+    }
+
+    /**
+     * GET /api/regions - Returns the latest totals of every continent and WHO region
+     * Rolled up once per refresh, so no countries are summed per request
+     */
+    @GetMapping("/regions")
+    public ResponseEntity<List<RegionSummary>> getRegions() {
+        logger.info("GET /api/regions - Fetching region totals");
+        return ResponseEntity.ok(covidDataService.getRegions());
+    }
+
+    /**
+     * GET /api/regions/{region} - Returns one region's totals and member countries
+     * region is a continent name ("Europe", "north-america") or a WHO region code ("EUR")
+     */
+    @GetMapping("/regions/{region}")
+    public ResponseEntity<?> getRegion(@PathVariable String region) {
+        logger.info("GET /api/regions/{} - Fetching region totals", region);
+        RegionSummary summary = covidDataService.getRegion(region);
+        if (summary == null) {
+            return regionNotFound(region);
+        }
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * GET /api/regions/{region}/series?from=2021-01-01&to=2021-06-30&maxPoints=200
+     * Returns the region's daily cumulative and new cases, with the same parameters as a country series
+     */
+    @GetMapping("/regions/{region}/series")
+    public ResponseEntity<?> getRegionSeries(@PathVariable String region,
+                                             @RequestParam(required = false) String from,
+                                             @RequestParam(required = false) String to,
+                                             @RequestParam(required = false) Integer maxPoints) {
+        logger.info("GET /api/regions/{}/series - Fetching series from {} to {} (maxPoints={})", region, from, to, maxPoints);
+
+        LocalDate fromDate = parseDate("from", from);
+        LocalDate toDate = parseDate("to", to);
+        validateSeriesRange(fromDate, toDate, maxPoints);
+
+        CountrySeries series = covidDataService.getRegionSeries(region, fromDate, toDate, maxPoints);
+        if (series == null) {
+            return regionNotFound(region);
+        }
+        return ResponseEntity.ok(series);
+    }
+
     /**
      * POST /api/refresh - Reloads respiratory outbreak data from CSV file
      * Use this when CSV file is updated without restarting the application
@@ -84,5 +346,47 @@ public class CovidDataController {
         return ResponseEntity.ok(response);
     }
 
-}
+    private static ResponseEntity<Map<String, String>> regionNotFound(String region) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Region not found");
+        error.put("message", "Unknown continent or WHO region: " + region);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
 
+    /**
+     * Validates the date range and point limit shared by the series endpoints
+     */
+    private static void validateSeriesRange(LocalDate fromDate, LocalDate toDate, Integer maxPoints) {
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (maxPoints != null && (maxPoints < 3 || maxPoints > MAX_SERIES_POINTS)) {
+            throw new IllegalArgumentException("maxPoints must be between 3 and " + MAX_SERIES_POINTS);
+        }
+    }
+
+    /**
+     * Parses a required ISO date query parameter (yyyy-MM-dd)
+     */
+    private static LocalDate requireDate(String parameter, String value) {
+        LocalDate date = parseDate(parameter, value);
+        if (date == null) {
+            throw new IllegalArgumentException(parameter + " must be a date in yyyy-MM-dd format");
+        }
+        return date;
+    }
+
+    /**
+     * Parses an optional ISO date query parameter (yyyy-MM-dd)
+     */
+    private static LocalDate parseDate(String parameter, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(parameter + " must be a date in yyyy-MM-dd format");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.export.DatasetExporter;
+import com.outbreaktracker.api.outbreak.export.ExportFormat;
+import com.outbreaktracker.api.outbreak.interceptor.DatasetETagInterceptor;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * REST Controller for bulk dataset export
+ * Streams the in-memory dataset instead of making clients page through /api/countries
+ */
+@RestController
+@RequestMapping("/api")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    private static final String INCLUDE_SERIES = "series";
+
+    private final OutbreakDataStore outbreakDataStore;
+    private final DatasetExporter datasetExporter;
+
+    public ExportController(OutbreakDataStore outbreakDataStore, DatasetExporter datasetExporter) {
+        this.outbreakDataStore = outbreakDataStore;
+        this.datasetExporter = datasetExporter;
+    }
+
+    /**
+     * GET /api/export?format=csv&include=series - Streams every country's latest values, and with
+     * include=series its full daily history, as CSV or NDJSON (format=ndjson)
+     * The body is written with chunked transfer after the handler returns; it is gzip-compressed
+     * when the client sends Accept-Encoding: gzip. Returns 503 before the first dataset is loaded
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String include,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        logger.info("GET /api/export - Exporting dataset as {} (include={})", format, include);
+
+        ExportFormat exportFormat = ExportFormat.fromFieldName(format);
+        if (include != null && !include.isEmpty() && !INCLUDE_SERIES.equals(include)) {
+            throw new IllegalArgumentException("Unknown include: " + include + " (expected series)");
+        }
+        boolean includeSeries = INCLUDE_SERIES.equals(include);
+
+        // Pin the snapshot now so the whole export reflects one dataset version
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, DatasetExporter.BUFFER_SIZE);
+                datasetExporter.write(snapshot, exportFormat, includeSeries, compressed);
+                compressed.finish();
+            } else {
+                datasetExporter.write(snapshot, exportFormat, includeSeries, out);
+            }
+        };
+
+        String filename = "outbreak-dataset-" + snapshot.getVersion() + (includeSeries ? "-series" : "")
+                + "." + exportFormat.getFieldName();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(DatasetETagInterceptor.DATASET_VERSION_HEADER, Long.toString(snapshot.getVersion()));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * True if the Accept-Encoding header lists gzip without q=0
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!"gzip".equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim().replace(" ", "");
+                if (parameter.matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.model.CountryForecast;
+import com.outbreaktracker.api.outbreak.service.ForecastService;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST Controller for short-term case forecasts
+ * Forecasts come from models fitted in memory after every refresh
+ */
+@RestController
+@RequestMapping("/api")
+public class ForecastController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForecastController.class);
+
+    /** Maximum forecast horizon in days */
+    public static final int MAX_DAYS = 60;
+
+    private final ForecastService forecastService;
+    private final OutbreakDataStore outbreakDataStore;
+
+    public ForecastController(ForecastService forecastService, OutbreakDataStore outbreakDataStore) {
+        this.forecastService = forecastService;
+        this.outbreakDataStore = outbreakDataStore;
+    }
+
+    /**
+     * GET /api/country/{name}/forecast?days=14 - Forecasts daily new cases (7-day average)
+     * with a 95% prediction interval per day
+     */
+    @GetMapping("/country/{name}/forecast")
+    public ResponseEntity<?> getForecast(@PathVariable String name,
+                                         @RequestParam(defaultValue = "14") int days) {
+        logger.info("GET /api/country/{}/forecast - Forecasting {} days", name, days);
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_DAYS);
+        }
+
+        CountryForecast forecast = forecastService.getForecast(name, days);
+        if (forecast == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + name);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return AnalyticsResponses.ok(forecast.getVersion(), outbreakDataStore).body(forecast);
+    }
+}
@@ -0,0 +1,62 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.model.CountryProjection;
+import com.outbreaktracker.api.outbreak.projection.CompartmentalModel;
+import com.outbreaktracker.api.outbreak.projection.ModelFitter;
+import com.outbreaktracker.api.outbreak.service.ProjectionService;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST Controller for SIR / SEIR scenario projections
+ * Projections come from models fitted in memory after every refresh
+ */
+@RestController
+@RequestMapping("/api")
+public class ProjectionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectionController.class);
+
+    private final ProjectionService projectionService;
+    private final OutbreakDataStore outbreakDataStore;
+
+    public ProjectionController(ProjectionService projectionService, OutbreakDataStore outbreakDataStore) {
+        this.projectionService = projectionService;
+        this.outbreakDataStore = outbreakDataStore;
+    }
+
+    /**
+     * GET /api/country/{name}/projection?model=seir&days=30 - Returns fitted compartmental model
+     * parameters and the projected daily and cumulative cases (model is sir or seir)
+     */
+    @GetMapping("/country/{name}/projection")
+    public ResponseEntity<?> getProjection(@PathVariable String name,
+                                           @RequestParam(defaultValue = "seir") String model,
+                                           @RequestParam(defaultValue = "30") int days) {
+        logger.info("GET /api/country/{}/projection - Projecting {} days with {}", name, days, model);
+        if (days < 1 || days > ModelFitter.HORIZON_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + ModelFitter.HORIZON_DAYS);
+        }
+        CompartmentalModel compartmentalModel = CompartmentalModel.fromFieldName(model);
+
+        CountryProjection projection = projectionService.getProjection(name, compartmentalModel, days);
+        if (projection == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + name);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return AnalyticsResponses.ok(projection.getVersion(), outbreakDataStore).body(projection);
+    }
+}
@@ -0,0 +1,75 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.model.MetricRanking;
+import com.outbreaktracker.api.outbreak.model.RankingEntry;
+import com.outbreaktracker.api.outbreak.service.CovidDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST Controller for country rankings ("hot spots")
+ * Served from per-metric sorted indexes rebuilt on every refresh
+ */
+@RestController
+@RequestMapping("/api/rankings")
+public class RankingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RankingController.class);
+
+    /** Maximum number of countries returned by one ranking request */
+    public static final int MAX_LIMIT = 500;
+
+    private final CovidDataService covidDataService;
+
+    public RankingController(CovidDataService covidDataService) {
+        this.covidDataService = covidDataService;
+    }
+
+    /**
+     * GET /api/rankings/{metric}?limit=10&order=desc - Returns the top countries for a metric
+     * metric is a CovidData field name, e.g. totalCases, newCases, totalDeaths
+     */
+    @GetMapping("/{metric}")
+    public ResponseEntity<MetricRanking> getRanking(@PathVariable String metric,
+                                                    @RequestParam(defaultValue = "10") int limit,
+                                                    @RequestParam(defaultValue = "desc") String order) {
+        logger.info("GET /api/rankings/{} - Fetching top {} countries ({})", metric, limit, order);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (!order.equalsIgnoreCase("asc") && !order.equalsIgnoreCase("desc")) {
+            throw new IllegalArgumentException("order must be 'asc' or 'desc'");
+        }
+        CovidMetric covidMetric = CovidMetric.fromFieldName(metric);
+        return ResponseEntity.ok(covidDataService.getRanking(covidMetric, order.equalsIgnoreCase("desc"), limit));
+    }
+
+    /**
+     * GET /api/rankings/{metric}/country/{name} - Returns one country's rank for a metric
+     */
+    @GetMapping("/{metric}/country/{name}")
+    public ResponseEntity<?> getCountryRank(@PathVariable String metric, @PathVariable String name) {
+        logger.info("GET /api/rankings/{}/country/{} - Fetching rank for country", metric, name);
+        CovidMetric covidMetric = CovidMetric.fromFieldName(metric);
+
+        RankingEntry entry = covidDataService.getCountryRank(covidMetric, name);
+        if (entry == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + name);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return ResponseEntity.ok(entry);
+    }
+}
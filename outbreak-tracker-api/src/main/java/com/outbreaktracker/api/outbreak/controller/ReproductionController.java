@@ -0,0 +1,95 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.model.ReproductionNumber;
+import com.outbreaktracker.api.outbreak.service.ReproductionService;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for effective reproduction number (Rt) estimates
+ * Estimates are advanced in memory after every refresh
+ */
+@RestController
+@RequestMapping("/api")
+public class ReproductionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReproductionController.class);
+
+    private final ReproductionService reproductionService;
+    private final OutbreakDataStore outbreakDataStore;
+
+    public ReproductionController(ReproductionService reproductionService, OutbreakDataStore outbreakDataStore) {
+        this.reproductionService = reproductionService;
+        this.outbreakDataStore = outbreakDataStore;
+    }
+
+    /**
+     * GET /api/rt - Returns the latest Rt estimate of every country
+     */
+    @GetMapping("/rt")
+    public ResponseEntity<List<ReproductionNumber>> getLatestRt() {
+        logger.info("GET /api/rt - Fetching latest Rt for all countries");
+        List<ReproductionNumber> latest = reproductionService.getLatestForCountries();
+        long version = latest.isEmpty() ? outbreakDataStore.getVersion() : latest.get(0).getVersion();
+        return AnalyticsResponses.ok(version, outbreakDataStore).body(latest);
+    }
+
+    /**
+     * GET /api/country/{name}/rt?days=90 - Returns the latest Rt of a country and its daily
+     * history (the last days days, or all of it if days is omitted)
+     */
+    @GetMapping("/country/{name}/rt")
+    public ResponseEntity<?> getCountryRt(@PathVariable String name,
+                                          @RequestParam(required = false) Integer days) {
+        logger.info("GET /api/country/{}/rt - Fetching Rt history", name);
+        validateDays(days);
+
+        ReproductionNumber rt = reproductionService.getCountryRt(name, days);
+        if (rt == null) {
+            return notFound("Country not found", "No respiratory outbreak data available for country: " + name);
+        }
+        return AnalyticsResponses.ok(rt.getVersion(), outbreakDataStore).body(rt);
+    }
+
+    /**
+     * GET /api/regions/{region}/rt?days=90 - Returns the latest Rt of a continent or WHO region
+     * and its daily history
+     */
+    @GetMapping("/regions/{region}/rt")
+    public ResponseEntity<?> getRegionRt(@PathVariable String region,
+                                         @RequestParam(required = false) Integer days) {
+        logger.info("GET /api/regions/{}/rt - Fetching Rt history", region);
+        validateDays(days);
+
+        ReproductionNumber rt = reproductionService.getRegionRt(region, days);
+        if (rt == null) {
+            return notFound("Region not found", "Unknown continent or WHO region: " + region);
+        }
+        return AnalyticsResponses.ok(rt.getVersion(), outbreakDataStore).body(rt);
+    }
+
+    private static void validateDays(Integer days) {
+        if (days != null && days < 1) {
+            throw new IllegalArgumentException("days must be at least 1");
+        }
+    }
+
+    private static ResponseEntity<Map<String, String>> notFound(String error, String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("error", error);
+        body.put("message", message);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+}
@@ -0,0 +1,61 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.model.SimilarCountries;
+import com.outbreaktracker.api.outbreak.service.SimilarityService;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST Controller for countries with similar case curves
+ * Served from a correlation matrix computed in memory after every refresh
+ */
+@RestController
+@RequestMapping("/api")
+public class SimilarityController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarityController.class);
+
+    /** Maximum number of similar countries returned by one request */
+    public static final int MAX_LIMIT = 100;
+
+    private final SimilarityService similarityService;
+    private final OutbreakDataStore outbreakDataStore;
+
+    public SimilarityController(SimilarityService similarityService, OutbreakDataStore outbreakDataStore) {
+        this.similarityService = similarityService;
+        this.outbreakDataStore = outbreakDataStore;
+    }
+
+    /**
+     * GET /api/country/{name}/similar?limit=10 - Returns the countries whose recent curves
+     * correlate most with the country's, most similar first
+     */
+    @GetMapping("/country/{name}/similar")
+    public ResponseEntity<?> getSimilarCountries(@PathVariable String name,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        logger.info("GET /api/country/{}/similar - Fetching {} similar countries", name, limit);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        SimilarCountries similar = similarityService.getSimilarCountries(name, limit);
+        if (similar == null) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Country not found");
+            error.put("message", "No respiratory outbreak data available for country: " + name);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+        return AnalyticsResponses.ok(similar.getVersion(), outbreakDataStore).body(similar);
+    }
+}
@@ -0,0 +1,47 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.stream.DatasetUpdateBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the dataset update stream (Server-Sent Events)
+ * Lets the dashboard react to POST /api/refresh instead of polling
+ */
+@RestController
+@RequestMapping("/api/stream")
+public class UpdateStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpdateStreamController.class);
+
+    private final DatasetUpdateBroadcaster datasetUpdateBroadcaster;
+
+    public UpdateStreamController(DatasetUpdateBroadcaster datasetUpdateBroadcaster) {
+        this.datasetUpdateBroadcaster = datasetUpdateBroadcaster;
+    }
+
+    /**
+     * GET /api/stream/updates - Streams "dataset-update" events whenever a refresh completes
+     * Each event carries the new version, changed/removed countries and new global totals
+     * Returns 503 when the subscriber limit is reached
+     */
+    @GetMapping(value = "/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamUpdates(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.info("GET /api/stream/updates - Opening dataset update stream");
+
+        SseEmitter emitter = datasetUpdateBroadcaster.subscribe(lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -0,0 +1,222 @@
+package com.outbreaktracker.api.outbreak.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes a whole dataset snapshot to a stream as CSV or newline-delimited JSON
+ *
+ * Rows are written straight from the snapshot's records and columnar series through a fixed-size
+ * buffer, one country (or country-day) at a time; no response body, row list or per-country
+ * object is built, so heap use does not grow with the export size. The snapshot is immutable,
+ * so an export is consistent even if a refresh publishes a newer one while it is being written.
+ *
+ * Layouts:
+ * - csv: one row per country with its latest values; with series, one row per country and day
+ *   (country, date, cumulativeCases, newCases)
+ * - ndjson: one object per line and country with its latest values; with series, plus a "series"
+ *   object holding parallel dates / cumulativeCases / newCases arrays
+ */
+@Component
+public class DatasetExporter {
+
+    /** Bytes buffered before they are written to the response (also used for the gzip stream) */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    static final String[] LATEST_COLUMNS = {
+            "country", "totalCases", "newCases", "totalDeaths", "newDeaths", "totalRecovered", "activeCases",
+            "criticalCases", "averageNewCases7d", "averageNewCases14d", "weekOverWeekGrowth", "doublingTimeDays",
+            "lastUpdated"
+    };
+
+    static final String[] SERIES_COLUMNS = {"country", "date", "cumulativeCases", "newCases"};
+
+    private final JsonFactory jsonFactory;
+
+    public DatasetExporter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Writes the snapshot; the output stream is flushed but not closed
+     */
+    public void write(DatasetSnapshot snapshot, ExportFormat format, boolean includeSeries, OutputStream out)
+            throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writeNdjson(snapshot, includeSeries, out);
+        } else {
+            writeCsv(snapshot, includeSeries, out);
+        }
+    }
+
+    private static void writeCsv(DatasetSnapshot snapshot, boolean includeSeries, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writeCsvRow(writer, includeSeries ? SERIES_COLUMNS : LATEST_COLUMNS);
+
+        CountryRecords records = snapshot.getRecords();
+        DatasetSeries series = snapshot.getSeries();
+        String[] dates = includeSeries ? isoDates(series) : null;
+        for (int id = 0; id < records.size(); id++) {
+            String country = escapeCsv(records.getCountry(id));
+            if (!includeSeries) {
+                writer.write(country);
+                writeCsvValue(writer, records.getOrNull(CovidMetric.TOTAL_CASES, id));
+                writeCsvValue(writer, records.getOrNull(CovidMetric.NEW_CASES, id));
+                writeCsvValue(writer, records.getOrNull(CovidMetric.TOTAL_DEATHS, id));
+                writeCsvValue(writer, records.getOrNull(CovidMetric.NEW_DEATHS, id));
+                writeCsvValue(writer, records.getOrNull(CovidMetric.TOTAL_RECOVERED, id));
+                writeCsvValue(writer, records.getOrNull(CovidMetric.ACTIVE_CASES, id));
+                writeCsvValue(writer, records.getOrNull(CovidMetric.CRITICAL_CASES, id));
+                writeCsvValue(writer, records.getRollingOrNull(CountryRecords.AVERAGE_NEW_CASES_7D, id));
+                writeCsvValue(writer, records.getRollingOrNull(CountryRecords.AVERAGE_NEW_CASES_14D, id));
+                writeCsvValue(writer, records.getRollingOrNull(CountryRecords.WEEK_OVER_WEEK_GROWTH, id));
+                writeCsvValue(writer, records.getRollingOrNull(CountryRecords.DOUBLING_TIME_DAYS, id));
+                writer.write(',');
+                String lastUpdated = records.getLastUpdated(id);
+                if (lastUpdated != null) {
+                    writer.write(escapeCsv(lastUpdated));
+                }
+                writer.write('\n');
+                continue;
+            }
+
+            SeriesView cumulative = series.getCumulativeCases(id);
+            SeriesView newCases = series.getNewCases(id);
+            for (int day = 0; day < dates.length; day++) {
+                writer.write(country);
+                writer.write(',');
+                writer.write(dates[day]);
+                writer.write(',');
+                writer.write(Long.toString(cumulative.get(day)));
+                writer.write(',');
+                writer.write(Long.toString(newCases.get(day)));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(DatasetSnapshot snapshot, boolean includeSeries, OutputStream out) throws IOException {
+        CountryRecords records = snapshot.getRecords();
+        DatasetSeries series = snapshot.getSeries();
+        String[] dates = includeSeries ? isoDates(series) : null;
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            // Lines are separated explicitly; the response stream is closed by the container
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (int id = 0; id < records.size(); id++) {
+                generator.writeStartObject();
+                generator.writeStringField("country", records.getCountry(id));
+                writeJsonField(generator, "totalCases", records.getOrNull(CovidMetric.TOTAL_CASES, id));
+                writeJsonField(generator, "newCases", records.getOrNull(CovidMetric.NEW_CASES, id));
+                writeJsonField(generator, "totalDeaths", records.getOrNull(CovidMetric.TOTAL_DEATHS, id));
+                writeJsonField(generator, "newDeaths", records.getOrNull(CovidMetric.NEW_DEATHS, id));
+                writeJsonField(generator, "totalRecovered", records.getOrNull(CovidMetric.TOTAL_RECOVERED, id));
+                writeJsonField(generator, "activeCases", records.getOrNull(CovidMetric.ACTIVE_CASES, id));
+                writeJsonField(generator, "criticalCases", records.getOrNull(CovidMetric.CRITICAL_CASES, id));
+                writeJsonField(generator, "averageNewCases7d",
+                        records.getRollingOrNull(CountryRecords.AVERAGE_NEW_CASES_7D, id));
+                writeJsonField(generator, "averageNewCases14d",
+                        records.getRollingOrNull(CountryRecords.AVERAGE_NEW_CASES_14D, id));
+                writeJsonField(generator, "weekOverWeekGrowth",
+                        records.getRollingOrNull(CountryRecords.WEEK_OVER_WEEK_GROWTH, id));
+                writeJsonField(generator, "doublingTimeDays",
+                        records.getRollingOrNull(CountryRecords.DOUBLING_TIME_DAYS, id));
+                generator.writeStringField("lastUpdated", records.getLastUpdated(id));
+                if (includeSeries) {
+                    generator.writeObjectFieldStart("series");
+                    generator.writeArrayFieldStart("dates");
+                    for (String date : dates) {
+                        generator.writeString(date);
+                    }
+                    generator.writeEndArray();
+                    writeJsonArray(generator, "cumulativeCases", series.getCumulativeCases(id));
+                    writeJsonArray(generator, "newCases", series.getNewCases(id));
+                    generator.writeEndObject();
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+
+    /**
+     * ISO date of every day index; computed once per export rather than once per row
+     */
+    private static String[] isoDates(DatasetSeries series) {
+        String[] dates = new String[series.getDayCount()];
+        for (int day = 0; day < dates.length; day++) {
+            dates[day] = series.getDate(day).toString();
+        }
+        return dates;
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvValue(Writer writer, Number value) throws IOException {
+        writer.write(',');
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    /**
+     * Quotes a CSV field if it contains a separator, quote or line break (RFC 4180)
+     */
+    static String escapeCsv(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    private static void writeJsonField(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeJsonField(JsonGenerator generator, String name, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeJsonArray(JsonGenerator generator, String name, SeriesView values) throws IOException {
+        generator.writeArrayFieldStart(name);
+        for (int i = 0; i < values.size(); i++) {
+            generator.writeNumber(values.get(i));
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,40 @@
+package com.outbreaktracker.api.outbreak.export;
+
+/**
+ * Output formats of the bulk dataset export
+ */
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String fieldName;
+    private final String contentType;
+
+    ExportFormat(String fieldName, String contentType) {
+        this.fieldName = fieldName;
+        this.contentType = contentType;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Looks up a format by its request parameter value (e.g. "csv")
+     *
+     * @throws IllegalArgumentException if the name is not a known format
+     */
+    public static ExportFormat fromFieldName(String fieldName) {
+        for (ExportFormat format : values()) {
+            if (format.fieldName.equals(fieldName)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format: " + fieldName + " (expected csv or ndjson)");
+    }
+}
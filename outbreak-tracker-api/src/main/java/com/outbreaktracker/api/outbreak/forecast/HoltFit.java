@@ -0,0 +1,58 @@
+package com.outbreaktracker.api.outbreak.forecast;
+
+/**
+ * Immutable fitted state of a HoltModel: chosen parameters, level and trend (log scale)
+ * and the one-step-ahead error variance
+ *
+ * The h-step variance follows the additive-error Holt model:
+ * sigma^2 * (1 + sum over j = 1..h-1 of (alpha * (1 + j * beta))^2)
+ */
+public final class HoltFit {
+
+    private final double alpha;
+    private final double beta;
+    private final double level;
+    private final double trend;
+    private final double variance;
+    private final int observations;
+
+    HoltFit(double alpha, double beta, double level, double trend, double variance, int observations) {
+        this.alpha = alpha;
+        this.beta = beta;
+        this.level = level;
+        this.trend = trend;
+        this.variance = variance;
+        this.observations = observations;
+    }
+
+    public double getAlpha() {
+        return alpha;
+    }
+
+    public double getBeta() {
+        return beta;
+    }
+
+    public int getObservations() {
+        return observations;
+    }
+
+    /**
+     * Expected log value h days ahead (h >= 1)
+     */
+    public double mean(int h) {
+        return level + h * trend;
+    }
+
+    /**
+     * Standard deviation of the log value h days ahead (h >= 1)
+     */
+    public double standardDeviation(int h) {
+        double factor = 1.0;
+        for (int j = 1; j < h; j++) {
+            double weight = alpha * (1.0 + j * beta);
+            factor += weight * weight;
+        }
+        return Math.sqrt(variance * factor);
+    }
+}
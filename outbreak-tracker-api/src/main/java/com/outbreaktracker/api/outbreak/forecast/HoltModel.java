@@ -0,0 +1,101 @@
+package com.outbreaktracker.api.outbreak.forecast;
+
+import com.outbreaktracker.api.outbreak.store.RollingMetrics;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+
+/**
+ * Holt linear exponential smoothing on log daily new cases, fitted incrementally
+ *
+ * The observed value for a day is log(1 + 7-day average of new cases), which removes weekday
+ * reporting patterns and makes growth additive. Instead of searching smoothing parameters
+ * after the fact, the model runs every (alpha, beta) pair of a small grid side by side and
+ * keeps each pair's discounted squared one-step-ahead error. Consuming a day is therefore a
+ * fixed amount of work, and fit() just picks the pair with the lowest recent error.
+ *
+ * Errors are discounted by ERROR_DISCOUNT per day (about 50 days of memory), so the chosen
+ * parameters follow the current phase of the outbreak rather than its whole history.
+ */
+public final class HoltModel {
+
+    static final double[] ALPHAS = {0.1, 0.2, 0.3, 0.5, 0.7, 0.9};
+    static final double[] BETAS = {0.01, 0.05, 0.1, 0.2};
+    static final double ERROR_DISCOUNT = 0.98;
+
+    /** Observations needed before fit() returns a model */
+    public static final int MIN_OBSERVATIONS = 14;
+
+    private final double[] level = new double[ALPHAS.length * BETAS.length];
+    private final double[] trend = new double[level.length];
+    private final double[] squaredError = new double[level.length];
+    private double errorWeight;
+    private int observations;
+
+    private int processedDays;
+    private long prefixHash = SeriesView.EMPTY_PREFIX_HASH;
+
+    /**
+     * True if this model was built from a prefix of the given cumulative series (see SeriesView.startsWith)
+     */
+    public boolean canResume(SeriesView cumulative) {
+        return cumulative.startsWith(processedDays, prefixHash);
+    }
+
+    /**
+     * Consumes the days of the series not seen yet
+     */
+    public void advance(SeriesView cumulative) {
+        for (int day = processedDays; day < cumulative.size(); day++) {
+            Double average = RollingMetrics.averageNewCases(cumulative, day, RollingMetrics.WEEK);
+            if (average != null) {
+                observe(Math.log1p(Math.max(0.0, average)));
+            }
+            prefixHash = SeriesView.extendHash(prefixHash, cumulative.get(day));
+            processedDays = day + 1;
+        }
+    }
+
+    void observe(double value) {
+        if (observations == 0) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = value;
+                trend[i] = 0.0;
+            }
+            observations = 1;
+            return;
+        }
+
+        for (int a = 0; a < ALPHAS.length; a++) {
+            for (int b = 0; b < BETAS.length; b++) {
+                int i = a * BETAS.length + b;
+                double forecast = level[i] + trend[i];
+                double error = value - forecast;
+                squaredError[i] = ERROR_DISCOUNT * squaredError[i] + error * error;
+
+                double nextLevel = ALPHAS[a] * value + (1.0 - ALPHAS[a]) * forecast;
+                trend[i] = BETAS[b] * (nextLevel - level[i]) + (1.0 - BETAS[b]) * trend[i];
+                level[i] = nextLevel;
+            }
+        }
+        errorWeight = ERROR_DISCOUNT * errorWeight + 1.0;
+        observations++;
+    }
+
+    /**
+     * Returns the parameter pair with the lowest discounted error and its current state
+     *
+     * @return Fitted model, or null with fewer than MIN_OBSERVATIONS observations
+     */
+    public HoltFit fit() {
+        if (observations < MIN_OBSERVATIONS) {
+            return null;
+        }
+        int best = 0;
+        for (int i = 1; i < squaredError.length; i++) {
+            if (squaredError[i] < squaredError[best]) {
+                best = i;
+            }
+        }
+        return new HoltFit(ALPHAS[best / BETAS.length], BETAS[best % BETAS.length],
+                level[best], trend[best], squaredError[best] / errorWeight, observations);
+    }
+}
@@ -2,6 +2,8 @@ package com.outbreaktracker.api.outbreak.initializer;
 
 import com.outbreaktracker.api.outbreak.model.CovidData;
 import com.outbreaktracker.api.outbreak.repository.CovidDataRepository;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
 import com.outbreaktracker.api.common.util.CsvParserUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +17,7 @@ import java.util.List;
 
 /**
  * Initializes database with CSV data on application startup
+ * and warms the in-memory dataset (OutbreakDataStore)
  * Uses ApplicationRunner to ensure all Spring beans are ready before execution
  */
 @Component
@@ -26,26 +29,43 @@ public class CovidDataInitializer implements ApplicationRunner {
     private Resource csvResource;
 
     private final CovidDataRepository covidDataRepository;
+    private final OutbreakDataStore outbreakDataStore;
 
-    public CovidDataInitializer(CovidDataRepository covidDataRepository) {
+    public CovidDataInitializer(CovidDataRepository covidDataRepository, OutbreakDataStore outbreakDataStore) {
         this.covidDataRepository = covidDataRepository;
+        this.outbreakDataStore = outbreakDataStore;
     }
 
     /**
      * Runs after Spring context is fully initialized
-     * Checks if database is empty and loads CSV data if needed
+     * Parses the CSV, loads it into the database if empty (otherwise backfills missing rolling
+     * metrics), and warms the in-memory dataset
      */
     @Override
     public void run(ApplicationArguments args) {
         logger.info("Starting respiratory outbreak data initialization...");
 
         try {
-            // Only load data if database is empty (idempotent operation)
-            if (covidDataRepository.isEmpty()) {
-                logger.info("Database is empty. Loading initial data from CSV...");
-                loadInitialData();
+            logger.info("Parsing CSV file: {}", csvResource.getFilename());
+            CaseHistory history = CsvParserUtil.parseCaseHistory(csvResource);
+            List<CovidData> covidDataList = CsvParserUtil.toCovidData(history);
+            logger.info("Parsed {} country records from CSV", covidDataList.size());
+
+            if (covidDataList.isEmpty()) {
+                logger.warn("CSV file is empty or contains no valid data.");
             } else {
-                logger.info("Database already contains data. Skipping initial load.");
+                // In-memory dataset does not depend on database availability
+                outbreakDataStore.publish(covidDataList, history);
+
+                // Only load data if database is empty (idempotent operation)
+                if (covidDataRepository.isEmpty()) {
+                    logger.info("Database is empty. Loading initial data from CSV...");
+                    loadInitialData(covidDataList);
+                } else {
+                    logger.info("Database already contains data. Skipping initial load.");
+                    // Rows loaded before the rolling columns existed would otherwise stay NULL
+                    covidDataRepository.backfillRollingMetrics(covidDataList);
+                }
             }
         } catch (Exception e) {
             // Don't crash app if initialization fails - allows app to start without data
@@ -57,21 +77,10 @@ public class CovidDataInitializer implements ApplicationRunner {
     }
 
     /**
-     * Parses CSV file and bulk inserts data into database
+     * Bulk inserts parsed CSV data into database
      * Uses @Transactional in repository for atomicity (all-or-nothing)
      */
-    private void loadInitialData() throws Exception {
-        logger.info("Parsing CSV file: {}", csvResource.getFilename());
-        
-        // Parse CSV into CovidData objects
-        List<CovidData> covidDataList = CsvParserUtil.parseCovidDataFromCsv(csvResource);
-        logger.info("Parsed {} country records from CSV", covidDataList.size());
-
-        if (covidDataList.isEmpty()) {
-            logger.warn("CSV file is empty or contains no valid data.");
-            return;
-        }
-
+    private void loadInitialData(List<CovidData> covidDataList) {
         // Bulk insert using repository (more efficient than individual inserts)
         int rowsAffected = covidDataRepository.bulkUpdateOrInsertCovidData(covidDataList);
         logger.info("Successfully loaded {} country records into database", rowsAffected);
@@ -0,0 +1,104 @@
+package com.outbreaktracker.api.outbreak.interceptor;
+
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+
+/**
+ * Conditional GET support for read endpoints whose response depends only on the dataset
+ *
+ * Emits a strong ETag and Last-Modified derived from the current dataset version and answers
+ * If-None-Match / If-Modified-Since with 304 in preHandle, before the controller, service
+ * or cache layer is touched. Cache-Control: no-cache makes browsers revalidate on every load,
+ * so unchanged data costs a 304 instead of a full download.
+ *
+ * X-Dataset-Version tells clients which version to pass to /api/countries?sinceVersion=N later.
+ *
+ * Bodies can be JSON, Smile or CBOR depending on Accept, so the ETag carries a suffix for the
+ * binary representations and responses vary on Accept; a cached JSON body is never revalidated
+ * as a Smile one.
+ */
+@Component
+public class DatasetETagInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetETagInterceptor.class);
+
+    public static final String DATASET_VERSION_HEADER = "X-Dataset-Version";
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.valueOf("application/cbor");
+
+    private final OutbreakDataStore outbreakDataStore;
+
+    public DatasetETagInterceptor(OutbreakDataStore outbreakDataStore) {
+        this.outbreakDataStore = outbreakDataStore;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        // Nothing loaded yet - no validator to offer
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(DATASET_VERSION_HEADER, Long.toString(snapshot.getVersion()));
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        String eTag = representationETag(snapshot.getETag(), request.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(eTag, snapshot.getLoadedAt().toEpochMilli())) {
+            logger.debug("{} {} not modified (dataset version {})", method, request.getRequestURI(), snapshot.getVersion());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends "-smile" or "-cbor" inside the quoted ETag when Accept prefers that binary format
+     * (mirrors the converter order: JSON wins for wildcards, missing or unparseable headers)
+     */
+    static String representationETag(String eTag, String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return eTag;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return eTag;
+        }
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0.0) {
+                continue;
+            }
+            if (mediaType.isWildcardType() || mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return eTag;
+            }
+            if (mediaType.includes(SMILE)) {
+                return eTag.substring(0, eTag.length() - 1) + "-smile\"";
+            }
+            if (mediaType.includes(CBOR)) {
+                return eTag.substring(0, eTag.length() - 1) + "-cbor\"";
+            }
+        }
+        return eTag;
+    }
+}
@@ -0,0 +1,157 @@
+package com.outbreaktracker.api.outbreak.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Hand-written Jackson serializers for the two hottest response types
+ *
+ * Registered through @JsonComponent on Spring Boot's ObjectMapper, so every controller, the
+ * update stream and the Smile / CBOR converters use them. Each field is written straight through
+ * JsonGenerator with a pre-encoded name (SerializedString caches its UTF-8 and quoted forms) and
+ * the value unwrapped to a primitive, instead of bean introspection calling getters reflectively
+ * and dispatching each boxed value to its own serializer. Lists of these types go through
+ * Jackson's collection serializer, which resolves the element serializer once per type.
+ *
+ * Output is identical to the default bean serialization (same field order, nulls written as
+ * null); OutbreakJsonSerializersTest checks this field by field. A new model field must be
+ * added here as well.
+ */
+@JsonComponent
+public class OutbreakJsonSerializers {
+
+    static final SerializedString COUNTRY = new SerializedString("country");
+    static final SerializedString TOTAL_CASES = new SerializedString("totalCases");
+    static final SerializedString NEW_CASES = new SerializedString("newCases");
+    static final SerializedString TOTAL_DEATHS = new SerializedString("totalDeaths");
+    static final SerializedString NEW_DEATHS = new SerializedString("newDeaths");
+    static final SerializedString TOTAL_RECOVERED = new SerializedString("totalRecovered");
+    static final SerializedString ACTIVE_CASES = new SerializedString("activeCases");
+    static final SerializedString CRITICAL_CASES = new SerializedString("criticalCases");
+    static final SerializedString AFFECTED_COUNTRIES = new SerializedString("affectedCountries");
+    static final SerializedString LAST_UPDATED = new SerializedString("lastUpdated");
+    static final SerializedString AVERAGE_NEW_CASES_7D = new SerializedString("averageNewCases7d");
+    static final SerializedString AVERAGE_NEW_CASES_14D = new SerializedString("averageNewCases14d");
+    static final SerializedString WEEK_OVER_WEEK_GROWTH = new SerializedString("weekOverWeekGrowth");
+    static final SerializedString DOUBLING_TIME_DAYS = new SerializedString("doublingTimeDays");
+
+    /**
+     * Writes CovidData in its declared field order
+     */
+    public static class CovidDataSerializer extends StdSerializer<CovidData> {
+
+        public CovidDataSerializer() {
+            super(CovidData.class);
+        }
+
+        @Override
+        public void serialize(CovidData data, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(data);
+            writeFields(data, generator);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(CovidData data, JsonGenerator generator, SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+            WritableTypeId typeId = typeSerializer.writeTypePrefix(generator,
+                    typeSerializer.typeId(data, JsonToken.START_OBJECT));
+            writeFields(data, generator);
+            typeSerializer.writeTypeSuffix(generator, typeId);
+        }
+
+        private static void writeFields(CovidData data, JsonGenerator generator) throws IOException {
+            writeString(generator, COUNTRY, data.getCountry());
+            writeLong(generator, TOTAL_CASES, data.getTotalCases());
+            writeLong(generator, NEW_CASES, data.getNewCases());
+            writeLong(generator, TOTAL_DEATHS, data.getTotalDeaths());
+            writeLong(generator, NEW_DEATHS, data.getNewDeaths());
+            writeLong(generator, TOTAL_RECOVERED, data.getTotalRecovered());
+            writeLong(generator, ACTIVE_CASES, data.getActiveCases());
+            writeLong(generator, CRITICAL_CASES, data.getCriticalCases());
+            writeString(generator, LAST_UPDATED, data.getLastUpdated());
+            writeDouble(generator, AVERAGE_NEW_CASES_7D, data.getAverageNewCases7d());
+            writeDouble(generator, AVERAGE_NEW_CASES_14D, data.getAverageNewCases14d());
+            writeDouble(generator, WEEK_OVER_WEEK_GROWTH, data.getWeekOverWeekGrowth());
+            writeDouble(generator, DOUBLING_TIME_DAYS, data.getDoublingTimeDays());
+        }
+    }
+
+    /**
+     * Writes GlobalStats in its declared field order
+     */
+    public static class GlobalStatsSerializer extends StdSerializer<GlobalStats> {
+
+        public GlobalStatsSerializer() {
+            super(GlobalStats.class);
+        }
+
+        @Override
+        public void serialize(GlobalStats stats, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(stats);
+            writeFields(stats, generator);
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(GlobalStats stats, JsonGenerator generator, SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+            WritableTypeId typeId = typeSerializer.writeTypePrefix(generator,
+                    typeSerializer.typeId(stats, JsonToken.START_OBJECT));
+            writeFields(stats, generator);
+            typeSerializer.writeTypeSuffix(generator, typeId);
+        }
+
+        private static void writeFields(GlobalStats stats, JsonGenerator generator) throws IOException {
+            writeLong(generator, TOTAL_CASES, stats.getTotalCases());
+            writeLong(generator, TOTAL_DEATHS, stats.getTotalDeaths());
+            writeLong(generator, TOTAL_RECOVERED, stats.getTotalRecovered());
+            writeLong(generator, ACTIVE_CASES, stats.getActiveCases());
+            writeLong(generator, CRITICAL_CASES, stats.getCriticalCases());
+            generator.writeFieldName(AFFECTED_COUNTRIES);
+            generator.writeNumber(stats.getAffectedCountries());
+            writeString(generator, LAST_UPDATED, stats.getLastUpdated());
+            writeDouble(generator, AVERAGE_NEW_CASES_7D, stats.getAverageNewCases7d());
+            writeDouble(generator, AVERAGE_NEW_CASES_14D, stats.getAverageNewCases14d());
+            writeDouble(generator, WEEK_OVER_WEEK_GROWTH, stats.getWeekOverWeekGrowth());
+            writeDouble(generator, DOUBLING_TIME_DAYS, stats.getDoublingTimeDays());
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeLong(JsonGenerator generator, SerializedString name, Long value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeDouble(JsonGenerator generator, SerializedString name, Double value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.doubleValue());
+        }
+    }
+}
@@ -23,6 +23,10 @@ public class CovidDataRowMapper implements RowMapper<CovidData> {
         data.setTotalRecovered(getLongOrNull(rs, "total_recovered"));
         data.setActiveCases(getLongOrNull(rs, "active_cases"));
         data.setCriticalCases(getLongOrNull(rs, "critical_cases"));
+        data.setAverageNewCases7d(getDoubleOrNull(rs, "average_new_cases_7d"));
+        data.setAverageNewCases14d(getDoubleOrNull(rs, "average_new_cases_14d"));
+        data.setWeekOverWeekGrowth(getDoubleOrNull(rs, "week_over_week_growth"));
+        data.setDoublingTimeDays(getDoubleOrNull(rs, "doubling_time_days"));
         data.setLastUpdated(rs.getString("last_updated"));
         
         return data;
@@ -35,5 +39,12 @@ public class CovidDataRowMapper implements RowMapper<CovidData> {
         long value = rs.getLong(columnName);
         return rs.wasNull() ? null : value;
     }
-}
 
+    /**
+     * Safely gets Double value from ResultSet, handling NULL values
+     */
+    private Double getDoubleOrNull(ResultSet rs, String columnName) throws SQLException {
+        double value = rs.getDouble(columnName);
+        return rs.wasNull() ? null : value;
+    }
+}
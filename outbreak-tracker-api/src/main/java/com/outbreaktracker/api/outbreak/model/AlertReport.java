@@ -0,0 +1,69 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing the anomaly detector's result for one dataset version
+ * alerts are sorted by score, highest first; version is 0 until the first run completes
+ */
+public class AlertReport {
+
+    private long version;
+    private String date;
+    private int evaluatedCountries;
+    private List<OutbreakAlert> alerts = new ArrayList<>();
+
+    public AlertReport() {
+    }
+
+    public AlertReport(long version, String date, int evaluatedCountries, List<OutbreakAlert> alerts) {
+        this.version = version;
+        this.date = date;
+        this.evaluatedCountries = evaluatedCountries;
+        this.alerts = alerts;
+    }
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public int getEvaluatedCountries() {
+        return evaluatedCountries;
+    }
+
+    public void setEvaluatedCountries(int evaluatedCountries) {
+        this.evaluatedCountries = evaluatedCountries;
+    }
+
+    public List<OutbreakAlert> getAlerts() {
+        return alerts;
+    }
+
+    public void setAlerts(List<OutbreakAlert> alerts) {
+        this.alerts = alerts;
+    }
+
+    @Override
+    public String toString() {
+        return "AlertReport{" +
+                "version=" + version +
+                ", date='" + date + '\'' +
+                ", evaluatedCountries=" + evaluatedCountries +
+                ", alerts=" + alerts.size() +
+                '}';
+    }
+}
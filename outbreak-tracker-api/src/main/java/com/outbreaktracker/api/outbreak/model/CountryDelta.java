@@ -0,0 +1,82 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing the countries changed since a client's dataset version
+ * When fullResync is true the requested version is no longer in the changelog
+ * and the client must re-fetch /api/countries
+ */
+public class CountryDelta {
+
+    private long sinceVersion;
+    private long currentVersion;
+    private boolean fullResync;
+    private List<CovidData> changed = new ArrayList<>();
+    private List<String> removed = new ArrayList<>();
+
+    public CountryDelta() {
+    }
+
+    public CountryDelta(long sinceVersion, long currentVersion, boolean fullResync,
+                        List<CovidData> changed, List<String> removed) {
+        this.sinceVersion = sinceVersion;
+        this.currentVersion = currentVersion;
+        this.fullResync = fullResync;
+        this.changed = changed;
+        this.removed = removed;
+    }
+
+    // Getters and Setters
+    public long getSinceVersion() {
+        return sinceVersion;
+    }
+
+    public void setSinceVersion(long sinceVersion) {
+        this.sinceVersion = sinceVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    public void setCurrentVersion(long currentVersion) {
+        this.currentVersion = currentVersion;
+    }
+
+    public boolean isFullResync() {
+        return fullResync;
+    }
+
+    public void setFullResync(boolean fullResync) {
+        this.fullResync = fullResync;
+    }
+
+    public List<CovidData> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(List<CovidData> changed) {
+        this.changed = changed;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(List<String> removed) {
+        this.removed = removed;
+    }
+
+    @Override
+    public String toString() {
+        return "CountryDelta{" +
+                "sinceVersion=" + sinceVersion +
+                ", currentVersion=" + currentVersion +
+                ", fullResync=" + fullResync +
+                ", changed=" + changed.size() +
+                ", removed=" + removed +
+                '}';
+    }
+}
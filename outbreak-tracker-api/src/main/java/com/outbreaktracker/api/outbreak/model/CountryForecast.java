@@ -0,0 +1,104 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing a short-term forecast of a country's daily new cases
+ * Forecasts the 7-day average with Holt linear smoothing on the log scale; alpha and beta are
+ * the fitted smoothing parameters and points is empty when the history is too short to fit
+ */
+public class CountryForecast {
+
+    private String country;
+    private long version;
+    private String basedOn;
+    private double confidence;
+    private Double alpha;
+    private Double beta;
+    private List<ForecastPoint> points = new ArrayList<>();
+
+    public CountryForecast() {
+    }
+
+    public CountryForecast(String country, long version, String basedOn, double confidence,
+                           Double alpha, Double beta, List<ForecastPoint> points) {
+        this.country = country;
+        this.version = version;
+        this.basedOn = basedOn;
+        this.confidence = confidence;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.points = points;
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getBasedOn() {
+        return basedOn;
+    }
+
+    public void setBasedOn(String basedOn) {
+        this.basedOn = basedOn;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(double confidence) {
+        this.confidence = confidence;
+    }
+
+    public Double getAlpha() {
+        return alpha;
+    }
+
+    public void setAlpha(Double alpha) {
+        this.alpha = alpha;
+    }
+
+    public Double getBeta() {
+        return beta;
+    }
+
+    public void setBeta(Double beta) {
+        this.beta = beta;
+    }
+
+    public List<ForecastPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<ForecastPoint> points) {
+        this.points = points;
+    }
+
+    @Override
+    public String toString() {
+        return "CountryForecast{" +
+                "country='" + country + '\'' +
+                ", version=" + version +
+                ", basedOn='" + basedOn + '\'' +
+                ", confidence=" + confidence +
+                ", alpha=" + alpha +
+                ", beta=" + beta +
+                ", points=" + points.size() +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing one entry of a batch country lookup
+ * found=false marks a requested name that matches no country (data is null)
+ */
+public class CountryLookupResult {
+
+    private boolean found;
+    private String country;
+    private CovidData data;
+
+    public CountryLookupResult() {
+    }
+
+    public CountryLookupResult(boolean found, String country, CovidData data) {
+        this.found = found;
+        this.country = country;
+        this.data = data;
+    }
+
+    public static CountryLookupResult found(CovidData data) {
+        return new CountryLookupResult(true, data.getCountry(), data);
+    }
+
+    public static CountryLookupResult notFound() {
+        return new CountryLookupResult(false, null, null);
+    }
+
+    // Getters and Setters
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public CovidData getData() {
+        return data;
+    }
+
+    public void setData(CovidData data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "CountryLookupResult{" +
+                "found=" + found +
+                ", country='" + country + '\'' +
+                '}';
+    }
+}
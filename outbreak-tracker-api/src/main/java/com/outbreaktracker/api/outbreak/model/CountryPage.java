@@ -0,0 +1,70 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing one page of a filtered and sorted country listing
+ * items holds CovidData objects, or field maps when a projection was requested
+ * nextCursor is null on the last page
+ */
+public class CountryPage {
+
+    private long version;
+    private int total;
+    private List<Object> items = new ArrayList<>();
+    private String nextCursor;
+
+    public CountryPage() {
+    }
+
+    public CountryPage(long version, int total, List<Object> items, String nextCursor) {
+        this.version = version;
+        this.total = total;
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public List<Object> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Object> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "CountryPage{" +
+                "version=" + version +
+                ", total=" + total +
+                ", items=" + items.size() +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing a compartmental model scenario projection for a country
+ * Parameters are fitted to the confirmed cases of [fitFrom, basedOn]; population is the effective
+ * susceptible population at fitFrom, not the census population. Parameters are null and points
+ * empty when the country had too few cases in the window to fit
+ */
+public class CountryProjection {
+
+    private String country;
+    private long version;
+    private String model;
+    private String fitFrom;
+    private String basedOn;
+    private Double beta;
+    private Double gamma;
+    private Double sigma;
+    private Double population;
+    private Double basicReproduction;
+    private Double effectiveReproduction;
+    private Double rootMeanSquaredLogError;
+    private List<ProjectionPoint> points = new ArrayList<>();
+
+    public CountryProjection() {
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public String getFitFrom() {
+        return fitFrom;
+    }
+
+    public void setFitFrom(String fitFrom) {
+        this.fitFrom = fitFrom;
+    }
+
+    public String getBasedOn() {
+        return basedOn;
+    }
+
+    public void setBasedOn(String basedOn) {
+        this.basedOn = basedOn;
+    }
+
+    public Double getBeta() {
+        return beta;
+    }
+
+    public void setBeta(Double beta) {
+        this.beta = beta;
+    }
+
+    public Double getGamma() {
+        return gamma;
+    }
+
+    public void setGamma(Double gamma) {
+        this.gamma = gamma;
+    }
+
+    public Double getSigma() {
+        return sigma;
+    }
+
+    public void setSigma(Double sigma) {
+        this.sigma = sigma;
+    }
+
+    public Double getPopulation() {
+        return population;
+    }
+
+    public void setPopulation(Double population) {
+        this.population = population;
+    }
+
+    public Double getBasicReproduction() {
+        return basicReproduction;
+    }
+
+    public void setBasicReproduction(Double basicReproduction) {
+        this.basicReproduction = basicReproduction;
+    }
+
+    public Double getEffectiveReproduction() {
+        return effectiveReproduction;
+    }
+
+    public void setEffectiveReproduction(Double effectiveReproduction) {
+        this.effectiveReproduction = effectiveReproduction;
+    }
+
+    public Double getRootMeanSquaredLogError() {
+        return rootMeanSquaredLogError;
+    }
+
+    public void setRootMeanSquaredLogError(Double rootMeanSquaredLogError) {
+        this.rootMeanSquaredLogError = rootMeanSquaredLogError;
+    }
+
+    public List<ProjectionPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<ProjectionPoint> points) {
+        this.points = points;
+    }
+
+    @Override
+    public String toString() {
+        return "CountryProjection{" +
+                "country='" + country + '\'' +
+                ", version=" + version +
+                ", model='" + model + '\'' +
+                ", fitFrom='" + fitFrom + '\'' +
+                ", basedOn='" + basedOn + '\'' +
+                ", beta=" + beta +
+                ", gamma=" + gamma +
+                ", sigma=" + sigma +
+                ", population=" + population +
+                ", basicReproduction=" + basicReproduction +
+                ", effectiveReproduction=" + effectiveReproduction +
+                ", rootMeanSquaredLogError=" + rootMeanSquaredLogError +
+                ", points=" + (points != null ? points.size() : 0) +
+                '}';
+    }
+}
@@ -0,0 +1,173 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing a country's history over a date range, per day, ISO week or calendar month
+ * dates, cumulativeCases and newCases are parallel arrays (one entry per returned point)
+ * For weeks and months dates holds period labels ("2021-W07", "2021-02"), cumulativeCases the total
+ * at the period's last reported day, newCases the cases reported within it, and periodDays the
+ * number of reported days per period (edge periods may be partial)
+ * When downsampled is true only a shape-preserving subset of the totalPoints points is returned
+ * Rolling metric arrays are parallel to dates as well (see CovidData for their meaning) and only
+ * filled for daily series
+ */
+public class CountrySeries {
+
+    private String country;
+    private String from;
+    private String to;
+    private int totalPoints;
+    private boolean downsampled;
+    private String granularity = "day";
+    private List<String> dates = new ArrayList<>();
+    private long[] cumulativeCases = new long[0];
+    private long[] newCases = new long[0];
+    private Double[] averageNewCases7d = new Double[0];
+    private Double[] averageNewCases14d = new Double[0];
+    private Double[] weekOverWeekGrowth = new Double[0];
+    private Double[] doublingTimeDays = new Double[0];
+    private int[] periodDays;
+
+    public CountrySeries() {
+    }
+
+    public CountrySeries(String country, String from, String to, int totalPoints, boolean downsampled,
+                         List<String> dates, long[] cumulativeCases, long[] newCases) {
+        this.country = country;
+        this.from = from;
+        this.to = to;
+        this.totalPoints = totalPoints;
+        this.downsampled = downsampled;
+        this.dates = dates;
+        this.cumulativeCases = cumulativeCases;
+        this.newCases = newCases;
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public int getTotalPoints() {
+        return totalPoints;
+    }
+
+    public void setTotalPoints(int totalPoints) {
+        this.totalPoints = totalPoints;
+    }
+
+    public boolean isDownsampled() {
+        return downsampled;
+    }
+
+    public void setDownsampled(boolean downsampled) {
+        this.downsampled = downsampled;
+    }
+
+    public String getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(String granularity) {
+        this.granularity = granularity;
+    }
+
+    public List<String> getDates() {
+        return dates;
+    }
+
+    public void setDates(List<String> dates) {
+        this.dates = dates;
+    }
+
+    public long[] getCumulativeCases() {
+        return cumulativeCases;
+    }
+
+    public void setCumulativeCases(long[] cumulativeCases) {
+        this.cumulativeCases = cumulativeCases;
+    }
+
+    public long[] getNewCases() {
+        return newCases;
+    }
+
+    public void setNewCases(long[] newCases) {
+        this.newCases = newCases;
+    }
+
+    public Double[] getAverageNewCases7d() {
+        return averageNewCases7d;
+    }
+
+    public void setAverageNewCases7d(Double[] averageNewCases7d) {
+        this.averageNewCases7d = averageNewCases7d;
+    }
+
+    public Double[] getAverageNewCases14d() {
+        return averageNewCases14d;
+    }
+
+    public void setAverageNewCases14d(Double[] averageNewCases14d) {
+        this.averageNewCases14d = averageNewCases14d;
+    }
+
+    public Double[] getWeekOverWeekGrowth() {
+        return weekOverWeekGrowth;
+    }
+
+    public void setWeekOverWeekGrowth(Double[] weekOverWeekGrowth) {
+        this.weekOverWeekGrowth = weekOverWeekGrowth;
+    }
+
+    public Double[] getDoublingTimeDays() {
+        return doublingTimeDays;
+    }
+
+    public void setDoublingTimeDays(Double[] doublingTimeDays) {
+        this.doublingTimeDays = doublingTimeDays;
+    }
+
+    public int[] getPeriodDays() {
+        return periodDays;
+    }
+
+    public void setPeriodDays(int[] periodDays) {
+        this.periodDays = periodDays;
+    }
+
+    @Override
+    public String toString() {
+        return "CountrySeries{" +
+                "country='" + country + '\'' +
+                ", from='" + from + '\'' +
+                ", to='" + to + '\'' +
+                ", granularity='" + granularity + '\'' +
+                ", points=" + dates.size() +
+                ", totalPoints=" + totalPoints +
+                ", downsampled=" + downsampled +
+                '}';
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Objects;
 /**
  * Model representing respiratory outbreak statistics for a single country
  * Maps directly to CSV data columns
+ * Rolling trend fields (7/14-day averages, growth, doubling time) are null when the history
+ * is too short to cover their window
  */
 public class CovidData {
     
@@ -17,6 +19,10 @@ public class CovidData {
     private Long activeCases;
     private Long criticalCases;
     private String lastUpdated;
+    private Double averageNewCases7d;
+    private Double averageNewCases14d;
+    private Double weekOverWeekGrowth;
+    private Double doublingTimeDays;
 
     public CovidData() {
     }
@@ -108,6 +114,38 @@ public class CovidData {
         this.lastUpdated = lastUpdated;
     }
 
+    public Double getAverageNewCases7d() {
+        return averageNewCases7d;
+    }
+
+    public void setAverageNewCases7d(Double averageNewCases7d) {
+        this.averageNewCases7d = averageNewCases7d;
+    }
+
+    public Double getAverageNewCases14d() {
+        return averageNewCases14d;
+    }
+
+    public void setAverageNewCases14d(Double averageNewCases14d) {
+        this.averageNewCases14d = averageNewCases14d;
+    }
+
+    public Double getWeekOverWeekGrowth() {
+        return weekOverWeekGrowth;
+    }
+
+    public void setWeekOverWeekGrowth(Double weekOverWeekGrowth) {
+        this.weekOverWeekGrowth = weekOverWeekGrowth;
+    }
+
+    public Double getDoublingTimeDays() {
+        return doublingTimeDays;
+    }
+
+    public void setDoublingTimeDays(Double doublingTimeDays) {
+        this.doublingTimeDays = doublingTimeDays;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -133,6 +171,10 @@ public class CovidData {
                 ", activeCases=" + activeCases +
                 ", criticalCases=" + criticalCases +
                 ", lastUpdated='" + lastUpdated + '\'' +
+                ", averageNewCases7d=" + averageNewCases7d +
+                ", averageNewCases14d=" + averageNewCases14d +
+                ", weekOverWeekGrowth=" + weekOverWeekGrowth +
+                ", doublingTimeDays=" + doublingTimeDays +
                 '}';
     }
 }
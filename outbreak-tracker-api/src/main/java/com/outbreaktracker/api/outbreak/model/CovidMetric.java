@@ -0,0 +1,74 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.function.Function;
+
+/**
+ * Numeric CovidData fields that can be sorted, filtered and ranked on
+ * Field names match the JSON property names of CovidData
+ */
+public enum CovidMetric {
+
+    TOTAL_CASES("totalCases", false, CovidData::getTotalCases),
+    NEW_CASES("newCases", true, CovidData::getNewCases),
+    TOTAL_DEATHS("totalDeaths", false, CovidData::getTotalDeaths),
+    NEW_DEATHS("newDeaths", true, CovidData::getNewDeaths),
+    TOTAL_RECOVERED("totalRecovered", false, CovidData::getTotalRecovered),
+    ACTIVE_CASES("activeCases", false, CovidData::getActiveCases),
+    CRITICAL_CASES("criticalCases", false, CovidData::getCriticalCases);
+
+    private final String fieldName;
+    private final boolean flow;
+    private final Function<CovidData, Long> accessor;
+
+    CovidMetric(String fieldName, boolean flow, Function<CovidData, Long> accessor) {
+        this.fieldName = fieldName;
+        this.flow = flow;
+        this.accessor = accessor;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * True for per-day counts (newCases, newDeaths), which can be summed over a date range
+     * The others are running totals or current levels; summing them day by day is meaningless
+     */
+    public boolean isFlow() {
+        return flow;
+    }
+
+    /**
+     * Reads this metric from a country record
+     *
+     * @return Metric value, or null if the record has no value for it
+     */
+    public Long extract(CovidData data) {
+        return accessor.apply(data);
+    }
+
+    /**
+     * Looks up a metric by its JSON field name (e.g. "newCases")
+     *
+     * @throws IllegalArgumentException if the name is not a known metric
+     */
+    public static CovidMetric fromFieldName(String fieldName) {
+        for (CovidMetric metric : values()) {
+            if (metric.fieldName.equals(fieldName)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown metric: " + fieldName + ". Valid metrics: " + fieldNames());
+    }
+
+    private static String fieldNames() {
+        StringBuilder names = new StringBuilder();
+        for (CovidMetric metric : values()) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(metric.fieldName);
+        }
+        return names.toString();
+    }
+}
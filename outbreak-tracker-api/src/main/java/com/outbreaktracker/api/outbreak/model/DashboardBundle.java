@@ -0,0 +1,58 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing everything the main dashboard needs on startup
+ * Combines GET /api/global and GET /api/countries into one payload
+ */
+public class DashboardBundle {
+
+    private long version;
+    private GlobalStats global;
+    private List<CovidData> countries = new ArrayList<>();
+
+    public DashboardBundle() {
+    }
+
+    public DashboardBundle(long version, GlobalStats global, List<CovidData> countries) {
+        this.version = version;
+        this.global = global;
+        this.countries = countries;
+    }
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public GlobalStats getGlobal() {
+        return global;
+    }
+
+    public void setGlobal(GlobalStats global) {
+        this.global = global;
+    }
+
+    public List<CovidData> getCountries() {
+        return countries;
+    }
+
+    public void setCountries(List<CovidData> countries) {
+        this.countries = countries;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardBundle{" +
+                "version=" + version +
+                ", global=" + global +
+                ", countries=" + countries.size() +
+                '}';
+    }
+}
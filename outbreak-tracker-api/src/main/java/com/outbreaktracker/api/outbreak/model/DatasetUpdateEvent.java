@@ -0,0 +1,69 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact event pushed to /api/stream/updates subscribers when a refresh completes
+ * Carries the new dataset version, which countries changed, and the new global totals
+ */
+public class DatasetUpdateEvent {
+
+    private long version;
+    private List<String> changedCountries = new ArrayList<>();
+    private List<String> removedCountries = new ArrayList<>();
+    private GlobalStats global;
+
+    public DatasetUpdateEvent() {
+    }
+
+    public DatasetUpdateEvent(long version, List<String> changedCountries, List<String> removedCountries,
+                              GlobalStats global) {
+        this.version = version;
+        this.changedCountries = changedCountries;
+        this.removedCountries = removedCountries;
+        this.global = global;
+    }
+
+    // Getters and Setters
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public List<String> getChangedCountries() {
+        return changedCountries;
+    }
+
+    public void setChangedCountries(List<String> changedCountries) {
+        this.changedCountries = changedCountries;
+    }
+
+    public List<String> getRemovedCountries() {
+        return removedCountries;
+    }
+
+    public void setRemovedCountries(List<String> removedCountries) {
+        this.removedCountries = removedCountries;
+    }
+
+    public GlobalStats getGlobal() {
+        return global;
+    }
+
+    public void setGlobal(GlobalStats global) {
+        this.global = global;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetUpdateEvent{" +
+                "version=" + version +
+                ", changedCountries=" + changedCountries.size() +
+                ", removedCountries=" + removedCountries.size() +
+                '}';
+    }
+}
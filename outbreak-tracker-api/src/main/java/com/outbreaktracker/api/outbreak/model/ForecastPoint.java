@@ -0,0 +1,66 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing one forecast day: expected new cases per day (7-day average) and
+ * the prediction interval around it
+ */
+public class ForecastPoint {
+
+    private String date;
+    private double expected;
+    private double lower;
+    private double upper;
+
+    public ForecastPoint() {
+    }
+
+    public ForecastPoint(String date, double expected, double lower, double upper) {
+        this.date = date;
+        this.expected = expected;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    // Getters and Setters
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public double getExpected() {
+        return expected;
+    }
+
+    public void setExpected(double expected) {
+        this.expected = expected;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public void setLower(double lower) {
+        this.lower = lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    public void setUpper(double upper) {
+        this.upper = upper;
+    }
+
+    @Override
+    public String toString() {
+        return "ForecastPoint{" +
+                "date='" + date + '\'' +
+                ", expected=" + expected +
+                ", lower=" + lower +
+                ", upper=" + upper +
+                '}';
+    }
+}
@@ -3,6 +3,7 @@ package com.outbreaktracker.api.outbreak.model;
 /**
  * Model representing aggregated worldwide respiratory outbreak statistics
  * Calculated by summing data from all countries
+ * Rolling trend fields are derived from the summed windows, not averaged across countries
  */
 public class GlobalStats {
     
@@ -13,6 +14,10 @@ public class GlobalStats {
     private Long criticalCases;
     private int affectedCountries;
     private String lastUpdated;
+    private Double averageNewCases7d;
+    private Double averageNewCases14d;
+    private Double weekOverWeekGrowth;
+    private Double doublingTimeDays;
 
     public GlobalStats() {
     }
@@ -86,6 +91,38 @@ public class GlobalStats {
         this.lastUpdated = lastUpdated;
     }
 
+    public Double getAverageNewCases7d() {
+        return averageNewCases7d;
+    }
+
+    public void setAverageNewCases7d(Double averageNewCases7d) {
+        this.averageNewCases7d = averageNewCases7d;
+    }
+
+    public Double getAverageNewCases14d() {
+        return averageNewCases14d;
+    }
+
+    public void setAverageNewCases14d(Double averageNewCases14d) {
+        this.averageNewCases14d = averageNewCases14d;
+    }
+
+    public Double getWeekOverWeekGrowth() {
+        return weekOverWeekGrowth;
+    }
+
+    public void setWeekOverWeekGrowth(Double weekOverWeekGrowth) {
+        this.weekOverWeekGrowth = weekOverWeekGrowth;
+    }
+
+    public Double getDoublingTimeDays() {
+        return doublingTimeDays;
+    }
+
+    public void setDoublingTimeDays(Double doublingTimeDays) {
+        this.doublingTimeDays = doublingTimeDays;
+    }
+
     @Override
     public String toString() {
         return "GlobalStats{" +
@@ -96,6 +133,10 @@ public class GlobalStats {
                 ", criticalCases=" + criticalCases +
                 ", affectedCountries=" + affectedCountries +
                 ", lastUpdated='" + lastUpdated + '\'' +
+                ", averageNewCases7d=" + averageNewCases7d +
+                ", averageNewCases14d=" + averageNewCases14d +
+                ", weekOverWeekGrowth=" + weekOverWeekGrowth +
+                ", doublingTimeDays=" + doublingTimeDays +
                 '}';
     }
 }
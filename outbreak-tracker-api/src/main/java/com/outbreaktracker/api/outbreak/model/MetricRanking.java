@@ -0,0 +1,79 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing the top countries for one metric
+ * rankedCountries counts all countries with a value for the metric
+ */
+public class MetricRanking {
+
+    private String metric;
+    private String order;
+    private long version;
+    private int rankedCountries;
+    private List<RankingEntry> entries = new ArrayList<>();
+
+    public MetricRanking() {
+    }
+
+    public MetricRanking(String metric, String order, long version, int rankedCountries, List<RankingEntry> entries) {
+        this.metric = metric;
+        this.order = order;
+        this.version = version;
+        this.rankedCountries = rankedCountries;
+        this.entries = entries;
+    }
+
+    // Getters and Setters
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public void setOrder(String order) {
+        this.order = order;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getRankedCountries() {
+        return rankedCountries;
+    }
+
+    public void setRankedCountries(int rankedCountries) {
+        this.rankedCountries = rankedCountries;
+    }
+
+    public List<RankingEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<RankingEntry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricRanking{" +
+                "metric='" + metric + '\'' +
+                ", order='" + order + '\'' +
+                ", version=" + version +
+                ", entries=" + entries.size() +
+                '}';
+    }
+}
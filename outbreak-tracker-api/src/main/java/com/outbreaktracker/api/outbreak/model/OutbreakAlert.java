@@ -0,0 +1,102 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing a country whose new cases broke out of their recent baseline
+ * baseline is the smoothed (EWMA) daily new cases before the latest day and standardScore the
+ * latest day's deviation from it in standard deviations; score is the CUSUM statistic that
+ * crossed the alert threshold, accumulating since the date in since
+ */
+public class OutbreakAlert {
+
+    private String country;
+    private String date;
+    private String since;
+    private long newCases;
+    private double baseline;
+    private double standardScore;
+    private double score;
+
+    public OutbreakAlert() {
+    }
+
+    public OutbreakAlert(String country, String date, String since, long newCases,
+                         double baseline, double standardScore, double score) {
+        this.country = country;
+        this.date = date;
+        this.since = since;
+        this.newCases = newCases;
+        this.baseline = baseline;
+        this.standardScore = standardScore;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public String getSince() {
+        return since;
+    }
+
+    public void setSince(String since) {
+        this.since = since;
+    }
+
+    public long getNewCases() {
+        return newCases;
+    }
+
+    public void setNewCases(long newCases) {
+        this.newCases = newCases;
+    }
+
+    public double getBaseline() {
+        return baseline;
+    }
+
+    public void setBaseline(double baseline) {
+        this.baseline = baseline;
+    }
+
+    public double getStandardScore() {
+        return standardScore;
+    }
+
+    public void setStandardScore(double standardScore) {
+        this.standardScore = standardScore;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "OutbreakAlert{" +
+                "country='" + country + '\'' +
+                ", date='" + date + '\'' +
+                ", since='" + since + '\'' +
+                ", newCases=" + newCases +
+                ", baseline=" + baseline +
+                ", standardScore=" + standardScore +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing one projected day of a compartmental model: new cases that day and the
+ * cumulative total they add up to
+ */
+public class ProjectionPoint {
+
+    private String date;
+    private double newCases;
+    private double cumulativeCases;
+
+    public ProjectionPoint() {
+    }
+
+    public ProjectionPoint(String date, double newCases, double cumulativeCases) {
+        this.date = date;
+        this.newCases = newCases;
+        this.cumulativeCases = cumulativeCases;
+    }
+
+    // Getters and Setters
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public double getNewCases() {
+        return newCases;
+    }
+
+    public void setNewCases(double newCases) {
+        this.newCases = newCases;
+    }
+
+    public double getCumulativeCases() {
+        return cumulativeCases;
+    }
+
+    public void setCumulativeCases(double cumulativeCases) {
+        this.cumulativeCases = cumulativeCases;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectionPoint{" +
+                "date='" + date + '\'' +
+                ", newCases=" + newCases +
+                ", cumulativeCases=" + cumulativeCases +
+                '}';
+    }
+}
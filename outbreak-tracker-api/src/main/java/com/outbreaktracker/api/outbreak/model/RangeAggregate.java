@@ -0,0 +1,100 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing a metric summed over a date range
+ * sum adds up the metric's value on every day in [from, to]; for newCases that is the number of
+ * cases reported in the range. average is sum / days. country is null for worldwide totals.
+ */
+public class RangeAggregate {
+
+    private String country;
+    private String metric;
+    private String from;
+    private String to;
+    private int days;
+    private long sum;
+    private double average;
+
+    public RangeAggregate() {
+    }
+
+    public RangeAggregate(String country, String metric, String from, String to, int days, long sum, double average) {
+        this.country = country;
+        this.metric = metric;
+        this.from = from;
+        this.to = to;
+        this.days = days;
+        this.sum = sum;
+        this.average = average;
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public void setDays(int days) {
+        this.days = days;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public void setSum(long sum) {
+        this.sum = sum;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public void setAverage(double average) {
+        this.average = average;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeAggregate{" +
+                "country='" + country + '\'' +
+                ", metric='" + metric + '\'' +
+                ", from='" + from + '\'' +
+                ", to='" + to + '\'' +
+                ", days=" + days +
+                ", sum=" + sum +
+                ", average=" + average +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing one country's position in a metric ranking
+ * rank is 1 for the highest value; equal values share a rank; 0 means the country has no value
+ */
+public class RankingEntry {
+
+    private int rank;
+    private String country;
+    private Long value;
+
+    public RankingEntry() {
+    }
+
+    public RankingEntry(int rank, String country, Long value) {
+        this.rank = rank;
+        this.country = country;
+        this.value = value;
+    }
+
+    // Getters and Setters
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public Long getValue() {
+        return value;
+    }
+
+    public void setValue(Long value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "RankingEntry{" +
+                "rank=" + rank +
+                ", country='" + country + '\'' +
+                ", value=" + value +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.List;
+
+/**
+ * Model representing the latest totals of a continent or WHO region
+ * type is "continent" or "who"; totals are summed over the member countries, with
+ * affectedCountries holding the member count
+ */
+public class RegionSummary {
+
+    private String region;
+    private String type;
+    private List<String> countries;
+    private GlobalStats totals;
+
+    public RegionSummary() {
+    }
+
+    public RegionSummary(String region, String type, List<String> countries, GlobalStats totals) {
+        this.region = region;
+        this.type = type;
+        this.countries = countries;
+        this.totals = totals;
+    }
+
+    // Getters and Setters
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public List<String> getCountries() {
+        return countries;
+    }
+
+    public void setCountries(List<String> countries) {
+        this.countries = countries;
+    }
+
+    public GlobalStats getTotals() {
+        return totals;
+    }
+
+    public void setTotals(GlobalStats totals) {
+        this.totals = totals;
+    }
+
+    @Override
+    public String toString() {
+        return "RegionSummary{" +
+                "region='" + region + '\'' +
+                ", type='" + type + '\'' +
+                ", countries=" + (countries != null ? countries.size() : 0) +
+                ", totals=" + totals +
+                '}';
+    }
+}
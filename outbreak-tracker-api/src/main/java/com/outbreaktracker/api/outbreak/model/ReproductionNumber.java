@@ -0,0 +1,104 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing the effective reproduction number (Rt) of a country or region
+ * type is "country", "continent" or "who". Estimates use the Cori method over windowDays-day
+ * windows with a fixed serial interval; latest is the most recent day and history the requested days
+ * (empty in listings)
+ */
+public class ReproductionNumber {
+
+    private String name;
+    private String type;
+    private long version;
+    private int windowDays;
+    private double serialIntervalMean;
+    private double serialIntervalStandardDeviation;
+    private RtPoint latest;
+    private List<RtPoint> history = new ArrayList<>();
+
+    public ReproductionNumber() {
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    public void setWindowDays(int windowDays) {
+        this.windowDays = windowDays;
+    }
+
+    public double getSerialIntervalMean() {
+        return serialIntervalMean;
+    }
+
+    public void setSerialIntervalMean(double serialIntervalMean) {
+        this.serialIntervalMean = serialIntervalMean;
+    }
+
+    public double getSerialIntervalStandardDeviation() {
+        return serialIntervalStandardDeviation;
+    }
+
+    public void setSerialIntervalStandardDeviation(double serialIntervalStandardDeviation) {
+        this.serialIntervalStandardDeviation = serialIntervalStandardDeviation;
+    }
+
+    public RtPoint getLatest() {
+        return latest;
+    }
+
+    public void setLatest(RtPoint latest) {
+        this.latest = latest;
+    }
+
+    public List<RtPoint> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<RtPoint> history) {
+        this.history = history;
+    }
+
+    @Override
+    public String toString() {
+        return "ReproductionNumber{" +
+                "name='" + name + '\'' +
+                ", type='" + type + '\'' +
+                ", version=" + version +
+                ", windowDays=" + windowDays +
+                ", serialIntervalMean=" + serialIntervalMean +
+                ", serialIntervalStandardDeviation=" + serialIntervalStandardDeviation +
+                ", latest=" + latest +
+                ", history=" + (history != null ? history.size() : 0) +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing the effective reproduction number estimated for one day
+ * rt is the posterior mean, lower and upper bound its 95% credible interval; all three are
+ * null when the window had too few cases for an estimate
+ */
+public class RtPoint {
+
+    private String date;
+    private Double rt;
+    private Double lower;
+    private Double upper;
+
+    public RtPoint() {
+    }
+
+    public RtPoint(String date, Double rt, Double lower, Double upper) {
+        this.date = date;
+        this.rt = rt;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    // Getters and Setters
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public Double getRt() {
+        return rt;
+    }
+
+    public void setRt(Double rt) {
+        this.rt = rt;
+    }
+
+    public Double getLower() {
+        return lower;
+    }
+
+    public void setLower(Double lower) {
+        this.lower = lower;
+    }
+
+    public Double getUpper() {
+        return upper;
+    }
+
+    public void setUpper(Double upper) {
+        this.upper = upper;
+    }
+
+    @Override
+    public String toString() {
+        return "RtPoint{" +
+                "date='" + date + '\'' +
+                ", rt=" + rt +
+                ", lower=" + lower +
+                ", upper=" + upper +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Time step of a returned series
+ * Weeks are ISO weeks (Monday to Sunday, labelled e.g. "2021-W07"); months are labelled e.g. "2021-02"
+ */
+public enum SeriesGranularity {
+
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String fieldName;
+
+    SeriesGranularity(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Looks up a granularity by its request parameter value (e.g. "week")
+     *
+     * @throws IllegalArgumentException if the name is not a known granularity
+     */
+    public static SeriesGranularity fromFieldName(String fieldName) {
+        for (SeriesGranularity granularity : values()) {
+            if (granularity.fieldName.equals(fieldName)) {
+                return granularity;
+            }
+        }
+        throw new IllegalArgumentException("Unknown granularity: " + fieldName + " (expected day, week or month)");
+    }
+}
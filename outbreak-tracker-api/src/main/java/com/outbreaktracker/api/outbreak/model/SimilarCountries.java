@@ -0,0 +1,93 @@
+package com.outbreaktracker.api.outbreak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model representing the countries whose curves correlate most with one country's
+ * Curves are 7-day averages of daily new cases over [from, to]; similar is empty when the
+ * country's curve is flat over the window or the history is too short
+ */
+public class SimilarCountries {
+
+    private String country;
+    private long version;
+    private String from;
+    private String to;
+    private int windowDays;
+    private List<SimilarCountry> similar = new ArrayList<>();
+
+    public SimilarCountries() {
+    }
+
+    public SimilarCountries(String country, long version, String from, String to, int windowDays,
+                            List<SimilarCountry> similar) {
+        this.country = country;
+        this.version = version;
+        this.from = from;
+        this.to = to;
+        this.windowDays = windowDays;
+        this.similar = similar;
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    public void setWindowDays(int windowDays) {
+        this.windowDays = windowDays;
+    }
+
+    public List<SimilarCountry> getSimilar() {
+        return similar;
+    }
+
+    public void setSimilar(List<SimilarCountry> similar) {
+        this.similar = similar;
+    }
+
+    @Override
+    public String toString() {
+        return "SimilarCountries{" +
+                "country='" + country + '\'' +
+                ", version=" + version +
+                ", from='" + from + '\'' +
+                ", to='" + to + '\'' +
+                ", windowDays=" + windowDays +
+                ", similar=" + similar +
+                '}';
+    }
+}
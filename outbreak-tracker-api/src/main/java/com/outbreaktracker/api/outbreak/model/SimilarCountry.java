@@ -0,0 +1,44 @@
+package com.outbreaktracker.api.outbreak.model;
+
+/**
+ * Model representing a country whose case curve moves with another country's
+ * correlation is the Pearson correlation of the two curves over the similarity window (-1 to 1)
+ */
+public class SimilarCountry {
+
+    private String country;
+    private double correlation;
+
+    public SimilarCountry() {
+    }
+
+    public SimilarCountry(String country, double correlation) {
+        this.country = country;
+        this.correlation = correlation;
+    }
+
+    // Getters and Setters
+    public String getCountry() {
+        return country;
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+    }
+
+    public double getCorrelation() {
+        return correlation;
+    }
+
+    public void setCorrelation(double correlation) {
+        this.correlation = correlation;
+    }
+
+    @Override
+    public String toString() {
+        return "SimilarCountry{" +
+                "country='" + country + '\'' +
+                ", correlation=" + correlation +
+                '}';
+    }
+}
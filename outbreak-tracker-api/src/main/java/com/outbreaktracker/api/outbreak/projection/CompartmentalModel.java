@@ -0,0 +1,111 @@
+package com.outbreaktracker.api.outbreak.projection;
+
+/**
+ * SIR and SEIR compartmental models, integrated with fixed-step RK4
+ *
+ * A simulation starts at the first day of the fitted window with the whole effective population
+ * susceptible except the infected (and, for SEIR, exposed) compartments sized so that the model's
+ * first-day incidence matches the observed one. It writes daily incidence (new confirmed cases:
+ * S -> I for SIR, E -> I for SEIR) into a caller-owned array; the state lives in local doubles,
+ * so a simulation allocates nothing.
+ */
+public enum CompartmentalModel {
+
+    SIR,
+    SEIR;
+
+    /** Rate of leaving the exposed compartment (5-day latent period), fixed for SEIR */
+    public static final double SIGMA = 0.2;
+
+    /** RK4 steps per simulated day */
+    static final int STEPS_PER_DAY = 4;
+
+    public String getFieldName() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Parses a model name as used in query parameters ("sir", "seir")
+     */
+    public static CompartmentalModel fromFieldName(String name) {
+        for (CompartmentalModel model : values()) {
+            if (model.getFieldName().equalsIgnoreCase(name)) {
+                return model;
+            }
+        }
+        throw new IllegalArgumentException("Unknown model: " + name + " (expected sir or seir)");
+    }
+
+    /**
+     * Simulates days of daily incidence
+     *
+     * @param beta              Transmission rate per day
+     * @param gamma             Recovery rate per day
+     * @param population        Effective susceptible population at the start
+     * @param initialIncidence  Observed new cases per day on the first day
+     * @param incidence         Receives the model's new cases for each day
+     * @param days              Number of days to simulate (at most incidence.length)
+     * @return Susceptible fraction after the last day, or NaN if the start state is impossible
+     */
+    public double simulate(double beta, double gamma, double population, double initialIncidence,
+                           double[] incidence, int days) {
+        double h = 1.0 / STEPS_PER_DAY;
+        double seed = Math.max(initialIncidence, 1.0);
+        if (this == SIR) {
+            double i = seed / beta;
+            double s = population - i;
+            if (s <= 0.0) {
+                return Double.NaN;
+            }
+            for (int day = 0; day < days; day++) {
+                double newCases = 0.0;
+                for (int step = 0; step < STEPS_PER_DAY; step++) {
+                    double f1 = beta * s * i / population;
+                    double s2 = s - 0.5 * h * f1, i2 = i + 0.5 * h * (f1 - gamma * i);
+                    double f2 = beta * s2 * i2 / population;
+                    double s3 = s - 0.5 * h * f2, i3 = i + 0.5 * h * (f2 - gamma * i2);
+                    double f3 = beta * s3 * i3 / population;
+                    double s4 = s - h * f3, i4 = i + h * (f3 - gamma * i3);
+                    double f4 = beta * s4 * i4 / population;
+
+                    double infections = h * (f1 + 2.0 * f2 + 2.0 * f3 + f4) / 6.0;
+                    i += h * ((f1 - gamma * i) + 2.0 * (f2 - gamma * i2) + 2.0 * (f3 - gamma * i3) + (f4 - gamma * i4)) / 6.0;
+                    s -= infections;
+                    newCases += infections;
+                }
+                incidence[day] = newCases;
+            }
+            return s / population;
+        }
+
+        double e = seed / SIGMA;
+        double i = seed / gamma;
+        double s = population - e - i;
+        if (s <= 0.0) {
+            return Double.NaN;
+        }
+        for (int day = 0; day < days; day++) {
+            double newCases = 0.0;
+            for (int step = 0; step < STEPS_PER_DAY; step++) {
+                double f1 = beta * s * i / population;
+                double e1 = f1 - SIGMA * e, g1 = SIGMA * e - gamma * i;
+                double s2 = s - 0.5 * h * f1, ee2 = e + 0.5 * h * e1, i2 = i + 0.5 * h * g1;
+                double f2 = beta * s2 * i2 / population;
+                double e2 = f2 - SIGMA * ee2, g2 = SIGMA * ee2 - gamma * i2;
+                double s3 = s - 0.5 * h * f2, ee3 = e + 0.5 * h * e2, i3 = i + 0.5 * h * g2;
+                double f3 = beta * s3 * i3 / population;
+                double e3 = f3 - SIGMA * ee3, g3 = SIGMA * ee3 - gamma * i3;
+                double s4 = s - h * f3, ee4 = e + h * e3, i4 = i + h * g3;
+                double f4 = beta * s4 * i4 / population;
+                double e4 = f4 - SIGMA * ee4, g4 = SIGMA * ee4 - gamma * i4;
+
+                newCases += h * SIGMA * (e + 2.0 * ee2 + 2.0 * ee3 + ee4) / 6.0;
+                s -= h * (f1 + 2.0 * f2 + 2.0 * f3 + f4) / 6.0;
+                e += h * (e1 + 2.0 * e2 + 2.0 * e3 + e4) / 6.0;
+                i += h * (g1 + 2.0 * g2 + 2.0 * g3 + g4) / 6.0;
+            }
+            incidence[day] = newCases;
+        }
+        return s / population;
+    }
+}
@@ -0,0 +1,97 @@
+package com.outbreaktracker.api.outbreak.projection;
+
+/**
+ * Fitted parameters and projected incidence of one compartmental model for one country
+ * Immutable; projectedNewCases[k] is the model's new cases on the (k + 1)th day after the fit window
+ */
+public final class ModelFit {
+
+    private final CompartmentalModel model;
+    private final double beta;
+    private final double gamma;
+    private final double population;
+    private final double effectiveReproduction;
+    private final double rootMeanSquaredLogError;
+    private final int fitDays;
+    private final double[] projectedNewCases;
+
+    ModelFit(CompartmentalModel model, double beta, double gamma, double population, double effectiveReproduction,
+             double rootMeanSquaredLogError, int fitDays, double[] projectedNewCases) {
+        this.model = model;
+        this.beta = beta;
+        this.gamma = gamma;
+        this.population = population;
+        this.effectiveReproduction = effectiveReproduction;
+        this.rootMeanSquaredLogError = rootMeanSquaredLogError;
+        this.fitDays = fitDays;
+        this.projectedNewCases = projectedNewCases;
+    }
+
+    public CompartmentalModel getModel() {
+        return model;
+    }
+
+    /**
+     * Transmission rate per day
+     */
+    public double getBeta() {
+        return beta;
+    }
+
+    /**
+     * Recovery rate per day
+     */
+    public double getGamma() {
+        return gamma;
+    }
+
+    /**
+     * Rate of leaving the exposed compartment, null for SIR
+     */
+    public Double getSigma() {
+        return model == CompartmentalModel.SEIR ? CompartmentalModel.SIGMA : null;
+    }
+
+    /**
+     * Effective population that was susceptible at the start of the window
+     */
+    public double getPopulation() {
+        return population;
+    }
+
+    /**
+     * beta / gamma
+     */
+    public double getBasicReproduction() {
+        return beta / gamma;
+    }
+
+    /**
+     * Reproduction number at the end of the window (R0 times the susceptible fraction left)
+     */
+    public double getEffectiveReproduction() {
+        return effectiveReproduction;
+    }
+
+    /**
+     * Fit error on the log1p scale of daily new cases
+     */
+    public double getRootMeanSquaredLogError() {
+        return rootMeanSquaredLogError;
+    }
+
+    /**
+     * Number of days the model was fitted on
+     */
+    public int getFitDays() {
+        return fitDays;
+    }
+
+    public int getHorizon() {
+        return projectedNewCases.length;
+    }
+
+    public double getProjectedNewCases(int day) {
+        return projectedNewCases[day];
+    }
+}
@@ -0,0 +1,168 @@
+package com.outbreaktracker.api.outbreak.projection;
+
+import com.outbreaktracker.api.outbreak.store.RollingMetrics;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+
+import java.util.Arrays;
+
+/**
+ * Fits SIR / SEIR parameters to the recent confirmed case curve of one country at a time
+ *
+ * The observed curve is log(1 + 7-day average of new cases) over the last windowDays days. The
+ * simulation starts six days before the window so that the model's own trailing 7-day average
+ * can be compared on every day, without the lag a raw-incidence comparison would introduce.
+ * The fitted parameters are log(beta), log(gamma), log(effective population) and the log of the
+ * incidence on the first simulated day relative to the first observed average (the seed), searched
+ * with Nelder-Mead from a few starting points that differ in population size, minimizing the
+ * squared error on the log1p scale. Sigma is not fitted for SEIR
+ * (see CompartmentalModel.SIGMA): daily confirmed counts cannot tell it apart from gamma.
+ *
+ * Buffers for the observed curve, the simulation and the optimizer are allocated once, so an
+ * objective evaluation allocates nothing. Not thread-safe: use one fitter per thread.
+ */
+public final class ModelFitter {
+
+    /** Days projected after the fit window */
+    public static final int HORIZON_DAYS = 60;
+
+    /** Observed days needed before a fit is attempted */
+    public static final int MIN_DAYS = 14;
+
+    /** New cases the window must contain for a fit to be meaningful */
+    static final long MIN_WINDOW_CASES = 100;
+
+    static final double MIN_BETA = 0.01;
+    static final double MAX_BETA = 3.0;
+    static final double MIN_GAMMA = 1.0 / 30.0;
+    static final double MAX_GAMMA = 1.0;
+
+    /** Simulated days before the window, so the first window day has a full trailing week */
+    private static final int LEAD_DAYS = RollingMetrics.WEEK - 1;
+
+    /** log(beta), log(gamma), log(population), log(seed multiple) */
+    private static final int PARAMETERS = 4;
+    private static final double MAX_SEED_MULTIPLE = 10.0;
+
+    private static final double INITIAL_GAMMA = 1.0 / 7.0;
+    private static final double[] POPULATION_MULTIPLES = {2.0, 10.0, 50.0};
+    private static final int MAX_EVALUATIONS = 400;
+    private static final double TOLERANCE = 1e-8;
+
+    private final int windowDays;
+    private final double[] observed;
+    private final double[] incidence;
+    private final double[] point = new double[PARAMETERS];
+    private final double[] best = new double[PARAMETERS];
+    private final double[] step = {0.3, 0.3, 0.7, 0.3};
+    private final NelderMead optimizer = new NelderMead(PARAMETERS);
+    private final NelderMead.Objective objective = this::logError;
+
+    // Set per fit() call, read by the objective
+    private CompartmentalModel model;
+    private int days;
+    private double initialIncidence;
+
+    public ModelFitter(int windowDays) {
+        if (windowDays < MIN_DAYS) {
+            throw new IllegalArgumentException("Fit window must be at least " + MIN_DAYS + " days");
+        }
+        this.windowDays = windowDays;
+        this.observed = new double[windowDays];
+        this.incidence = new double[LEAD_DAYS + windowDays + HORIZON_DAYS];
+    }
+
+    /**
+     * Fits a model to the end of a cumulative case series
+     *
+     * @return Fit, or null if the series is too short or the window has too few cases
+     */
+    public ModelFit fit(CompartmentalModel model, SeriesView cumulative) {
+        int dayCount = cumulative.size();
+        int firstDay = Math.max(RollingMetrics.WEEK, dayCount - windowDays);
+        int fitDays = dayCount - firstDay;
+        if (fitDays < MIN_DAYS || cumulative.get(dayCount - 1) - cumulative.get(firstDay - 1) < MIN_WINDOW_CASES) {
+            return null;
+        }
+
+        double windowCases = 0.0;
+        for (int t = 0; t < fitDays; t++) {
+            double average = Math.max(0.0, RollingMetrics.averageNewCases(cumulative, firstDay + t, RollingMetrics.WEEK));
+            observed[t] = Math.log1p(average);
+            windowCases += average;
+        }
+        this.model = model;
+        this.days = fitDays;
+        this.initialIncidence = Math.expm1(observed[0]);
+
+        // Start with the net growth rate of the window: beta - gamma ~ r while S ~ N
+        double growth = (observed[fitDays - 1] - observed[0]) / (fitDays - 1);
+        double initialBeta = clamp(INITIAL_GAMMA + growth, MIN_BETA * 2, MAX_BETA / 2);
+        double bestError = Double.MAX_VALUE;
+        for (double multiple : POPULATION_MULTIPLES) {
+            point[0] = Math.log(initialBeta);
+            point[1] = Math.log(INITIAL_GAMMA);
+            point[2] = Math.log(Math.max(windowCases, 1.0) * multiple);
+            point[3] = 0.0;
+            double error = optimizer.minimize(objective, point, step, MAX_EVALUATIONS, TOLERANCE);
+            if (error < bestError) {
+                bestError = error;
+                System.arraycopy(point, 0, best, 0, PARAMETERS);
+            }
+        }
+        // Restart from the best vertex; a fresh simplex escapes premature collapse
+        System.arraycopy(best, 0, point, 0, PARAMETERS);
+        double error = optimizer.minimize(objective, point, step, MAX_EVALUATIONS, TOLERANCE);
+        if (error < bestError) {
+            bestError = error;
+            System.arraycopy(point, 0, best, 0, PARAMETERS);
+        }
+        if (bestError == Double.MAX_VALUE) {
+            return null;
+        }
+
+        double beta = Math.exp(best[0]);
+        double gamma = Math.exp(best[1]);
+        double population = Math.exp(best[2]);
+        double seed = initialIncidence * Math.exp(best[3]);
+        double susceptible = model.simulate(beta, gamma, population, seed, incidence, LEAD_DAYS + fitDays);
+        model.simulate(beta, gamma, population, seed, incidence, LEAD_DAYS + fitDays + HORIZON_DAYS);
+        return new ModelFit(model, beta, gamma, population, beta / gamma * susceptible,
+                Math.sqrt(bestError / fitDays), fitDays,
+                Arrays.copyOfRange(incidence, LEAD_DAYS + fitDays, LEAD_DAYS + fitDays + HORIZON_DAYS));
+    }
+
+    /**
+     * Squared error between the simulated and observed 7-day averages on the log1p scale
+     * MAX_VALUE outside the parameter bounds
+     */
+    private double logError(double[] x) {
+        double beta = Math.exp(x[0]);
+        double gamma = Math.exp(x[1]);
+        double population = Math.exp(x[2]);
+        if (beta < MIN_BETA || beta > MAX_BETA || gamma < MIN_GAMMA || gamma > MAX_GAMMA
+                || Double.isInfinite(population) || Math.abs(x[3]) > Math.log(MAX_SEED_MULTIPLE)) {
+            return Double.MAX_VALUE;
+        }
+        double seed = initialIncidence * Math.exp(x[3]);
+        double susceptible = model.simulate(beta, gamma, population, seed, incidence, LEAD_DAYS + days);
+        if (Double.isNaN(susceptible)) {
+            return Double.MAX_VALUE;
+        }
+        double weekSum = 0.0;
+        for (int t = 0; t < LEAD_DAYS; t++) {
+            weekSum += incidence[t];
+        }
+        double error = 0.0;
+        for (int t = 0; t < days; t++) {
+            weekSum += incidence[LEAD_DAYS + t];
+            double difference = Math.log1p(weekSum / RollingMetrics.WEEK) - observed[t];
+            error += difference * difference;
+            weekSum -= incidence[t];
+        }
+        return Double.isNaN(error) ? Double.MAX_VALUE : error;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
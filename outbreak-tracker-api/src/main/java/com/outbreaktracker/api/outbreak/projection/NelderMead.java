@@ -0,0 +1,136 @@
+package com.outbreaktracker.api.outbreak.projection;
+
+/**
+ * Nelder-Mead simplex minimizer with standard coefficients
+ * (reflection 1, expansion 2, contraction 0.5, shrink 0.5)
+ *
+ * All working arrays are allocated once per instance, so repeated minimizations on one thread
+ * allocate nothing. Not thread-safe: use one instance per thread.
+ */
+final class NelderMead {
+
+    /**
+     * Function to minimize; must not keep a reference to the argument
+     */
+    interface Objective {
+        double value(double[] x);
+    }
+
+    private final int dimension;
+    private final double[][] simplex;
+    private final double[] values;
+    private final double[] centroid;
+    private final double[] reflected;
+    private final double[] expanded;
+    private final double[] contracted;
+
+    NelderMead(int dimension) {
+        this.dimension = dimension;
+        this.simplex = new double[dimension + 1][dimension];
+        this.values = new double[dimension + 1];
+        this.centroid = new double[dimension];
+        this.reflected = new double[dimension];
+        this.expanded = new double[dimension];
+        this.contracted = new double[dimension];
+    }
+
+    /**
+     * Minimizes from a start point with the given initial step per coordinate
+     *
+     * @param start          Start point; receives the best point found
+     * @param maxEvaluations Evaluation budget
+     * @param tolerance      Stops when best and worst vertex values differ by less than this
+     * @return Objective value at the best point
+     */
+    double minimize(Objective objective, double[] start, double[] step, int maxEvaluations, double tolerance) {
+        for (int v = 0; v <= dimension; v++) {
+            System.arraycopy(start, 0, simplex[v], 0, dimension);
+            if (v > 0) {
+                simplex[v][v - 1] += step[v - 1];
+            }
+            values[v] = objective.value(simplex[v]);
+        }
+        int evaluations = dimension + 1;
+
+        while (evaluations < maxEvaluations) {
+            sortVertices();
+            if (Math.abs(values[dimension] - values[0]) < tolerance) {
+                break;
+            }
+
+            double[] worst = simplex[dimension];
+            for (int d = 0; d < dimension; d++) {
+                double sum = 0.0;
+                for (int v = 0; v < dimension; v++) {
+                    sum += simplex[v][d];
+                }
+                centroid[d] = sum / dimension;
+                reflected[d] = centroid[d] + (centroid[d] - worst[d]);
+            }
+            double reflectedValue = objective.value(reflected);
+            evaluations++;
+
+            if (reflectedValue < values[0]) {
+                for (int d = 0; d < dimension; d++) {
+                    expanded[d] = centroid[d] + 2.0 * (reflected[d] - centroid[d]);
+                }
+                double expandedValue = objective.value(expanded);
+                evaluations++;
+                if (expandedValue < reflectedValue) {
+                    replaceWorst(expanded, expandedValue);
+                } else {
+                    replaceWorst(reflected, reflectedValue);
+                }
+            } else if (reflectedValue < values[dimension - 1]) {
+                replaceWorst(reflected, reflectedValue);
+            } else {
+                boolean outside = reflectedValue < values[dimension];
+                for (int d = 0; d < dimension; d++) {
+                    contracted[d] = outside
+                            ? centroid[d] + 0.5 * (reflected[d] - centroid[d])
+                            : centroid[d] + 0.5 * (worst[d] - centroid[d]);
+                }
+                double contractedValue = objective.value(contracted);
+                evaluations++;
+                if (contractedValue < Math.min(reflectedValue, values[dimension])) {
+                    replaceWorst(contracted, contractedValue);
+                } else {
+                    for (int v = 1; v <= dimension; v++) {
+                        for (int d = 0; d < dimension; d++) {
+                            simplex[v][d] = simplex[0][d] + 0.5 * (simplex[v][d] - simplex[0][d]);
+                        }
+                        values[v] = objective.value(simplex[v]);
+                    }
+                    evaluations += dimension;
+                }
+            }
+        }
+
+        sortVertices();
+        System.arraycopy(simplex[0], 0, start, 0, dimension);
+        return values[0];
+    }
+
+    private void replaceWorst(double[] point, double value) {
+        System.arraycopy(point, 0, simplex[dimension], 0, dimension);
+        values[dimension] = value;
+    }
+
+    /**
+     * Insertion sort of the vertices by value (the simplex is tiny and nearly sorted)
+     */
+    private void sortVertices() {
+        for (int v = 1; v <= dimension; v++) {
+            double value = values[v];
+            double[] vertex = simplex[v];
+            int w = v - 1;
+            while (w >= 0 && values[w] > value) {
+                values[w + 1] = values[w];
+                simplex[w + 1] = simplex[w];
+                w--;
+            }
+            values[w + 1] = value;
+            simplex[w + 1] = vertex;
+        }
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -32,13 +35,15 @@ public class CovidDataRepository {
      * Called by:
      * - GET /api/countries (via CovidDataServiceImpl.getAllCountriesData())
      * - GET /api/global (via CovidDataServiceImpl.getGlobalStats())
+     * Both read the in-memory snapshot once the dataset is loaded
      * 
      * @return List of all CovidData objects
      */
     public List<CovidData> findAllCountryData() {
         logger.debug("Fetching all countries from database");
         String query = "SELECT id, country, total_cases, new_cases, total_deaths, new_deaths, " +
-                       "total_recovered, active_cases, critical_cases, last_updated, " +
+                       "total_recovered, active_cases, critical_cases, average_new_cases_7d, " +
+                       "average_new_cases_14d, week_over_week_growth, doubling_time_days, last_updated, " +
                        "created_at, updated_at " +
                        "FROM covid_data " +
                        "ORDER BY country ASC";
@@ -49,7 +54,7 @@ public class CovidDataRepository {
      * Searches for a country by name (case-insensitive)
      * 
      * Called by:
-     * - GET /api/country/{name} (via CovidDataServiceImpl.getCountryData())
+     * - GET /api/country/{name} (via CovidDataServiceImpl.getCountryData(), until the dataset is loaded)
      * 
      * @param countryName Name of the country to search for
      * @return CovidData object if found, null otherwise
@@ -57,7 +62,8 @@ public class CovidDataRepository {
     public CovidData findByCountryName(String countryName) {
         logger.debug("Searching for country: {}", countryName);
         String query = "SELECT id, country, total_cases, new_cases, total_deaths, new_deaths, " +
-                       "total_recovered, active_cases, critical_cases, last_updated, " +
+                       "total_recovered, active_cases, critical_cases, average_new_cases_7d, " +
+                       "average_new_cases_14d, week_over_week_growth, doubling_time_days, last_updated, " +
                        "created_at, updated_at " +
                        "FROM covid_data " +
                        "WHERE country = ? " +
@@ -67,6 +73,31 @@ public class CovidDataRepository {
         return results.isEmpty() ? null : results.get(0);
     }
 
+    /**
+     * Fetches several countries by exact name in a single query
+     * 
+     * Called by:
+     * - POST /api/countries/batch (via CovidDataServiceImpl.getCountriesData(), until the dataset is loaded)
+     * 
+     * @param countryNames Canonical country names
+     * @return CovidData objects for the names that exist, ordered by country
+     */
+    public List<CovidData> findByCountryNames(Collection<String> countryNames) {
+        if (countryNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        logger.debug("Fetching {} countries by name", countryNames.size());
+        String placeholders = String.join(", ", Collections.nCopies(countryNames.size(), "?"));
+        String query = "SELECT id, country, total_cases, new_cases, total_deaths, new_deaths, " +
+                       "total_recovered, active_cases, critical_cases, average_new_cases_7d, " +
+                       "average_new_cases_14d, week_over_week_growth, doubling_time_days, last_updated, " +
+                       "created_at, updated_at " +
+                       "FROM covid_data " +
+                       "WHERE country IN (" + placeholders + ") " +
+                       "ORDER BY country ASC";
+        return jdbcTemplate.query(query, new CovidDataRowMapper(), countryNames.toArray());
+    }
+
     /**
      * Bulk update or insert - Updates or inserts multiple CovidData records
      * Uses INSERT ... ON DUPLICATE KEY UPDATE
@@ -84,8 +115,9 @@ public class CovidDataRepository {
         logger.info("Bulk updating or inserting {} country records", dataList.size());
         String query = "INSERT INTO covid_data " +
                        "(country, total_cases, new_cases, total_deaths, new_deaths, " +
-                       "total_recovered, active_cases, critical_cases, last_updated) " +
-                       "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                       "total_recovered, active_cases, critical_cases, average_new_cases_7d, " +
+                       "average_new_cases_14d, week_over_week_growth, doubling_time_days, last_updated) " +
+                       "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
                        "ON DUPLICATE KEY UPDATE " +
                        "total_cases = VALUES(total_cases), " +
                        "new_cases = VALUES(new_cases), " +
@@ -94,6 +126,10 @@ public class CovidDataRepository {
                        "total_recovered = VALUES(total_recovered), " +
                        "active_cases = VALUES(active_cases), " +
                        "critical_cases = VALUES(critical_cases), " +
+                       "average_new_cases_7d = VALUES(average_new_cases_7d), " +
+                       "average_new_cases_14d = VALUES(average_new_cases_14d), " +
+                       "week_over_week_growth = VALUES(week_over_week_growth), " +
+                       "doubling_time_days = VALUES(doubling_time_days), " +
                        "last_updated = VALUES(last_updated), " +
                        "updated_at = CURRENT_TIMESTAMP";
         
@@ -110,6 +146,10 @@ public class CovidDataRepository {
                     data.getTotalRecovered(),
                     data.getActiveCases(),
                     data.getCriticalCases(),
+                    data.getAverageNewCases7d(),
+                    data.getAverageNewCases14d(),
+                    data.getWeekOverWeekGrowth(),
+                    data.getDoublingTimeDays(),
                     data.getLastUpdated()
                 );
                 totalRowsAffected += rowsAffected;
@@ -123,6 +163,57 @@ public class CovidDataRepository {
         return totalRowsAffected;
     }
 
+    /**
+     * Fills the rolling trend columns of existing rows where all of them are still NULL
+     * Rows created before sql/03_add_rolling_metrics.sql keep NULLs until their country is
+     * written again, because startup skips the initial load on a non-empty database.
+     * Only the rolling columns are set, so totals written by a later refresh are kept.
+     * 
+     * Called by:
+     * - Application startup (via CovidDataInitializer.run())
+     * 
+     * @param dataList Rows computed from the CSV history; rows without rolling values are skipped
+     * @return Number of rows updated
+     */
+    @Transactional
+    public int backfillRollingMetrics(List<CovidData> dataList) {
+        String query = "UPDATE covid_data SET " +
+                       "average_new_cases_7d = ?, " +
+                       "average_new_cases_14d = ?, " +
+                       "week_over_week_growth = ?, " +
+                       "doubling_time_days = ? " +
+                       "WHERE country = ? " +
+                       "AND average_new_cases_7d IS NULL " +
+                       "AND average_new_cases_14d IS NULL " +
+                       "AND week_over_week_growth IS NULL " +
+                       "AND doubling_time_days IS NULL";
+
+        List<Object[]> batchArgs = new ArrayList<>(dataList.size());
+        for (CovidData data : dataList) {
+            if (data.getAverageNewCases7d() == null && data.getAverageNewCases14d() == null
+                    && data.getWeekOverWeekGrowth() == null && data.getDoublingTimeDays() == null) {
+                continue;
+            }
+            batchArgs.add(new Object[] {
+                data.getAverageNewCases7d(),
+                data.getAverageNewCases14d(),
+                data.getWeekOverWeekGrowth(),
+                data.getDoublingTimeDays(),
+                data.getCountry()
+            });
+        }
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        int rowsUpdated = 0;
+        for (int count : jdbcTemplate.batchUpdate(query, batchArgs)) {
+            rowsUpdated += Math.max(count, 0);
+        }
+        logger.info("Backfilled rolling metrics for {} country records", rowsUpdated);
+        return rowsUpdated;
+    }
+
     /**
      * Checks if database is empty (no records)
      * 
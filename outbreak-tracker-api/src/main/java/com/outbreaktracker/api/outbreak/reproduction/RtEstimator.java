@@ -0,0 +1,122 @@
+package com.outbreaktracker.api.outbreak.reproduction;
+
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+
+import java.util.Arrays;
+
+/**
+ * Cori et al. (2013) estimator of the effective reproduction number Rt for one daily series
+ *
+ * For day t, Lambda(t) = sum over k of w(k) * I(t - k) is the infection pressure from earlier cases
+ * (w = SerialInterval weights, I = daily new cases). Over the WINDOW_DAYS days ending at t, a
+ * Gamma(PRIOR_SHAPE, PRIOR_SCALE) prior on Rt gives a Gamma posterior with
+ *   shape = PRIOR_SHAPE + sum of I,  rate = 1 / PRIOR_SCALE + sum of Lambda
+ * whose mean is the estimate; the 95% credible interval uses the Wilson-Hilferty approximation.
+ *
+ * Days are consumed incrementally: the last SerialInterval.MAX_DAYS incidences and the last
+ * WINDOW_DAYS pressures are kept in ring buffers, so appending a day is O(MAX_DAYS + WINDOW_DAYS)
+ * regardless of history length. History arrays are append-only (grown by copying), so a published
+ * RtSeries keeps seeing the same values while later days are appended.
+ */
+public final class RtEstimator {
+
+    public static final int WINDOW_DAYS = 7;
+
+    /** Cases a window needs before Rt is reported (posterior coefficient of variation about 0.3) */
+    public static final double MIN_WINDOW_CASES = 12;
+
+    static final double PRIOR_SHAPE = 1.0;
+    static final double PRIOR_SCALE = 5.0;
+    private static final double Z_975 = 1.959964;
+
+    private final double[] recentIncidence = new double[SerialInterval.MAX_DAYS];
+    private final double[] recentPressure = new double[WINDOW_DAYS];
+
+    private double[] mean = new double[64];
+    private double[] lower = new double[64];
+    private double[] upper = new double[64];
+
+    private int processedDays;
+    private long lastCumulative;
+    private long prefixHash = SeriesView.EMPTY_PREFIX_HASH;
+
+    /**
+     * True if this estimator was built from a prefix of the given cumulative series (see SeriesView.startsWith)
+     */
+    public boolean canResume(SeriesView cumulative) {
+        return cumulative.startsWith(processedDays, prefixHash);
+    }
+
+    /**
+     * Consumes the days of the series not seen yet
+     */
+    public void advance(SeriesView cumulative) {
+        for (int day = processedDays; day < cumulative.size(); day++) {
+            long value = cumulative.get(day);
+            // Downward revisions are treated as zero new cases
+            observe(Math.max(0L, day == 0 ? value : value - lastCumulative));
+            lastCumulative = value;
+            prefixHash = SeriesView.extendHash(prefixHash, value);
+        }
+    }
+
+    void observe(double incidence) {
+        int day = processedDays;
+        double pressure = 0.0;
+        for (int k = 1; k <= Math.min(day, SerialInterval.MAX_DAYS); k++) {
+            pressure += SerialInterval.weight(k) * recentIncidence[(day - k) % SerialInterval.MAX_DAYS];
+        }
+        recentIncidence[day % SerialInterval.MAX_DAYS] = incidence;
+        recentPressure[day % WINDOW_DAYS] = pressure;
+
+        double windowCases = 0.0;
+        double windowPressure = 0.0;
+        for (int k = 0; k < Math.min(day + 1, WINDOW_DAYS); k++) {
+            windowCases += recentIncidence[(day - k) % SerialInterval.MAX_DAYS];
+            windowPressure += recentPressure[(day - k) % WINDOW_DAYS];
+        }
+
+        ensureCapacity(day + 1);
+        if (day < WINDOW_DAYS || windowCases < MIN_WINDOW_CASES || windowPressure <= 0.0) {
+            mean[day] = Double.NaN;
+            lower[day] = Double.NaN;
+            upper[day] = Double.NaN;
+        } else {
+            double shape = PRIOR_SHAPE + windowCases;
+            double scale = 1.0 / (1.0 / PRIOR_SCALE + windowPressure);
+            mean[day] = shape * scale;
+            lower[day] = gammaQuantile(shape, scale, -Z_975);
+            upper[day] = gammaQuantile(shape, scale, Z_975);
+        }
+        processedDays = day + 1;
+    }
+
+    /**
+     * Immutable view of the estimates for every day consumed so far
+     */
+    public RtSeries toSeries() {
+        return new RtSeries(mean, lower, upper, processedDays);
+    }
+
+    public int getProcessedDays() {
+        return processedDays;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > mean.length) {
+            int capacity = Math.max(size, mean.length * 2);
+            mean = Arrays.copyOf(mean, capacity);
+            lower = Arrays.copyOf(lower, capacity);
+            upper = Arrays.copyOf(upper, capacity);
+        }
+    }
+
+    /**
+     * Wilson-Hilferty approximation of a gamma quantile for the given standard normal quantile
+     */
+    static double gammaQuantile(double shape, double scale, double z) {
+        double c = 1.0 / (9.0 * shape);
+        double cube = 1.0 - c + z * Math.sqrt(c);
+        return shape * scale * Math.max(0.0, cube * cube * cube);
+    }
+}
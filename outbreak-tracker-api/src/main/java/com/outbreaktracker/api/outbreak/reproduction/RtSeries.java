@@ -0,0 +1,49 @@
+package com.outbreaktracker.api.outbreak.reproduction;
+
+/**
+ * Read-only Rt estimates of one series, indexed like the snapshot's days
+ * Values are null on days where Rt could not be estimated (too few cases in the window)
+ */
+public final class RtSeries {
+
+    private final double[] mean;
+    private final double[] lower;
+    private final double[] upper;
+    private final int length;
+
+    RtSeries(double[] mean, double[] lower, double[] upper, int length) {
+        this.mean = mean;
+        this.lower = lower;
+        this.upper = upper;
+        this.length = length;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public Double getMean(int day) {
+        return valueAt(mean, day);
+    }
+
+    /**
+     * Lower bound of the 95% credible interval
+     */
+    public Double getLower(int day) {
+        return valueAt(lower, day);
+    }
+
+    /**
+     * Upper bound of the 95% credible interval
+     */
+    public Double getUpper(int day) {
+        return valueAt(upper, day);
+    }
+
+    private Double valueAt(double[] values, int day) {
+        if (day < 0 || day >= length) {
+            throw new IndexOutOfBoundsException("Day " + day + " out of range for series of size " + length);
+        }
+        return Double.isNaN(values[day]) ? null : values[day];
+    }
+}
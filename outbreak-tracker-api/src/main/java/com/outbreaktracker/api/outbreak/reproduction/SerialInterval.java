@@ -0,0 +1,45 @@
+package com.outbreaktracker.api.outbreak.reproduction;
+
+/**
+ * Fixed discretized serial-interval distribution used by the Rt estimator
+ *
+ * Gamma distribution with mean 4.7 and standard deviation 2.9 days (estimated for COVID-19
+ * transmission pairs), evaluated at days 1..MAX_DAYS and normalized to sum to one.
+ * weight(k) is the share of a case's onward infections reported k days after it.
+ */
+public final class SerialInterval {
+
+    public static final double MEAN_DAYS = 4.7;
+    public static final double STANDARD_DEVIATION_DAYS = 2.9;
+
+    /** Days after which the remaining weight is negligible and truncated */
+    public static final int MAX_DAYS = 20;
+
+    private static final double[] WEIGHTS = discretize(MEAN_DAYS, STANDARD_DEVIATION_DAYS, MAX_DAYS);
+
+    private SerialInterval() {
+    }
+
+    /**
+     * Weight of day k (1..MAX_DAYS)
+     */
+    public static double weight(int k) {
+        return WEIGHTS[k - 1];
+    }
+
+    static double[] discretize(double mean, double standardDeviation, int days) {
+        double shape = (mean * mean) / (standardDeviation * standardDeviation);
+        double scale = (standardDeviation * standardDeviation) / mean;
+        double[] weights = new double[days];
+        double total = 0.0;
+        for (int k = 1; k <= days; k++) {
+            // Unnormalized gamma density; the normalizing constant cancels out below
+            weights[k - 1] = Math.exp((shape - 1.0) * Math.log(k) - k / scale);
+            total += weights[k - 1];
+        }
+        for (int k = 0; k < days; k++) {
+            weights[k] /= total;
+        }
+        return weights;
+    }
+}
@@ -1,9 +1,23 @@
 package com.outbreaktracker.api.outbreak.service;
 
+import com.outbreaktracker.api.outbreak.model.CountryDelta;
+import com.outbreaktracker.api.outbreak.model.CountryLookupResult;
+import com.outbreaktracker.api.outbreak.model.CountryPage;
+import com.outbreaktracker.api.outbreak.model.CountrySeries;
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.model.DashboardBundle;
 import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import com.outbreaktracker.api.outbreak.model.MetricRanking;
+import com.outbreaktracker.api.outbreak.model.RangeAggregate;
+import com.outbreaktracker.api.outbreak.model.RankingEntry;
+import com.outbreaktracker.api.outbreak.model.RegionSummary;
+import com.outbreaktracker.api.outbreak.model.SeriesGranularity;
+import com.outbreaktracker.api.outbreak.store.CountryQuery;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface defining respiratory outbreak data operations
@@ -16,18 +30,141 @@ public interface CovidDataService {
      */
     GlobalStats getGlobalStats();
 
+    /**
+     * Returns global stats and all countries in one payload for the dashboard's initial load
+     */
+    DashboardBundle getDashboard();
+
     /**
      * Returns outbreak data for all countries
      */
     List<CovidData> getAllCountriesData();
 
     /**
-     * Returns outbreak data for a specific country (case-insensitive)
-     * @param countryName Country name to search for
+     * Returns one page of countries, filtered, sorted and projected as described by the query
+     * @param query Parsed query parameters
+     * @param asOf  Date to query as of, null for the latest data
+     * @return Page of matching countries with the cursor for the next page
+     */
+    CountryPage queryCountries(CountryQuery query, LocalDate asOf);
+
+    /**
+     * Returns worldwide statistics as of a past date, computed from the stored history
+     * @param asOf Date (the latest date on or before it is used)
+     */
+    GlobalStats getGlobalStatsAsOf(LocalDate asOf);
+
+    /**
+     * Returns data for all countries as of a past date, computed from the stored history
+     * @param asOf Date (the latest date on or before it is used)
+     */
+    List<CovidData> getAllCountriesDataAsOf(LocalDate asOf);
+
+    /**
+     * Returns data for a specific country as of a past date, computed from the stored history
+     * @param countryName Country name or alias
+     * @param asOf        Date (the latest date on or before it is used)
+     * @return CovidData if found, null otherwise
+     */
+    CovidData getCountryDataAsOf(String countryName, LocalDate asOf);
+
+    /**
+     * Returns only the countries changed or removed since a dataset version
+     * @param sinceVersion Dataset version the client holds
+     * @return Delta, or a full-resync marker if the version has aged out of the changelog
+     */
+    CountryDelta getCountriesChangedSince(long sinceVersion);
+
+    /**
+     * Returns outbreak data for a specific country
+     * Accepts canonical names and aliases, ignoring case, accents and punctuation
+     * @param countryName Country name or alias to search for
      * @return CovidData if found, null otherwise
      */
     CovidData getCountryData(String countryName);
 
+    /**
+     * Returns outbreak data for several countries at once
+     * Uses one cache multi-get and one database query for the cache misses
+     * @param countryNames Country names or aliases as requested by the client
+     * @return Results keyed by the requested name, in request order; unknown names are marked not found
+     */
+    Map<String, CountryLookupResult> getCountriesData(List<String> countryNames);
+
+    /**
+     * Returns a country's history over a date range, downsampled if it has too many points
+     * @param countryName Country name or alias
+     * @param from        First date (inclusive), null for the start of the history
+     * @param to          Last date (inclusive), null for the end of the history
+     * @param maxPoints   Maximum number of points to return, null for all
+     * @param granularity Daily points, or weekly / monthly aggregates of every period overlapping the range
+     * @return Series, or null if the country is unknown
+     */
+    CountrySeries getCountrySeries(String countryName, LocalDate from, LocalDate to, Integer maxPoints,
+                                   SeriesGranularity granularity);
+
+    /**
+     * Returns the worldwide history over a date range, with the same parameters as a country series
+     * @return Series (country holds "Global")
+     */
+    CountrySeries getGlobalSeries(LocalDate from, LocalDate to, Integer maxPoints, SeriesGranularity granularity);
+
+    /**
+     * Returns the precomputed totals of every continent and WHO region
+     */
+    List<RegionSummary> getRegions();
+
+    /**
+     * Returns one region's precomputed totals
+     * @param region Continent name or WHO region code, ignoring case and punctuation
+     * @return Region totals, or null if the region is unknown
+     */
+    RegionSummary getRegion(String region);
+
+    /**
+     * Returns a region's daily history over a date range, downsampled if it has too many points
+     * @param region    Continent name or WHO region code
+     * @param from      First date (inclusive), null for the start of the history
+     * @param to        Last date (inclusive), null for the end of the history
+     * @param maxPoints Maximum number of points to return, null for all
+     * @return Series (country holds the region name), or null if the region is unknown
+     */
+    CountrySeries getRegionSeries(String region, LocalDate from, LocalDate to, Integer maxPoints);
+
+    /**
+     * Sums a metric's daily values over a date range in constant time
+     * @param countryName Country name or alias, null for worldwide totals
+     * @param metric      Metric to sum
+     * @param from        First date (inclusive), null for the start of the history
+     * @param to          Last date (inclusive), null for the end of the history
+     * @return Aggregate, or null if the country is unknown
+     */
+    RangeAggregate getRangeAggregate(String countryName, CovidMetric metric, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the top countries for a metric from the precomputed ranking
+     * @param metric     Metric to rank by
+     * @param descending true for highest first, false for lowest first
+     * @param limit      Maximum number of countries
+     */
+    MetricRanking getRanking(CovidMetric metric, boolean descending, int limit);
+
+    /**
+     * Returns a single country's rank for a metric
+     * @param metric      Metric to rank by
+     * @param countryName Country name or alias
+     * @return Ranking entry, or null if the country is unknown
+     */
+    RankingEntry getCountryRank(CovidMetric metric, String countryName);
+
+    /**
+     * Returns canonical country names matching a search prefix (for search box autocomplete)
+     * @param query Prefix typed by the user
+     * @param limit Maximum number of suggestions
+     * @return Matching country names, highest total cases first
+     */
+    List<String> suggestCountries(String query, int limit);
+
     /**
      * Reloads data from CSV file without restarting application
      */
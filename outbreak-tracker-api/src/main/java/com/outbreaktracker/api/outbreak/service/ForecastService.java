@@ -0,0 +1,19 @@
+package com.outbreaktracker.api.outbreak.service;
+
+import com.outbreaktracker.api.outbreak.model.CountryForecast;
+
+/**
+ * Service interface for short-term case forecasts
+ * Implementation: ForecastServiceImpl
+ * Models are fitted from the in-memory dataset after every refresh; the database is never read
+ */
+public interface ForecastService {
+
+    /**
+     * Forecasts a country's daily new cases (7-day average) with a prediction interval
+     * @param countryName Country name or alias
+     * @param days        Number of days ahead
+     * @return Forecast, or null if the country is unknown
+     */
+    CountryForecast getForecast(String countryName, int days);
+}
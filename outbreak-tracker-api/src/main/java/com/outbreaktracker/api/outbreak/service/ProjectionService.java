@@ -0,0 +1,21 @@
+package com.outbreaktracker.api.outbreak.service;
+
+import com.outbreaktracker.api.outbreak.model.CountryProjection;
+import com.outbreaktracker.api.outbreak.projection.CompartmentalModel;
+
+/**
+ * Service interface for compartmental model (SIR / SEIR) scenario projections
+ * Implementation: ProjectionServiceImpl
+ * Models are fitted from the in-memory dataset after every refresh; the database is never read
+ */
+public interface ProjectionService {
+
+    /**
+     * Returns a country's fitted model parameters and projected daily new cases
+     * @param countryName Country name or alias
+     * @param model       Model to project with
+     * @param days        Number of days ahead
+     * @return Projection, or null if the country is unknown
+     */
+    CountryProjection getProjection(String countryName, CompartmentalModel model, int days);
+}
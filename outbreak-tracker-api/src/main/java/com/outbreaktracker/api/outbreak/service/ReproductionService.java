@@ -0,0 +1,43 @@
+package com.outbreaktracker.api.outbreak.service;
+
+import com.outbreaktracker.api.outbreak.model.ReproductionNumber;
+import com.outbreaktracker.api.outbreak.model.RtPoint;
+
+import java.util.List;
+
+/**
+ * Service interface for effective reproduction number (Rt) estimates
+ * Implementation: ReproductionServiceImpl
+ * Estimates are updated from the in-memory dataset after every refresh; the database is never read
+ */
+public interface ReproductionService {
+
+    /**
+     * Returns the latest Rt of every country, sorted by country name
+     */
+    List<ReproductionNumber> getLatestForCountries();
+
+    /**
+     * Returns a country's latest Rt and its history
+     * @param countryName Country name or alias
+     * @param days        Number of most recent days of history, null for all
+     * @return Estimates, or null if the country is unknown
+     */
+    ReproductionNumber getCountryRt(String countryName, Integer days);
+
+    /**
+     * Returns a region's latest Rt and its history
+     * @param region Continent name or WHO region code
+     * @param days   Number of most recent days of history, null for all
+     * @return Estimates, or null if the region is unknown
+     */
+    ReproductionNumber getRegionRt(String region, Integer days);
+
+    /**
+     * Returns a country's most recent Rt estimate
+     * @param countryName Country name or alias
+     * @return Latest estimate, or null if the country is unknown, Rt could not be estimated
+     *         or the dataset is not loaded yet
+     */
+    RtPoint getLatestRt(String countryName);
+}
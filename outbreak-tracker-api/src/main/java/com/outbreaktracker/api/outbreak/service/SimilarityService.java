@@ -0,0 +1,19 @@
+package com.outbreaktracker.api.outbreak.service;
+
+import com.outbreaktracker.api.outbreak.model.SimilarCountries;
+
+/**
+ * Service interface for curve similarity between countries
+ * Implementation: SimilarityServiceImpl
+ * The correlation matrix is computed from the in-memory dataset after every refresh
+ */
+public interface SimilarityService {
+
+    /**
+     * Returns the countries whose recent case curves correlate most with a country's
+     * @param countryName Country name or alias
+     * @param limit       Maximum number of countries
+     * @return Similar countries, or null if the country is unknown
+     */
+    SimilarCountries getSimilarCountries(String countryName, int limit);
+}
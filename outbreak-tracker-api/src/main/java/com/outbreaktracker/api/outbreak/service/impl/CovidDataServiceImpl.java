@@ -1,22 +1,57 @@
 package com.outbreaktracker.api.outbreak.service.impl;
 
+import com.outbreaktracker.api.common.cache.BatchCacheOperations;
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import com.outbreaktracker.api.outbreak.model.CountryDelta;
+import com.outbreaktracker.api.outbreak.model.CountryLookupResult;
+import com.outbreaktracker.api.outbreak.model.CountryPage;
+import com.outbreaktracker.api.outbreak.model.CountrySeries;
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.model.DashboardBundle;
 import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import com.outbreaktracker.api.outbreak.model.MetricRanking;
+import com.outbreaktracker.api.outbreak.model.RangeAggregate;
+import com.outbreaktracker.api.outbreak.model.RankingEntry;
+import com.outbreaktracker.api.outbreak.model.RegionSummary;
+import com.outbreaktracker.api.outbreak.model.SeriesGranularity;
 import com.outbreaktracker.api.outbreak.repository.CovidDataRepository;
 import com.outbreaktracker.api.outbreak.service.CovidDataService;
+import com.outbreaktracker.api.outbreak.store.CalendarRollups;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.CountryQuery;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.CrossSection;
+import com.outbreaktracker.api.outbreak.store.CrossSectionCache;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.MetricRankings;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import com.outbreaktracker.api.outbreak.store.RangeAggregates;
+import com.outbreaktracker.api.outbreak.store.RegionRollups;
+import com.outbreaktracker.api.outbreak.store.RollingMetrics;
+import com.outbreaktracker.api.outbreak.store.SeriesDownsampler;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
 import com.outbreaktracker.api.common.util.CsvParserUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Service implementation containing business logic for respiratory outbreak data operations
@@ -27,86 +62,519 @@ public class CovidDataServiceImpl implements CovidDataService {
 
     private static final Logger logger = LoggerFactory.getLogger(CovidDataServiceImpl.class);
 
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("MMMM d, yyyy, h:mm a 'UTC'");
+
+    /** Name reported for the worldwide series */
+    private static final String GLOBAL_SERIES_NAME = "Global";
+
     private final CovidDataRepository covidDataRepository;
+    private final OutbreakDataStore outbreakDataStore;
+    private final ObjectProvider<BatchCacheOperations> batchCacheProvider;
+    private final CrossSectionCache crossSectionCache;
 
     @Value("${outbreak.data.file}")
     private Resource csvResource;
 
-    public CovidDataServiceImpl(CovidDataRepository covidDataRepository) {
+    /** Dashboard payload assembled for the current dataset version */
+    private volatile DashboardBundle dashboardBundle;
+
+    public CovidDataServiceImpl(CovidDataRepository covidDataRepository, OutbreakDataStore outbreakDataStore,
+                                ObjectProvider<BatchCacheOperations> batchCacheProvider,
+                                CrossSectionCache crossSectionCache) {
         this.covidDataRepository = covidDataRepository;
+        this.outbreakDataStore = outbreakDataStore;
+        this.batchCacheProvider = batchCacheProvider;
+        this.crossSectionCache = crossSectionCache;
     }
 
     /**
-     * Aggregates outbreak statistics from all countries to produce worldwide totals
-     * Results are cached in Redis for 2 minutes
+     * Returns worldwide totals from the in-memory snapshot, the same figures /api/dashboard shows
+     * Falls back to aggregating the database rows while the dataset is not loaded yet;
+     * only those are cached in Redis, for 2 minutes
      * 
      * @return GlobalStats with aggregated worldwide data
      */
     @Override
-    @Cacheable(value = "globalStats", key = "'global'")
+    @Cacheable(value = "globalStats", key = "@outbreakDataStore.versionedKey('global')",
+            condition = "!@outbreakDataStore.isLoaded()")
     public GlobalStats getGlobalStats() {
-        logger.debug("Fetching global outbreak statistics from database");
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot != null) {
+            return snapshotGlobalStats(snapshot);
+        }
 
+        logger.debug("Dataset not loaded, fetching global outbreak statistics from database");
         List<CovidData> allData = covidDataRepository.findAllCountryData();
+        return aggregateGlobalStats(allData);
+    }
 
-        long totalCases = 0;
-        long totalDeaths = 0;
-        long totalRecovered = 0;
-        long activeCases = 0;
-        long criticalCases = 0;
-
-        for (CovidData data : allData) {
-            totalCases += (data.getTotalCases() != null ? data.getTotalCases() : 0);
-            totalDeaths += (data.getTotalDeaths() != null ? data.getTotalDeaths() : 0);
-            totalRecovered += (data.getTotalRecovered() != null ? data.getTotalRecovered() : 0);
-            activeCases += (data.getActiveCases() != null ? data.getActiveCases() : 0);
-            criticalCases += (data.getCriticalCases() != null ? data.getCriticalCases() : 0);
+    /**
+     * Assembles the dashboard payload once per dataset version from the in-memory snapshot
+     * (global totals are summed when the snapshot is built), so repeated page loads cost
+     * neither database queries nor re-serialization of separate responses
+     * Falls back to the database while the dataset is not loaded yet
+     */
+    @Override
+    public DashboardBundle getDashboard() {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            logger.debug("Dataset not loaded, assembling dashboard from database");
+            List<CovidData> allData = covidDataRepository.findAllCountryData();
+            return new DashboardBundle(0, aggregateGlobalStats(allData), allData);
         }
 
-        String timestamp = ZonedDateTime.now(ZoneOffset.UTC)
-                .format(DateTimeFormatter.ofPattern("MMMM d, yyyy, h:mm a 'UTC'"));
-
-        GlobalStats globalStats = new GlobalStats(
-                totalCases,
-                totalDeaths,
-                totalRecovered,
-                activeCases,
-                criticalCases,
-                allData.size(),
-                timestamp
-        );
+        DashboardBundle bundle = dashboardBundle;
+        if (bundle != null && bundle.getVersion() == snapshot.getVersion()) {
+            return bundle;
+        }
 
-        logger.debug("Global stats: {} total cases across {} countries", totalCases, allData.size());
-        return globalStats;
+        bundle = new DashboardBundle(snapshot.getVersion(), snapshotGlobalStats(snapshot), snapshot.getCountries());
+        dashboardBundle = bundle;
+        logger.debug("Assembled dashboard bundle for dataset version {}", snapshot.getVersion());
+        return bundle;
     }
 
     /**
-     * Returns respiratory outbreak data for all countries
-     * Results are cached in Redis for 2 minutes
+     * Returns respiratory outbreak data for all countries, materialized from the in-memory snapshot
+     * so it matches /api/dashboard and country queries
+     * Falls back to the database while the dataset is not loaded yet; only those rows are cached
+     * in Redis, for 2 minutes
      */
     @Override
-    @Cacheable(value = "countries", key = "'all'")
+    @Cacheable(value = "countries", key = "@outbreakDataStore.versionedKey('all')",
+            condition = "!@outbreakDataStore.isLoaded()")
     public List<CovidData> getAllCountriesData() {
-        logger.debug("Fetching respiratory outbreak data for all countries from database");
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getCountries();
+        }
+
+        logger.debug("Dataset not loaded, fetching respiratory outbreak data for all countries from database");
         return covidDataRepository.findAllCountryData();
     }
 
     /**
-     * Retrieves respiratory outbreak data for a specific country (case-insensitive search)
-     * Results are cached in Redis for 2 minutes
+     * Runs a country query against the in-memory dataset (or its cross-section for asOf)
+     * Falls back to the database list only while the dataset is not loaded yet
+     */
+    @Override
+    public CountryPage queryCountries(CountryQuery query, LocalDate asOf) {
+        if (asOf != null) {
+            CrossSection crossSection = crossSectionCache.get(asOf);
+            return query.execute(crossSection.getRecords(), crossSection.getVersion());
+        }
+
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            logger.debug("Dataset not loaded, querying countries from database");
+            return query.execute(covidDataRepository.findAllCountryData(), 0);
+        }
+        return query.execute(snapshot.getRecords(), snapshot.getVersion());
+    }
+
+    /**
+     * Global totals as of a past date, from the LRU of per-date cross-sections (no database access)
+     */
+    @Override
+    public GlobalStats getGlobalStatsAsOf(LocalDate asOf) {
+        return crossSectionCache.get(asOf).getGlobalTotals();
+    }
+
+    /**
+     * All countries as of a past date, from the LRU of per-date cross-sections (no database access)
+     */
+    @Override
+    public List<CovidData> getAllCountriesDataAsOf(LocalDate asOf) {
+        return crossSectionCache.get(asOf).getCountries();
+    }
+
+    /**
+     * One country as of a past date; the name is resolved through the name index
+     */
+    @Override
+    public CovidData getCountryDataAsOf(String countryName, LocalDate asOf) {
+        return crossSectionCache.get(asOf).findCountry(countryName);
+    }
+
+    /**
+     * Returns countries changed since a dataset version, computed from the in-memory changelog
+     * Not cached: the delta is assembled from the current snapshot without database access
+     */
+    @Override
+    public CountryDelta getCountriesChangedSince(long sinceVersion) {
+        CountryDelta delta = outbreakDataStore.getChangesSince(sinceVersion);
+        logger.debug("Delta since version {}: {} changed, {} removed, fullResync={}", sinceVersion,
+                delta.getChanged().size(), delta.getRemoved().size(), delta.isFullResync());
+        return delta;
+    }
+
+    /**
+     * Retrieves respiratory outbreak data for a specific country
+     * The name is resolved through the in-memory name index ("USA", "United States" and "us"
+     * all resolve to "US") and the row is materialized from the snapshot's records, so unknown
+     * names cost one index lookup and the result matches /api/dashboard
+     * Falls back to the database while the dataset is not loaded yet; only those rows are cached
+     * in Redis, for 2 minutes
      * 
-     * @param countryName The name of the country to search for
+     * @param countryName The name or alias of the country to search for
      * @return CovidData object if found, null otherwise
      */
     @Override
-    @Cacheable(value = "country", key = "#countryName.toLowerCase()")
+    @Cacheable(value = "country", key = "@outbreakDataStore.cacheKey(#countryName)", unless = "#result == null",
+            condition = "!@outbreakDataStore.isLoaded()")
     public CovidData getCountryData(String countryName) {
-        logger.debug("Fetching respiratory outbreak data for country: {} from database", countryName);
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot != null) {
+            int countryId = snapshot.resolveCountryId(countryName);
+            if (countryId < 0) {
+                logger.debug("Country not found in name index: {}", countryName);
+                return null;
+            }
+            return snapshot.getCountry(countryId);
+        }
+
+        logger.debug("Dataset not loaded, fetching respiratory outbreak data for country: {} from database",
+                countryName);
         return covidDataRepository.findByCountryName(countryName);
     }
 
+    /**
+     * Retrieves respiratory outbreak data for several countries
+     * Once the dataset is loaded every name is resolved through the name index and the rows are
+     * materialized from the snapshot. Before that, the database is read in two steps:
+     * 1. One multi-get against the "country" cache, using the same keys as getCountryData()
+     * 2. One WHERE country IN (...) query for the misses, whose results are written back to the cache
+     * 
+     * @param countryNames Country names or aliases as requested by the client
+     * @return Results keyed by the requested name, in request order
+     */
+    @Override
+    public Map<String, CountryLookupResult> getCountriesData(List<String> countryNames) {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot != null) {
+            Map<String, CountryLookupResult> results = new LinkedHashMap<>();
+            for (String requested : countryNames) {
+                if (!results.containsKey(requested)) {
+                    int countryId = snapshot.resolveCountryId(requested);
+                    results.put(requested, countryId < 0
+                            ? CountryLookupResult.notFound()
+                            : CountryLookupResult.found(snapshot.getCountry(countryId)));
+                }
+            }
+            return results;
+        }
+
+        Map<String, String> canonicalByRequested = new LinkedHashMap<>();
+        for (String requested : countryNames) {
+            if (!canonicalByRequested.containsKey(requested)) {
+                canonicalByRequested.put(requested, outbreakDataStore.resolveCountryName(requested));
+            }
+        }
+
+        // Several spellings of one country share a cache key and a database row
+        Map<String, String> cacheKeyByCanonical = new LinkedHashMap<>();
+        for (String canonical : canonicalByRequested.values()) {
+            if (canonical != null) {
+                cacheKeyByCanonical.computeIfAbsent(canonical, outbreakDataStore::cacheKey);
+            }
+        }
+
+        // Case-insensitive to match MySQL collation when the name index is not loaded yet
+        Map<String, CovidData> dataByCanonical = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        BatchCacheOperations batchCache = batchCacheProvider.getIfAvailable();
+        if (batchCache != null && !cacheKeyByCanonical.isEmpty()) {
+            Map<String, Object> cached = batchCache.multiGet("country", cacheKeyByCanonical.values());
+            for (Map.Entry<String, String> entry : cacheKeyByCanonical.entrySet()) {
+                Object value = cached.get(entry.getValue());
+                if (value instanceof CovidData) {
+                    dataByCanonical.put(entry.getKey(), (CovidData) value);
+                }
+            }
+        }
+
+        List<String> misses = new ArrayList<>();
+        for (String canonical : cacheKeyByCanonical.keySet()) {
+            if (!dataByCanonical.containsKey(canonical)) {
+                misses.add(canonical);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            logger.debug("Batch lookup: {} cache hits, fetching {} countries from database",
+                    cacheKeyByCanonical.size() - misses.size(), misses.size());
+            Map<String, CovidData> toCache = new HashMap<>();
+            for (CovidData data : covidDataRepository.findByCountryNames(misses)) {
+                dataByCanonical.put(data.getCountry(), data);
+                String cacheKey = cacheKeyByCanonical.get(data.getCountry());
+                if (cacheKey != null) {
+                    toCache.put(cacheKey, data);
+                }
+            }
+            if (batchCache != null) {
+                batchCache.multiPut("country", toCache);
+            }
+        }
+
+        Map<String, CountryLookupResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : canonicalByRequested.entrySet()) {
+            CovidData data = entry.getValue() == null ? null : dataByCanonical.get(entry.getValue());
+            results.put(entry.getKey(), data == null ? CountryLookupResult.notFound() : CountryLookupResult.found(data));
+        }
+        return results;
+    }
+
+    /**
+     * Slices the in-memory columnar history by date index; the slices are views over the
+     * stored arrays, and only the points actually returned are copied
+     * Ranges longer than maxPoints are downsampled with LTTB on daily new cases, keeping
+     * peaks visible; the same days are returned for every series
+     * Weekly and monthly series slice the snapshot's precomputed calendar rollups the same way
+     */
+    @Override
+    public CountrySeries getCountrySeries(String countryName, LocalDate from, LocalDate to, Integer maxPoints,
+                                         SeriesGranularity granularity) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        int countryId = snapshot.resolveCountryId(countryName);
+        if (countryId < 0) {
+            return null;
+        }
+        return seriesOf(snapshot, countryId, snapshot.getCountryName(countryId),
+                from, to, maxPoints, granularity);
+    }
+
+    @Override
+    public CountrySeries getGlobalSeries(LocalDate from, LocalDate to, Integer maxPoints,
+                                         SeriesGranularity granularity) {
+        return seriesOf(requireSnapshot(), RangeAggregates.GLOBAL, GLOBAL_SERIES_NAME, from, to, maxPoints, granularity);
+    }
+
+    /**
+     * @param countryId Country id, or RangeAggregates.GLOBAL for the worldwide series
+     */
+    private static CountrySeries seriesOf(DatasetSnapshot snapshot, int countryId, String name,
+                                          LocalDate from, LocalDate to, Integer maxPoints,
+                                          SeriesGranularity granularity) {
+        DatasetSeries series = snapshot.getSeries();
+        if (granularity != SeriesGranularity.DAY) {
+            return slicePeriods(name, series, snapshot.getCalendarRollups().getPeriods(granularity), granularity,
+                    countryId, from, to, maxPoints);
+        }
+        boolean global = countryId == RangeAggregates.GLOBAL;
+        return sliceSeries(name, series,
+                global ? series.getGlobalCumulativeCases() : series.getCumulativeCases(countryId),
+                global ? series.getGlobalNewCases() : series.getNewCases(countryId),
+                from, to, maxPoints);
+    }
+
+    /**
+     * Reads the snapshot's precomputed region rollups; nothing is summed per request
+     */
+    @Override
+    public List<RegionSummary> getRegions() {
+        List<RegionRollups.Region> regions = requireSnapshot().getRegionRollups().getRegions();
+        List<RegionSummary> summaries = new ArrayList<>(regions.size());
+        for (RegionRollups.Region region : regions) {
+            summaries.add(toRegionSummary(region));
+        }
+        return summaries;
+    }
+
+    @Override
+    public RegionSummary getRegion(String region) {
+        RegionRollups.Region rollup = requireSnapshot().getRegionRollups().getRegion(region);
+        return rollup == null ? null : toRegionSummary(rollup);
+    }
+
+    /**
+     * Slices the region's precomputed series exactly like a country's
+     */
+    @Override
+    public CountrySeries getRegionSeries(String region, LocalDate from, LocalDate to, Integer maxPoints) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        RegionRollups.Region rollup = snapshot.getRegionRollups().getRegion(region);
+        if (rollup == null) {
+            return null;
+        }
+        return sliceSeries(rollup.getName(), snapshot.getSeries(), rollup.getCumulativeCases(), rollup.getNewCases(),
+                from, to, maxPoints);
+    }
+
+    private static RegionSummary toRegionSummary(RegionRollups.Region region) {
+        return new RegionSummary(region.getName(), region.getType(), region.getCountries(), region.getTotals());
+    }
+
+    /**
+     * Builds a series response from full-length cumulative and daily views
+     */
+    private static CountrySeries sliceSeries(String name, DatasetSeries series, SeriesView history, SeriesView newCases,
+                                             LocalDate from, LocalDate to, Integer maxPoints) {
+        int fromIndex = from == null ? 0 : series.indexOnOrAfter(from);
+        int toIndex = to == null ? series.getDayCount() - 1 : series.indexOnOrBefore(to);
+        if (fromIndex > toIndex) {
+            fromIndex = 0;
+            toIndex = -1;
+        }
+
+        SeriesView cumulative = history.slice(fromIndex, toIndex + 1);
+        SeriesView daily = newCases.slice(fromIndex, toIndex + 1);
+        int[] points = SeriesDownsampler.largestTriangleThreeBuckets(daily,
+                maxPoints == null ? daily.size() : maxPoints);
+
+        List<String> dates = new ArrayList<>(points.length);
+        for (int point : points) {
+            dates.add(series.getDate(fromIndex + point).toString());
+        }
+
+        // Rolling windows may reach before the range start, so they read the full series
+        Double[] average7d = new Double[points.length];
+        Double[] average14d = new Double[points.length];
+        Double[] growth = new Double[points.length];
+        Double[] doublingTime = new Double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            int day = fromIndex + points[i];
+            average7d[i] = RollingMetrics.averageNewCases(history, day, RollingMetrics.WEEK);
+            average14d[i] = RollingMetrics.averageNewCases(history, day, 2 * RollingMetrics.WEEK);
+            growth[i] = RollingMetrics.weekOverWeekGrowth(history, day);
+            doublingTime[i] = RollingMetrics.doublingTimeDays(history, day);
+        }
+
+        CountrySeries result = new CountrySeries(
+                name,
+                daily.size() == 0 ? null : series.getDate(fromIndex).toString(),
+                daily.size() == 0 ? null : series.getDate(toIndex).toString(),
+                daily.size(),
+                points.length < daily.size(),
+                dates,
+                cumulative.pick(points),
+                daily.pick(points));
+        result.setAverageNewCases7d(average7d);
+        result.setAverageNewCases14d(average14d);
+        result.setWeekOverWeekGrowth(growth);
+        result.setDoublingTimeDays(doublingTime);
+        return result;
+    }
+
+    /**
+     * Builds a weekly or monthly series response from every period overlapping the date range
+     * Periods are returned whole, so the range is widened to their first and last reported days
+     */
+    private static CountrySeries slicePeriods(String name, DatasetSeries series, CalendarRollups.Periods periods,
+                                              SeriesGranularity granularity, int countryId,
+                                              LocalDate from, LocalDate to, Integer maxPoints) {
+        int fromIndex = from == null ? 0 : series.indexOnOrAfter(from);
+        int toIndex = to == null ? series.getDayCount() - 1 : series.indexOnOrBefore(to);
+        int firstPeriod = 0;
+        int lastPeriod = -1;
+        if (fromIndex <= toIndex) {
+            firstPeriod = periods.indexOfDay(fromIndex);
+            lastPeriod = periods.indexOfDay(toIndex);
+        }
+
+        SeriesView cumulative = periods.getCumulativeCases(countryId).slice(firstPeriod, lastPeriod + 1);
+        SeriesView newCases = periods.getNewCases(countryId).slice(firstPeriod, lastPeriod + 1);
+        int[] points = SeriesDownsampler.largestTriangleThreeBuckets(newCases,
+                maxPoints == null ? newCases.size() : maxPoints);
+
+        List<String> labels = new ArrayList<>(points.length);
+        int[] periodDays = new int[points.length];
+        for (int i = 0; i < points.length; i++) {
+            int period = firstPeriod + points[i];
+            labels.add(periods.getLabel(period));
+            periodDays[i] = periods.getDayCount(period);
+        }
+
+        CountrySeries result = new CountrySeries(
+                name,
+                newCases.size() == 0 ? null : series.getDate(periods.getFirstDay(firstPeriod)).toString(),
+                newCases.size() == 0 ? null : series.getDate(periods.getLastDay(lastPeriod)).toString(),
+                newCases.size(),
+                points.length < newCases.size(),
+                labels,
+                cumulative.pick(points),
+                newCases.pick(points));
+        result.setGranularity(granularity.getFieldName());
+        result.setPeriodDays(periodDays);
+        return result;
+    }
+
+    /**
+     * Answers from the snapshot's prefix sums: two binary searches for the dates and one
+     * subtraction, independent of the range length
+     */
+    @Override
+    public RangeAggregate getRangeAggregate(String countryName, CovidMetric metric, LocalDate from, LocalDate to) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        int countryId = RangeAggregates.GLOBAL;
+        if (countryName != null) {
+            countryId = snapshot.resolveCountryId(countryName);
+            if (countryId < 0) {
+                return null;
+            }
+        }
+
+        DatasetSeries series = snapshot.getSeries();
+        int fromIndex = from == null ? 0 : series.indexOnOrAfter(from);
+        int toIndex = to == null ? series.getDayCount() - 1 : series.indexOnOrBefore(to);
+        String country = countryId == RangeAggregates.GLOBAL ? null : snapshot.getCountryName(countryId);
+        if (fromIndex > toIndex) {
+            return new RangeAggregate(country, metric.getFieldName(), null, null, 0, 0L, 0.0);
+        }
+
+        int days = toIndex - fromIndex + 1;
+        long sum = snapshot.getRangeAggregates().sum(metric, countryId, fromIndex, toIndex);
+        return new RangeAggregate(country, metric.getFieldName(),
+                series.getDate(fromIndex).toString(), series.getDate(toIndex).toString(),
+                days, sum, (double) sum / days);
+    }
+
+    /**
+     * Reads the top countries straight from the snapshot's precomputed sorted index
+     * Cost grows with the limit, not with the number of countries
+     */
+    @Override
+    public MetricRanking getRanking(CovidMetric metric, boolean descending, int limit) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        MetricRankings rankings = snapshot.getRankings();
+        CountryRecords records = snapshot.getRecords();
+
+        int[] countryIds = rankings.top(metric, descending, limit);
+        List<RankingEntry> entries = new ArrayList<>(countryIds.length);
+        for (int countryId : countryIds) {
+            entries.add(new RankingEntry(rankings.getRank(metric, countryId), records.getCountry(countryId),
+                    records.getOrNull(metric, countryId)));
+        }
+
+        return new MetricRanking(metric.getFieldName(), descending ? "desc" : "asc", snapshot.getVersion(),
+                rankings.getRankedCount(metric), entries);
+    }
+
+    /**
+     * Looks up a country's rank in O(1) from the snapshot's inverse ranking
+     */
+    @Override
+    public RankingEntry getCountryRank(CovidMetric metric, String countryName) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        int countryId = snapshot.resolveCountryId(countryName);
+        if (countryId < 0) {
+            return null;
+        }
+        CountryRecords records = snapshot.getRecords();
+        return new RankingEntry(snapshot.getRankings().getRank(metric, countryId), records.getCountry(countryId),
+                records.getOrNull(metric, countryId));
+    }
+
+    /**
+     * Returns country name suggestions from the in-memory name index (no database access)
+     */
+    @Override
+    public List<String> suggestCountries(String query, int limit) {
+        return outbreakDataStore.suggestCountries(query, limit);
+    }
+
     /**
      * Reloads respiratory outbreak data from CSV file and updates database
+     * Rebuilds the in-memory dataset (name index) from the same parsed data and
+     * bumps the dataset version, which changes the ETag of every read endpoint
      * Clears all Redis cache entries to ensure fresh data
      * Uses @Transactional in repository for atomicity
      */
@@ -116,7 +584,8 @@ public class CovidDataServiceImpl implements CovidDataService {
         logger.info("Manually refreshing respiratory outbreak data from CSV file");
         
         try {
-            List<CovidData> covidDataList = CsvParserUtil.parseCovidDataFromCsv(csvResource);
+            CaseHistory history = CsvParserUtil.parseCaseHistory(csvResource);
+            List<CovidData> covidDataList = CsvParserUtil.toCovidData(history);
             logger.info("Parsed {} country records from CSV", covidDataList.size());
             
             if (covidDataList.isEmpty()) {
@@ -125,6 +594,7 @@ public class CovidDataServiceImpl implements CovidDataService {
             }
             
             int rowsAffected = covidDataRepository.bulkUpdateOrInsertCovidData(covidDataList);
+            outbreakDataStore.publish(covidDataList, history);
             logger.info("Respiratory outbreak data refresh completed successfully. {} rows affected", rowsAffected);
             
         } catch (Exception e) {
@@ -132,5 +602,67 @@ public class CovidDataServiceImpl implements CovidDataService {
             throw new RuntimeException("Failed to refresh respiratory outbreak data: " + e.getMessage(), e);
         }
     }
-}
 
+    /**
+     * Sums country rows into worldwide totals
+     * Rolling metrics need the global series and stay null until the dataset is loaded
+     */
+    private GlobalStats aggregateGlobalStats(List<CovidData> allData) {
+        long totalCases = 0;
+        long totalDeaths = 0;
+        long totalRecovered = 0;
+        long activeCases = 0;
+        long criticalCases = 0;
+
+        for (CovidData data : allData) {
+            totalCases += (data.getTotalCases() != null ? data.getTotalCases() : 0);
+            totalDeaths += (data.getTotalDeaths() != null ? data.getTotalDeaths() : 0);
+            totalRecovered += (data.getTotalRecovered() != null ? data.getTotalRecovered() : 0);
+            activeCases += (data.getActiveCases() != null ? data.getActiveCases() : 0);
+            criticalCases += (data.getCriticalCases() != null ? data.getCriticalCases() : 0);
+        }
+
+        String timestamp = ZonedDateTime.now(ZoneOffset.UTC).format(TIMESTAMP_FORMAT);
+
+        GlobalStats globalStats = new GlobalStats(
+                totalCases,
+                totalDeaths,
+                totalRecovered,
+                activeCases,
+                criticalCases,
+                allData.size(),
+                timestamp
+        );
+
+        logger.debug("Global stats: {} total cases across {} countries", totalCases, allData.size());
+        return globalStats;
+    }
+
+    /**
+     * The snapshot's global totals (summed when it was built), stamped with its load time
+     */
+    private static GlobalStats snapshotGlobalStats(DatasetSnapshot snapshot) {
+        GlobalStats totals = snapshot.getGlobalTotals();
+        GlobalStats global = new GlobalStats(
+                totals.getTotalCases(),
+                totals.getTotalDeaths(),
+                totals.getTotalRecovered(),
+                totals.getActiveCases(),
+                totals.getCriticalCases(),
+                totals.getAffectedCountries(),
+                snapshot.getLoadedAt().atZone(ZoneOffset.UTC).format(TIMESTAMP_FORMAT));
+        global.setAverageNewCases7d(totals.getAverageNewCases7d());
+        global.setAverageNewCases14d(totals.getAverageNewCases14d());
+        global.setWeekOverWeekGrowth(totals.getWeekOverWeekGrowth());
+        global.setDoublingTimeDays(totals.getDoublingTimeDays());
+        return global;
+    }
+
+    private DatasetSnapshot requireSnapshot() {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            throw new DatasetNotLoadedException();
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,234 @@
+package com.outbreaktracker.api.outbreak.service.impl;
+
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import com.outbreaktracker.api.outbreak.forecast.HoltFit;
+import com.outbreaktracker.api.outbreak.forecast.HoltModel;
+import com.outbreaktracker.api.outbreak.model.CountryForecast;
+import com.outbreaktracker.api.outbreak.model.ForecastPoint;
+import com.outbreaktracker.api.outbreak.service.ForecastService;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Service implementation for short-term case forecasts
+ *
+ * A HoltModel per country is kept between refreshes. When a refresh only appends days, each
+ * model consumes just those days (O(1) per day); one whose earlier values were revised, or
+ * whose history now starts on another date, is rebuilt from day zero. The refresh listener
+ * hands the update to the "forecast-fitter" thread, which splits the countries over the shared
+ * analytics pool.
+ *
+ * Fitted states are published as one immutable FittedModels per dataset version, so forecast
+ * requests take no locks. While a newer version is being fitted, requests get the last
+ * published forecasts, labelled with the version they were fitted on; a request only fits
+ * synchronously when nothing has been published yet.
+ */
+@Service
+public class ForecastServiceImpl implements ForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ForecastServiceImpl.class);
+
+    /** Two-sided 95% normal quantile used for the prediction interval */
+    private static final double CONFIDENCE = 0.95;
+    private static final double Z_95 = 1.959964;
+
+    /** Models advanced sequentially by one FitTask; a refit appends a few days each, so keep tasks coarse */
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+
+    private final OutbreakDataStore outbreakDataStore;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator;
+
+    // Only touched inside fit(), which is synchronized; models are indexed by the ids of modelCountries
+    private HoltModel[] models = new HoltModel[0];
+    private CountryRecords modelCountries;
+    private LocalDate firstDate;
+
+    private volatile FittedModels fitted;
+
+    public ForecastServiceImpl(OutbreakDataStore outbreakDataStore, ForkJoinPool analyticsPool) {
+        this.outbreakDataStore = outbreakDataStore;
+        this.pool = analyticsPool;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "forecast-fitter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a fit for the new snapshot
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        DatasetSnapshot snapshot = event.getSnapshot();
+        coordinator.execute(() -> {
+            try {
+                fit(snapshot);
+            } catch (RuntimeException e) {
+                logger.error("Forecast fit failed for dataset version {}", snapshot.getVersion(), e);
+            }
+        });
+    }
+
+    @Override
+    public CountryForecast getForecast(String countryName, int days) {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            throw new DatasetNotLoadedException();
+        }
+        int countryId = snapshot.resolveCountryId(countryName);
+        if (countryId < 0) {
+            return null;
+        }
+
+        FittedModels current = fitted;
+        if (current == null) {
+            current = fit(snapshot);
+        }
+
+        String country = snapshot.getCountryName(countryId);
+        int fitId = current.countries.translateId(snapshot.getRecords(), countryId);
+        HoltFit fit = fitId < 0 ? null : current.fits[fitId];
+        if (fit == null || current.lastDate == null) {
+            return new CountryForecast(country, current.version, null, CONFIDENCE, null, null, new ArrayList<>());
+        }
+
+        List<ForecastPoint> points = new ArrayList<>(days);
+        for (int h = 1; h <= days; h++) {
+            double mean = fit.mean(h);
+            double margin = Z_95 * fit.standardDeviation(h);
+            points.add(new ForecastPoint(
+                    current.lastDate.plusDays(h).toString(),
+                    Math.expm1(mean),
+                    Math.max(0.0, Math.expm1(mean - margin)),
+                    Math.expm1(mean + margin)));
+        }
+        return new CountryForecast(country, current.version, current.lastDate.toString(), CONFIDENCE,
+                fit.getAlpha(), fit.getBeta(), points);
+    }
+
+    /**
+     * Advances every country's model to the end of the snapshot's series and publishes the fits
+     * Does nothing if this or a newer snapshot has already been fitted
+     */
+    synchronized FittedModels fit(DatasetSnapshot snapshot) {
+        FittedModels current = fitted;
+        if (current != null && current.version >= snapshot.getVersion()) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        DatasetSeries series = snapshot.getSeries();
+        int dayCount = series.getDayCount();
+        int countryCount = snapshot.getCountryCount();
+
+        LocalDate seriesStart = dayCount == 0 ? null : series.getDate(0);
+        if (seriesStart == null || !seriesStart.equals(firstDate)) {
+            models = new HoltModel[0];
+            modelCountries = null;
+            firstDate = seriesStart;
+        }
+
+        // Country ids are rebuilt on refresh: map each new id to the model of the previous run
+        int[] previousIds = modelCountries == null ? null : snapshot.getRecords().matchIds(modelCountries);
+        HoltModel[] aligned = new HoltModel[countryCount];
+        int resumed = 0;
+        for (int id = 0; id < countryCount; id++) {
+            HoltModel previous = previousIds == null || previousIds[id] < 0 ? null : models[previousIds[id]];
+            if (previous != null && previous.canResume(series.getCumulativeCases(id))) {
+                aligned[id] = previous;
+                resumed++;
+            } else {
+                aligned[id] = new HoltModel();
+            }
+        }
+
+        pool.invoke(new FitTask(series, aligned, 0, countryCount));
+
+        HoltFit[] fits = new HoltFit[countryCount];
+        for (int id = 0; id < countryCount; id++) {
+            fits[id] = aligned[id].fit();
+        }
+        models = aligned;
+        modelCountries = snapshot.getRecords();
+
+        FittedModels result = new FittedModels(snapshot.getVersion(),
+                dayCount == 0 ? null : series.getDate(dayCount - 1), snapshot.getRecords(), fits);
+        fitted = result;
+
+        logger.info("Forecast models for dataset version {}: {} countries resumed, {} rebuilt in {} ms",
+                snapshot.getVersion(), resumed, countryCount - resumed, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Immutable fitted states of one dataset version, indexed by that version's country ids
+     * (null where the country could not be fitted)
+     */
+    static final class FittedModels {
+
+        final long version;
+        final LocalDate lastDate;
+        final CountryRecords countries;
+        final HoltFit[] fits;
+
+        FittedModels(long version, LocalDate lastDate, CountryRecords countries, HoltFit[] fits) {
+            this.version = version;
+            this.lastDate = lastDate;
+            this.countries = countries;
+            this.fits = fits;
+        }
+    }
+
+    /**
+     * Advances the models of a range of country ids, splitting the range in halves
+     */
+    private static final class FitTask extends RecursiveAction {
+
+        private final DatasetSeries series;
+        private final HoltModel[] models;
+        private final int from;
+        private final int to;
+
+        FitTask(DatasetSeries series, HoltModel[] models, int from, int to) {
+            this.series = series;
+            this.models = models;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int id = from; id < to; id++) {
+                    models[id].advance(series.getCumulativeCases(id));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FitTask(series, models, from, middle), new FitTask(series, models, middle, to));
+        }
+    }
+}
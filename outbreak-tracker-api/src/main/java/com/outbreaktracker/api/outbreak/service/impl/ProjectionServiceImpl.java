@@ -0,0 +1,235 @@
+package com.outbreaktracker.api.outbreak.service.impl;
+
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import com.outbreaktracker.api.outbreak.model.CountryProjection;
+import com.outbreaktracker.api.outbreak.model.ProjectionPoint;
+import com.outbreaktracker.api.outbreak.projection.CompartmentalModel;
+import com.outbreaktracker.api.outbreak.projection.ModelFit;
+import com.outbreaktracker.api.outbreak.projection.ModelFitter;
+import com.outbreaktracker.api.outbreak.service.ProjectionService;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Service implementation for SIR / SEIR scenario projections
+ *
+ * Unlike the incremental analytics, both compartmental models are refitted from scratch over
+ * the last windowDays days for every country on each refresh. The "projection-fitter" thread
+ * splits the countries into FitTasks on the shared analytics pool; each task reuses one
+ * ModelFitter's buffers for all of its countries, and computes the full-horizon projection
+ * while fitting so requests only slice it.
+ *
+ * A FittedProjections holds the results together with the DatasetSeries they came from, so a
+ * request served while the next version is being fitted uses that series' dates and cumulative
+ * counts, and reports its version. A request fits synchronously only before the first fit.
+ */
+@Service
+public class ProjectionServiceImpl implements ProjectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectionServiceImpl.class);
+
+    /** Countries fitted by one FitTask; a full two-model fit is costly, so tasks are split finer */
+    private static final int SEQUENTIAL_THRESHOLD = 4;
+
+    private final OutbreakDataStore outbreakDataStore;
+    private final int windowDays;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator;
+
+    private volatile FittedProjections fitted;
+
+    public ProjectionServiceImpl(OutbreakDataStore outbreakDataStore,
+                                 @Value("${outbreak.projection.window-days:60}") int windowDays,
+                                 ForkJoinPool analyticsPool) {
+        if (windowDays < ModelFitter.MIN_DAYS) {
+            throw new IllegalArgumentException("outbreak.projection.window-days must be at least " + ModelFitter.MIN_DAYS);
+        }
+        this.outbreakDataStore = outbreakDataStore;
+        this.windowDays = windowDays;
+        this.pool = analyticsPool;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "projection-fitter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a fit for the new snapshot
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        DatasetSnapshot snapshot = event.getSnapshot();
+        coordinator.execute(() -> {
+            try {
+                fit(snapshot);
+            } catch (RuntimeException e) {
+                logger.error("Projection fit failed for dataset version {}", snapshot.getVersion(), e);
+            }
+        });
+    }
+
+    @Override
+    public CountryProjection getProjection(String countryName, CompartmentalModel model, int days) {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            throw new DatasetNotLoadedException();
+        }
+        int countryId = snapshot.resolveCountryId(countryName);
+        if (countryId < 0) {
+            return null;
+        }
+
+        FittedProjections current = fitted;
+        if (current == null) {
+            current = fit(snapshot);
+        }
+
+        String country = snapshot.getCountryName(countryId);
+        CountryProjection projection = new CountryProjection();
+        projection.setCountry(country);
+        projection.setVersion(current.version);
+        projection.setModel(model.getFieldName());
+
+        int fitId = current.countries.translateId(snapshot.getRecords(), countryId);
+        ModelFit[] fits = fitId < 0 ? null : current.fits[fitId];
+        ModelFit fit = fits == null ? null : fits[model.ordinal()];
+        if (fit == null) {
+            return projection;
+        }
+
+        // The fit's own series: the fit may belong to an older or newer version than this snapshot
+        DatasetSeries series = current.series;
+        int lastDay = series.getDayCount() - 1;
+        LocalDate lastDate = series.getDate(lastDay);
+        projection.setFitFrom(series.getDate(lastDay - fit.getFitDays() + 1).toString());
+        projection.setBasedOn(lastDate.toString());
+        projection.setBeta(fit.getBeta());
+        projection.setGamma(fit.getGamma());
+        projection.setSigma(fit.getSigma());
+        projection.setPopulation(fit.getPopulation());
+        projection.setBasicReproduction(fit.getBasicReproduction());
+        projection.setEffectiveReproduction(fit.getEffectiveReproduction());
+        projection.setRootMeanSquaredLogError(fit.getRootMeanSquaredLogError());
+
+        List<ProjectionPoint> points = new ArrayList<>(days);
+        double cumulative = series.getCumulativeCases(fitId).get(lastDay);
+        for (int day = 0; day < Math.min(days, fit.getHorizon()); day++) {
+            double newCases = fit.getProjectedNewCases(day);
+            cumulative += newCases;
+            points.add(new ProjectionPoint(lastDate.plusDays(day + 1).toString(), newCases, cumulative));
+        }
+        projection.setPoints(points);
+        return projection;
+    }
+
+    /**
+     * Fits every model for every country of the snapshot and publishes the results
+     * Does nothing if this or a newer snapshot has already been fitted
+     */
+    synchronized FittedProjections fit(DatasetSnapshot snapshot) {
+        FittedProjections current = fitted;
+        if (current != null && current.version >= snapshot.getVersion()) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        int countryCount = snapshot.getCountryCount();
+        ModelFit[][] results = new ModelFit[countryCount][];
+        pool.invoke(new FitTask(snapshot.getSeries(), windowDays, results, 0, countryCount));
+
+        int fittedCount = 0;
+        for (int id = 0; id < countryCount; id++) {
+            if (results[id][0] != null) {
+                fittedCount++;
+            }
+        }
+
+        FittedProjections result = new FittedProjections(snapshot.getVersion(), snapshot.getRecords(),
+                snapshot.getSeries(), results);
+        fitted = result;
+
+        logger.info("Projection models for dataset version {}: {} of {} countries fitted in {} ms",
+                snapshot.getVersion(), fittedCount, countryCount, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Immutable fits of one dataset version: country id -> fit per model ordinal (null if not fitted)
+     * Ids, dates and cumulative counts are those of the version's own records and series
+     */
+    static final class FittedProjections {
+
+        final long version;
+        final CountryRecords countries;
+        final DatasetSeries series;
+        final ModelFit[][] fits;
+
+        FittedProjections(long version, CountryRecords countries, DatasetSeries series, ModelFit[][] fits) {
+            this.version = version;
+            this.countries = countries;
+            this.series = series;
+            this.fits = fits;
+        }
+    }
+
+    /**
+     * Fits the models of a range of country ids, splitting the range in halves
+     */
+    private static final class FitTask extends RecursiveAction {
+
+        private final DatasetSeries series;
+        private final int windowDays;
+        private final ModelFit[][] results;
+        private final int from;
+        private final int to;
+
+        FitTask(DatasetSeries series, int windowDays, ModelFit[][] results, int from, int to) {
+            this.series = series;
+            this.windowDays = windowDays;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                ModelFitter fitter = new ModelFitter(windowDays);
+                CompartmentalModel[] models = CompartmentalModel.values();
+                for (int id = from; id < to; id++) {
+                    results[id] = new ModelFit[models.length];
+                    for (CompartmentalModel model : models) {
+                        results[id][model.ordinal()] = fitter.fit(model, series.getCumulativeCases(id));
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FitTask(series, windowDays, results, from, middle),
+                    new FitTask(series, windowDays, results, middle, to));
+        }
+    }
+}
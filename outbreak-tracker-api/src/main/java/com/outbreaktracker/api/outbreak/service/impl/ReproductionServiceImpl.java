@@ -0,0 +1,285 @@
+package com.outbreaktracker.api.outbreak.service.impl;
+
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import com.outbreaktracker.api.outbreak.model.ReproductionNumber;
+import com.outbreaktracker.api.outbreak.model.RtPoint;
+import com.outbreaktracker.api.outbreak.reproduction.RtEstimator;
+import com.outbreaktracker.api.outbreak.reproduction.RtSeries;
+import com.outbreaktracker.api.outbreak.reproduction.SerialInterval;
+import com.outbreaktracker.api.outbreak.service.ReproductionService;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import com.outbreaktracker.api.outbreak.store.RegionRollups;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service implementation for effective reproduction number (Rt) estimates
+ *
+ * Every country and every continent / WHO region has one RtEstimator, kept across refreshes
+ * and advanced by the days each refresh appends; a revision of earlier values or a new first
+ * date rebuilds that series' estimator. Advancing all of them takes milliseconds, so the
+ * "rt-estimator" thread runs them one after another instead of using the analytics pool.
+ *
+ * Estimates are read through immutable per-version views, and an estimate request on a newer
+ * snapshot reads the last completed view (with its own dates and version). Until the first view
+ * exists, requests estimate synchronously.
+ */
+@Service
+public class ReproductionServiceImpl implements ReproductionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReproductionServiceImpl.class);
+
+    private static final String COUNTRY = "country";
+
+    private final OutbreakDataStore outbreakDataStore;
+    private final ExecutorService coordinator;
+
+    // Only touched inside estimate(), which is synchronized
+    // Country estimators are indexed by the ids of estimatorCountries, region estimators keyed by type and name
+    private RtEstimator[] countryEstimators = new RtEstimator[0];
+    private CountryRecords estimatorCountries;
+    private Map<String, RtEstimator> regionEstimators = new HashMap<>();
+    private LocalDate firstDate;
+
+    private volatile Estimates estimates;
+
+    public ReproductionServiceImpl(OutbreakDataStore outbreakDataStore) {
+        this.outbreakDataStore = outbreakDataStore;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rt-estimator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues an update for the new snapshot
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        DatasetSnapshot snapshot = event.getSnapshot();
+        coordinator.execute(() -> {
+            try {
+                estimate(snapshot);
+            } catch (RuntimeException e) {
+                logger.error("Rt estimation failed for dataset version {}", snapshot.getVersion(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<ReproductionNumber> getLatestForCountries() {
+        DatasetSnapshot snapshot = requireSnapshot();
+        Estimates current = currentEstimates(snapshot);
+        List<ReproductionNumber> result = new ArrayList<>(snapshot.getCountryCount());
+        for (int id = 0; id < snapshot.getCountryCount(); id++) {
+            result.add(toReproductionNumber(snapshot.getCountryName(id), COUNTRY, current,
+                    current.getCountry(snapshot, id), 0));
+        }
+        return result;
+    }
+
+    @Override
+    public ReproductionNumber getCountryRt(String countryName, Integer days) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        int countryId = snapshot.resolveCountryId(countryName);
+        if (countryId < 0) {
+            return null;
+        }
+        Estimates current = currentEstimates(snapshot);
+        return toReproductionNumber(snapshot.getCountryName(countryId), COUNTRY, current,
+                current.getCountry(snapshot, countryId), days);
+    }
+
+    @Override
+    public ReproductionNumber getRegionRt(String region, Integer days) {
+        DatasetSnapshot snapshot = requireSnapshot();
+        RegionRollups.Region rollup = snapshot.getRegionRollups().getRegion(region);
+        if (rollup == null) {
+            return null;
+        }
+        Estimates current = currentEstimates(snapshot);
+        return toReproductionNumber(rollup.getName(), rollup.getType(), current,
+                current.regions.get(rollup.getName()), days);
+    }
+
+    @Override
+    public RtPoint getLatestRt(String countryName) {
+        // Callers such as AI insights also work from the database alone, so no snapshot means no estimate
+        if (outbreakDataStore.getSnapshot() == null) {
+            return null;
+        }
+        ReproductionNumber rt = getCountryRt(countryName, 0);
+        return rt == null || rt.getLatest() == null || rt.getLatest().getRt() == null ? null : rt.getLatest();
+    }
+
+    /**
+     * Advances the estimators of every country and region to the end of the snapshot's series
+     * Does nothing if this or a newer snapshot has already been estimated
+     */
+    synchronized Estimates estimate(DatasetSnapshot snapshot) {
+        Estimates current = estimates;
+        if (current != null && current.version >= snapshot.getVersion()) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        DatasetSeries series = snapshot.getSeries();
+        int dayCount = series.getDayCount();
+        LocalDate seriesStart = dayCount == 0 ? null : series.getDate(0);
+        if (seriesStart == null || !seriesStart.equals(firstDate)) {
+            countryEstimators = new RtEstimator[0];
+            estimatorCountries = null;
+            regionEstimators = new HashMap<>();
+            firstDate = seriesStart;
+        }
+
+        // Country ids are rebuilt on refresh: map each new id to the estimator of the previous run
+        int countryCount = snapshot.getCountryCount();
+        int[] previousIds = estimatorCountries == null ? null : snapshot.getRecords().matchIds(estimatorCountries);
+        RtEstimator[] nextCountries = new RtEstimator[countryCount];
+        RtSeries[] countries = new RtSeries[countryCount];
+        int rebuilt = 0;
+        for (int id = 0; id < countryCount; id++) {
+            RtEstimator previous = previousIds == null || previousIds[id] < 0 ? null : countryEstimators[previousIds[id]];
+            nextCountries[id] = resumable(previous, series.getCumulativeCases(id));
+            if (nextCountries[id] != previous) {
+                rebuilt++;
+            }
+            countries[id] = advance(nextCountries[id], series.getCumulativeCases(id));
+        }
+
+        Map<String, RtEstimator> nextRegions = new HashMap<>();
+        Map<String, RtSeries> regions = new HashMap<>();
+        for (RegionRollups.Region region : snapshot.getRegionRollups().getRegions()) {
+            String key = region.getType() + ":" + region.getName();
+            RtEstimator previous = regionEstimators.get(key);
+            RtEstimator estimator = resumable(previous, region.getCumulativeCases());
+            if (estimator != previous) {
+                rebuilt++;
+            }
+            nextRegions.put(key, estimator);
+            regions.put(region.getName(), advance(estimator, region.getCumulativeCases()));
+        }
+        countryEstimators = nextCountries;
+        estimatorCountries = snapshot.getRecords();
+        regionEstimators = nextRegions;
+
+        Estimates result = new Estimates(snapshot.getVersion(), series, snapshot.getRecords(), countries, regions);
+        estimates = result;
+
+        logger.info("Rt estimates for dataset version {}: {} series, {} rebuilt in {} ms",
+                snapshot.getVersion(), countryCount + nextRegions.size(), rebuilt,
+                (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    /**
+     * Returns the previous estimator if it can continue the series, otherwise a new one
+     */
+    private static RtEstimator resumable(RtEstimator previous, SeriesView cumulative) {
+        return previous != null && previous.canResume(cumulative) ? previous : new RtEstimator();
+    }
+
+    private static RtSeries advance(RtEstimator estimator, SeriesView cumulative) {
+        estimator.advance(cumulative);
+        return estimator.toSeries();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private DatasetSnapshot requireSnapshot() {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            throw new DatasetNotLoadedException();
+        }
+        return snapshot;
+    }
+
+    private Estimates currentEstimates(DatasetSnapshot snapshot) {
+        Estimates current = estimates;
+        if (current == null) {
+            current = estimate(snapshot);
+        }
+        return current;
+    }
+
+    /**
+     * Builds the response from an estimate view; days limits the history (0 = latest only, null = all)
+     */
+    private static ReproductionNumber toReproductionNumber(String name, String type, Estimates current,
+                                                           RtSeries rt, Integer days) {
+        ReproductionNumber result = new ReproductionNumber();
+        result.setName(name);
+        result.setType(type);
+        result.setVersion(current.version);
+        result.setWindowDays(RtEstimator.WINDOW_DAYS);
+        result.setSerialIntervalMean(SerialInterval.MEAN_DAYS);
+        result.setSerialIntervalStandardDeviation(SerialInterval.STANDARD_DEVIATION_DAYS);
+        if (rt == null || rt.size() == 0) {
+            return result;
+        }
+
+        int lastDay = rt.size() - 1;
+        result.setLatest(toPoint(current.series, rt, lastDay));
+        int firstDay = days == null ? 0 : Math.max(0, rt.size() - days);
+        List<RtPoint> history = new ArrayList<>(rt.size() - firstDay);
+        for (int day = firstDay; day <= lastDay; day++) {
+            history.add(toPoint(current.series, rt, day));
+        }
+        result.setHistory(history);
+        return result;
+    }
+
+    private static RtPoint toPoint(DatasetSeries series, RtSeries rt, int day) {
+        return new RtPoint(series.getDate(day).toString(), rt.getMean(day), rt.getLower(day), rt.getUpper(day));
+    }
+
+    /**
+     * Immutable estimate views of one dataset version, indexed by its country ids and keyed by region name
+     */
+    static final class Estimates {
+
+        final long version;
+        final DatasetSeries series;
+        final CountryRecords countryIds;
+        final RtSeries[] countries;
+        final Map<String, RtSeries> regions;
+
+        Estimates(long version, DatasetSeries series, CountryRecords countryIds, RtSeries[] countries,
+                  Map<String, RtSeries> regions) {
+            this.version = version;
+            this.series = series;
+            this.countryIds = countryIds;
+            this.countries = countries;
+            this.regions = regions;
+        }
+
+        /**
+         * Estimates for a country id of the given snapshot (which may be older than these estimates)
+         */
+        RtSeries getCountry(DatasetSnapshot snapshot, int countryId) {
+            int id = countryIds.translateId(snapshot.getRecords(), countryId);
+            return id < 0 ? null : countries[id];
+        }
+    }
+}
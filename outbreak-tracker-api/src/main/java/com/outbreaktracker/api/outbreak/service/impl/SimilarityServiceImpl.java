@@ -0,0 +1,180 @@
+package com.outbreaktracker.api.outbreak.service.impl;
+
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import com.outbreaktracker.api.outbreak.model.SimilarCountries;
+import com.outbreaktracker.api.outbreak.model.SimilarCountry;
+import com.outbreaktracker.api.outbreak.service.SimilarityService;
+import com.outbreaktracker.api.outbreak.similarity.CorrelationMatrix;
+import com.outbreaktracker.api.outbreak.store.CountryRecords;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetSeries;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import com.outbreaktracker.api.outbreak.store.RollingMetrics;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Service implementation for curve similarity between countries
+ *
+ * A country's curve is the 7-day average of its daily new cases over the last windowDays days.
+ * The full correlation matrix of these curves is rebuilt for every dataset version: the
+ * "similarity-matrix" thread computes it tile by tile on the shared analytics pool and ranks
+ * every country's neighbours in the same pass, so a request just copies the head of one list.
+ *
+ * The matrix keeps the CountryRecords it was computed from, and request ids are translated
+ * into it by name. A request on a newer snapshot is answered from the existing matrix (the
+ * response reports the matrix's version); the matrix is computed on the request thread only
+ * if none exists yet.
+ */
+@Service
+public class SimilarityServiceImpl implements SimilarityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarityServiceImpl.class);
+
+    private final OutbreakDataStore outbreakDataStore;
+    private final int windowDays;
+    private final ForkJoinPool pool;
+    private final ExecutorService coordinator;
+
+    private volatile VersionedMatrix computed;
+
+    public SimilarityServiceImpl(OutbreakDataStore outbreakDataStore,
+                                 @Value("${outbreak.similarity.window-days:90}") int windowDays,
+                                 ForkJoinPool analyticsPool) {
+        if (windowDays < 2) {
+            throw new IllegalArgumentException("outbreak.similarity.window-days must be at least 2");
+        }
+        this.outbreakDataStore = outbreakDataStore;
+        this.windowDays = windowDays;
+        this.pool = analyticsPool;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "similarity-matrix");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues a matrix computation for the new snapshot
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        DatasetSnapshot snapshot = event.getSnapshot();
+        coordinator.execute(() -> {
+            try {
+                compute(snapshot);
+            } catch (RuntimeException e) {
+                logger.error("Similarity matrix failed for dataset version {}", snapshot.getVersion(), e);
+            }
+        });
+    }
+
+    @Override
+    public SimilarCountries getSimilarCountries(String countryName, int limit) {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            throw new DatasetNotLoadedException();
+        }
+        int countryId = snapshot.resolveCountryId(countryName);
+        if (countryId < 0) {
+            return null;
+        }
+
+        VersionedMatrix current = computed;
+        if (current == null) {
+            current = compute(snapshot);
+        }
+
+        // The matrix may come from a newer snapshot than this request's, with different ids
+        List<SimilarCountry> similar = new ArrayList<>();
+        int matrixId = current.countries.translateId(snapshot.getRecords(), countryId);
+        if (current.matrix != null && matrixId >= 0) {
+            for (int neighbour : current.matrix.topNeighbours(matrixId, limit)) {
+                similar.add(new SimilarCountry(current.countries.getCountry(neighbour),
+                        current.matrix.get(matrixId, neighbour)));
+            }
+        }
+        return new SimilarCountries(snapshot.getCountryName(countryId), current.version,
+                current.from, current.to, current.days, similar);
+    }
+
+    /**
+     * Correlates all countries' curves over the window ending at the snapshot's last day
+     * Does nothing if this or a newer snapshot has already been computed
+     */
+    synchronized VersionedMatrix compute(DatasetSnapshot snapshot) {
+        VersionedMatrix current = computed;
+        if (current != null && current.version >= snapshot.getVersion()) {
+            return current;
+        }
+
+        long start = System.nanoTime();
+        DatasetSeries series = snapshot.getSeries();
+        int dayCount = series.getDayCount();
+        // The 7-day average needs a full week before the first day of the window
+        int firstDay = Math.max(RollingMetrics.WEEK, dayCount - windowDays);
+        int days = dayCount - firstDay;
+
+        VersionedMatrix result;
+        if (days < 2) {
+            result = new VersionedMatrix(snapshot.getVersion(), snapshot.getRecords(), null, null, 0, null);
+        } else {
+            double[][] curves = new double[snapshot.getCountryCount()][days];
+            for (int id = 0; id < curves.length; id++) {
+                SeriesView cumulative = series.getCumulativeCases(id);
+                for (int t = 0; t < days; t++) {
+                    curves[id][t] = RollingMetrics.averageNewCases(cumulative, firstDay + t, RollingMetrics.WEEK);
+                }
+            }
+            result = new VersionedMatrix(snapshot.getVersion(), snapshot.getRecords(),
+                    series.getDate(firstDay).toString(), series.getDate(dayCount - 1).toString(), days,
+                    CorrelationMatrix.compute(curves, pool));
+        }
+        computed = result;
+
+        logger.info("Similarity matrix for dataset version {}: {} countries over {} days in {} ms",
+                snapshot.getVersion(), snapshot.getCountryCount(), days, (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Correlation matrix of one dataset version; matrix is null when the history is too short
+     * Rows and columns are country ids of that version's records
+     */
+    static final class VersionedMatrix {
+
+        final long version;
+        final CountryRecords countries;
+        final String from;
+        final String to;
+        final int days;
+        final CorrelationMatrix matrix;
+
+        VersionedMatrix(long version, CountryRecords countries, String from, String to, int days,
+                        CorrelationMatrix matrix) {
+            this.version = version;
+            this.countries = countries;
+            this.from = from;
+            this.to = to;
+            this.days = days;
+            this.matrix = matrix;
+        }
+    }
+}
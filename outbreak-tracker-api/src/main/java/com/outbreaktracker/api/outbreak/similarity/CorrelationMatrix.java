@@ -0,0 +1,198 @@
+package com.outbreaktracker.api.outbreak.similarity;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pearson correlations between every pair of equally long curves
+ *
+ * Each curve is standardized once into one flat row-major array, so a correlation is a plain
+ * dot product of two contiguous rows. Pairs are processed in BLOCK_SIZE x BLOCK_SIZE tiles of
+ * the upper triangle: the two groups of rows a tile reads stay in cache while all of its dot
+ * products run. Each block row of tiles is one fork-join task.
+ *
+ * Curves without variance (e.g. all zeros) have no defined correlation; their entries are NaN
+ * and they never appear as neighbours.
+ */
+public final class CorrelationMatrix {
+
+    /** Curves per tile side */
+    static final int BLOCK_SIZE = 32;
+
+    private final int size;
+    private final float[] values;
+    private final int[][] neighbours;
+
+    private CorrelationMatrix(int size, float[] values, int[][] neighbours) {
+        this.size = size;
+        this.values = values;
+        this.neighbours = neighbours;
+    }
+
+    /**
+     * Correlates every pair of curves
+     *
+     * @param curves One array per curve, all of the same length
+     * @param pool   Pool running the tile tasks
+     */
+    public static CorrelationMatrix compute(double[][] curves, ForkJoinPool pool) {
+        int size = curves.length;
+        int length = size == 0 ? 0 : curves[0].length;
+        double[] standardized = new double[size * length];
+        boolean[] defined = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            defined[i] = standardize(curves[i], standardized, i * length);
+        }
+
+        float[] values = new float[size * size];
+        Arrays.fill(values, Float.NaN);
+        int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (blocks > 0) {
+            pool.invoke(new BlockRowTask(standardized, defined, length, size, values, 0, blocks));
+        }
+
+        int[][] neighbours = new int[size][];
+        for (int i = 0; i < size; i++) {
+            neighbours[i] = rankNeighbours(values, size, i);
+        }
+        return new CorrelationMatrix(size, values, neighbours);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Correlation of two curves, NaN if either has no variance
+     */
+    public double get(int i, int j) {
+        return values[i * size + j];
+    }
+
+    /**
+     * Other curves with a defined correlation to curve i, most correlated first
+     */
+    public int[] neighbours(int i) {
+        return neighbours[i].clone();
+    }
+
+    /**
+     * Returns at most limit neighbours of curve i, most correlated first
+     */
+    public int[] topNeighbours(int i, int limit) {
+        return Arrays.copyOf(neighbours[i], Math.min(limit, neighbours[i].length));
+    }
+
+    /**
+     * Writes (x - mean) / (sd * sqrt(n)) so that the dot product of two rows is their correlation
+     *
+     * @return false if the curve has no variance
+     */
+    private static boolean standardize(double[] curve, double[] target, int offset) {
+        int length = curve.length;
+        if (length < 2) {
+            return false;
+        }
+        double mean = 0.0;
+        for (double value : curve) {
+            mean += value;
+        }
+        mean /= length;
+        double squares = 0.0;
+        for (double value : curve) {
+            squares += (value - mean) * (value - mean);
+        }
+        if (squares <= 0.0) {
+            return false;
+        }
+        double scale = 1.0 / Math.sqrt(squares);
+        for (int t = 0; t < length; t++) {
+            target[offset + t] = (curve[t] - mean) * scale;
+        }
+        return true;
+    }
+
+    private static int[] rankNeighbours(float[] values, int size, int i) {
+        Integer[] order = new Integer[size];
+        int count = 0;
+        for (int j = 0; j < size; j++) {
+            if (j != i && !Float.isNaN(values[i * size + j])) {
+                order[count++] = j;
+            }
+        }
+        Arrays.sort(order, 0, count, (a, b) -> Float.compare(values[i * size + b], values[i * size + a]));
+        int[] ranked = new int[count];
+        for (int k = 0; k < count; k++) {
+            ranked[k] = order[k];
+        }
+        return ranked;
+    }
+
+    /**
+     * Fills the tiles of a range of block rows, splitting the range in halves
+     * Block row b holds the tiles (b, c) for c >= b; each task writes both (i, j) and (j, i)
+     * of its own tiles only, so tasks never write the same entry
+     */
+    private static final class BlockRowTask extends RecursiveAction {
+
+        private final double[] rows;
+        private final boolean[] defined;
+        private final int length;
+        private final int size;
+        private final float[] values;
+        private final int fromBlock;
+        private final int toBlock;
+
+        BlockRowTask(double[] rows, boolean[] defined, int length, int size, float[] values,
+                     int fromBlock, int toBlock) {
+            this.rows = rows;
+            this.defined = defined;
+            this.length = length;
+            this.size = size;
+            this.values = values;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock > 1) {
+                int middle = (fromBlock + toBlock) >>> 1;
+                invokeAll(new BlockRowTask(rows, defined, length, size, values, fromBlock, middle),
+                        new BlockRowTask(rows, defined, length, size, values, middle, toBlock));
+                return;
+            }
+            int rowStart = fromBlock * BLOCK_SIZE;
+            int rowEnd = Math.min(rowStart + BLOCK_SIZE, size);
+            for (int columnStart = rowStart; columnStart < size; columnStart += BLOCK_SIZE) {
+                fillTile(rowStart, rowEnd, columnStart, Math.min(columnStart + BLOCK_SIZE, size));
+            }
+        }
+
+        private void fillTile(int rowStart, int rowEnd, int columnStart, int columnEnd) {
+            for (int i = rowStart; i < rowEnd; i++) {
+                if (!defined[i]) {
+                    continue;
+                }
+                if (columnStart == rowStart) {
+                    values[i * size + i] = 1.0f;
+                }
+                int a = i * length;
+                for (int j = Math.max(columnStart, i + 1); j < columnEnd; j++) {
+                    if (!defined[j]) {
+                        continue;
+                    }
+                    int b = j * length;
+                    double dot = 0.0;
+                    for (int t = 0; t < length; t++) {
+                        dot += rows[a + t] * rows[b + t];
+                    }
+                    float correlation = (float) Math.max(-1.0, Math.min(1.0, dot));
+                    values[i * size + j] = correlation;
+                    values[j * size + i] = correlation;
+                }
+            }
+        }
+    }
+}
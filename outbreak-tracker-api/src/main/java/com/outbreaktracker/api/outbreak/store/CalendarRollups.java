@@ -0,0 +1,193 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.SeriesGranularity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+
+/**
+ * Weekly and monthly aggregates of the daily history, per country and globally
+ *
+ * For every ISO week and calendar month touched by the history, holds the cumulative cases on the
+ * period's last reported day and the new cases reported within it. The first and last periods may
+ * be partial; getDayCount tells how many reported days each covers. Built once per refresh from
+ * the snapshot's DatasetSeries, so requests only slice precomputed arrays.
+ */
+public class CalendarRollups {
+
+    private final Periods weeks;
+    private final Periods months;
+
+    private CalendarRollups(Periods weeks, Periods months) {
+        this.weeks = weeks;
+        this.months = months;
+    }
+
+    static CalendarRollups build(DatasetSeries series, int countryCount) {
+        return new CalendarRollups(
+                Periods.build(series, countryCount, SeriesGranularity.WEEK),
+                Periods.build(series, countryCount, SeriesGranularity.MONTH));
+    }
+
+    /**
+     * Returns the periods of a weekly or monthly granularity
+     *
+     * @throws IllegalArgumentException for DAY, which is served from DatasetSeries directly
+     */
+    public Periods getPeriods(SeriesGranularity granularity) {
+        switch (granularity) {
+            case WEEK:
+                return weeks;
+            case MONTH:
+                return months;
+            default:
+                throw new IllegalArgumentException("No calendar rollup for granularity: " + granularity.getFieldName());
+        }
+    }
+
+    /**
+     * Consecutive calendar periods with parallel aggregate arrays (period index, then country id)
+     */
+    public static final class Periods {
+
+        private final String[] labels;
+        private final int[] firstDays;
+        private final int[] lastDays;
+        private final long[][] cumulativeCases;
+        private final long[][] newCases;
+        private final long[] globalCumulativeCases;
+        private final long[] globalNewCases;
+
+        private Periods(String[] labels, int[] firstDays, int[] lastDays, long[][] cumulativeCases,
+                        long[][] newCases, long[] globalCumulativeCases, long[] globalNewCases) {
+            this.labels = labels;
+            this.firstDays = firstDays;
+            this.lastDays = lastDays;
+            this.cumulativeCases = cumulativeCases;
+            this.newCases = newCases;
+            this.globalCumulativeCases = globalCumulativeCases;
+            this.globalNewCases = globalNewCases;
+        }
+
+        static Periods build(DatasetSeries series, int countryCount, SeriesGranularity granularity) {
+            int dayCount = series.getDayCount();
+            // Day indexes where a new period starts; at most one per day
+            int[] starts = new int[dayCount];
+            String[] labels = new String[dayCount];
+            int periodCount = 0;
+            LocalDate periodStart = null;
+            for (int day = 0; day < dayCount; day++) {
+                LocalDate date = series.getDate(day);
+                LocalDate start = startOf(date, granularity);
+                if (!start.equals(periodStart)) {
+                    periodStart = start;
+                    starts[periodCount] = day;
+                    labels[periodCount] = label(date, granularity);
+                    periodCount++;
+                }
+            }
+
+            int[] firstDays = Arrays.copyOf(starts, periodCount);
+            int[] lastDays = new int[periodCount];
+            for (int period = 0; period < periodCount; period++) {
+                lastDays[period] = period + 1 < periodCount ? firstDays[period + 1] - 1 : dayCount - 1;
+            }
+
+            long[][] cumulative = new long[countryCount][];
+            long[][] daily = new long[countryCount][];
+            for (int id = 0; id < countryCount; id++) {
+                cumulative[id] = new long[periodCount];
+                daily[id] = new long[periodCount];
+                aggregate(series.getCumulativeCases(id), lastDays, cumulative[id], daily[id]);
+            }
+            long[] globalCumulative = new long[periodCount];
+            long[] globalDaily = new long[periodCount];
+            aggregate(series.getGlobalCumulativeCases(), lastDays, globalCumulative, globalDaily);
+
+            return new Periods(Arrays.copyOf(labels, periodCount), firstDays, lastDays,
+                    cumulative, daily, globalCumulative, globalDaily);
+        }
+
+        /**
+         * Reads the cumulative value at each period end; a period's new cases are the difference
+         * to the previous period end (the same as summing its daily new cases)
+         */
+        private static void aggregate(SeriesView source, int[] lastDays, long[] cumulative, long[] daily) {
+            long previous = 0L;
+            for (int period = 0; period < lastDays.length; period++) {
+                cumulative[period] = source.get(lastDays[period]);
+                daily[period] = cumulative[period] - previous;
+                previous = cumulative[period];
+            }
+        }
+
+        private static LocalDate startOf(LocalDate date, SeriesGranularity granularity) {
+            return granularity == SeriesGranularity.WEEK
+                    ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : date.withDayOfMonth(1);
+        }
+
+        private static String label(LocalDate date, SeriesGranularity granularity) {
+            if (granularity == SeriesGranularity.WEEK) {
+                return String.format("%d-W%02d",
+                        date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            }
+            return YearMonth.from(date).toString();
+        }
+
+        public int size() {
+            return labels.length;
+        }
+
+        public String getLabel(int period) {
+            return labels[period];
+        }
+
+        /**
+         * Day index (into DatasetSeries) of the period's first reported day
+         */
+        public int getFirstDay(int period) {
+            return firstDays[period];
+        }
+
+        /**
+         * Day index (into DatasetSeries) of the period's last reported day
+         */
+        public int getLastDay(int period) {
+            return lastDays[period];
+        }
+
+        /**
+         * Number of reported days in the period (less than a full week or month only at the edges)
+         */
+        public int getDayCount(int period) {
+            return lastDays[period] - firstDays[period] + 1;
+        }
+
+        /**
+         * Index of the period containing a day index
+         */
+        public int indexOfDay(int day) {
+            int index = Arrays.binarySearch(lastDays, day);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /**
+         * @param countryId Country id, or RangeAggregates.GLOBAL for the worldwide series
+         */
+        public SeriesView getCumulativeCases(int countryId) {
+            return new SeriesView(countryId == RangeAggregates.GLOBAL ? globalCumulativeCases : cumulativeCases[countryId]);
+        }
+
+        /**
+         * @param countryId Country id, or RangeAggregates.GLOBAL for the worldwide series
+         */
+        public SeriesView getNewCases(int countryId) {
+            return new SeriesView(countryId == RangeAggregates.GLOBAL ? globalNewCases : newCases[countryId]);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Full daily history parsed from the CSV file: cumulative confirmed cases per country and date
+ * Provinces/states are already summed into their country
+ *
+ * Produced by CsvParserUtil.parseCaseHistory() and turned into the snapshot's columnar
+ * DatasetSeries by OutbreakDataStore.publish()
+ */
+public class CaseHistory {
+
+    private final LocalDate[] dates;
+    private final String[] dateLabels;
+    private final Map<String, long[]> cumulativeCases;
+
+    /**
+     * @param dates           Dates in ascending order
+     * @param dateLabels      Date labels as written in the CSV header (e.g. "3/9/23"), aligned with dates
+     * @param cumulativeCases Country -> cumulative confirmed cases, one value per date
+     */
+    public CaseHistory(LocalDate[] dates, String[] dateLabels, Map<String, long[]> cumulativeCases) {
+        this.dates = dates;
+        this.dateLabels = dateLabels;
+        this.cumulativeCases = Collections.unmodifiableMap(cumulativeCases);
+    }
+
+    public int getDayCount() {
+        return dates.length;
+    }
+
+    public LocalDate getDate(int day) {
+        return dates[day];
+    }
+
+    public String getDateLabel(int day) {
+        return dateLabels[day];
+    }
+
+    /**
+     * Country -> cumulative confirmed cases per date (arrays must not be modified)
+     */
+    public Map<String, long[]> getCumulativeCases() {
+        return cumulativeCases;
+    }
+}
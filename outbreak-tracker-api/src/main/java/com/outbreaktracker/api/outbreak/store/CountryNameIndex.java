@@ -0,0 +1,193 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable trie over normalized country names and aliases
+ *
+ * Normalization: accents stripped, case folded, punctuation collapsed to single spaces
+ * ("Côte d'Ivoire" and "cote d ivoire" share one key).
+ *
+ * - Exact lookups walk one node per character: O(name length)
+ * - Every node keeps its best suggestions precomputed (ranked by the weight passed in at build
+ *   time), so prefix suggestions cost O(prefix length + limit)
+ * - Word starts inside a name are indexed for suggestions only ("kingdom" suggests "United Kingdom")
+ */
+public class CountryNameIndex {
+
+    /** Maximum number of suggestions precomputed per trie node */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private final Node root;
+    private final String[] countryNames;
+
+    private CountryNameIndex(Node root, String[] countryNames) {
+        this.root = root;
+        this.countryNames = countryNames;
+    }
+
+    /**
+     * Builds the index
+     *
+     * @param countryNames Canonical country names; array position is the country id
+     * @param weights      Ranking weight per country id (e.g. total cases), higher suggests first
+     * @param aliases      Alias -> canonical country name; aliases with unknown targets are ignored
+     */
+    public static CountryNameIndex build(String[] countryNames, long[] weights, Map<String, String> aliases) {
+        Node root = new Node();
+        Map<String, Integer> idsByKey = new TreeMap<>();
+
+        for (int id = 0; id < countryNames.length; id++) {
+            String key = normalize(countryNames[id]);
+            idsByKey.put(key, id);
+            insert(root, key, id, true);
+            insertWordStarts(root, key, id);
+        }
+
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            Integer id = idsByKey.get(normalize(alias.getValue()));
+            if (id == null) {
+                continue;
+            }
+            String key = normalize(alias.getKey());
+            insert(root, key, id, true);
+            insertWordStarts(root, key, id);
+        }
+
+        computeSuggestions(root, weights);
+        return new CountryNameIndex(root, countryNames.clone());
+    }
+
+    /**
+     * Normalizes a country name for indexing and lookups
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return NON_ALPHANUMERIC.matcher(stripped).replaceAll(" ").trim();
+    }
+
+    /**
+     * Resolves a name or alias to its country id
+     *
+     * @return Country id, or -1 if the name is unknown
+     */
+    public int resolve(String name) {
+        Node node = find(normalize(name));
+        return node == null ? -1 : node.countryId;
+    }
+
+    /**
+     * Returns canonical country names starting with the given prefix, best ranked first
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Node node = find(key);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        int count = Math.min(limit, node.suggestions.length);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(countryNames[node.suggestions[i]]);
+        }
+        return result;
+    }
+
+    public String getCountryName(int countryId) {
+        return countryNames[countryId];
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static void insert(Node root, String key, int countryId, boolean exact) {
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        if (exact && node.countryId < 0) {
+            node.countryId = countryId;
+        }
+        node.terminalIds.add(countryId);
+    }
+
+    private static void insertWordStarts(Node root, String key, int countryId) {
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            insert(root, key.substring(i + 1), countryId, false);
+        }
+    }
+
+    /**
+     * Post-order pass: each node keeps the top MAX_SUGGESTIONS distinct ids of its subtree
+     */
+    private static int[] computeSuggestions(Node node, long[] weights) {
+        List<Integer> candidates = new ArrayList<>(node.terminalIds);
+        for (Node child : node.children.values()) {
+            for (int id : computeSuggestions(child, weights)) {
+                candidates.add(id);
+            }
+        }
+
+        candidates.sort((a, b) -> {
+            int byWeight = Long.compare(weights[b], weights[a]);
+            return byWeight != 0 ? byWeight : Integer.compare(a, b);
+        });
+
+        int[] top = new int[Math.min(MAX_SUGGESTIONS, candidates.size())];
+        int size = 0;
+        for (int id : candidates) {
+            if (size == top.length) {
+                break;
+            }
+            if (!contains(top, size, id)) {
+                top[size++] = id;
+            }
+        }
+
+        node.suggestions = size == top.length ? top : Arrays.copyOf(top, size);
+        node.terminalIds = null; // only needed during build
+        return node.suggestions;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private List<Integer> terminalIds = new ArrayList<>(1);
+        private int countryId = -1;
+        private int[] suggestions;
+    }
+}
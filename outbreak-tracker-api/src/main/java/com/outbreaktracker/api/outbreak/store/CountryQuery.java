@@ -0,0 +1,328 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CountryPage;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed, validated query over the country listing: metric filters, sort, projection and keyset paging
+ *
+ * - Sort: by country name (default) or any CovidMetric, ties broken by country name;
+ *   rows without a value for the sort metric always come last. Names compare case-insensitively
+ *   ("Uganda" before "US"), with the exact name as tie-breaker so the order stays total
+ * - Filters: "metric op value" with op one of >, >=, <, <=, =, != (e.g. "newCases>1000");
+ *   rows without a value for a filtered metric never match
+ * - Cursor: opaque token holding the sort key of the last row returned; the next page starts
+ *   strictly after it, so pages stay consistent even if the dataset is refreshed in between
+ *
+ * Filtering and sorting read the primitive CountryRecords columns; CovidData is only
+ * materialized for the rows of the returned page.
+ */
+public class CountryQuery {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final Pattern FILTER_PATTERN = Pattern.compile("^\\s*([A-Za-z]+)\\s*(>=|<=|!=|>|<|=)\\s*(-?\\d+)\\s*$");
+    private static final List<String> NON_METRIC_FIELDS = Arrays.asList("country", "lastUpdated",
+            "averageNewCases7d", "averageNewCases14d", "weekOverWeekGrowth", "doublingTimeDays");
+
+    private final CovidMetric sortMetric;
+    private final boolean descending;
+    private final List<Filter> filters;
+    private final List<String> fields;
+    private final int limit;
+    private final Cursor after;
+
+    private CountryQuery(CovidMetric sortMetric, boolean descending, List<Filter> filters,
+                         List<String> fields, int limit, Cursor after) {
+        this.sortMetric = sortMetric;
+        this.descending = descending;
+        this.filters = filters;
+        this.fields = fields;
+        this.limit = limit;
+        this.after = after;
+    }
+
+    /**
+     * Parses request parameters into a query
+     *
+     * @param sort    Field to sort by: "country" or a metric name (null = country)
+     * @param order   "asc" or "desc" (null = asc)
+     * @param filters Filter expressions such as "newCases>1000" (null = none)
+     * @param fields  Comma-separated fields to return (null = all)
+     * @param limit   Page size, 1..MAX_LIMIT (null = DEFAULT_LIMIT)
+     * @param cursor  nextCursor from the previous page (null = first page)
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public static CountryQuery parse(String sort, String order, List<String> filters, String fields,
+                                     Integer limit, String cursor) {
+        CovidMetric sortMetric = sort == null || sort.isEmpty() || sort.equals("country")
+                ? null : CovidMetric.fromFieldName(sort);
+
+        boolean descending;
+        if (order == null || order.equalsIgnoreCase("asc")) {
+            descending = false;
+        } else if (order.equalsIgnoreCase("desc")) {
+            descending = true;
+        } else {
+            throw new IllegalArgumentException("order must be 'asc' or 'desc'");
+        }
+
+        List<Filter> parsedFilters = new ArrayList<>();
+        if (filters != null) {
+            for (String expression : filters) {
+                parsedFilters.add(Filter.parse(expression));
+            }
+        }
+
+        int pageSize = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Cursor after = cursor == null || cursor.isEmpty() ? null : decodeCursor(cursor, sortMetric, descending);
+        return new CountryQuery(sortMetric, descending, parsedFilters, parseFields(fields), pageSize, after);
+    }
+
+    /**
+     * Runs the query over a country list (converted to CountryRecords first)
+     *
+     * @param countries Countries to query (not modified)
+     * @param version   Dataset version the countries belong to (echoed in the page)
+     */
+    public CountryPage execute(List<CovidData> countries, long version) {
+        return execute(CountryRecords.of(countries), version);
+    }
+
+    /**
+     * Runs the query over country rows
+     * Filtering and the cursor check are a single linear pass; only matching rows after the
+     * cursor are sorted
+     *
+     * @param countries Country rows to query
+     * @param version   Dataset version the rows belong to (echoed in the page)
+     */
+    public CountryPage execute(CountryRecords countries, long version) {
+        int total = 0;
+        List<Integer> candidates = new ArrayList<>();
+        for (int id = 0; id < countries.size(); id++) {
+            if (!matches(countries, id)) {
+                continue;
+            }
+            total++;
+            if (after == null || compareToCursor(countries, id) > 0) {
+                candidates.add(id);
+            }
+        }
+
+        candidates.sort((a, b) -> compare(countries, a, b));
+        boolean hasMore = candidates.size() > limit;
+        List<Integer> page = hasMore ? candidates.subList(0, limit) : candidates;
+
+        List<Object> items = new ArrayList<>(page.size());
+        for (int id : page) {
+            items.add(fields.isEmpty() ? countries.toCovidData(id) : project(countries, id));
+        }
+
+        String nextCursor = hasMore ? encodeCursor(countries, page.get(page.size() - 1)) : null;
+        return new CountryPage(version, total, items, nextCursor);
+    }
+
+    private boolean matches(CountryRecords countries, int id) {
+        for (Filter filter : filters) {
+            if (!filter.matches(countries, id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Object> project(CountryRecords countries, int id) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (field.equals("country")) {
+                projected.put(field, countries.getCountry(id));
+            } else if (field.equals("lastUpdated")) {
+                projected.put(field, countries.getLastUpdated(id));
+            } else if (field.equals("averageNewCases7d")) {
+                projected.put(field, countries.getRollingOrNull(CountryRecords.AVERAGE_NEW_CASES_7D, id));
+            } else if (field.equals("averageNewCases14d")) {
+                projected.put(field, countries.getRollingOrNull(CountryRecords.AVERAGE_NEW_CASES_14D, id));
+            } else if (field.equals("weekOverWeekGrowth")) {
+                projected.put(field, countries.getRollingOrNull(CountryRecords.WEEK_OVER_WEEK_GROWTH, id));
+            } else if (field.equals("doublingTimeDays")) {
+                projected.put(field, countries.getRollingOrNull(CountryRecords.DOUBLING_TIME_DAYS, id));
+            } else {
+                projected.put(field, countries.getOrNull(CovidMetric.fromFieldName(field), id));
+            }
+        }
+        return projected;
+    }
+
+    private static List<String> parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> parsed = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!NON_METRIC_FIELDS.contains(name)) {
+                CovidMetric.fromFieldName(name);
+            }
+            if (!parsed.contains(name)) {
+                parsed.add(name);
+            }
+        }
+        return parsed;
+    }
+
+    private int compare(CountryRecords countries, int a, int b) {
+        if (sortMetric == null) {
+            return compare(false, 0L, countries.getCountry(a), false, 0L, countries.getCountry(b));
+        }
+        return compare(countries.has(sortMetric, a), countries.get(sortMetric, a), countries.getCountry(a),
+                countries.has(sortMetric, b), countries.get(sortMetric, b), countries.getCountry(b));
+    }
+
+    private int compareToCursor(CountryRecords countries, int id) {
+        boolean hasValue = sortMetric != null && countries.has(sortMetric, id);
+        long value = hasValue ? countries.get(sortMetric, id) : 0L;
+        return compare(hasValue, value, countries.getCountry(id),
+                after.value != null, after.value != null ? after.value : 0L, after.country);
+    }
+
+    /**
+     * Sort order: by name (reversed when descending) without a sort metric; otherwise by value
+     * in the requested order with absent values last, ties by name ascending
+     */
+    private int compare(boolean hasValue, long value, String country,
+                        boolean otherHasValue, long otherValue, String otherCountry) {
+        if (sortMetric == null) {
+            int byName = compareNames(country, otherCountry);
+            return descending ? -byName : byName;
+        }
+        if (hasValue != otherHasValue) {
+            return hasValue ? -1 : 1;
+        }
+        if (hasValue && value != otherValue) {
+            int byValue = Long.compare(value, otherValue);
+            return descending ? -byValue : byValue;
+        }
+        return compareNames(country, otherCountry);
+    }
+
+    private static int compareNames(String country, String otherCountry) {
+        int ignoringCase = String.CASE_INSENSITIVE_ORDER.compare(country, otherCountry);
+        return ignoringCase != 0 ? ignoringCase : country.compareTo(otherCountry);
+    }
+
+    /**
+     * Cursor layout (Base64 URL-safe): sortField|order|value|country
+     */
+    private String encodeCursor(CountryRecords countries, int lastId) {
+        String sortField = sortMetric == null ? "country" : sortMetric.getFieldName();
+        Long value = sortMetric == null ? null : countries.getOrNull(sortMetric, lastId);
+        String raw = sortField + "|" + (descending ? "desc" : "asc") + "|"
+                + (value == null ? "" : value) + "|" + countries.getCountry(lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor, CovidMetric sortMetric, boolean descending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        String sortField = sortMetric == null ? "country" : sortMetric.getFieldName();
+        if (!parts[0].equals(sortField) || !parts[1].equals(descending ? "desc" : "asc")) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort; restart from the first page");
+        }
+
+        Long value = null;
+        if (sortMetric != null && !parts[2].isEmpty()) {
+            try {
+                value = Long.parseLong(parts[2]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+        }
+        return new Cursor(parts[3], value);
+    }
+
+    /**
+     * Sort key of the last row of the previous page
+     */
+    private static final class Cursor {
+
+        private final String country;
+        private final Long value;
+
+        private Cursor(String country, Long value) {
+            this.country = country;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Single metric range condition, e.g. newCases > 1000
+     */
+    private static final class Filter {
+
+        private final CovidMetric metric;
+        private final String operator;
+        private final long operand;
+
+        private Filter(CovidMetric metric, String operator, long operand) {
+            this.metric = metric;
+            this.operator = operator;
+            this.operand = operand;
+        }
+
+        static Filter parse(String expression) {
+            Matcher matcher = FILTER_PATTERN.matcher(expression);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid filter '" + expression
+                        + "'. Expected <metric><op><number>, e.g. newCases>1000");
+            }
+            long operand;
+            try {
+                operand = Long.parseLong(matcher.group(3));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Filter value out of range: " + expression);
+            }
+            return new Filter(CovidMetric.fromFieldName(matcher.group(1)), matcher.group(2), operand);
+        }
+
+        boolean matches(CountryRecords countries, int id) {
+            if (!countries.has(metric, id)) {
+                return false;
+            }
+            long value = countries.get(metric, id);
+            switch (operator) {
+                case ">": return value > operand;
+                case ">=": return value >= operand;
+                case "<": return value < operand;
+                case "<=": return value <= operand;
+                case "=": return value == operand;
+                default: return value != operand;
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Primitive, columnar form of the country rows of one dataset
+ *
+ * Row i is country id i. Each CovidMetric and each rolling metric is one primitive column;
+ * a per-row bitmask records which values are present (bit = CovidMetric ordinal for the
+ * metrics, ROLLING_BIT + index for the rolling metrics). Absent values are stored as 0, so
+ * sums over a column need no null checks.
+ *
+ * The records are also the dataset's dictionary: the country column maps dense ids to names
+ * (rebuilt on every refresh, so ids are only meaningful within one dataset), and lastUpdated
+ * is stored as an index into one shared array of distinct date labels. matchIds() and
+ * translateId() carry id-keyed state from one dataset's ids to the next.
+ *
+ * The store, rankings, rollups and queries work on this form; CovidData objects are only
+ * materialized for API responses (toCovidData). Immutable once built.
+ */
+public final class CountryRecords {
+
+    public static final int AVERAGE_NEW_CASES_7D = 0;
+    public static final int AVERAGE_NEW_CASES_14D = 1;
+    public static final int WEEK_OVER_WEEK_GROWTH = 2;
+    public static final int DOUBLING_TIME_DAYS = 3;
+
+    static final int ROLLING_BIT = 16;
+    private static final int ROLLING_FIELDS = 4;
+
+    private final String[] countries;
+    private final String[] dateLabels;
+    private final int[] lastUpdated;
+    private final long[][] metrics;
+    private final double[][] rolling;
+    private final int[] presence;
+
+    private CountryRecords(String[] countries, String[] dateLabels, int[] lastUpdated, long[][] metrics,
+                           double[][] rolling, int[] presence) {
+        this.countries = countries;
+        this.dateLabels = dateLabels;
+        this.lastUpdated = lastUpdated;
+        this.metrics = metrics;
+        this.rolling = rolling;
+        this.presence = presence;
+    }
+
+    /**
+     * Converts country rows; list position becomes the country id
+     */
+    public static CountryRecords of(List<CovidData> rows) {
+        int size = rows.size();
+        String[] countries = new String[size];
+        Map<String, Integer> labelIndexes = new HashMap<>();
+        List<String> dateLabels = new ArrayList<>();
+        int[] lastUpdated = new int[size];
+        long[][] metrics = new long[CovidMetric.values().length][size];
+        double[][] rolling = new double[ROLLING_FIELDS][size];
+        int[] presence = new int[size];
+
+        for (int id = 0; id < size; id++) {
+            CovidData data = rows.get(id);
+            countries[id] = data.getCountry();
+            lastUpdated[id] = -1;
+            if (data.getLastUpdated() != null) {
+                Integer index = labelIndexes.get(data.getLastUpdated());
+                if (index == null) {
+                    index = dateLabels.size();
+                    labelIndexes.put(data.getLastUpdated(), index);
+                    dateLabels.add(data.getLastUpdated());
+                }
+                lastUpdated[id] = index;
+            }
+            int mask = 0;
+            for (CovidMetric metric : CovidMetric.values()) {
+                Long value = metric.extract(data);
+                if (value != null) {
+                    metrics[metric.ordinal()][id] = value;
+                    mask |= 1 << metric.ordinal();
+                }
+            }
+            Double[] rollingValues = {data.getAverageNewCases7d(), data.getAverageNewCases14d(),
+                    data.getWeekOverWeekGrowth(), data.getDoublingTimeDays()};
+            for (int field = 0; field < ROLLING_FIELDS; field++) {
+                if (rollingValues[field] != null) {
+                    rolling[field][id] = rollingValues[field];
+                    mask |= 1 << (ROLLING_BIT + field);
+                }
+            }
+            presence[id] = mask;
+        }
+        return new CountryRecords(countries, dateLabels.toArray(new String[0]), lastUpdated, metrics, rolling,
+                presence);
+    }
+
+    /**
+     * Returns the rows with the given ids, in that order (row i of the subset is ids[i])
+     */
+    public CountryRecords subset(int[] ids) {
+        String[] subsetCountries = new String[ids.length];
+        int[] subsetLastUpdated = new int[ids.length];
+        long[][] subsetMetrics = new long[metrics.length][ids.length];
+        double[][] subsetRolling = new double[ROLLING_FIELDS][ids.length];
+        int[] subsetPresence = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            int id = ids[i];
+            subsetCountries[i] = countries[id];
+            subsetLastUpdated[i] = lastUpdated[id];
+            for (int m = 0; m < metrics.length; m++) {
+                subsetMetrics[m][i] = metrics[m][id];
+            }
+            for (int field = 0; field < ROLLING_FIELDS; field++) {
+                subsetRolling[field][i] = rolling[field][id];
+            }
+            subsetPresence[i] = presence[id];
+        }
+        return new CountryRecords(subsetCountries, dateLabels, subsetLastUpdated, subsetMetrics, subsetRolling,
+                subsetPresence);
+    }
+
+    public int size() {
+        return countries.length;
+    }
+
+    public String getCountry(int id) {
+        return countries[id];
+    }
+
+    /**
+     * Id of a country by its exact name, or -1 if absent
+     * Rows must be sorted by name, as in snapshots and cross-sections
+     */
+    public int idOf(String country) {
+        int id = Arrays.binarySearch(countries, country);
+        return id < 0 ? -1 : id;
+    }
+
+    /**
+     * Id in this dataset of the country with id otherId in another dataset, or -1 if absent
+     * Returns otherId unchanged when both are the same dataset
+     */
+    public int translateId(CountryRecords other, int otherId) {
+        return other == this ? otherId : idOf(other.countries[otherId]);
+    }
+
+    /**
+     * For every id of this dataset, the id of the same country in a previous one (-1 if new)
+     * A single merge over both name columns; rows of both must be sorted by name
+     */
+    public int[] matchIds(CountryRecords previous) {
+        int[] previousIds = new int[countries.length];
+        int other = 0;
+        for (int id = 0; id < countries.length; id++) {
+            while (other < previous.countries.length && previous.countries[other].compareTo(countries[id]) < 0) {
+                other++;
+            }
+            boolean same = other < previous.countries.length && previous.countries[other].equals(countries[id]);
+            previousIds[id] = same ? other : -1;
+        }
+        return previousIds;
+    }
+
+    /**
+     * Date label of a row, or null if it has none
+     */
+    public String getLastUpdated(int id) {
+        return lastUpdated[id] < 0 ? null : dateLabels[lastUpdated[id]];
+    }
+
+    /**
+     * Index of a row's date label in getDateLabels(), or -1 if it has none
+     */
+    public int getLastUpdatedIndex(int id) {
+        return lastUpdated[id];
+    }
+
+    /**
+     * Distinct date labels of the rows, in first-seen order (usually a single label)
+     */
+    public List<String> getDateLabels() {
+        return Collections.unmodifiableList(Arrays.asList(dateLabels));
+    }
+
+    public boolean has(CovidMetric metric, int id) {
+        return (presence[id] & (1 << metric.ordinal())) != 0;
+    }
+
+    /**
+     * Metric value of a row, 0 if absent (check has() where absence matters)
+     */
+    public long get(CovidMetric metric, int id) {
+        return metrics[metric.ordinal()][id];
+    }
+
+    /**
+     * Metric value of a row, or null if absent
+     */
+    public Long getOrNull(CovidMetric metric, int id) {
+        return has(metric, id) ? metrics[metric.ordinal()][id] : null;
+    }
+
+    /**
+     * Sum of a metric over all rows (absent values count as 0)
+     */
+    public long sum(CovidMetric metric) {
+        long[] column = metrics[metric.ordinal()];
+        long total = 0;
+        for (long value : column) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * True if the rolling metric (AVERAGE_NEW_CASES_7D ... DOUBLING_TIME_DAYS) is present
+     */
+    public boolean hasRolling(int field, int id) {
+        return (presence[id] & (1 << (ROLLING_BIT + field))) != 0;
+    }
+
+    /**
+     * Rolling metric value of a row, 0 if absent
+     */
+    public double getRolling(int field, int id) {
+        return rolling[field][id];
+    }
+
+    /**
+     * Presence bitmask of a row
+     */
+    public int getPresence(int id) {
+        return presence[id];
+    }
+
+    /**
+     * True if row id of this dataset and row otherId of another hold the same values
+     * (country names are not compared)
+     */
+    public boolean sameValues(int id, CountryRecords other, int otherId) {
+        if (presence[id] != other.presence[otherId]) {
+            return false;
+        }
+        for (int m = 0; m < metrics.length; m++) {
+            if (metrics[m][id] != other.metrics[m][otherId]) {
+                return false;
+            }
+        }
+        for (int field = 0; field < ROLLING_FIELDS; field++) {
+            if (Double.compare(rolling[field][id], other.rolling[field][otherId]) != 0) {
+                return false;
+            }
+        }
+        return Objects.equals(getLastUpdated(id), other.getLastUpdated(otherId));
+    }
+
+    /**
+     * Materializes one row as the API model
+     */
+    public CovidData toCovidData(int id) {
+        CovidData data = new CovidData(countries[id],
+                getOrNull(CovidMetric.TOTAL_CASES, id),
+                getOrNull(CovidMetric.NEW_CASES, id),
+                getOrNull(CovidMetric.TOTAL_DEATHS, id),
+                getOrNull(CovidMetric.NEW_DEATHS, id),
+                getOrNull(CovidMetric.TOTAL_RECOVERED, id),
+                getOrNull(CovidMetric.ACTIVE_CASES, id),
+                getOrNull(CovidMetric.CRITICAL_CASES, id),
+                getLastUpdated(id));
+        data.setAverageNewCases7d(getRollingOrNull(AVERAGE_NEW_CASES_7D, id));
+        data.setAverageNewCases14d(getRollingOrNull(AVERAGE_NEW_CASES_14D, id));
+        data.setWeekOverWeekGrowth(getRollingOrNull(WEEK_OVER_WEEK_GROWTH, id));
+        data.setDoublingTimeDays(getRollingOrNull(DOUBLING_TIME_DAYS, id));
+        return data;
+    }
+
+    /**
+     * Materializes all rows as the API model, in id order
+     */
+    public List<CovidData> toCovidDataList() {
+        List<CovidData> rows = new ArrayList<>(countries.length);
+        for (int id = 0; id < countries.length; id++) {
+            rows.add(toCovidData(id));
+        }
+        return rows;
+    }
+
+    /**
+     * Rolling metric value of a row, or null if absent
+     */
+    public Double getRollingOrNull(int field, int id) {
+        return hasRolling(field, id) ? rolling[field][id] : null;
+    }
+}
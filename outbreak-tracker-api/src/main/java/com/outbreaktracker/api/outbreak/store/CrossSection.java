@@ -0,0 +1,98 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable view of all countries as of one past date, rebuilt from a snapshot's history
+ * Values are derived exactly as for the latest date: new cases relative to the previous
+ * date and the same estimated metrics (CsvParserUtil.createCovidData)
+ * Rows are kept as primitive CountryRecords; CovidData is materialized per request
+ */
+public class CrossSection {
+
+    private final long version;
+    private final LocalDate date;
+    private final CountryRecords records;
+    private final GlobalStats globalTotals;
+    private final CountryNameIndex nameIndex;
+
+    private CrossSection(long version, LocalDate date, CountryRecords records, GlobalStats globalTotals,
+                         CountryNameIndex nameIndex) {
+        this.version = version;
+        this.date = date;
+        this.records = records;
+        this.globalTotals = globalTotals;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Builds the cross-section for one day index of the snapshot's series
+     */
+    static CrossSection build(DatasetSnapshot snapshot, int day) {
+        DatasetSeries series = snapshot.getSeries();
+        String dateLabel = series.getDateLabel(day);
+
+        List<CovidData> countries = new ArrayList<>(snapshot.getCountryCount());
+        for (int id = 0; id < snapshot.getCountryCount(); id++) {
+            SeriesView cumulative = series.getCumulativeCases(id);
+            long latestCases = cumulative.get(day);
+            long previousCases = day == 0 ? 0L : cumulative.get(day - 1);
+            CovidData data = CsvParserUtil.createCovidData(snapshot.getCountryName(id),
+                    latestCases, previousCases, dateLabel);
+            RollingMetrics.apply(data, cumulative, day);
+            countries.add(data);
+        }
+
+        CountryRecords records = CountryRecords.of(countries);
+        GlobalStats globalTotals = DatasetSnapshot.sumGlobalTotals(records, snapshot.getLoadedAt(),
+                series.getGlobalCumulativeCases(), day);
+        return new CrossSection(snapshot.getVersion(), series.getDate(day), records, globalTotals,
+                snapshot.getNameIndex());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Materializes the countries as of the date, sorted by name (list position = country id of the snapshot)
+     */
+    public List<CovidData> getCountries() {
+        return Collections.unmodifiableList(records.toCovidDataList());
+    }
+
+    /**
+     * Country rows as of the date in primitive form, indexed by country id
+     */
+    public CountryRecords getRecords() {
+        return records;
+    }
+
+    /**
+     * Resolves a country name or alias (with the snapshot's name index) and returns its values
+     *
+     * @return CovidData as of the date, or null if the name is unknown
+     */
+    public CovidData findCountry(String name) {
+        int countryId = nameIndex.resolve(name);
+        return countryId < 0 ? null : records.toCovidData(countryId);
+    }
+
+    /**
+     * Worldwide totals as of the date; lastUpdated holds the date label
+     */
+    public GlobalStats getGlobalTotals() {
+        return globalTotals;
+    }
+}
@@ -0,0 +1,85 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of as-of-date cross-sections for the current snapshot
+ *
+ * Building a cross-section is one pass over the columnar history (O(countries)); the
+ * cache keeps the most recently requested dates so repeated "time travel" queries for
+ * the same date cost nothing. Entries are keyed by day index and dropped on every refresh.
+ */
+@Component
+public class CrossSectionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrossSectionCache.class);
+
+    private final OutbreakDataStore outbreakDataStore;
+    private final Map<Integer, CrossSection> entries;
+
+    public CrossSectionCache(OutbreakDataStore outbreakDataStore,
+                             @Value("${outbreak.asof.cache-size:64}") int maxEntries) {
+        this.outbreakDataStore = outbreakDataStore;
+        this.entries = new LinkedHashMap<Integer, CrossSection>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CrossSection> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns all countries as of the given date (the latest date on or before it)
+     *
+     * @throws IllegalArgumentException if the date is outside the stored history
+     * @throws DatasetNotLoadedException if the dataset is not loaded yet
+     */
+    public CrossSection get(LocalDate asOf) {
+        DatasetSnapshot snapshot = outbreakDataStore.getSnapshot();
+        if (snapshot == null) {
+            throw new DatasetNotLoadedException();
+        }
+
+        DatasetSeries series = snapshot.getSeries();
+        int day = series.indexOnOrBefore(asOf);
+        if (series.getDayCount() == 0 || day < 0 || asOf.isAfter(series.getDate(series.getDayCount() - 1))) {
+            throw new IllegalArgumentException(series.getDayCount() == 0
+                    ? "No history available for asOf queries"
+                    : "asOf must be between " + series.getDate(0) + " and " + series.getDate(series.getDayCount() - 1));
+        }
+
+        synchronized (entries) {
+            CrossSection cached = entries.get(day);
+            if (cached != null && cached.getVersion() == snapshot.getVersion()) {
+                return cached;
+            }
+        }
+
+        // Built outside the lock; concurrent misses for one date at worst build it twice
+        CrossSection crossSection = CrossSection.build(snapshot, day);
+        synchronized (entries) {
+            entries.put(day, crossSection);
+        }
+        logger.debug("Built cross-section for {} (dataset version {})", crossSection.getDate(), snapshot.getVersion());
+        return crossSection;
+    }
+
+    /**
+     * Drops all cross-sections of the previous snapshot
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
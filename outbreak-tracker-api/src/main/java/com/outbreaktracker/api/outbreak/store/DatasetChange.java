@@ -0,0 +1,47 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * One changelog entry: the countries that changed between two consecutive dataset versions
+ */
+public class DatasetChange {
+
+    private final long baseVersion;
+    private final long version;
+    private final Set<String> changedCountries;
+    private final Set<String> removedCountries;
+
+    DatasetChange(long baseVersion, long version, Set<String> changedCountries, Set<String> removedCountries) {
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.changedCountries = Collections.unmodifiableSet(changedCountries);
+        this.removedCountries = Collections.unmodifiableSet(removedCountries);
+    }
+
+    /**
+     * Version this entry was diffed against
+     */
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    /**
+     * Version produced by this change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Countries added or with any changed value
+     */
+    public Set<String> getChangedCountries() {
+        return changedCountries;
+    }
+
+    public Set<String> getRemovedCountries() {
+        return removedCountries;
+    }
+}
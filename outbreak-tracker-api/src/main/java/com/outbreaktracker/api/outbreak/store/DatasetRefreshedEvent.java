@@ -0,0 +1,27 @@
+package com.outbreaktracker.api.outbreak.store;
+
+/**
+ * Application event raised after OutbreakDataStore publishes a new snapshot
+ * Listeners run on the publishing thread, so they must hand off any slow work
+ */
+public class DatasetRefreshedEvent {
+
+    private final DatasetSnapshot snapshot;
+    private final DatasetChange change;
+
+    public DatasetRefreshedEvent(DatasetSnapshot snapshot, DatasetChange change) {
+        this.snapshot = snapshot;
+        this.change = change;
+    }
+
+    public DatasetSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Changes against the previous snapshot, or null for the initial load
+     */
+    public DatasetChange getChange() {
+        return change;
+    }
+}
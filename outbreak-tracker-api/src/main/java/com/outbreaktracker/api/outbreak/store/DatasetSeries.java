@@ -0,0 +1,124 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar daily history of one snapshot
+ *
+ * One primitive array per country (indexed by country id, then by day index) for cumulative
+ * and daily new confirmed cases, plus the same two arrays summed over all countries.
+ * Day index i refers to getDate(i) for every country, so a date range is a single index
+ * range shared by all series. Arrays are only exposed through read-only SeriesViews.
+ * Prefix hashes of the cumulative series are computed here, once per snapshot, so incremental
+ * models can check in O(1) that a refresh only appended days (SeriesView.startsWith).
+ */
+public class DatasetSeries {
+
+    private final LocalDate[] dates;
+    private final String[] dateLabels;
+    private final long[][] cumulativeCases;
+    private final long[][] cumulativePrefixHashes;
+    private final long[][] newCases;
+    private final long[] globalCumulativeCases;
+    private final long[] globalCumulativePrefixHashes;
+    private final long[] globalNewCases;
+
+    private DatasetSeries(LocalDate[] dates, String[] dateLabels, long[][] cumulativeCases, long[][] newCases,
+                          long[] globalCumulativeCases, long[] globalNewCases) {
+        this.dates = dates;
+        this.dateLabels = dateLabels;
+        this.cumulativeCases = cumulativeCases;
+        this.newCases = newCases;
+        this.globalCumulativeCases = globalCumulativeCases;
+        this.globalNewCases = globalNewCases;
+        this.cumulativePrefixHashes = new long[cumulativeCases.length][];
+        for (int id = 0; id < cumulativeCases.length; id++) {
+            cumulativePrefixHashes[id] = SeriesView.prefixHashes(cumulativeCases[id]);
+        }
+        this.globalCumulativePrefixHashes = SeriesView.prefixHashes(globalCumulativeCases);
+    }
+
+    /**
+     * Aligns the parsed history with the snapshot's country ids
+     *
+     * @param countries Countries sorted by name (list position = country id)
+     * @param history   Parsed history, or null when only the latest values are known
+     */
+    static DatasetSeries build(List<CovidData> countries, CaseHistory history) {
+        int dayCount = history == null ? 0 : history.getDayCount();
+        LocalDate[] dates = new LocalDate[dayCount];
+        String[] dateLabels = new String[dayCount];
+        for (int day = 0; day < dayCount; day++) {
+            dates[day] = history.getDate(day);
+            dateLabels[day] = history.getDateLabel(day);
+        }
+
+        long[][] cumulative = new long[countries.size()][];
+        long[][] daily = new long[countries.size()][];
+        long[] globalCumulative = new long[dayCount];
+        long[] globalDaily = new long[dayCount];
+
+        for (int id = 0; id < countries.size(); id++) {
+            long[] source = history == null ? null : history.getCumulativeCases().get(countries.get(id).getCountry());
+            long[] series = source == null ? new long[dayCount] : Arrays.copyOf(source, dayCount);
+            long[] deltas = new long[dayCount];
+            for (int day = 0; day < dayCount; day++) {
+                deltas[day] = day == 0 ? series[0] : series[day] - series[day - 1];
+                globalCumulative[day] += series[day];
+                globalDaily[day] += deltas[day];
+            }
+            cumulative[id] = series;
+            daily[id] = deltas;
+        }
+
+        return new DatasetSeries(dates, dateLabels, cumulative, daily, globalCumulative, globalDaily);
+    }
+
+    public int getDayCount() {
+        return dates.length;
+    }
+
+    public LocalDate getDate(int day) {
+        return dates[day];
+    }
+
+    public String getDateLabel(int day) {
+        return dateLabels[day];
+    }
+
+    /**
+     * Index of the first day on or after the given date (getDayCount() if none)
+     */
+    public int indexOnOrAfter(LocalDate date) {
+        int index = Arrays.binarySearch(dates, date);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Index of the last day on or before the given date (-1 if none)
+     */
+    public int indexOnOrBefore(LocalDate date) {
+        int index = Arrays.binarySearch(dates, date);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    public SeriesView getCumulativeCases(int countryId) {
+        return new SeriesView(cumulativeCases[countryId], cumulativePrefixHashes[countryId]);
+    }
+
+    public SeriesView getNewCases(int countryId) {
+        return new SeriesView(newCases[countryId]);
+    }
+
+    public SeriesView getGlobalCumulativeCases() {
+        return new SeriesView(globalCumulativeCases, globalCumulativePrefixHashes);
+    }
+
+    public SeriesView getGlobalNewCases() {
+        return new SeriesView(globalNewCases);
+    }
+}
@@ -0,0 +1,201 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory view of one loaded dataset
+ * Built once per refresh by OutbreakDataStore and swapped in atomically,
+ * so readers never see a half-built dataset
+ *
+ * Every snapshot carries a dataset version: max(previous + 1, publish time in epoch seconds),
+ * so it strictly increases per successful refresh and also across restarts
+ * Country rows are held as primitive CountryRecords; CovidData objects are only
+ * materialized for responses (getCountries, getCountry)
+ */
+public class DatasetSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final String eTag;
+    private final CountryRecords records;
+    private final CountryNameIndex nameIndex;
+    private final List<DatasetChange> changelog;
+    private final GlobalStats globalTotals;
+    private final MetricRankings rankings;
+    private final DatasetSeries series;
+    private final RangeAggregates rangeAggregates;
+    private final CalendarRollups calendarRollups;
+    private final RegionRollups regionRollups;
+
+    DatasetSnapshot(long version, Instant loadedAt, String instanceId,
+                    CountryRecords records, CountryNameIndex nameIndex, List<DatasetChange> changelog,
+                    DatasetSeries series, Map<String, String[]> regionsByCountry) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.eTag = "\"" + instanceId + "-" + version + "\"";
+        this.records = records;
+        this.nameIndex = nameIndex;
+        this.changelog = Collections.unmodifiableList(changelog);
+        this.globalTotals = sumGlobalTotals(records, loadedAt, series.getGlobalCumulativeCases(),
+                series.getDayCount() - 1);
+        this.rankings = MetricRankings.build(records);
+        this.series = series;
+        this.rangeAggregates = RangeAggregates.build(records.size(), series);
+        this.calendarRollups = CalendarRollups.build(series, records.size());
+        this.regionRollups = RegionRollups.build(records, series, regionsByCountry, loadedAt);
+    }
+
+    /**
+     * Dataset version: publish time in epoch seconds, strictly increasing per successful refresh
+     * (also across restarts, so versions held by clients never alias a newer dataset)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Time this snapshot was published (used for Last-Modified)
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Strong ETag for responses derived from this snapshot
+     * Includes the store's instance id, so two instances publishing in the same second
+     * (and thus with the same version) never share an ETag
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Materializes all countries sorted by name; list position is the country id
+     * Allocates a new list per call: internal code reads getRecords() instead
+     */
+    public List<CovidData> getCountries() {
+        return Collections.unmodifiableList(records.toCovidDataList());
+    }
+
+    /**
+     * Country rows in primitive form, indexed by country id
+     */
+    public CountryRecords getRecords() {
+        return records;
+    }
+
+    public int getCountryCount() {
+        return records.size();
+    }
+
+    /**
+     * Resolves a country name or alias to its country id
+     *
+     * @return Country id, or -1 if unknown
+     */
+    public int resolveCountryId(String name) {
+        return nameIndex.resolve(name);
+    }
+
+    /**
+     * Materializes the country for a resolved id
+     */
+    public CovidData getCountry(int countryId) {
+        return records.toCovidData(countryId);
+    }
+
+    /**
+     * Canonical name of the country for a resolved id
+     */
+    public String getCountryName(int countryId) {
+        return records.getCountry(countryId);
+    }
+
+    public CountryNameIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    /**
+     * Bounded changelog leading up to this version, oldest entry first
+     */
+    public List<DatasetChange> getChangelog() {
+        return changelog;
+    }
+
+    /**
+     * Worldwide totals summed once at build time
+     * lastUpdated holds the dataset's latest date label
+     */
+    public GlobalStats getGlobalTotals() {
+        return globalTotals;
+    }
+
+    /**
+     * Per-metric sorted indexes over the countries, built once per refresh
+     */
+    public MetricRankings getRankings() {
+        return rankings;
+    }
+
+    /**
+     * Daily history per country and globally, aligned with country ids
+     * Has zero days when the snapshot was published without history
+     */
+    public DatasetSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Prefix sums over the daily history for O(1) date-range totals
+     */
+    public RangeAggregates getRangeAggregates() {
+        return rangeAggregates;
+    }
+
+    /**
+     * Weekly and monthly aggregates of the daily history, rolled up once at build time
+     */
+    public CalendarRollups getCalendarRollups() {
+        return calendarRollups;
+    }
+
+    /**
+     * Continent and WHO region totals and series, rolled up once at build time
+     */
+    public RegionRollups getRegionRollups() {
+        return regionRollups;
+    }
+
+    /**
+     * Sums country rows into totals; absent values are stored as 0, so the loops have no null checks
+     * lastUpdated is the last row's date label (loadedAt if no row has one)
+     * Rolling metrics come from the rows' summed cumulative series as of day, not from their
+     * rounded per-country averages
+     */
+    static GlobalStats sumGlobalTotals(CountryRecords records, Instant loadedAt, SeriesView cumulative, int day) {
+        String lastUpdated = loadedAt.toString();
+        for (int id = records.size() - 1; id >= 0; id--) {
+            if (records.getLastUpdated(id) != null) {
+                lastUpdated = records.getLastUpdated(id);
+                break;
+            }
+        }
+
+        GlobalStats stats = new GlobalStats(
+                records.sum(CovidMetric.TOTAL_CASES),
+                records.sum(CovidMetric.TOTAL_DEATHS),
+                records.sum(CovidMetric.TOTAL_RECOVERED),
+                records.sum(CovidMetric.ACTIVE_CASES),
+                records.sum(CovidMetric.CRITICAL_CASES),
+                records.size(), lastUpdated);
+        RollingMetrics.applyTotals(stats, cumulative, day);
+        return stats;
+    }
+}
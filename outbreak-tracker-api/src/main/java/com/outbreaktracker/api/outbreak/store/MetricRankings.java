@@ -0,0 +1,113 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+
+import java.util.Arrays;
+
+/**
+ * Immutable per-metric sort orders over the countries of one snapshot
+ *
+ * For every CovidMetric it keeps:
+ * - two permutations of country ids sorted by value, highest first and lowest first (ties by
+ *   country name in both, countries without a value at the end)
+ * - the inverse: each country's competition rank (1 = highest, equal values share a rank,
+ *   0 = no value)
+ *
+ * Built once per refresh; top-N reads walk the permutation (O(N)) and rank lookups are O(1).
+ */
+public class MetricRankings {
+
+    private final int[][] descendingOrder;
+    private final int[][] ascendingOrder;
+    private final int[][] ranks;
+    private final int[] rankedCounts;
+
+    private MetricRankings(int[][] descendingOrder, int[][] ascendingOrder, int[][] ranks, int[] rankedCounts) {
+        this.descendingOrder = descendingOrder;
+        this.ascendingOrder = ascendingOrder;
+        this.ranks = ranks;
+        this.rankedCounts = rankedCounts;
+    }
+
+    /**
+     * Builds rankings for country rows sorted by name (row = country id)
+     */
+    public static MetricRankings build(CountryRecords countries) {
+        CovidMetric[] metrics = CovidMetric.values();
+        int[][] descendingOrder = new int[metrics.length][];
+        int[][] ascendingOrder = new int[metrics.length][];
+        int[][] ranks = new int[metrics.length][];
+        int[] rankedCounts = new int[metrics.length];
+
+        for (CovidMetric metric : metrics) {
+            int m = metric.ordinal();
+            long[] values = new long[countries.size()];
+            Integer[] ids = new Integer[countries.size()];
+            int ranked = 0;
+            for (int id = 0; id < countries.size(); id++) {
+                ids[id] = id;
+                if (countries.has(metric, id)) {
+                    values[id] = countries.get(metric, id);
+                    ranked++;
+                } else {
+                    values[id] = Long.MIN_VALUE;
+                }
+            }
+
+            // Ids are in name order, so the stable sort keeps ties alphabetical
+            Arrays.sort(ids, (a, b) -> Long.compare(values[b], values[a]));
+
+            int[] order = new int[ids.length];
+            int[] rank = new int[ids.length];
+            for (int position = 0; position < ids.length; position++) {
+                int id = ids[position];
+                order[position] = id;
+                if (position < ranked) {
+                    boolean tied = position > 0 && values[order[position - 1]] == values[id];
+                    rank[id] = tied ? rank[order[position - 1]] : position + 1;
+                }
+            }
+
+            // Reversing the ranked prefix would put ties in reverse name order, so sort again
+            Integer[] ascendingIds = Arrays.copyOf(ids, ranked);
+            Arrays.sort(ascendingIds, (a, b) -> values[a] != values[b] ? Long.compare(values[a], values[b]) : a - b);
+            int[] ascending = Arrays.copyOf(order, order.length);
+            for (int position = 0; position < ranked; position++) {
+                ascending[position] = ascendingIds[position];
+            }
+
+            descendingOrder[m] = order;
+            ascendingOrder[m] = ascending;
+            ranks[m] = rank;
+            rankedCounts[m] = ranked;
+        }
+
+        return new MetricRankings(descendingOrder, ascendingOrder, ranks, rankedCounts);
+    }
+
+    /**
+     * Number of countries with a value for the metric
+     */
+    public int getRankedCount(CovidMetric metric) {
+        return rankedCounts[metric.ordinal()];
+    }
+
+    /**
+     * Returns the ids of the first countries in ranking order
+     *
+     * @param descending true for highest first, false for lowest first
+     * @param limit      Maximum number of ids; countries without a value are never returned
+     */
+    public int[] top(CovidMetric metric, boolean descending, int limit) {
+        int[] order = descending ? descendingOrder[metric.ordinal()] : ascendingOrder[metric.ordinal()];
+        int count = Math.min(Math.max(limit, 0), rankedCounts[metric.ordinal()]);
+        return Arrays.copyOf(order, count);
+    }
+
+    /**
+     * Returns a country's rank for the metric (1 = highest), or 0 if it has no value
+     */
+    public int getRank(CovidMetric metric, int countryId) {
+        return ranks[metric.ordinal()][countryId];
+    }
+}
@@ -0,0 +1,288 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CountryDelta;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * In-memory store holding the current dataset snapshot
+ *
+ * Populated at startup (CovidDataInitializer) and on every refresh (CovidDataServiceImpl).
+ * Each publish builds a new immutable DatasetSnapshot with the next dataset version,
+ * then swaps it in with a single volatile write; readers always work against one
+ * consistent snapshot.
+ *
+ * A bounded changelog of per-country changes is carried from snapshot to snapshot
+ * so clients can sync only what changed since the version they hold.
+ * Every publish raises a DatasetRefreshedEvent for downstream consumers.
+ */
+@Component
+public class OutbreakDataStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutbreakDataStore.class);
+
+    @Value("${outbreak.aliases.file:classpath:data/country_aliases.tsv}")
+    private Resource aliasesResource;
+
+    @Value("${outbreak.regions.file:classpath:data/country_regions.tsv}")
+    private Resource regionsResource;
+
+    @Value("${outbreak.changelog.max-versions:30}")
+    private int changelogMaxVersions = 30;
+
+    /** Distinguishes this process's dataset versions from those of previous runs */
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile DatasetSnapshot snapshot;
+    private Map<String, String> aliases;
+    private Map<String, String[]> regions;
+
+    public OutbreakDataStore(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Builds a snapshot from country data without daily history and makes it current
+     *
+     * @param covidDataList Country-level data (one entry per country)
+     * @return The new current snapshot
+     */
+    public DatasetSnapshot publish(List<CovidData> covidDataList) {
+        return publish(covidDataList, null);
+    }
+
+    /**
+     * Builds a snapshot from freshly parsed country data and makes it current
+     *
+     * @param covidDataList Country-level data (one entry per country)
+     * @param history       Daily history the data was derived from (null if unavailable)
+     * @return The new current snapshot
+     */
+    public synchronized DatasetSnapshot publish(List<CovidData> covidDataList, CaseHistory history) {
+        List<CovidData> countries = new ArrayList<>(covidDataList);
+        countries.sort(Comparator.comparing(CovidData::getCountry));
+
+        CountryRecords records = CountryRecords.of(countries);
+        String[] countryNames = new String[records.size()];
+        long[] totalCases = new long[records.size()];
+        for (int id = 0; id < records.size(); id++) {
+            countryNames[id] = records.getCountry(id);
+            totalCases[id] = records.get(CovidMetric.TOTAL_CASES, id);
+        }
+
+        CountryNameIndex nameIndex = CountryNameIndex.build(countryNames, totalCases, loadAliases());
+        DatasetSnapshot previous = snapshot;
+        Instant now = Instant.now();
+        long version = previous == null
+                ? now.getEpochSecond()
+                : Math.max(previous.getVersion() + 1, now.getEpochSecond());
+
+        List<DatasetChange> changelog = new ArrayList<>();
+        DatasetChange change = null;
+        if (previous != null) {
+            change = diff(previous, records, version);
+            changelog.addAll(previous.getChangelog());
+            changelog.add(change);
+            while (changelog.size() > changelogMaxVersions) {
+                changelog.remove(0);
+            }
+        }
+
+        DatasetSeries series = DatasetSeries.build(countries, history);
+        DatasetSnapshot newSnapshot = new DatasetSnapshot(version, now, instanceId, records, nameIndex, changelog,
+                series, loadRegions());
+        snapshot = newSnapshot;
+
+        logger.info("Published in-memory dataset version {} with {} countries and {} days of history",
+                version, countries.size(), series.getDayCount());
+        eventPublisher.publishEvent(new DatasetRefreshedEvent(newSnapshot, change));
+        return newSnapshot;
+    }
+
+    /**
+     * Returns the current snapshot, or null before the first publish
+     */
+    public DatasetSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Returns countries changed or removed since the given dataset version
+     * Replays the changelog entries after sinceVersion; if sinceVersion is older than the
+     * retained changelog (or unknown), the result is a full-resync marker instead
+     *
+     * @param sinceVersion Dataset version the client currently holds
+     * @return Delta against the current snapshot
+     */
+    public CountryDelta getChangesSince(long sinceVersion) {
+        DatasetSnapshot current = snapshot;
+        if (current == null) {
+            return new CountryDelta(sinceVersion, 0, true, new ArrayList<>(), new ArrayList<>());
+        }
+        if (sinceVersion == current.getVersion()) {
+            return new CountryDelta(sinceVersion, sinceVersion, false, new ArrayList<>(), new ArrayList<>());
+        }
+
+        List<DatasetChange> changelog = current.getChangelog();
+        int start = -1;
+        for (int i = 0; i < changelog.size(); i++) {
+            if (changelog.get(i).getBaseVersion() == sinceVersion) {
+                start = i;
+                break;
+            }
+        }
+        if (start < 0) {
+            return new CountryDelta(sinceVersion, current.getVersion(), true, new ArrayList<>(), new ArrayList<>());
+        }
+
+        Set<String> changed = new TreeSet<>();
+        Set<String> removed = new TreeSet<>();
+        for (int i = start; i < changelog.size(); i++) {
+            DatasetChange change = changelog.get(i);
+            changed.removeAll(change.getRemovedCountries());
+            removed.addAll(change.getRemovedCountries());
+            removed.removeAll(change.getChangedCountries());
+            changed.addAll(change.getChangedCountries());
+        }
+
+        List<CovidData> changedRows = new ArrayList<>(changed.size());
+        for (String country : changed) {
+            int countryId = current.resolveCountryId(country);
+            if (countryId >= 0) {
+                changedRows.add(current.getCountry(countryId));
+            }
+        }
+        return new CountryDelta(sinceVersion, current.getVersion(), false, changedRows, new ArrayList<>(removed));
+    }
+
+    /**
+     * Returns the current dataset version, or 0 before the first publish
+     */
+    public long getVersion() {
+        DatasetSnapshot current = snapshot;
+        return current == null ? 0 : current.getVersion();
+    }
+
+    /**
+     * Prefixes a cache key with this instance's id and the current dataset version ("lq3k9x2a-42:all"),
+     * scoped like the ETag: entries cached under an older version are never served with a newer
+     * version's ETag, and two instances sharing Redis never read each other's entries
+     */
+    public String versionedKey(String key) {
+        return instanceId + "-" + getVersion() + ":" + key;
+    }
+
+    /**
+     * Resolves a user-supplied country name or alias to the canonical name used in the database
+     * e.g. "USA", "united states" and "us" all resolve to "US"
+     *
+     * @return Canonical country name, or null if unknown
+     */
+    public String resolveCountryName(String name) {
+        DatasetSnapshot current = snapshot;
+        if (current == null) {
+            return name;
+        }
+        int countryId = current.resolveCountryId(name);
+        return countryId < 0 ? null : current.getCountryName(countryId);
+    }
+
+    /**
+     * Cache key for a country lookup: the versioned, normalized name ("lq3k9x2a-42:brazil")
+     * Only the database fallback is cached, and aliases are not resolved before the first publish
+     */
+    public String cacheKey(String name) {
+        return versionedKey(CountryNameIndex.normalize(name));
+    }
+
+    /**
+     * Returns canonical country names matching a search prefix, highest total cases first
+     */
+    public List<String> suggestCountries(String prefix, int limit) {
+        DatasetSnapshot current = snapshot;
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        return current.getNameIndex().suggest(prefix, limit);
+    }
+
+    /**
+     * Compares the previous snapshot's rows with the new ones, value by value
+     * Rows are matched by id through one merge over the sorted name columns
+     */
+    private static DatasetChange diff(DatasetSnapshot previous, CountryRecords records, long version) {
+        CountryRecords before = previous.getRecords();
+        int[] previousIds = records.matchIds(before);
+        boolean[] kept = new boolean[before.size()];
+
+        Set<String> changed = new LinkedHashSet<>();
+        for (int id = 0; id < records.size(); id++) {
+            int previousId = previousIds[id];
+            if (previousId >= 0) {
+                kept[previousId] = true;
+            }
+            if (previousId < 0 || !records.sameValues(id, before, previousId)) {
+                changed.add(records.getCountry(id));
+            }
+        }
+        // Whatever was not matched is not in the new dataset
+        Set<String> removed = new LinkedHashSet<>();
+        for (int previousId = 0; previousId < before.size(); previousId++) {
+            if (!kept[previousId]) {
+                removed.add(before.getCountry(previousId));
+            }
+        }
+
+        logger.info("Dataset version {}: {} countries changed, {} removed", version, changed.size(), removed.size());
+        return new DatasetChange(previous.getVersion(), version, changed, removed);
+    }
+
+    private Map<String, String> loadAliases() {
+        if (aliases == null) {
+            try {
+                aliases = CsvParserUtil.parseCountryAliases(aliasesResource);
+                logger.info("Loaded {} country name aliases", aliases.size());
+            } catch (Exception e) {
+                logger.warn("Could not load country aliases, continuing without them: {}", e.getMessage());
+                aliases = Collections.emptyMap();
+            }
+        }
+        return aliases;
+    }
+
+    private Map<String, String[]> loadRegions() {
+        if (regions == null) {
+            try {
+                regions = CsvParserUtil.parseCountryRegions(regionsResource);
+                logger.info("Loaded regions for {} countries", regions.size());
+            } catch (Exception e) {
+                logger.warn("Could not load country regions, continuing without them: {}", e.getMessage());
+                regions = Collections.emptyMap();
+            }
+        }
+        return regions;
+    }
+}
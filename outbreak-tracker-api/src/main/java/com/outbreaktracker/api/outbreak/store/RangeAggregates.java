@@ -0,0 +1,94 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+
+
+/**
+ * Prefix sums of the daily values of every flow metric (newCases, newDeaths), per country and globally
+ *
+ * prefix[d] holds the sum of the first d daily values, so the sum over any day range
+ * [from, to] is prefix[to + 1] - prefix[from]: O(1) per query regardless of range length.
+ * Daily values are the ones an asOf query would return for that day (new cases relative to
+ * the previous day, estimated metrics from CsvParserUtil.createCovidData). Running totals and
+ * current levels such as totalCases or activeCases are not summable, so they have no prefix sums.
+ *
+ * Built once per refresh from the snapshot's DatasetSeries.
+ */
+public class RangeAggregates {
+
+    /** Country id used for the worldwide series */
+    public static final int GLOBAL = -1;
+
+    private final long[][][] countryPrefixSums;
+    private final long[][] globalPrefixSums;
+
+    private RangeAggregates(long[][][] countryPrefixSums, long[][] globalPrefixSums) {
+        this.countryPrefixSums = countryPrefixSums;
+        this.globalPrefixSums = globalPrefixSums;
+    }
+
+    /**
+     * Builds prefix sums for country ids 0..countryCount-1 of the series
+     */
+    static RangeAggregates build(int countryCount, DatasetSeries series) {
+        CovidMetric[] metrics = CovidMetric.values();
+        int dayCount = series.getDayCount();
+        long[][][] countryPrefixSums = new long[metrics.length][][];
+        long[][] globalPrefixSums = new long[metrics.length][];
+        for (CovidMetric metric : metrics) {
+            if (metric.isFlow()) {
+                countryPrefixSums[metric.ordinal()] = new long[countryCount][dayCount + 1];
+                globalPrefixSums[metric.ordinal()] = new long[dayCount + 1];
+            }
+        }
+
+        for (int id = 0; id < countryCount; id++) {
+            SeriesView cumulative = series.getCumulativeCases(id);
+            for (int day = 0; day < dayCount; day++) {
+                long previous = day == 0 ? 0L : cumulative.get(day - 1);
+                CovidData daily = CsvParserUtil.createCovidData(null, cumulative.get(day), previous, null);
+                for (CovidMetric metric : metrics) {
+                    if (!metric.isFlow()) {
+                        continue;
+                    }
+                    long[] prefix = countryPrefixSums[metric.ordinal()][id];
+                    Long value = metric.extract(daily);
+                    prefix[day + 1] = prefix[day] + (value != null ? value : 0L);
+                }
+            }
+        }
+
+        for (CovidMetric metric : metrics) {
+            long[] global = globalPrefixSums[metric.ordinal()];
+            if (global == null) {
+                continue;
+            }
+            for (long[] prefix : countryPrefixSums[metric.ordinal()]) {
+                for (int day = 1; day <= dayCount; day++) {
+                    global[day] += prefix[day];
+                }
+            }
+        }
+
+        return new RangeAggregates(countryPrefixSums, globalPrefixSums);
+    }
+
+    /**
+     * Sums a flow metric's daily values over [fromDay, toDay] (inclusive day indexes)
+     *
+     * @param countryId Country id, or GLOBAL for the worldwide total
+     * @throws IllegalArgumentException if the metric is not a flow metric
+     */
+    public long sum(CovidMetric metric, int countryId, int fromDay, int toDay) {
+        if (!metric.isFlow()) {
+            throw new IllegalArgumentException(metric.getFieldName() + " is a running total and cannot be summed"
+                    + " over a date range; use newCases or newDeaths");
+        }
+        long[] prefix = countryId == GLOBAL
+                ? globalPrefixSums[metric.ordinal()]
+                : countryPrefixSums[metric.ordinal()][countryId];
+        return prefix[toDay + 1] - prefix[fromDay];
+    }
+}
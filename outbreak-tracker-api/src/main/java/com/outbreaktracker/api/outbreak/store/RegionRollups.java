@@ -0,0 +1,199 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continent and WHO region totals and daily series of one snapshot
+ *
+ * Built once per refresh in a single pass over the country ids: each country's latest values
+ * join its regions' member lists and its cumulative array is added into theirs, so requests
+ * read precomputed rollups and never aggregate countries themselves.
+ *
+ * Countries missing from the region mapping (cruise ships, Olympic Games) belong to no region.
+ */
+public class RegionRollups {
+
+    public static final String CONTINENT = "continent";
+    public static final String WHO_REGION = "who";
+
+    private final List<Region> regions;
+    private final Map<String, Region> regionsByKey;
+    private final int unassignedCount;
+
+    private RegionRollups(List<Region> regions, Map<String, Region> regionsByKey, int unassignedCount) {
+        this.regions = regions;
+        this.regionsByKey = regionsByKey;
+        this.unassignedCount = unassignedCount;
+    }
+
+    /**
+     * Rolls countries up into the regions they are mapped to
+     *
+     * @param countries        Country rows sorted by name (row = country id)
+     * @param series           Daily history aligned with the country ids
+     * @param regionsByCountry Country name -> {continent, WHO region or null}
+     * @param loadedAt         Publish time, used as lastUpdated when no country has a date label
+     */
+    static RegionRollups build(CountryRecords countries, DatasetSeries series,
+                               Map<String, String[]> regionsByCountry, Instant loadedAt) {
+        int dayCount = series.getDayCount();
+        List<String> names = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<List<Integer>> members = new ArrayList<>();
+        List<long[]> cumulative = new ArrayList<>();
+        Map<String, Integer> idsByKey = new HashMap<>();
+        int unassigned = 0;
+
+        for (int id = 0; id < countries.size(); id++) {
+            String[] mapping = regionsByCountry.get(countries.getCountry(id));
+            if (mapping == null) {
+                unassigned++;
+                continue;
+            }
+            SeriesView countryCumulative = series.getCumulativeCases(id);
+            for (int column = 0; column < mapping.length; column++) {
+                String name = mapping[column];
+                if (name == null) {
+                    continue;
+                }
+                String type = column == 0 ? CONTINENT : WHO_REGION;
+                String key = CountryNameIndex.normalize(name);
+                Integer regionId = idsByKey.get(key);
+                if (regionId == null) {
+                    regionId = names.size();
+                    idsByKey.put(key, regionId);
+                    names.add(name);
+                    types.add(type);
+                    members.add(new ArrayList<>());
+                    cumulative.add(new long[dayCount]);
+                }
+                members.get(regionId).add(id);
+                long[] regionCumulative = cumulative.get(regionId);
+                for (int day = 0; day < dayCount; day++) {
+                    regionCumulative[day] += countryCumulative.get(day);
+                }
+            }
+        }
+
+        List<Region> regions = new ArrayList<>(names.size());
+        Map<String, Region> regionsByKey = new HashMap<>();
+        for (int regionId = 0; regionId < names.size(); regionId++) {
+            long[] regionCumulative = cumulative.get(regionId);
+            long[] regionDaily = new long[dayCount];
+            for (int day = 0; day < dayCount; day++) {
+                regionDaily[day] = day == 0 ? regionCumulative[0] : regionCumulative[day] - regionCumulative[day - 1];
+            }
+            List<Integer> memberIds = members.get(regionId);
+            int[] ids = new int[memberIds.size()];
+            List<String> memberNames = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = memberIds.get(i);
+                memberNames.add(countries.getCountry(ids[i]));
+            }
+            Region region = new Region(names.get(regionId), types.get(regionId),
+                    Collections.unmodifiableList(memberNames),
+                    DatasetSnapshot.sumGlobalTotals(countries.subset(ids), loadedAt,
+                            new SeriesView(regionCumulative), dayCount - 1),
+                    regionCumulative, regionDaily);
+            regions.add(region);
+            regionsByKey.put(CountryNameIndex.normalize(region.getName()), region);
+        }
+
+        // Continents first, then WHO regions, each alphabetically
+        regions.sort((a, b) -> a.getType().equals(b.getType())
+                ? a.getName().compareTo(b.getName())
+                : a.getType().equals(CONTINENT) ? -1 : 1);
+        return new RegionRollups(Collections.unmodifiableList(regions), regionsByKey, unassigned);
+    }
+
+    /**
+     * Returns all regions, continents first
+     */
+    public List<Region> getRegions() {
+        return regions;
+    }
+
+    /**
+     * Looks up a region by name, ignoring case and punctuation ("north-america", "EUR")
+     *
+     * @return Region, or null if unknown
+     */
+    public Region getRegion(String name) {
+        return name == null ? null : regionsByKey.get(CountryNameIndex.normalize(name));
+    }
+
+    /**
+     * Number of countries that belong to no region
+     */
+    public int getUnassignedCount() {
+        return unassignedCount;
+    }
+
+    /**
+     * Precomputed rollup of one region
+     */
+    public static final class Region {
+
+        private final String name;
+        private final String type;
+        private final List<String> countries;
+        private final GlobalStats totals;
+        private final long[] cumulativeCases;
+        private final long[] cumulativePrefixHashes;
+        private final long[] newCases;
+
+        Region(String name, String type, List<String> countries, GlobalStats totals,
+               long[] cumulativeCases, long[] newCases) {
+            this.name = name;
+            this.type = type;
+            this.countries = countries;
+            this.totals = totals;
+            this.cumulativeCases = cumulativeCases;
+            this.cumulativePrefixHashes = SeriesView.prefixHashes(cumulativeCases);
+            this.newCases = newCases;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * CONTINENT or WHO_REGION
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Member country names, sorted
+         */
+        public List<String> getCountries() {
+            return countries;
+        }
+
+        /**
+         * Latest totals summed over the members; affectedCountries is the member count
+         */
+        public GlobalStats getTotals() {
+            return totals;
+        }
+
+        /**
+         * Daily cumulative cases, aligned with the snapshot's day indexes
+         */
+        public SeriesView getCumulativeCases() {
+            return new SeriesView(cumulativeCases, cumulativePrefixHashes);
+        }
+
+        public SeriesView getNewCases() {
+            return new SeriesView(newCases);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+
+/**
+ * Rolling trend metrics derived from a cumulative case series
+ *
+ * A window's new cases are the difference of two cumulative values (cases reported in the
+ * last 7 days = C[d] - C[d - 7]), so every metric for a day costs O(1) no matter how long
+ * the history is, and appending a day never revisits earlier ones:
+ * - averageNewCases7d / 14d: new cases per day over the last 7 / 14 days
+ * - weekOverWeekGrowth: last 7 days' new cases relative to the 7 days before (0.25 = +25%)
+ * - doublingTimeDays: days for cumulative cases to double at the last week's growth rate
+ *
+ * Metrics whose window reaches before the first day are null; growth is null when the
+ * previous week had no new cases and doubling time is null when cases are not growing.
+ */
+public final class RollingMetrics {
+
+    public static final int WEEK = 7;
+
+    private static final double LN_2 = Math.log(2);
+
+    private RollingMetrics() {
+    }
+
+    /**
+     * Sets a country's rolling metrics as of a day of its cumulative series
+     */
+    public static void apply(CovidData target, SeriesView cumulative, int day) {
+        target.setAverageNewCases7d(averageNewCases(cumulative, day, WEEK));
+        target.setAverageNewCases14d(averageNewCases(cumulative, day, 2 * WEEK));
+        target.setWeekOverWeekGrowth(weekOverWeekGrowth(cumulative, day));
+        target.setDoublingTimeDays(doublingTimeDays(cumulative, day));
+    }
+
+    /**
+     * Sets a country's rolling metrics as of a day of a raw cumulative array
+     */
+    public static void apply(CovidData target, long[] cumulative, int day) {
+        apply(target, new SeriesView(cumulative), day);
+    }
+
+    /**
+     * Sets worldwide (or regional) rolling metrics as of a day of the summed cumulative series
+     * Leaves them null when the series has no days
+     */
+    public static void applyTotals(GlobalStats target, SeriesView cumulative, int day) {
+        if (day < 0) {
+            return;
+        }
+        target.setAverageNewCases7d(averageNewCases(cumulative, day, WEEK));
+        target.setAverageNewCases14d(averageNewCases(cumulative, day, 2 * WEEK));
+        target.setWeekOverWeekGrowth(weekOverWeekGrowth(cumulative, day));
+        target.setDoublingTimeDays(doublingTimeDays(cumulative, day));
+    }
+
+    /**
+     * New cases per day over the given number of days ending at day
+     */
+    public static Double averageNewCases(SeriesView cumulative, int day, int days) {
+        return average(cumulative.get(day), valueBefore(cumulative, day, days), days);
+    }
+
+    /**
+     * New cases in the week ending at day relative to the week before, minus one
+     */
+    public static Double weekOverWeekGrowth(SeriesView cumulative, int day) {
+        return weekOverWeekGrowth(cumulative.get(day), valueBefore(cumulative, day, WEEK),
+                valueBefore(cumulative, day, 2 * WEEK));
+    }
+
+    /**
+     * Days for cumulative cases to double at the growth rate of the week ending at day
+     */
+    public static Double doublingTimeDays(SeriesView cumulative, int day) {
+        return doublingTimeDays(cumulative.get(day), valueBefore(cumulative, day, WEEK));
+    }
+
+    private static Long valueBefore(SeriesView cumulative, int day, int days) {
+        return day >= days ? cumulative.get(day - days) : null;
+    }
+
+    private static Double average(long current, Long windowStart, int days) {
+        return windowStart == null ? null : (current - windowStart) / (double) days;
+    }
+
+    private static Double weekOverWeekGrowth(long current, Long weekAgo, Long twoWeeksAgo) {
+        if (weekAgo == null || twoWeeksAgo == null || weekAgo - twoWeeksAgo <= 0) {
+            return null;
+        }
+        return (current - weekAgo) / (double) (weekAgo - twoWeeksAgo) - 1.0;
+    }
+
+    private static Double doublingTimeDays(long current, Long weekAgo) {
+        if (weekAgo == null || weekAgo <= 0 || current <= weekAgo) {
+            return null;
+        }
+        return WEEK * LN_2 / Math.log((double) current / weekAgo);
+    }
+}
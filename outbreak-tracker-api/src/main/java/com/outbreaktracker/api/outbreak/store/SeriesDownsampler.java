@@ -0,0 +1,76 @@
+package com.outbreaktracker.api.outbreak.store;
+
+/**
+ * Shape-preserving downsampling for daily series
+ *
+ * Implements Largest-Triangle-Three-Buckets (LTTB): the first and last points are kept, the
+ * rest is split into equal buckets and from each bucket the point forming the largest triangle
+ * with the previously selected point and the next bucket's average is kept. Peaks and troughs
+ * survive, unlike with plain averaging or every-nth sampling.
+ *
+ * Returns indexes rather than values, so the same selection can be applied to parallel series
+ * (dates, cumulative cases, new cases) and every returned point is a real day.
+ */
+public final class SeriesDownsampler {
+
+    private SeriesDownsampler() {
+    }
+
+    /**
+     * Selects at most maxPoints indexes of the series, in ascending order
+     *
+     * @param values    Series to downsample (x = index)
+     * @param maxPoints Maximum number of points to keep (at least 3)
+     */
+    public static int[] largestTriangleThreeBuckets(SeriesView values, int maxPoints) {
+        int size = values.size();
+        if (maxPoints >= size || maxPoints < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[maxPoints];
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int previous = 0;
+        selected[0] = 0;
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // Average of the next bucket (the last point for the final bucket)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += i;
+                averageY += values.get(i);
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            // Point of the current bucket forming the largest triangle
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double previousY = values.get(previous);
+            double maxArea = -1;
+            int best = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((previous - averageX) * (values.get(i) - previousY)
+                        - (previous - i) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    best = i;
+                }
+            }
+
+            selected[bucket + 1] = best;
+            previous = best;
+        }
+
+        selected[maxPoints - 1] = size - 1;
+        return selected;
+    }
+}
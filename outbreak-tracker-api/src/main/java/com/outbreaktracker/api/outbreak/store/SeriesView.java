@@ -0,0 +1,135 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import java.util.Arrays;
+
+/**
+ * Read-only window over a primitive series array
+ * Slicing shares the underlying array instead of copying it
+ *
+ * Series stored in a snapshot also share the prefix hashes of their array, computed once at
+ * ingestion (prefixHashes()), so startsWith() is a single lookup for views starting at day 0.
+ */
+public final class SeriesView {
+
+    /** Prefix hash of zero values; extendHash() folds each value into it */
+    public static final long EMPTY_PREFIX_HASH = 0x6A09E667F3BCC908L;
+
+    private final long[] values;
+    /** prefixHashes[n] = hash of values[0..n), or null if not precomputed */
+    private final long[] prefixHashes;
+    private final int offset;
+    private final int length;
+
+    SeriesView(long[] values) {
+        this(values, null, 0, values.length);
+    }
+
+    /**
+     * View over a stored series and its precomputed prefixHashes(values)
+     */
+    SeriesView(long[] values, long[] prefixHashes) {
+        this(values, prefixHashes, 0, values.length);
+    }
+
+    /**
+     * Returns a view over a copy of the given values (the caller's array stays private to it)
+     */
+    public static SeriesView copyOf(long... values) {
+        long[] copy = values.clone();
+        return new SeriesView(copy, prefixHashes(copy));
+    }
+
+    private SeriesView(long[] values, long[] prefixHashes, int offset, int length) {
+        this.values = values;
+        this.prefixHashes = prefixHashes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Hash of every prefix of a series: element n is the hash of its first n values
+     * Computed once per stored series when a snapshot is built
+     */
+    static long[] prefixHashes(long[] values) {
+        long[] hashes = new long[values.length + 1];
+        hashes[0] = EMPTY_PREFIX_HASH;
+        for (int i = 0; i < values.length; i++) {
+            hashes[i + 1] = extendHash(hashes[i], values[i]);
+        }
+        return hashes;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for series of size " + length);
+        }
+        return values[offset + index];
+    }
+
+    /**
+     * Returns a view of [fromIndex, toIndex) without copying
+     */
+    public SeriesView slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid slice [" + fromIndex + ", " + toIndex + ") of size " + length);
+        }
+        // Prefix hashes only stay valid for views that still start at day 0
+        return new SeriesView(values, offset + fromIndex == 0 ? prefixHashes : null, offset + fromIndex,
+                toIndex - fromIndex);
+    }
+
+    /**
+     * Copies the values at the given indexes (relative to this view)
+     */
+    public long[] pick(int[] indexes) {
+        long[] picked = new long[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            picked[i] = get(indexes[i]);
+        }
+        return picked;
+    }
+
+    /**
+     * True if an incremental model that consumed the first consumedDays values of some series,
+     * folding them into consumedHash with extendHash(), can resume on this series: at least one
+     * day was consumed and this series still starts with every one of those values, not just the
+     * last one (earlier days can be revised by a refresh)
+     * O(1) for snapshot series, whose prefix hashes are computed at ingestion
+     */
+    public boolean startsWith(int consumedDays, long consumedHash) {
+        return consumedDays > 0 && consumedDays <= length && prefixHash(consumedDays) == consumedHash;
+    }
+
+    /**
+     * 64-bit hash of the first length values, equal to folding extendHash() over them
+     */
+    public long prefixHash(int length) {
+        if (length < 0 || length > this.length) {
+            throw new IndexOutOfBoundsException("Invalid prefix length " + length + " of size " + this.length);
+        }
+        if (prefixHashes != null) {
+            return prefixHashes[length];
+        }
+        long hash = EMPTY_PREFIX_HASH;
+        for (int i = 0; i < length; i++) {
+            hash = extendHash(hash, values[offset + i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Folds the next value of a series into its running prefix hash
+     */
+    public static long extendHash(long hash, long value) {
+        long mixed = (hash ^ value) * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOfRange(values, offset, offset + length);
+    }
+}
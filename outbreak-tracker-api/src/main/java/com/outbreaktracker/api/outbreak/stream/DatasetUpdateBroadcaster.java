@@ -0,0 +1,250 @@
+package com.outbreaktracker.api.outbreak.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outbreaktracker.api.outbreak.model.DatasetUpdateEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetChange;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans out dataset update events to Server-Sent Events subscribers
+ *
+ * Idle subscribers are plain SseEmitters on async requests: no servlet worker thread is held
+ * between events. Sending happens on a small dedicated pool; each subscriber has its own
+ * bounded queue drained by at most one pool thread at a time, so events stay in order.
+ *
+ * Limits:
+ * - max-subscribers: new connections beyond this are rejected (503)
+ * - max-pending: a subscriber whose queue grows beyond this is disconnected (slow consumer);
+ *   EventSource reconnects with Last-Event-ID and resumes from the current version
+ * - heartbeat: a comment line every heartbeat-ms keeps proxies from closing idle streams
+ */
+@Component
+public class DatasetUpdateBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetUpdateBroadcaster.class);
+
+    public static final String UPDATE_EVENT_NAME = "dataset-update";
+
+    private static final OutgoingEvent HEARTBEAT = new OutgoingEvent(null, null, null, "heartbeat");
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sendExecutor;
+    private final int maxSubscribers;
+    private final int maxPending;
+    private final long timeoutMillis;
+
+    private volatile DatasetSnapshot latestSnapshot;
+
+    public DatasetUpdateBroadcaster(ObjectMapper objectMapper,
+                                    @Value("${outbreak.stream.max-subscribers:5000}") int maxSubscribers,
+                                    @Value("${outbreak.stream.max-pending:16}") int maxPending,
+                                    @Value("${outbreak.stream.timeout-ms:1800000}") long timeoutMillis,
+                                    @Value("${outbreak.stream.send-threads:2}") int sendThreads) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPending = maxPending;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-fanout-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a new subscriber
+     *
+     * @param lastEventId Last-Event-ID sent by a reconnecting EventSource (last version it saw), may be null
+     * @return The emitter to return from the controller, or null if the subscriber limit is reached
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            logger.warn("Rejecting update stream subscriber: limit of {} reached", maxSubscribers);
+            return null;
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Tell the client which version it is on; a reconnecting client that missed a refresh
+        // learns about it immediately and can catch up via /api/countries?sinceVersion=N
+        DatasetSnapshot snapshot = latestSnapshot;
+        if (snapshot != null) {
+            boolean missedUpdate = lastEventId != null && !lastEventId.equals(Long.toString(snapshot.getVersion()));
+            if (lastEventId == null || missedUpdate) {
+                subscriber.enqueue(toOutgoingEvent(snapshot, null));
+            }
+        }
+        logger.debug("Update stream subscriber added ({} active)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Pushes an update to every subscriber when a refresh completes
+     * Only enqueues; the publishing (refresh) thread never writes to sockets
+     */
+    @EventListener
+    public void onDatasetRefreshed(DatasetRefreshedEvent event) {
+        latestSnapshot = event.getSnapshot();
+        if (event.getChange() == null || subscribers.isEmpty()) {
+            return;
+        }
+        OutgoingEvent update = toOutgoingEvent(event.getSnapshot(), event.getChange());
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(update);
+        }
+        logger.info("Queued dataset update {} for {} stream subscribers", event.getSnapshot().getVersion(), subscribers.size());
+    }
+
+    /**
+     * Sends a heartbeat comment to every subscriber
+     */
+    @Scheduled(fixedDelayString = "${outbreak.stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(HEARTBEAT);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * Creates the emitter of a new subscriber (overridden in tests to observe sends)
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private OutgoingEvent toOutgoingEvent(DatasetSnapshot snapshot, DatasetChange change) {
+        DatasetUpdateEvent payload = new DatasetUpdateEvent(
+                snapshot.getVersion(),
+                change != null ? new ArrayList<>(change.getChangedCountries()) : new ArrayList<>(),
+                change != null ? new ArrayList<>(change.getRemovedCountries()) : new ArrayList<>(),
+                snapshot.getGlobalTotals());
+        try {
+            return new OutgoingEvent(Long.toString(snapshot.getVersion()), UPDATE_EVENT_NAME,
+                    objectMapper.writeValueAsString(payload), null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dataset update event", e);
+        }
+    }
+
+    /**
+     * Immutable, pre-serialized event shared by all subscribers
+     * (SseEventBuilder instances are single-use, so one is built per send)
+     */
+    private static final class OutgoingEvent {
+
+        private final String id;
+        private final String name;
+        private final String json;
+        private final String comment;
+
+        private OutgoingEvent(String id, String name, String json, String comment) {
+            this.id = id;
+            this.name = name;
+            this.json = json;
+            this.comment = comment;
+        }
+
+        private SseEmitter.SseEventBuilder toBuilder() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(name).data(json);
+        }
+    }
+
+    /**
+     * One connected client: a bounded queue drained by at most one send thread at a time
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ConcurrentLinkedQueue<OutgoingEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void enqueue(OutgoingEvent event) {
+            if (pending.incrementAndGet() > maxPending) {
+                logger.info("Disconnecting slow update stream subscriber ({} events pending)", pending.get());
+                subscribers.remove(this);
+                queue.clear();
+                emitter.complete();
+                return;
+            }
+            queue.add(event);
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (Exception e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                OutgoingEvent event;
+                while ((event = queue.poll()) != null) {
+                    pending.decrementAndGet();
+                    emitter.send(event.toBuilder());
+                }
+            } catch (Exception e) {
+                logger.debug("Update stream subscriber dropped: {}", e.getMessage());
+                subscribers.remove(this);
+                queue.clear();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+                // Events enqueued after the last poll but before the flag reset still need a drain
+                if (!queue.isEmpty() && subscribers.contains(this) && draining.compareAndSet(false, true)) {
+                    sendExecutor.execute(this::drain);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.outbreaktracker.api.aiinsights.service.impl;
+
+import com.outbreaktracker.api.aiinsights.model.CovidInsightsResponse;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.service.CovidDataService;
+import com.outbreaktracker.api.outbreak.service.impl.ReproductionServiceImpl;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AiInsightsServiceImpl
+ * Tests that insights are still generated from the database while the dataset is not loaded
+ */
+class AiInsightsServiceImplTest {
+
+    private CovidDataService covidDataService;
+    private OutbreakDataStore outbreakDataStore;
+    private ReproductionServiceImpl reproductionService;
+    private AiInsightsServiceImpl aiInsightsService;
+
+    @BeforeEach
+    void setUp() {
+        covidDataService = mock(CovidDataService.class);
+        outbreakDataStore = mock(OutbreakDataStore.class);
+        reproductionService = new ReproductionServiceImpl(outbreakDataStore);
+        aiInsightsService = new AiInsightsServiceImpl(covidDataService, reproductionService, "", "gpt-4o-mini", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reproductionService.shutdown();
+    }
+
+    /**
+     * Tests that a country found in the database gets a rule-based assessment without an Rt
+     * estimate when no snapshot has been published (e.g. after a failed CSV parse)
+     */
+    @Test
+    void testInsightsWithoutLoadedDataset() {
+        CovidData brazil = new CovidData("Brazil", 37000000L, 1200L, 699000L, 10L, 36000000L, 301000L, 8000L, "3/9/23");
+        when(covidDataService.getCountryData("Brazil")).thenReturn(brazil);
+        when(outbreakDataStore.getSnapshot()).thenReturn(null);
+
+        assertNull(reproductionService.getLatestRt("Brazil"));
+
+        CovidInsightsResponse response = aiInsightsService.getCountryInsights("Brazil");
+
+        assertEquals("Brazil", response.getCountry());
+        assertEquals(37000000L, response.getTotalCases());
+        assertTrue(response.getOverallAssessment().startsWith("Brazil has experienced significant"));
+        assertFalse(response.getOverallAssessment().contains("further cases"));
+    }
+}
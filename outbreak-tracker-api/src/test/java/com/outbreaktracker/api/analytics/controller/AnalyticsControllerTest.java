@@ -0,0 +1,53 @@
+package com.outbreaktracker.api.analytics.controller;
+
+import com.outbreaktracker.api.analytics.model.AnalyticsDashboard;
+import com.outbreaktracker.api.analytics.service.AnalyticsAiService;
+import com.outbreaktracker.api.analytics.service.AnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AnalyticsController
+ * Tests HTTP endpoints by mocking the service layer
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTest {
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private AnalyticsAiService analyticsAiService;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    /**
+     * Tests GET /api/analytics/dashboard - returns the combined dashboard from one service call
+     */
+    @Test
+    void testGetDashboard() {
+        AnalyticsDashboard dashboard = new AnalyticsDashboard(5L, Collections.singletonMap("/api/global", 5L),
+                Collections.singletonMap("/api/global", 12.5), Collections.emptyMap(), Collections.emptyList(),
+                LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(analyticsService.getDashboard()).thenReturn(dashboard);
+
+        ResponseEntity<AnalyticsDashboard> response = analyticsController.getDashboard();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(dashboard, response.getBody());
+        verify(analyticsService, times(1)).getDashboard();
+        verifyNoMoreInteractions(analyticsService);
+    }
+}
@@ -0,0 +1,92 @@
+package com.outbreaktracker.api.analytics.service.impl;
+
+import com.outbreaktracker.api.analytics.model.AnalyticsDashboard;
+import com.outbreaktracker.api.analytics.model.ApiRequestMetric;
+import com.outbreaktracker.api.analytics.repository.AnalyticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AnalyticsServiceImpl
+ * Tests the combined dashboard and its reuse within one analytics window
+ */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+
+    @Mock
+    private AnalyticsRepository analyticsRepository;
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    private List<ApiRequestMetric> metrics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        metrics = new ArrayList<>(Arrays.asList(
+                new ApiRequestMetric("/api/global", "GET", 10L, 200, now.minusMinutes(2)),
+                new ApiRequestMetric("/api/global", "GET", 30L, 500, now.minusMinutes(1)),
+                new ApiRequestMetric("/api/countries", "GET", 20L, 200, now)));
+    }
+
+    /**
+     * Tests that one dashboard combines every statistic from a single collection read
+     */
+    @Test
+    void testDashboardCombinesStatistics() {
+        ReflectionTestUtils.setField(analyticsService, "dashboardWindowMs", Long.MAX_VALUE);
+        when(analyticsRepository.findAll()).thenReturn(metrics);
+
+        AnalyticsDashboard dashboard = analyticsService.getDashboard();
+
+        assertEquals(3L, dashboard.getTotalRequests());
+        assertEquals(2L, dashboard.getEndpointStats().get("/api/global"));
+        assertEquals(20.0, dashboard.getResponseTimeStats().get("/api/global"));
+        assertEquals(1L, dashboard.getSuccessErrorRates().get("/api/global").get("error"));
+        assertEquals("/api/countries", dashboard.getTimeline().get(0).get("endpoint"));
+        verify(analyticsRepository, times(1)).findAll();
+    }
+
+    /**
+     * Tests that requests within one analytics window share the dashboard
+     */
+    @Test
+    void testDashboardReusedWithinWindow() {
+        ReflectionTestUtils.setField(analyticsService, "dashboardWindowMs", Long.MAX_VALUE);
+        when(analyticsRepository.findAll()).thenReturn(metrics);
+
+        AnalyticsDashboard first = analyticsService.getDashboard();
+
+        assertSame(first, analyticsService.getDashboard());
+        verify(analyticsRepository, times(1)).findAll();
+    }
+
+    /**
+     * Tests that the dashboard is recomputed once its window has passed
+     */
+    @Test
+    void testDashboardRecomputedInNextWindow() throws InterruptedException {
+        ReflectionTestUtils.setField(analyticsService, "dashboardWindowMs", 1L);
+        when(analyticsRepository.findAll()).thenReturn(metrics);
+
+        AnalyticsDashboard first = analyticsService.getDashboard();
+        Thread.sleep(5);
+
+        assertNotSame(first, analyticsService.getDashboard());
+        verify(analyticsRepository, times(2)).findAll();
+    }
+}
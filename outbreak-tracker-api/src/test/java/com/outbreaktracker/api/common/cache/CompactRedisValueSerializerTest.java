@@ -0,0 +1,200 @@
+package com.outbreaktracker.api.common.cache;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CompactRedisValueSerializer
+ * Verifies round trips, legacy JSON compatibility, corrupt values and size against JSON
+ * (throughput is a benchmark-tagged test, excluded from the default build)
+ */
+class CompactRedisValueSerializerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactRedisValueSerializerTest.class);
+
+    private CompactRedisValueSerializer binarySerializer;
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private List<CovidData> countries;
+
+    @BeforeEach
+    void setUp() {
+        binarySerializer = new CompactRedisValueSerializer();
+        jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+        // ~200 countries, similar to the real dataset
+        countries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long totalCases = 1000L * (i + 1) * (i + 1);
+            CovidData data = new CovidData("Country " + i, totalCases, (long) i * 13, (long) (totalCases * 0.02),
+                    (long) (i * 13 * 0.02), (long) (totalCases * 0.90), (long) (totalCases * 0.08),
+                    (long) (totalCases * 0.01), "3/9/23");
+            countries.add(data);
+        }
+    }
+
+    /**
+     * Tests round trip of a single CovidData including null fields, rolling metrics and non-ASCII names
+     */
+    @Test
+    void testCovidDataRoundTrip() {
+        CovidData original = new CovidData("Côte d'Ivoire", 88000L, -5L, null, 0L, 79200L, null, 880L, "3/9/23");
+        original.setAverageNewCases7d(12.5);
+        original.setWeekOverWeekGrowth(-0.25);
+
+        CovidData result = (CovidData) binarySerializer.deserialize(binarySerializer.serialize(original));
+
+        assertEquals("Côte d'Ivoire", result.getCountry());
+        assertEquals(88000L, result.getTotalCases());
+        assertEquals(-5L, result.getNewCases());
+        assertNull(result.getTotalDeaths());
+        assertEquals(0L, result.getNewDeaths());
+        assertEquals(79200L, result.getTotalRecovered());
+        assertNull(result.getActiveCases());
+        assertEquals(880L, result.getCriticalCases());
+        assertEquals(12.5, result.getAverageNewCases7d());
+        assertNull(result.getAverageNewCases14d());
+        assertEquals(-0.25, result.getWeekOverWeekGrowth());
+        assertNull(result.getDoublingTimeDays());
+        assertEquals("3/9/23", result.getLastUpdated());
+    }
+
+    /**
+     * Tests round trip of the full country list
+     */
+    @Test
+    void testCovidDataListRoundTrip() {
+        @SuppressWarnings("unchecked")
+        List<CovidData> result = (List<CovidData>) binarySerializer.deserialize(binarySerializer.serialize(countries));
+
+        assertEquals(countries.size(), result.size());
+        for (int i = 0; i < countries.size(); i++) {
+            assertEquals(countries.get(i).toString(), result.get(i).toString());
+        }
+    }
+
+    /**
+     * Tests that a list with several and missing date labels keeps each row's label
+     */
+    @Test
+    void testCovidDataListWithMixedDateLabels() {
+        countries.get(1).setLastUpdated("3/8/23");
+        countries.get(2).setLastUpdated(null);
+
+        @SuppressWarnings("unchecked")
+        List<CovidData> result = (List<CovidData>) binarySerializer.deserialize(binarySerializer.serialize(countries));
+
+        assertEquals("3/9/23", result.get(0).getLastUpdated());
+        assertEquals("3/8/23", result.get(1).getLastUpdated());
+        assertNull(result.get(2).getLastUpdated());
+        assertSame(result.get(0).getLastUpdated(), result.get(3).getLastUpdated());
+    }
+
+    /**
+     * Tests round trip of GlobalStats
+     */
+    @Test
+    void testGlobalStatsRoundTrip() {
+        GlobalStats original = new GlobalStats(676514131L, 13530282L, 656087267L, 6896582L, null, 201,
+                "March 9, 2023, 1:00 PM UTC");
+
+        GlobalStats result = (GlobalStats) binarySerializer.deserialize(binarySerializer.serialize(original));
+
+        assertEquals(original.toString(), result.toString());
+    }
+
+    /**
+     * Tests that entries written by the JSON serializer are still readable
+     */
+    @Test
+    void testReadsLegacyJsonValues() {
+        byte[] legacy = jsonSerializer.serialize(countries.get(5));
+
+        CovidData result = (CovidData) binarySerializer.deserialize(legacy);
+
+        assertEquals("Country 5", result.getCountry());
+        assertEquals(countries.get(5).getTotalCases(), result.getTotalCases());
+    }
+
+    /**
+     * Tests that an unknown format version is treated as a cache miss
+     */
+    @Test
+    void testUnknownFormatVersionIsCacheMiss() {
+        byte[] bytes = binarySerializer.serialize(countries.get(0));
+        bytes[1] = (byte) (CompactRedisValueSerializer.FORMAT_VERSION + 1);
+
+        assertNull(binarySerializer.deserialize(bytes));
+    }
+
+    /**
+     * Tests that a corrupt list size is treated as a cache miss instead of allocating it
+     */
+    @Test
+    void testCorruptListSizeIsCacheMiss() {
+        byte[] bytes = binarySerializer.serialize(countries);
+        // Replace the two-byte element count (200) with Long.MAX_VALUE
+        byte[] corrupt = new byte[bytes.length + 7];
+        System.arraycopy(bytes, 0, corrupt, 0, 3);
+        for (int i = 3; i < 11; i++) {
+            corrupt[i] = (byte) 0xFF;
+        }
+        corrupt[11] = 0x7F;
+        System.arraycopy(bytes, 5, corrupt, 12, bytes.length - 5);
+
+        assertNull(binarySerializer.deserialize(corrupt));
+    }
+
+    /**
+     * Tests that the binary layout is substantially smaller than JSON with type metadata
+     */
+    @Test
+    void testSizeAgainstJson() {
+        byte[] binary = binarySerializer.serialize(countries);
+        byte[] json = jsonSerializer.serialize(countries);
+
+        assertTrue(binary.length * 3 < json.length,
+                "binary=" + binary.length + " bytes, json=" + json.length + " bytes");
+    }
+
+    /**
+     * Compares encode/decode throughput against GenericJackson2JsonRedisSerializer
+     * Benchmark only: run with mvn test -Pbenchmark
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmarkThroughputAgainstJson() {
+        int iterations = 2000;
+        long binaryNanos = timeRoundTrips(binarySerializer, iterations);
+        long jsonNanos = timeRoundTrips(jsonSerializer, iterations);
+
+        logger.info("List<CovidData> x{}: binary {} us/round trip, json {} us/round trip", countries.size(),
+                String.format("%.1f", binaryNanos / 1000.0 / iterations),
+                String.format("%.1f", jsonNanos / 1000.0 / iterations));
+        assertTrue(binaryNanos < jsonNanos, "binary=" + binaryNanos + " ns, json=" + jsonNanos + " ns");
+    }
+
+    private long timeRoundTrips(RedisSerializer<Object> serializer,
+                                int iterations) {
+        // Warm up before measuring
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(serializer.serialize(countries));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(serializer.serialize(countries));
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,145 @@
+package com.outbreaktracker.api.common.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outbreaktracker.api.aiinsights.model.CovidInsightsResponse;
+import com.outbreaktracker.api.aiinsights.model.InsightCard;
+import com.outbreaktracker.api.aiinsights.model.PrecautionGroup;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BinaryFormatConfig
+ * Verifies Smile / CBOR round trips and payload size against JSON
+ * The encode/decode timing is a benchmark, run with: mvn test -Pbenchmark
+ */
+class BinaryFormatConfigTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinaryFormatConfigTest.class);
+
+    private static final TypeReference<List<CovidData>> COUNTRY_LIST = new TypeReference<List<CovidData>>() { };
+
+    private ObjectMapper json;
+    private ObjectMapper smile;
+    private ObjectMapper cbor;
+    private List<CovidData> countries;
+    private CovidInsightsResponse insights;
+
+    @BeforeEach
+    void setUp() {
+        BinaryFormatConfig config = new BinaryFormatConfig();
+        json = Jackson2ObjectMapperBuilder.json().build();
+        smile = config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+        cbor = config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+
+        // ~200 countries, similar to the real dataset
+        countries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long totalCases = 1000L * (i + 1) * (i + 1);
+            CovidData data = new CovidData("Country " + i, totalCases, (long) i * 13, (long) (totalCases * 0.02),
+                    (long) (i * 13 * 0.02), (long) (totalCases * 0.90), (long) (totalCases * 0.08),
+                    (long) (totalCases * 0.01), "3/9/23");
+            data.setAverageNewCases7d(i * 12.5);
+            data.setWeekOverWeekGrowth(i % 2 == 0 ? -0.125 : null);
+            countries.add(data);
+        }
+
+        insights = new CovidInsightsResponse();
+        insights.setCountry("Côte d'Ivoire");
+        insights.setTotalCases(88000L);
+        insights.setNewCases(14L);
+        insights.setOverallAssessment("Cases are declining with an estimated Rt of 0.82. Continue routine precautions.");
+        insights.setRecommendations(Arrays.asList(
+                new InsightCard("📉", "Declining", "Transmission is slowing", "success")));
+        insights.setTargetedPrecautions(Arrays.asList(
+                new PrecautionGroup("👵 Elderly (65+)", Arrays.asList("Keep boosters current", "Prefer ventilated spaces")),
+                new PrecautionGroup("🎒 Students", Arrays.asList("Stay home when sick", "Wash hands often"))));
+        insights.setGeneratedAt("March 9, 2023, 1:00 PM");
+    }
+
+    /**
+     * Tests that both binary formats round-trip the country list and insights unchanged
+     */
+    @Test
+    void testRoundTrips() throws IOException {
+        for (ObjectMapper mapper : Arrays.asList(smile, cbor)) {
+            List<CovidData> result = mapper.readValue(mapper.writeValueAsBytes(countries), COUNTRY_LIST);
+            assertEquals(countries.size(), result.size());
+            for (int i = 0; i < countries.size(); i++) {
+                assertEquals(countries.get(i).toString(), result.get(i).toString());
+            }
+
+            CovidInsightsResponse insightsResult = mapper.readValue(mapper.writeValueAsBytes(insights),
+                    CovidInsightsResponse.class);
+            assertEquals(insights.toString(), insightsResult.toString());
+        }
+    }
+
+    /**
+     * Tests that Smile and CBOR payloads are smaller than JSON
+     */
+    @Test
+    void testSizeAgainstJson() throws IOException {
+        byte[] jsonCountries = json.writeValueAsBytes(countries);
+        byte[] smileCountries = smile.writeValueAsBytes(countries);
+        byte[] cborCountries = cbor.writeValueAsBytes(countries);
+
+        // Smile back-references repeated field names, so the list shrinks substantially
+        assertTrue(smileCountries.length * 2 < jsonCountries.length,
+                "smile=" + smileCountries.length + " bytes, json=" + jsonCountries.length + " bytes");
+        assertTrue(cborCountries.length < jsonCountries.length,
+                "cbor=" + cborCountries.length + " bytes, json=" + jsonCountries.length + " bytes");
+    }
+
+    /**
+     * Compares encode/decode time of Smile and CBOR against JSON
+     */
+    @Test
+    @Tag("benchmark")
+    void benchmarkThroughputAgainstJson() throws IOException {
+        int iterations = 1000;
+        report("List<CovidData> x" + countries.size(), countries, COUNTRY_LIST, iterations);
+        report("CovidInsightsResponse", insights, new TypeReference<CovidInsightsResponse>() { }, iterations * 10);
+    }
+
+    private <T> void report(String label, T value, TypeReference<T> type, int iterations) throws IOException {
+        StringBuilder line = new StringBuilder(label).append(':');
+        for (ObjectMapper mapper : Arrays.asList(json, smile, cbor)) {
+            byte[] bytes = mapper.writeValueAsBytes(value);
+            long encodeNanos = time(() -> mapper.writeValueAsBytes(value), iterations);
+            long decodeNanos = time(() -> mapper.readValue(bytes, type), iterations);
+            line.append(String.format(" %s=%d bytes (encode %.1f us, decode %.1f us)",
+                    mapper.getFactory().getFormatName(), bytes.length,
+                    encodeNanos / 1000.0 / iterations, decodeNanos / 1000.0 / iterations));
+        }
+        logger.info("{}", line);
+    }
+
+    private static long time(IoAction action, int iterations) throws IOException {
+        // Warm up before measuring
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            action.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private interface IoAction {
+        Object run() throws IOException;
+    }
+}
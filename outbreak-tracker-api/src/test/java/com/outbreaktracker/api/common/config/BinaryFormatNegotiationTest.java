@@ -0,0 +1,99 @@
+package com.outbreaktracker.api.common.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.outbreaktracker.api.analytics.repository.AnalyticsRepository;
+import com.outbreaktracker.api.outbreak.controller.CovidDataController;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.service.CovidDataService;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Web tests for BinaryFormatConfig
+ * Tests content negotiation on /api/countries through the full MVC stack and Boot's converter order
+ */
+@WebMvcTest(controllers = CovidDataController.class)
+@Import(BinaryFormatConfig.class)
+class BinaryFormatNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private CovidDataService covidDataService;
+
+    @MockBean
+    private OutbreakDataStore outbreakDataStore;
+
+    @MockBean
+    private AnalyticsRepository analyticsRepository;
+
+    private List<CovidData> countries;
+
+    @BeforeEach
+    void setUp() {
+        countries = Arrays.asList(
+                new CovidData("Côte d'Ivoire", 88000L, 14L, 830L, 0L, 87000L, 170L, 2L, "3/9/23"),
+                new CovidData("India", 44690738L, 334L, 530779L, 2L, 44155000L, 4959L, null, "3/9/23"));
+        when(covidDataService.getAllCountriesData()).thenReturn(countries);
+    }
+
+    /**
+     * Tests that Accept: application/x-jackson-smile is answered with a Smile body
+     */
+    @Test
+    void testSmileAcceptReturnsSmile() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/countries").accept(SMILE))
+                .andReturn().getResponse();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(SMILE.isCompatibleWith(MediaType.parseMediaType(response.getContentType())));
+        byte[] body = response.getContentAsByteArray();
+        // Smile documents start with the ":)\n" header
+        assertEquals(':', body[0]);
+        assertEquals(')', body[1]);
+        assertEquals('\n', body[2]);
+
+        List<CovidData> result = new SmileMapper().readValue(body, new TypeReference<List<CovidData>>() { });
+        assertEquals(countries.toString(), result.toString());
+    }
+
+    /**
+     * Tests that a wildcard Accept header is still answered with JSON
+     */
+    @Test
+    void testWildcardAcceptReturnsJson() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/countries")
+                        .header(HttpHeaders.ACCEPT, "*/*"))
+                .andReturn().getResponse();
+
+        assertEquals(200, response.getStatus());
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType())));
+        List<CovidData> result = objectMapper.readValue(response.getContentAsByteArray(),
+                new TypeReference<List<CovidData>>() { });
+        assertEquals(countries.toString(), result.toString());
+    }
+}
@@ -0,0 +1,34 @@
+package com.outbreaktracker.api.common.util;
+
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvParserUtil
+ * Tests parsing of the tab-separated history file into per-country series
+ */
+class CsvParserUtilTest {
+
+    /**
+     * Tests that extra non-date columns are skipped instead of failing the whole file
+     */
+    @Test
+    void testNonDateColumnsAreSkipped() throws Exception {
+        String csv = "Province/State\tCountry/Region\tLat\tLong\tCombined_Key\t3/8/23\tPopulation\t3/9/23\n"
+                + "Ontario\tCanada\t51.2\t-85.3\tOntario, Canada\t100\t14000000\t130\n"
+                + "Quebec\tCanada\t52.9\t-73.5\tQuebec, Canada\t50\t8500000\t60\n";
+
+        CaseHistory history = CsvParserUtil.parseCaseHistory(
+                new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, history.getDayCount());
+        assertEquals(LocalDate.of(2023, 3, 9), history.getDate(1));
+        assertArrayEquals(new long[] {150L, 190L}, history.getCumulativeCases().get("Canada"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.outbreaktracker.api.outbreak.alert;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.AlertReport;
+import com.outbreaktracker.api.outbreak.model.OutbreakAlert;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnomalyDetector
+ * Tests that sustained breakouts are flagged and that appending a day gives the same result
+ * as a full recompute
+ */
+class AnomalyDetectorTest {
+
+    private ForkJoinPool pool;
+    private AnomalyDetector anomalyDetector;
+    private OutbreakDataStore outbreakDataStore;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        anomalyDetector = new AnomalyDetector(0.2, 5.0, 10, pool);
+        outbreakDataStore = new OutbreakDataStore(event -> { });
+    }
+
+    @AfterEach
+    void tearDown() {
+        anomalyDetector.shutdown();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Tests that a country jumping from ~100 to 400 new cases a day is flagged and a flat one is not
+     */
+    @Test
+    void testFlagsSustainedBreakout() {
+        AlertReport report = anomalyDetector.detect(publish(40));
+
+        assertEquals(2, report.getEvaluatedCountries());
+        assertEquals(1, report.getAlerts().size());
+        OutbreakAlert alert = report.getAlerts().get(0);
+        assertEquals("Chile", alert.getCountry());
+        assertEquals(400L, alert.getNewCases());
+        assertEquals(day(35).toString(), alert.getSince());
+        assertTrue(alert.getScore() > 5.0);
+    }
+
+    /**
+     * Tests that resuming from the previous run matches scoring the whole history from scratch
+     */
+    @Test
+    void testAppendedDayMatchesFullRecompute() {
+        anomalyDetector.detect(publish(37));
+        AlertReport incremental = anomalyDetector.detect(publish(38));
+
+        AnomalyDetector fresh = new AnomalyDetector(0.2, 5.0, 10, pool);
+        try {
+            AlertReport full = fresh.detect(outbreakDataStore.getSnapshot());
+            assertEquals(full.getAlerts().size(), incremental.getAlerts().size());
+            for (int i = 0; i < full.getAlerts().size(); i++) {
+                assertEquals(full.getAlerts().get(i).toString(), incremental.getAlerts().get(i).toString());
+            }
+        } finally {
+            fresh.shutdown();
+        }
+    }
+
+    /**
+     * Tests that a country's state is only resumed when every consumed day is unchanged
+     */
+    @Test
+    void testResumeRequiresUnchangedPrefix() {
+        CountryDetector detector = new CountryDetector(0.2);
+        detector.advance(SeriesView.copyOf(0, 100, 210, 300, 410));
+
+        assertTrue(detector.canResume(SeriesView.copyOf(0, 100, 210, 300, 410, 500)));
+        assertFalse(detector.canResume(SeriesView.copyOf(0, 100, 210, 300, 411, 500)));
+        assertFalse(detector.canResume(SeriesView.copyOf(0, 100, 200, 300, 410, 500)));
+        assertFalse(detector.canResume(SeriesView.copyOf(0, 100, 210, 300)));
+    }
+
+    /**
+     * Publishes the first dayCount days: Chile has ~100 new cases a day until day 35, then 400;
+     * Peru stays at ~100 throughout
+     */
+    private DatasetSnapshot publish(int dayCount) {
+        LocalDate[] dates = new LocalDate[dayCount];
+        String[] labels = new String[dayCount];
+        long[] chile = new long[dayCount];
+        long[] peru = new long[dayCount];
+        for (int d = 0; d < dayCount; d++) {
+            dates[d] = day(d);
+            labels[d] = dates[d].toString();
+            long noise = (d % 3) * 10L - 10L;
+            chile[d] = (d == 0 ? 0 : chile[d - 1]) + (d < 35 ? 100 + noise : 400);
+            peru[d] = (d == 0 ? 0 : peru[d - 1]) + 100 - noise;
+        }
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Chile", chile);
+        cumulative.put("Peru", peru);
+        CaseHistory history = new CaseHistory(dates, labels, cumulative);
+        outbreakDataStore.publish(CsvParserUtil.toCovidData(history), history);
+        return outbreakDataStore.getSnapshot();
+    }
+
+    private static LocalDate day(int index) {
+        return LocalDate.of(2021, 1, 1).plusDays(index);
+    }
+}
@@ -0,0 +1,31 @@
+package com.outbreaktracker.api.outbreak.controller;
+
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AnalyticsResponses
+ * Tests that results of an older dataset version are not storable under the current ETag
+ */
+class AnalyticsResponsesTest {
+
+    /**
+     * Tests that only results behind the current version get Cache-Control: no-store
+     */
+    @Test
+    void testStaleResultIsNotStored() {
+        OutbreakDataStore outbreakDataStore = mock(OutbreakDataStore.class);
+        when(outbreakDataStore.getVersion()).thenReturn(200L);
+
+        ResponseEntity<String> current = AnalyticsResponses.ok(200L, outbreakDataStore).body("current");
+        ResponseEntity<String> stale = AnalyticsResponses.ok(100L, outbreakDataStore).body("stale");
+
+        assertNull(current.getHeaders().getCacheControl());
+        assertEquals("no-store", stale.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL));
+    }
+}
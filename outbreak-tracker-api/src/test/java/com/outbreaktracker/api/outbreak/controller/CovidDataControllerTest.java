@@ -1,6 +1,7 @@
 package com.outbreaktracker.api.outbreak.controller;
 
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.DashboardBundle;
 import com.outbreaktracker.api.outbreak.model.GlobalStats;
 import com.outbreaktracker.api.outbreak.service.CovidDataService;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +76,22 @@ class CovidDataControllerTest {
         verify(covidDataService, times(1)).getGlobalStats();
     }
 
+    /**
+     * Tests GET /api/dashboard - returns global stats and countries in one bundle
+     */
+    @Test
+    void testGetDashboard() {
+        DashboardBundle bundle = new DashboardBundle(7L, mockGlobalStats, mockCountryList);
+        when(covidDataService.getDashboard()).thenReturn(bundle);
+
+        ResponseEntity<DashboardBundle> response = covidDataController.getDashboard();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(bundle, response.getBody());
+        verify(covidDataService, times(1)).getDashboard();
+        verifyNoMoreInteractions(covidDataService);
+    }
+
     /**
      * Tests GET /api/countries - returns all countries data
      */
@@ -126,6 +143,18 @@ class CovidDataControllerTest {
         verify(covidDataService, times(1)).getCountryData("InvalidCountry");
     }
 
+    /**
+     * Tests GET /api/aggregate - running totals such as totalCases are rejected instead of summed
+     */
+    @Test
+    void testGetRangeAggregate_TotalCasesRejected() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> covidDataController.getRangeAggregate("US", "2020-03-01", "2020-06-30", "totalCases"));
+
+        assertTrue(error.getMessage().contains("newCases or newDeaths"));
+        verifyNoInteractions(covidDataService);
+    }
+
     /**
      * Tests POST /api/refresh - refreshes respiratory outbreak data from CSV
      */
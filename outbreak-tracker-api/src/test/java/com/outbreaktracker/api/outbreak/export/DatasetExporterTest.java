@@ -0,0 +1,92 @@
+package com.outbreaktracker.api.outbreak.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DatasetExporter
+ * Tests the CSV and NDJSON layouts with and without series
+ */
+class DatasetExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DatasetExporter exporter = new DatasetExporter(objectMapper);
+    private DatasetSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Chile", new long[]{100L, 150L, 400L});
+        cumulative.put("Korea, South", new long[]{10L, 30L, 60L});
+        CaseHistory history = new CaseHistory(
+                new LocalDate[]{LocalDate.of(2021, 6, 1), LocalDate.of(2021, 6, 2), LocalDate.of(2021, 6, 3)},
+                new String[]{"6/1/21", "6/2/21", "6/3/21"},
+                cumulative);
+        OutbreakDataStore outbreakDataStore = new OutbreakDataStore(event -> { });
+        outbreakDataStore.publish(CsvParserUtil.toCovidData(history), history);
+        snapshot = outbreakDataStore.getSnapshot();
+    }
+
+    /**
+     * Tests that the latest-values CSV has one quoted-where-needed row per country
+     */
+    @Test
+    void testCsvLatestValues() throws IOException {
+        String[] lines = export(ExportFormat.CSV, false).split("\n");
+
+        assertEquals(3, lines.length);
+        assertEquals(String.join(",", DatasetExporter.LATEST_COLUMNS), lines[0]);
+        assertTrue(lines[1].startsWith("Chile,400,250,"), lines[1]);
+        assertTrue(lines[2].startsWith("\"Korea, South\",60,30,"), lines[2]);
+    }
+
+    /**
+     * Tests that the series CSV has one row per country and day
+     */
+    @Test
+    void testCsvSeries() throws IOException {
+        String[] lines = export(ExportFormat.CSV, true).split("\n");
+
+        assertEquals(1 + 2 * 3, lines.length);
+        assertEquals("country,date,cumulativeCases,newCases", lines[0]);
+        assertEquals("Chile,2021-06-01,100,100", lines[1]);
+        assertEquals("\"Korea, South\",2021-06-03,60,30", lines[6]);
+    }
+
+    /**
+     * Tests that every NDJSON line is a complete JSON object with its series
+     */
+    @Test
+    void testNdjsonSeries() throws IOException {
+        String[] lines = export(ExportFormat.NDJSON, true).split("\n");
+
+        assertEquals(2, lines.length);
+        JsonNode korea = objectMapper.readTree(lines[1]);
+        assertEquals("Korea, South", korea.get("country").asText());
+        assertEquals(60L, korea.get("totalCases").asLong());
+        assertEquals("2021-06-01", korea.get("series").get("dates").get(0).asText());
+        assertEquals(30L, korea.get("series").get("newCases").get(2).asLong());
+        assertFalse(objectMapper.readTree(export(ExportFormat.NDJSON, false).split("\n")[0]).has("series"));
+    }
+
+    private String export(ExportFormat format, boolean includeSeries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.write(snapshot, format, includeSeries, out);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
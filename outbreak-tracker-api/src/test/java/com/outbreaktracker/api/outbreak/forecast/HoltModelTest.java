@@ -0,0 +1,93 @@
+package com.outbreaktracker.api.outbreak.forecast;
+
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HoltModel
+ * Tests trend extrapolation, incremental updates and the minimum history
+ */
+class HoltModelTest {
+
+    /**
+     * Tests that steady 5% daily growth is extrapolated with a widening interval
+     */
+    @Test
+    void testExtrapolatesExponentialGrowth() {
+        long[] cumulative = growingSeries(120, 1.05);
+        HoltModel model = new HoltModel();
+        model.advance(view(Arrays.copyOf(cumulative, 100)));
+
+        HoltFit fit = model.fit();
+        assertNotNull(fit);
+        double expected = (cumulative[106] - cumulative[99]) / 7.0;
+        assertEquals(expected, Math.expm1(fit.mean(7)), expected * 0.05);
+        assertTrue(fit.standardDeviation(14) > fit.standardDeviation(1));
+    }
+
+    /**
+     * Tests that appending a day to a fitted model matches fitting the longer history from scratch
+     */
+    @Test
+    void testAppendedDayMatchesFullFit() {
+        long[] cumulative = growingSeries(61, 1.03);
+        cumulative[40] += 500; // a reporting spike
+
+        HoltModel incremental = new HoltModel();
+        incremental.advance(view(Arrays.copyOf(cumulative, 60)));
+        assertTrue(incremental.canResume(view(cumulative)));
+        incremental.advance(view(cumulative));
+
+        HoltModel full = new HoltModel();
+        full.advance(view(cumulative));
+
+        HoltFit a = incremental.fit();
+        HoltFit b = full.fit();
+        assertEquals(b.getAlpha(), a.getAlpha());
+        assertEquals(b.getBeta(), a.getBeta());
+        assertEquals(b.mean(3), a.mean(3), 1e-12);
+        assertEquals(b.standardDeviation(3), a.standardDeviation(3), 1e-12);
+    }
+
+    /**
+     * Tests that a revised history cannot be resumed and short histories are not fitted
+     */
+    @Test
+    void testRevisionsAndShortHistory() {
+        long[] cumulative = growingSeries(30, 1.02);
+        HoltModel model = new HoltModel();
+        model.advance(view(cumulative));
+
+        long[] revised = cumulative.clone();
+        revised[29] += 1;
+        assertFalse(model.canResume(view(revised)));
+
+        // An earlier day revised while the last consumed value stays the same
+        long[] backfilled = cumulative.clone();
+        backfilled[10] += 1;
+        assertFalse(model.canResume(view(backfilled)));
+        assertTrue(model.canResume(view(cumulative)));
+
+        HoltModel shortModel = new HoltModel();
+        shortModel.advance(view(growingSeries(7 + HoltModel.MIN_OBSERVATIONS - 1, 1.02)));
+        assertNull(shortModel.fit());
+    }
+
+    private static long[] growingSeries(int days, double dailyGrowth) {
+        long[] cumulative = new long[days];
+        double daily = 100;
+        for (int d = 0; d < days; d++) {
+            cumulative[d] = (d == 0 ? 0 : cumulative[d - 1]) + Math.round(daily);
+            daily *= dailyGrowth;
+        }
+        return cumulative;
+    }
+
+    private static SeriesView view(long[] cumulative) {
+        return SeriesView.copyOf(cumulative);
+    }
+}
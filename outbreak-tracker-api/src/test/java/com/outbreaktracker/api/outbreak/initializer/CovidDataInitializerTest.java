@@ -0,0 +1,87 @@
+package com.outbreaktracker.api.outbreak.initializer;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.repository.CovidDataRepository;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CovidDataInitializer
+ * Tests the initial load on an empty database and the rolling-metric backfill on an existing one
+ */
+class CovidDataInitializerTest {
+
+    private CovidDataRepository covidDataRepository;
+    private CovidDataInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        covidDataRepository = mock(CovidDataRepository.class);
+        initializer = new CovidDataInitializer(covidDataRepository, new OutbreakDataStore(event -> { }));
+        ReflectionTestUtils.setField(initializer, "csvResource", csvResource(15));
+    }
+
+    /**
+     * Tests that an empty database gets the full initial load and no backfill
+     */
+    @Test
+    void testEmptyDatabaseIsLoaded() {
+        when(covidDataRepository.isEmpty()).thenReturn(true);
+
+        initializer.run(null);
+
+        verify(covidDataRepository).bulkUpdateOrInsertCovidData(anyList());
+        verify(covidDataRepository, never()).backfillRollingMetrics(any());
+    }
+
+    /**
+     * Tests that an existing database keeps its rows and only gets the rolling metrics backfilled
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExistingDatabaseIsBackfilled() {
+        when(covidDataRepository.isEmpty()).thenReturn(false);
+
+        initializer.run(null);
+
+        ArgumentCaptor<List<CovidData>> captor = ArgumentCaptor.forClass(List.class);
+        verify(covidDataRepository).backfillRollingMetrics(captor.capture());
+        verify(covidDataRepository, never()).bulkUpdateOrInsertCovidData(anyList());
+
+        CovidData country = captor.getValue().get(0);
+        assertEquals("Testland", country.getCountry());
+        assertEquals(10.0, country.getAverageNewCases7d(), 1e-9);
+        assertEquals(10.0, country.getAverageNewCases14d(), 1e-9);
+    }
+
+    /**
+     * Builds a tab-separated CSV with one country gaining 10 cases per day
+     */
+    private static ByteArrayResource csvResource(int days) {
+        StringBuilder header = new StringBuilder("Province/State\tCountry/Region\tLat\tLong");
+        StringBuilder row = new StringBuilder("\tTestland\t0\t0");
+        for (int day = 0; day < days; day++) {
+            header.append("\t1/").append(day + 1).append("/22");
+            row.append('\t').append(100 + 10 * day);
+        }
+        String csv = header + "\n" + row + "\n";
+        return new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "test.csv";
+            }
+        };
+    }
+}
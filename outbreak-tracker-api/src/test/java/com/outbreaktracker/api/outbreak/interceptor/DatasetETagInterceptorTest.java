@@ -0,0 +1,113 @@
+package com.outbreaktracker.api.outbreak.interceptor;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DatasetETagInterceptor
+ * Tests validators and 304 handling against a real in-memory store
+ */
+class DatasetETagInterceptorTest {
+
+    private OutbreakDataStore outbreakDataStore;
+    private DatasetETagInterceptor interceptor;
+    private List<CovidData> dataset;
+
+    @BeforeEach
+    void setUp() {
+        outbreakDataStore = new OutbreakDataStore(event -> { });
+        interceptor = new DatasetETagInterceptor(outbreakDataStore);
+        dataset = Collections.singletonList(
+                new CovidData("US", 100L, 1L, 2L, 0L, 90L, 8L, 1L, "3/9/23"));
+    }
+
+    /**
+     * Tests that nothing is emitted before the first dataset is loaded
+     */
+    @Test
+    void testPassesThroughBeforeLoad() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/global"), response, null));
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    /**
+     * Tests that a first request gets ETag and Last-Modified and proceeds to the controller
+     */
+    @Test
+    void testEmitsValidators() {
+        outbreakDataStore.publish(dataset);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/global"), response, null));
+        assertEquals(outbreakDataStore.getSnapshot().getETag(), response.getHeader(HttpHeaders.ETAG));
+        assertNotNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+        assertEquals("no-cache", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    /**
+     * Tests that a matching If-None-Match is answered with 304 without reaching the controller
+     */
+    @Test
+    void testNotModifiedWhenETagMatches() {
+        outbreakDataStore.publish(dataset);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/countries");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, outbreakDataStore.getSnapshot().getETag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, null));
+        assertEquals(304, response.getStatus());
+    }
+
+    /**
+     * Tests that a refresh (new dataset version) invalidates previously issued ETags
+     */
+    @Test
+    void testRefreshChangesETag() {
+        outbreakDataStore.publish(dataset);
+        String previousETag = outbreakDataStore.getSnapshot().getETag();
+        long previousVersion = outbreakDataStore.getVersion();
+        outbreakDataStore.publish(dataset);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/countries");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, previousETag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        assertTrue(outbreakDataStore.getVersion() > previousVersion);
+        assertEquals(Long.toString(outbreakDataStore.getVersion()),
+                response.getHeader(DatasetETagInterceptor.DATASET_VERSION_HEADER));
+        assertNotEquals(previousETag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    /**
+     * Tests that Smile and CBOR bodies get their own ETag while JSON and wildcards keep the base one
+     */
+    @Test
+    void testETagVariesWithBinaryAccept() {
+        outbreakDataStore.publish(dataset);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/countries");
+        request.addHeader(HttpHeaders.ACCEPT, "application/x-jackson-smile");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        String eTag = outbreakDataStore.getSnapshot().getETag();
+        assertEquals(eTag.substring(0, eTag.length() - 1) + "-smile\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(HttpHeaders.ACCEPT, response.getHeader(HttpHeaders.VARY));
+
+        assertEquals(eTag, DatasetETagInterceptor.representationETag(eTag, "application/json, application/cbor;q=0.5"));
+        assertEquals(eTag, DatasetETagInterceptor.representationETag(eTag, "*/*"));
+        assertTrue(DatasetETagInterceptor.representationETag(eTag, "application/cbor, */*;q=0.1").endsWith("-cbor\""));
+    }
+}
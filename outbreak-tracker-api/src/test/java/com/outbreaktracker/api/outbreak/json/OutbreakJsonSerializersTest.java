@@ -0,0 +1,100 @@
+package com.outbreaktracker.api.outbreak.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutbreakJsonSerializers
+ * Tests that the hand-written serializers produce exactly the default bean serialization
+ */
+class OutbreakJsonSerializersTest {
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper handWrittenMapper;
+    private CovidData full;
+    private CovidData sparse;
+    private GlobalStats global;
+
+    @BeforeEach
+    void setUp() {
+        beanMapper = new ObjectMapper();
+        handWrittenMapper = new ObjectMapper().registerModule(module());
+
+        full = new CovidData("Côte d'Ivoire \"CI\"", 88000L, -5L, 700L, 0L, 79200L, 8100L, 880L, "3/9/23");
+        full.setAverageNewCases7d(12.5);
+        full.setAverageNewCases14d(1.0 / 3.0);
+        full.setWeekOverWeekGrowth(-0.25);
+        full.setDoublingTimeDays(Double.POSITIVE_INFINITY);
+        sparse = new CovidData();
+        sparse.setCountry("Holy See");
+
+        global = new GlobalStats(676514131L, 13530282L, 656087267L, 6896582L, null, 201, "March 9, 2023, 1:00 PM UTC");
+        global.setAverageNewCases7d(151234.57142857142);
+        global.setWeekOverWeekGrowth(Double.NaN);
+    }
+
+    /**
+     * Tests that single records, including null and non-finite values, serialize identically
+     */
+    @Test
+    void testRecordsMatchBeanSerialization() throws Exception {
+        for (Object value : Arrays.asList(full, sparse, global, new GlobalStats())) {
+            assertEquals(beanMapper.writeValueAsString(value), handWrittenMapper.writeValueAsString(value));
+        }
+    }
+
+    /**
+     * Tests that lists and binary formats serialize identically
+     */
+    @Test
+    void testListsAndSmileMatchBeanSerialization() throws Exception {
+        List<CovidData> countries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            CovidData data = new CovidData("Country " + i, 1000L * i, (long) i, null, 0L, 900L * i, 100L * i, null, "3/9/23");
+            data.setAverageNewCases7d(i % 3 == 0 ? null : i * 1.75);
+            countries.add(data);
+        }
+        countries.add(sparse);
+
+        assertEquals(beanMapper.writeValueAsString(countries), handWrittenMapper.writeValueAsString(countries));
+
+        ObjectMapper beanSmile = new ObjectMapper(new SmileFactory());
+        ObjectMapper handWrittenSmile = new ObjectMapper(new SmileFactory()).registerModule(module());
+        assertArrayEquals(beanSmile.writeValueAsBytes(countries), handWrittenSmile.writeValueAsBytes(countries));
+    }
+
+    /**
+     * Tests that type metadata is written like the bean serializer's when default typing is enabled
+     */
+    @Test
+    void testPolymorphicTypingMatchesBeanSerialization() throws Exception {
+        BasicPolymorphicTypeValidator validator = BasicPolymorphicTypeValidator.builder()
+                .allowIfBaseType(Object.class).build();
+        beanMapper.activateDefaultTyping(validator, ObjectMapper.DefaultTyping.NON_FINAL);
+        handWrittenMapper.activateDefaultTyping(validator, ObjectMapper.DefaultTyping.NON_FINAL);
+
+        List<Object> values = new ArrayList<>(Arrays.asList(full, global));
+        assertEquals(beanMapper.writeValueAsString(values), handWrittenMapper.writeValueAsString(values));
+        assertEquals(full.toString(), handWrittenMapper.readValue(handWrittenMapper.writeValueAsString(full),
+                Object.class).toString());
+    }
+
+    private static SimpleModule module() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(CovidData.class, new OutbreakJsonSerializers.CovidDataSerializer());
+        module.addSerializer(GlobalStats.class, new OutbreakJsonSerializers.GlobalStatsSerializer());
+        return module;
+    }
+}
@@ -0,0 +1,73 @@
+package com.outbreaktracker.api.outbreak.projection;
+
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ModelFitter
+ * Tests that fits reproduce curves generated by the models themselves
+ */
+class ModelFitterTest {
+
+    /**
+     * Tests that the parameters of a declining SIR wave are recovered and its continuation projected
+     */
+    @Test
+    void testRecoversSirParameters() {
+        double[] truth = new double[200];
+        CompartmentalModel.SIR.simulate(0.3, 0.12, 2_000_000, 40, truth, truth.length);
+
+        ModelFit fit = new ModelFitter(60).fit(CompartmentalModel.SIR, cumulative(truth, 80));
+
+        assertNotNull(fit);
+        assertEquals(60, fit.getFitDays());
+        assertEquals(0.3, fit.getBeta(), 0.03);
+        assertEquals(0.12, fit.getGamma(), 0.012);
+        assertTrue(fit.getEffectiveReproduction() < 1.0, "Rt " + fit.getEffectiveReproduction());
+        assertEquals(truth[80 + 10], fit.getProjectedNewCases(10), truth[80 + 10] * 0.05);
+        assertEquals(ModelFitter.HORIZON_DAYS, fit.getHorizon());
+        assertNull(fit.getSigma());
+    }
+
+    /**
+     * Tests that a growing SEIR epidemic is fitted as growing and projected closely
+     */
+    @Test
+    void testFitsGrowingSeirEpidemic() {
+        double[] truth = new double[200];
+        CompartmentalModel.SEIR.simulate(0.4, 0.15, 5_000_000, 20, truth, truth.length);
+
+        ModelFit fit = new ModelFitter(60).fit(CompartmentalModel.SEIR, cumulative(truth, 80));
+
+        assertNotNull(fit);
+        assertTrue(fit.getRootMeanSquaredLogError() < 0.01, "rmsle " + fit.getRootMeanSquaredLogError());
+        assertTrue(fit.getEffectiveReproduction() > 1.0, "Rt " + fit.getEffectiveReproduction());
+        assertEquals(truth[80 + 10], fit.getProjectedNewCases(10), truth[80 + 10] * 0.1);
+        assertEquals(CompartmentalModel.SIGMA, fit.getSigma());
+    }
+
+    /**
+     * Tests that windows with too few cases or days are not fitted
+     */
+    @Test
+    void testSkipsSparseSeries() {
+        ModelFitter fitter = new ModelFitter(30);
+        assertNull(fitter.fit(CompartmentalModel.SIR, SeriesView.copyOf(new long[100])));
+        assertNull(fitter.fit(CompartmentalModel.SIR, SeriesView.copyOf(1, 2, 3, 400, 900, 1500)));
+    }
+
+    /**
+     * Rounds the first days of a simulated incidence curve into a cumulative series
+     */
+    private static SeriesView cumulative(double[] incidence, int days) {
+        long[] values = new long[days];
+        double total = 0;
+        for (int day = 0; day < days; day++) {
+            total += incidence[day];
+            values[day] = Math.round(total);
+        }
+        return SeriesView.copyOf(values);
+    }
+}
@@ -0,0 +1,98 @@
+package com.outbreaktracker.api.outbreak.reproduction;
+
+import com.outbreaktracker.api.outbreak.store.SeriesView;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RtEstimator
+ * Tests estimates on synthetic curves and that incremental updates match a full rebuild
+ */
+class RtEstimatorTest {
+
+    /**
+     * Tests that growing, flat and shrinking curves give Rt above, near and below one
+     */
+    @Test
+    void testRtFollowsGrowthRate() {
+        assertTrue(latestRt(exponential(0.05, 120)) > 1.1);
+        assertEquals(1.0, latestRt(exponential(0.0, 120)), 0.02);
+        assertTrue(latestRt(exponential(-0.05, 120)) < 0.9);
+    }
+
+    /**
+     * Tests that appending days to an existing estimator gives the same estimates as a rebuild
+     */
+    @Test
+    void testIncrementalMatchesRebuild() {
+        long[] cumulative = cumulative(exponential(0.03, 150));
+        RtEstimator incremental = new RtEstimator();
+        RtSeries published = null;
+        for (int days = 10; days <= cumulative.length; days += 17) {
+            SeriesView prefix = SeriesView.copyOf(Arrays.copyOf(cumulative, days));
+            assertTrue(published == null || incremental.canResume(prefix));
+            incremental.advance(prefix);
+            if (published == null) {
+                published = incremental.toSeries();
+            }
+        }
+        incremental.advance(SeriesView.copyOf(cumulative));
+
+        RtEstimator rebuilt = new RtEstimator();
+        rebuilt.advance(SeriesView.copyOf(cumulative));
+        RtSeries expected = rebuilt.toSeries();
+        RtSeries actual = incremental.toSeries();
+        assertEquals(cumulative.length, actual.size());
+        for (int day = 0; day < cumulative.length; day++) {
+            assertEquals(expected.getMean(day), actual.getMean(day));
+            assertEquals(expected.getUpper(day), actual.getUpper(day));
+        }
+        // Views published earlier keep their length
+        assertEquals(10, published.size());
+    }
+
+    /**
+     * Tests that sparse windows are not estimated and revised histories are not resumed
+     */
+    @Test
+    void testSkipsSparseWindowsAndRevisions() {
+        RtEstimator estimator = new RtEstimator();
+        estimator.advance(SeriesView.copyOf(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        assertNull(estimator.toSeries().getMean(10));
+        assertFalse(estimator.canResume(SeriesView.copyOf(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 11, 12)));
+        assertTrue(estimator.canResume(SeriesView.copyOf(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 12)));
+        // An earlier day revised while the last consumed value stays the same
+        assertFalse(estimator.canResume(SeriesView.copyOf(0, 1, 2, 3, 5, 5, 6, 7, 8, 9, 10, 12)));
+    }
+
+    private static double latestRt(double[] incidence) {
+        RtEstimator estimator = new RtEstimator();
+        estimator.advance(SeriesView.copyOf(cumulative(incidence)));
+        RtSeries series = estimator.toSeries();
+        Double rt = series.getMean(series.size() - 1);
+        assertNotNull(rt);
+        assertTrue(series.getLower(series.size() - 1) <= rt && rt <= series.getUpper(series.size() - 1));
+        return rt;
+    }
+
+    private static double[] exponential(double rate, int days) {
+        double[] incidence = new double[days];
+        for (int day = 0; day < days; day++) {
+            incidence[day] = 1000.0 * Math.exp(rate * day);
+        }
+        return incidence;
+    }
+
+    private static long[] cumulative(double[] incidence) {
+        long[] values = new long[incidence.length];
+        double total = 0;
+        for (int day = 0; day < incidence.length; day++) {
+            total += incidence[day];
+            values[day] = Math.round(total);
+        }
+        return values;
+    }
+}
@@ -1,17 +1,32 @@
 package com.outbreaktracker.api.outbreak.service.impl;
 
+import com.outbreaktracker.api.common.cache.BatchCacheOperations;
+import com.outbreaktracker.api.common.exception.DatasetNotLoadedException;
+import com.outbreaktracker.api.common.exception.GlobalExceptionHandler;
+import com.outbreaktracker.api.common.model.ErrorResponse;
+import com.outbreaktracker.api.outbreak.model.CountryLookupResult;
 import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import com.outbreaktracker.api.outbreak.model.DashboardBundle;
 import com.outbreaktracker.api.outbreak.model.GlobalStats;
 import com.outbreaktracker.api.outbreak.repository.CovidDataRepository;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +41,12 @@ class CovidDataServiceImplTest {
     @Mock
     private CovidDataRepository covidDataRepository;
 
+    @Mock
+    private OutbreakDataStore outbreakDataStore;
+
+    @Mock
+    private ObjectProvider<BatchCacheOperations> batchCacheProvider;
+
     @InjectMocks
     private CovidDataServiceImpl covidDataService;
 
@@ -144,4 +165,163 @@ class CovidDataServiceImplTest {
         verify(covidDataRepository, times(1)).findByCountryName("NonExistent");
     }
 
+    /**
+     * Tests that once the dataset is loaded, names are resolved through the name index and the
+     * row comes from the snapshot, never from the database
+     */
+    @Test
+    void testGetCountryDataServedFromSnapshot() {
+        when(outbreakDataStore.getSnapshot()).thenReturn(publishUsAndIndia());
+
+        CovidData result = covidDataService.getCountryData("us");
+
+        assertNotNull(result);
+        assertEquals("US", result.getCountry());
+        assertEquals(1000000L, result.getTotalCases());
+        assertNull(covidDataService.getCountryData("Atlantis"));
+        verifyNoInteractions(covidDataRepository);
+    }
+
+    /**
+     * Tests that /api/countries and batch lookups read the same snapshot as the dashboard
+     */
+    @Test
+    void testCountriesServedFromSnapshot() {
+        when(outbreakDataStore.getSnapshot()).thenReturn(publishUsAndIndia());
+
+        List<CovidData> all = covidDataService.getAllCountriesData();
+        Map<String, CountryLookupResult> batch = covidDataService.getCountriesData(
+                Arrays.asList("us", "INDIA", "Atlantis"));
+
+        assertEquals(covidDataService.getDashboard().getCountries().toString(), all.toString());
+        assertEquals(all.get(1).toString(), batch.get("us").getData().toString());
+        assertEquals(500000L, batch.get("INDIA").getData().getTotalCases());
+        assertFalse(batch.get("Atlantis").isFound());
+        verifyNoInteractions(covidDataRepository);
+    }
+
+    /**
+     * Tests batch lookup without a cache: one IN query for all resolved names,
+     * results keyed by requested name, aliases sharing a row, unknown names marked not found
+     */
+    @Test
+    void testGetCountriesDataSingleQuery() {
+        when(outbreakDataStore.resolveCountryName("USA")).thenReturn("USA");
+        when(outbreakDataStore.resolveCountryName("United States")).thenReturn("USA");
+        when(outbreakDataStore.resolveCountryName("india")).thenReturn("India");
+        when(outbreakDataStore.resolveCountryName("Atlantis")).thenReturn(null);
+        when(outbreakDataStore.cacheKey(anyString())).thenAnswer(invocation -> "1:" + invocation.getArgument(0));
+        when(covidDataRepository.findByCountryNames(Arrays.asList("USA", "India"))).thenReturn(testData);
+
+        Map<String, CountryLookupResult> result = covidDataService.getCountriesData(
+                Arrays.asList("USA", "United States", "india", "Atlantis"));
+
+        assertEquals(Arrays.asList("USA", "United States", "india", "Atlantis"), new ArrayList<>(result.keySet()));
+        assertTrue(result.get("United States").isFound());
+        assertEquals("USA", result.get("United States").getCountry());
+        assertEquals(500000L, result.get("india").getData().getTotalCases());
+        assertFalse(result.get("Atlantis").isFound());
+        assertNull(result.get("Atlantis").getData());
+        verify(covidDataRepository, times(1)).findByCountryNames(anyCollection());
+        verify(covidDataRepository, never()).findByCountryName(anyString());
+    }
+
+    /**
+     * Tests batch lookup with a cache: only misses are queried, and written back to the cache
+     */
+    @Test
+    void testGetCountriesDataQueriesOnlyCacheMisses() {
+        BatchCacheOperations batchCache = mock(BatchCacheOperations.class);
+        when(batchCacheProvider.getIfAvailable()).thenReturn(batchCache);
+        when(outbreakDataStore.resolveCountryName(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(outbreakDataStore.cacheKey(anyString())).thenAnswer(invocation -> "1:" + invocation.getArgument(0));
+        when(batchCache.multiGet(eq("country"), anyCollection()))
+                .thenReturn(Collections.singletonMap("1:USA", testData.get(0)));
+        when(covidDataRepository.findByCountryNames(Collections.singletonList("India")))
+                .thenReturn(Collections.singletonList(testData.get(1)));
+
+        Map<String, CountryLookupResult> result = covidDataService.getCountriesData(Arrays.asList("USA", "India"));
+
+        assertTrue(result.get("USA").isFound());
+        assertTrue(result.get("India").isFound());
+        verify(covidDataRepository, times(1)).findByCountryNames(Collections.singletonList("India"));
+        verify(batchCache, times(1)).multiPut("country", Collections.singletonMap("1:India", testData.get(1)));
+    }
+
+    /**
+     * Tests that snapshot-only reads before the first load fail as 503, not 500
+     */
+    @Test
+    void testRankingBeforeFirstLoadIsUnavailable() {
+        DatasetNotLoadedException ex = assertThrows(DatasetNotLoadedException.class,
+                () -> covidDataService.getRanking(CovidMetric.NEW_CASES, true, 10));
+
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleDatasetNotLoadedException(ex);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    /**
+     * Tests that the dashboard bundle is built once per dataset version and rebuilt after a refresh
+     */
+    @Test
+    void testDashboardBundleReusedPerVersion() {
+        OutbreakDataStore realStore = new OutbreakDataStore(event -> { });
+        DatasetSnapshot v1 = realStore.publish(testData);
+        when(outbreakDataStore.getSnapshot()).thenReturn(v1);
+
+        DashboardBundle first = covidDataService.getDashboard();
+        assertSame(first, covidDataService.getDashboard());
+        assertEquals(v1.getVersion(), first.getVersion());
+        assertEquals(1500000L, first.getGlobal().getTotalCases());
+        assertEquals(2, first.getCountries().size());
+
+        List<CovidData> refreshed = new ArrayList<>(testData);
+        refreshed.set(1, new CovidData("India", 600000L, null, 10000L, null, 450000L, 40000L, 5000L, null));
+        DatasetSnapshot v2 = realStore.publish(refreshed);
+        when(outbreakDataStore.getSnapshot()).thenReturn(v2);
+
+        DashboardBundle second = covidDataService.getDashboard();
+        assertNotSame(first, second);
+        assertEquals(v2.getVersion(), second.getVersion());
+        assertEquals(1600000L, second.getGlobal().getTotalCases());
+        verify(covidDataRepository, never()).findAllCountryData();
+    }
+
+    /**
+     * Tests that the dashboard is assembled from the database before the first load
+     */
+    @Test
+    void testDashboardFallsBackToDatabaseBeforeLoad() {
+        when(covidDataRepository.findAllCountryData()).thenReturn(testData);
+
+        DashboardBundle bundle = covidDataService.getDashboard();
+
+        assertEquals(0, bundle.getVersion());
+        assertEquals(1500000L, bundle.getGlobal().getTotalCases());
+        assertEquals(2, bundle.getCountries().size());
+    }
+
+    private DatasetSnapshot publishUsAndIndia() {
+        List<CovidData> rows = new ArrayList<>(testData);
+        rows.set(0, new CovidData("US", 1000000L, null, 20000L, null, 900000L, 80000L, 10000L, null));
+        return new OutbreakDataStore(event -> { }).publish(rows);
+    }
+
+    /**
+     * Tests that /api/global reports the loaded snapshot's totals, matching the dashboard
+     */
+    @Test
+    void testGetGlobalStatsServedFromSnapshot() {
+        DatasetSnapshot snapshot = new OutbreakDataStore(event -> { }).publish(testData);
+        when(outbreakDataStore.getSnapshot()).thenReturn(snapshot);
+
+        GlobalStats global = covidDataService.getGlobalStats();
+        GlobalStats dashboard = covidDataService.getDashboard().getGlobal();
+
+        assertEquals(dashboard.getTotalCases(), global.getTotalCases());
+        assertEquals(dashboard.getTotalDeaths(), global.getTotalDeaths());
+        assertEquals(dashboard.getAffectedCountries(), global.getAffectedCountries());
+        assertEquals(dashboard.getLastUpdated(), global.getLastUpdated());
+        verify(covidDataRepository, never()).findAllCountryData();
+    }
 }
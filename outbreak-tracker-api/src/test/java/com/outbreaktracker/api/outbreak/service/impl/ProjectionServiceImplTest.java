@@ -0,0 +1,103 @@
+package com.outbreaktracker.api.outbreak.service.impl;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CountryProjection;
+import com.outbreaktracker.api.outbreak.projection.CompartmentalModel;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProjectionServiceImpl
+ * Tests that requests are answered from the latest completed fit, with that fit's own dates and counts
+ */
+class ProjectionServiceImplTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2021, 1, 1);
+
+    private OutbreakDataStore publisher;
+    private OutbreakDataStore requestStore;
+    private ForkJoinPool pool;
+    private ProjectionServiceImpl projectionService;
+    private double[] incidence;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OutbreakDataStore(event -> { });
+        requestStore = mock(OutbreakDataStore.class);
+        pool = new ForkJoinPool(1);
+        projectionService = new ProjectionServiceImpl(requestStore, 30, pool);
+        incidence = new double[120];
+        CompartmentalModel.SIR.simulate(0.3, 0.12, 2_000_000, 40, incidence, incidence.length);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectionService.shutdown();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Tests that a request on a newer snapshot does not wait for its refit but returns the
+     * previous version's projection, based on that version's last day and cumulative count
+     */
+    @Test
+    void testServesPreviousFitWhileRefitPending() {
+        Map<String, long[]> older = new LinkedHashMap<>();
+        older.put("Chile", cumulative(80));
+        DatasetSnapshot fitted = publish(older, 80);
+        projectionService.fit(fitted);
+
+        // The newer dataset adds a day and a country that shifts Chile's id
+        Map<String, long[]> newer = new LinkedHashMap<>();
+        newer.put("Argentina", cumulative(81));
+        newer.put("Chile", cumulative(81));
+        DatasetSnapshot latest = publish(newer, 81);
+        when(requestStore.getSnapshot()).thenReturn(latest);
+
+        CountryProjection projection = projectionService.getProjection("Chile", CompartmentalModel.SIR, 5);
+
+        assertEquals("Chile", projection.getCountry());
+        assertEquals(fitted.getVersion(), projection.getVersion());
+        assertEquals(FIRST_DAY.plusDays(79).toString(), projection.getBasedOn());
+        assertEquals(FIRST_DAY.plusDays(80).toString(), projection.getPoints().get(0).getDate());
+        long lastFittedCount = older.get("Chile")[79];
+        assertEquals(lastFittedCount + projection.getPoints().get(0).getNewCases(),
+                projection.getPoints().get(0).getCumulativeCases(), 1e-6);
+    }
+
+    private DatasetSnapshot publish(Map<String, long[]> cumulative, int days) {
+        LocalDate[] dates = new LocalDate[days];
+        String[] labels = new String[days];
+        for (int d = 0; d < days; d++) {
+            dates[d] = FIRST_DAY.plusDays(d);
+            labels[d] = dates[d].toString();
+        }
+        CaseHistory history = new CaseHistory(dates, labels, cumulative);
+        return publisher.publish(CsvParserUtil.toCovidData(history), history);
+    }
+
+    /**
+     * Rounds the first days of the simulated incidence curve into a cumulative series
+     */
+    private long[] cumulative(int days) {
+        long[] values = new long[days];
+        double total = 0;
+        for (int day = 0; day < days; day++) {
+            total += incidence[day];
+            values[day] = Math.round(total);
+        }
+        return values;
+    }
+}
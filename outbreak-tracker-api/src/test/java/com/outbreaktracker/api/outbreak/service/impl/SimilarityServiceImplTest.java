@@ -0,0 +1,98 @@
+package com.outbreaktracker.api.outbreak.service.impl;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.SimilarCountries;
+import com.outbreaktracker.api.outbreak.store.CaseHistory;
+import com.outbreaktracker.api.outbreak.store.DatasetSnapshot;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SimilarityServiceImpl
+ * Tests that neighbours are looked up by country, not by id, when the matrix is from a newer dataset
+ */
+class SimilarityServiceImplTest {
+
+    private static final int DAYS = 40;
+
+    private OutbreakDataStore publisher;
+    private OutbreakDataStore requestStore;
+    private ForkJoinPool pool;
+    private SimilarityServiceImpl similarityService;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new OutbreakDataStore(event -> { });
+        requestStore = mock(OutbreakDataStore.class);
+        pool = new ForkJoinPool(1);
+        similarityService = new SimilarityServiceImpl(requestStore, 30, pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        similarityService.shutdown();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Tests a request pinned to an older snapshot while the matrix was computed for a newer one
+     * in which a new country shifted every id
+     */
+    @Test
+    void testMatrixFromNewerVersionIsTranslated() {
+        Map<String, long[]> older = new LinkedHashMap<>();
+        older.put("Brazil", cumulative(100, 5));
+        older.put("Chile", cumulative(300, -4));
+        older.put("Peru", cumulative(50, 3));
+        DatasetSnapshot requestSnapshot = publish(older);
+
+        Map<String, long[]> newer = new LinkedHashMap<>();
+        newer.put("Argentina", cumulative(200, -3));
+        newer.putAll(older);
+        DatasetSnapshot matrixSnapshot = publish(newer);
+        similarityService.compute(matrixSnapshot);
+        when(requestStore.getSnapshot()).thenReturn(requestSnapshot);
+
+        SimilarCountries brazil = similarityService.getSimilarCountries("Brazil", 1);
+
+        assertEquals("Brazil", brazil.getCountry());
+        assertEquals(matrixSnapshot.getVersion(), brazil.getVersion());
+        assertEquals("Peru", brazil.getSimilar().get(0).getCountry());
+        assertTrue(brazil.getSimilar().get(0).getCorrelation() > 0.9);
+
+        SimilarCountries chile = similarityService.getSimilarCountries("Chile", 1);
+        assertEquals("Argentina", chile.getSimilar().get(0).getCountry());
+    }
+
+    private DatasetSnapshot publish(Map<String, long[]> cumulative) {
+        LocalDate[] dates = new LocalDate[DAYS];
+        String[] labels = new String[DAYS];
+        for (int d = 0; d < DAYS; d++) {
+            dates[d] = LocalDate.of(2021, 1, 1).plusDays(d);
+            labels[d] = dates[d].toString();
+        }
+        CaseHistory history = new CaseHistory(dates, labels, cumulative);
+        return publisher.publish(CsvParserUtil.toCovidData(history), history);
+    }
+
+    /**
+     * Cumulative cases for daily new cases of start + slope * day, with a small weekday pattern
+     */
+    private static long[] cumulative(long start, long slope) {
+        long[] values = new long[DAYS];
+        for (int d = 0; d < DAYS; d++) {
+            values[d] = (d == 0 ? 0 : values[d - 1]) + start + slope * d + (d % 7) * 2;
+        }
+        return values;
+    }
+}
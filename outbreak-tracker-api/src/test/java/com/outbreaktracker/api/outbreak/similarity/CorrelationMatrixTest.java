@@ -0,0 +1,85 @@
+package com.outbreaktracker.api.outbreak.similarity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CorrelationMatrix
+ * Tests the blocked parallel computation against a direct Pearson correlation
+ */
+class CorrelationMatrixTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Tests every pair across several tiles (including a partial last tile) against brute force
+     */
+    @Test
+    void testMatchesDirectCorrelation() {
+        Random random = new Random(42);
+        int count = 2 * CorrelationMatrix.BLOCK_SIZE + 5;
+        double[][] curves = new double[count][50];
+        for (double[] curve : curves) {
+            for (int t = 0; t < curve.length; t++) {
+                curve[t] = random.nextGaussian() * 10 + t;
+            }
+        }
+
+        CorrelationMatrix matrix = CorrelationMatrix.compute(curves, pool);
+        for (int i = 0; i < count; i++) {
+            assertEquals(1.0, matrix.get(i, i), 1e-6);
+            for (int j = 0; j < count; j++) {
+                assertEquals(pearson(curves[i], curves[j]), matrix.get(i, j), 1e-5, "pair " + i + "," + j);
+            }
+        }
+    }
+
+    /**
+     * Tests that neighbours are ranked by correlation and flat curves are left out
+     */
+    @Test
+    void testNeighboursRankedAndFlatCurvesExcluded() {
+        double[][] curves = {
+                {1, 2, 3, 4, 5},
+                {2, 4, 6, 8, 11},
+                {5, 4, 3, 2, 1},
+                {7, 7, 7, 7, 7},
+                {1, 3, 2, 5, 4}
+        };
+
+        CorrelationMatrix matrix = CorrelationMatrix.compute(curves, pool);
+        assertArrayEquals(new int[]{1, 4, 2}, matrix.neighbours(0));
+        assertArrayEquals(new int[]{1, 4}, matrix.topNeighbours(0, 2));
+        assertEquals(-1.0, matrix.get(0, 2), 1e-6);
+        assertTrue(Double.isNaN(matrix.get(0, 3)));
+        assertEquals(0, matrix.neighbours(3).length);
+    }
+
+    private static double pearson(double[] x, double[] y) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int t = 0; t < x.length; t++) {
+            meanX += x[t] / x.length;
+            meanY += y[t] / y.length;
+        }
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (int t = 0; t < x.length; t++) {
+            covariance += (x[t] - meanX) * (y[t] - meanY);
+            varianceX += (x[t] - meanX) * (x[t] - meanX);
+            varianceY += (y[t] - meanY) * (y[t] - meanY);
+        }
+        return covariance / Math.sqrt(varianceX * varianceY);
+    }
+}
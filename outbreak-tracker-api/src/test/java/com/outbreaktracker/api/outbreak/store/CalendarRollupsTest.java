@@ -0,0 +1,83 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.SeriesGranularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalendarRollups
+ * Tests ISO week and month boundaries across a year end, including partial edge periods
+ */
+class CalendarRollupsTest {
+
+    private static final int DAYS = 14;
+
+    private CalendarRollups rollups;
+    private int germany;
+
+    @BeforeEach
+    void setUp() {
+        // 2020-12-30 (Wednesday, ISO week 2020-W53) to 2021-01-12
+        LocalDate[] dates = new LocalDate[DAYS];
+        String[] labels = new String[DAYS];
+        long[] linear = new long[DAYS];
+        long[] flat = new long[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            dates[day] = LocalDate.of(2020, 12, 30).plusDays(day);
+            labels[day] = dates[day].toString();
+            linear[day] = 10L * (day + 1);
+            flat[day] = 5L;
+        }
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Germany", linear);
+        cumulative.put("Austria", flat);
+        CaseHistory history = new CaseHistory(dates, labels, cumulative);
+        List<CovidData> countries = CsvParserUtil.toCovidData(history);
+        germany = countries.get(0).getCountry().equals("Germany") ? 0 : 1;
+        rollups = CalendarRollups.build(DatasetSeries.build(countries, history), countries.size());
+    }
+
+    /**
+     * Tests that ISO weeks start on Monday and belong to the week-based year
+     */
+    @Test
+    void testWeeklyPeriods() {
+        CalendarRollups.Periods weeks = rollups.getPeriods(SeriesGranularity.WEEK);
+        assertEquals(3, weeks.size());
+        assertEquals("2020-W53", weeks.getLabel(0));
+        assertEquals("2021-W01", weeks.getLabel(1));
+        assertEquals("2021-W02", weeks.getLabel(2));
+        assertEquals(5, weeks.getDayCount(0));
+        assertEquals(7, weeks.getDayCount(1));
+        assertEquals(2, weeks.getDayCount(2));
+        assertArrayEquals(new long[]{50L, 120L, 140L}, weeks.getCumulativeCases(germany).toArray());
+        assertArrayEquals(new long[]{50L, 70L, 20L}, weeks.getNewCases(germany).toArray());
+        assertArrayEquals(new long[]{55L, 125L, 145L}, weeks.getCumulativeCases(RangeAggregates.GLOBAL).toArray());
+        assertArrayEquals(new long[]{55L, 70L, 20L}, weeks.getNewCases(RangeAggregates.GLOBAL).toArray());
+    }
+
+    /**
+     * Tests that months split at the year end and that days map to their containing period
+     */
+    @Test
+    void testMonthlyPeriods() {
+        CalendarRollups.Periods months = rollups.getPeriods(SeriesGranularity.MONTH);
+        assertEquals(2, months.size());
+        assertEquals("2020-12", months.getLabel(0));
+        assertEquals("2021-01", months.getLabel(1));
+        assertArrayEquals(new long[]{20L, 120L}, months.getNewCases(germany).toArray());
+        assertEquals(0, months.indexOfDay(1));
+        assertEquals(1, months.indexOfDay(2));
+        assertEquals(1, months.indexOfDay(DAYS - 1));
+        assertThrows(IllegalArgumentException.class, () -> rollups.getPeriods(SeriesGranularity.DAY));
+    }
+}
@@ -0,0 +1,78 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CountryNameIndex
+ * Tests normalization, alias resolution and prefix suggestions
+ */
+class CountryNameIndexTest {
+
+    private CountryNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        String[] names = {"Cote d'Ivoire", "Korea, South", "US", "Uganda", "United Kingdom"};
+        long[] totalCases = {88000L, 30000000L, 100000000L, 170000L, 24000000L};
+
+        Map<String, String> aliases = new HashMap<>();
+        aliases.put("USA", "US");
+        aliases.put("United States", "US");
+        aliases.put("South Korea", "Korea, South");
+        aliases.put("Atlantis", "Lost Continent"); // unknown target, ignored
+
+        index = CountryNameIndex.build(names, totalCases, aliases);
+    }
+
+    /**
+     * Tests that case, accents and punctuation are ignored
+     */
+    @Test
+    void testResolveIgnoresCaseAccentsAndPunctuation() {
+        assertEquals(0, index.resolve("Côte d’Ivoire"));
+        assertEquals(0, index.resolve("COTE D IVOIRE"));
+        assertEquals(2, index.resolve("us"));
+        assertEquals(-1, index.resolve("Atlantis"));
+        assertEquals(-1, index.resolve("Unit"));
+    }
+
+    /**
+     * Tests that aliases resolve to their canonical country
+     */
+    @Test
+    void testResolveAliases() {
+        assertEquals(2, index.resolve("USA"));
+        assertEquals(2, index.resolve("united states"));
+        assertEquals(1, index.resolve("South Korea"));
+    }
+
+    /**
+     * Tests prefix suggestions: ranked by weight, deduplicated across aliases
+     */
+    @Test
+    void testSuggestRanksByWeight() {
+        List<String> result = index.suggest("u", 10);
+
+        assertEquals(Arrays.asList("US", "United Kingdom", "Uganda"), result);
+        assertEquals(Arrays.asList("US", "United Kingdom"), index.suggest("U", 2));
+    }
+
+    /**
+     * Tests suggestions on word starts inside names and aliases
+     */
+    @Test
+    void testSuggestMatchesWordStarts() {
+        assertEquals(Arrays.asList("United Kingdom"), index.suggest("king", 10));
+        assertEquals(Arrays.asList("Korea, South"), index.suggest("south", 10));
+        assertTrue(index.suggest("zz", 10).isEmpty());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+    }
+}
@@ -0,0 +1,144 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CountryPage;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CountryQuery
+ * Tests filtering, sorting, projection and keyset paging over an in-memory country list
+ */
+class CountryQueryTest {
+
+    private List<CovidData> countries;
+
+    @BeforeEach
+    void setUp() {
+        countries = new ArrayList<>();
+        countries.add(country("Brazil", 500L));
+        countries.add(country("Chile", 1500L));
+        countries.add(country("India", 3000L));
+        countries.add(country("Peru", 1500L));
+        countries.add(country("Samoa", null));
+        countries.add(country("US", 8000L));
+    }
+
+    /**
+     * Tests a range filter combined with a descending metric sort
+     * Ties are broken by country name
+     */
+    @Test
+    void testFilterAndSortDescending() {
+        CountryQuery query = CountryQuery.parse("newCases", "desc",
+                Collections.singletonList("newCases>=1500"), null, null, null);
+
+        CountryPage page = query.execute(countries, 7L);
+
+        assertEquals(7L, page.getVersion());
+        assertEquals(4, page.getTotal());
+        assertEquals(Arrays.asList("US", "India", "Chile", "Peru"), names(page));
+        assertNull(page.getNextCursor());
+    }
+
+    /**
+     * Tests that following cursors visits every row exactly once, with null values last
+     */
+    @Test
+    void testKeysetPagingVisitsEveryRowOnce() {
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CountryPage page = CountryQuery.parse("newCases", "asc", null, null, 2, cursor).execute(countries, 1L);
+            assertTrue(page.getItems().size() <= 2);
+            visited.addAll(names(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(Arrays.asList("Brazil", "Chile", "Peru", "India", "US", "Samoa"), visited);
+    }
+
+    /**
+     * Tests that a cursor stays valid when the dataset changes between pages
+     */
+    @Test
+    void testCursorSurvivesDatasetChange() {
+        CountryPage first = CountryQuery.parse(null, null, null, null, 2, null).execute(countries, 1L);
+        assertEquals(Arrays.asList("Brazil", "Chile"), names(first));
+
+        countries.remove(2); // India removed by a refresh
+        CountryPage second = CountryQuery.parse(null, null, null, null, 2, first.getNextCursor()).execute(countries, 2L);
+
+        assertEquals(Arrays.asList("Peru", "Samoa"), names(second));
+    }
+
+    /**
+     * Tests that names sort case-insensitively across pages, with the exact name breaking ties
+     */
+    @Test
+    void testNameSortIgnoresCase() {
+        countries.add(country("Uganda", 20L));
+        countries.add(country("samoa", 10L));
+
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CountryPage page = CountryQuery.parse(null, null, null, null, 3, cursor).execute(countries, 1L);
+            visited.addAll(names(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(Arrays.asList("Brazil", "Chile", "India", "Peru", "Samoa", "samoa", "Uganda", "US"), visited);
+    }
+
+    /**
+     * Tests that a projection returns only the requested fields
+     */
+    @Test
+    void testProjection() {
+        CountryPage page = CountryQuery.parse(null, null, null, "country,newCases", 1, null).execute(countries, 1L);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> item = (Map<String, Object>) page.getItems().get(0);
+        assertEquals(Arrays.asList("country", "newCases"), new ArrayList<>(item.keySet()));
+        assertEquals("Brazil", item.get("country"));
+        assertEquals(500L, item.get("newCases"));
+    }
+
+    /**
+     * Tests validation of unknown metrics, malformed filters and mismatched cursors
+     */
+    @Test
+    void testInvalidParametersRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CountryQuery.parse("population", null, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CountryQuery.parse(null, null, Collections.singletonList("newCases~5"), null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> CountryQuery.parse(null, null, null, null, CountryQuery.MAX_LIMIT + 1, null));
+
+        String cursor = CountryQuery.parse(null, null, null, null, 1, null).execute(countries, 1L).getNextCursor();
+        assertThrows(IllegalArgumentException.class,
+                () -> CountryQuery.parse("newCases", null, null, null, 1, cursor));
+    }
+
+    private static CovidData country(String name, Long newCases) {
+        return new CovidData(name, 10_000L, newCases, 100L, 1L, null, null, null, "3/9/23");
+    }
+
+    private static List<String> names(CountryPage page) {
+        List<String> names = new ArrayList<>();
+        for (Object item : page.getItems()) {
+            names.add(((CovidData) item).getCountry());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,87 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CountryRecords
+ * Tests null tracking through the presence bitmask, column sums and materialization
+ */
+class CountryRecordsTest {
+
+    /**
+     * Tests that rows round-trip to CovidData with absent values still null
+     */
+    @Test
+    void testRoundTripKeepsNulls() {
+        CovidData full = new CovidData("India", 3000L, 20L, 60L, 1L, 2700L, 240L, 30L, "3/9/23");
+        full.setAverageNewCases7d(18.5);
+        full.setDoublingTimeDays(Double.POSITIVE_INFINITY);
+        CovidData sparse = new CovidData("Samoa", 15L, null, null, null, null, null, null, null);
+
+        CountryRecords records = CountryRecords.of(Arrays.asList(full, sparse));
+
+        assertEquals(2, records.size());
+        assertEquals(full.toString(), records.toCovidData(0).toString());
+        assertEquals(sparse.toString(), records.toCovidData(1).toString());
+        assertFalse(records.has(CovidMetric.NEW_CASES, 1));
+        assertNull(records.getOrNull(CovidMetric.NEW_CASES, 1));
+        assertEquals(0L, records.get(CovidMetric.NEW_CASES, 1));
+        assertFalse(records.hasRolling(CountryRecords.AVERAGE_NEW_CASES_14D, 0));
+    }
+
+    /**
+     * Tests that sums skip absent values and subsets keep the selected rows in order
+     */
+    @Test
+    void testSumAndSubset() {
+        List<CovidData> rows = Arrays.asList(
+                new CovidData("Brazil", 500L, 5L, null, null, null, null, null, "3/9/23"),
+                new CovidData("Chile", 1500L, null, null, null, null, null, null, "3/9/23"),
+                new CovidData("Peru", 1500L, 7L, null, null, null, null, null, "3/9/23"));
+        CountryRecords records = CountryRecords.of(rows);
+
+        assertEquals(3500L, records.sum(CovidMetric.TOTAL_CASES));
+        assertEquals(12L, records.sum(CovidMetric.NEW_CASES));
+        assertEquals(0L, records.sum(CovidMetric.TOTAL_DEATHS));
+
+        CountryRecords subset = records.subset(new int[]{2, 0});
+        assertEquals("Peru", subset.getCountry(0));
+        assertEquals("Brazil", subset.getCountry(1));
+        assertTrue(subset.sameValues(0, records, 2));
+        assertFalse(records.sameValues(1, records, 2));
+    }
+
+    /**
+     * Tests that date labels are stored once and ids are matched across datasets by name
+     */
+    @Test
+    void testDictionaryAndIdMatching() {
+        CountryRecords previous = CountryRecords.of(Arrays.asList(
+                new CovidData("Brazil", 500L, 5L, null, null, null, null, null, "3/8/23"),
+                new CovidData("Chile", 1500L, 3L, null, null, null, null, null, "3/8/23"),
+                new CovidData("Peru", 1500L, 7L, null, null, null, null, null, "3/8/23")));
+        CountryRecords current = CountryRecords.of(Arrays.asList(
+                new CovidData("Argentina", 900L, 9L, null, null, null, null, null, "3/9/23"),
+                new CovidData("Brazil", 505L, 5L, null, null, null, null, null, "3/9/23"),
+                new CovidData("Peru", 1507L, 7L, null, null, null, null, null, null)));
+
+        assertEquals(Arrays.asList("3/9/23"), current.getDateLabels());
+        assertEquals(0, current.getLastUpdatedIndex(1));
+        assertEquals(-1, current.getLastUpdatedIndex(2));
+        assertNull(current.getLastUpdated(2));
+
+        assertArrayEquals(new int[]{-1, 0, 2}, current.matchIds(previous));
+        assertEquals(2, current.translateId(previous, 2));
+        assertEquals(-1, current.translateId(previous, 1));
+        assertEquals(1, current.translateId(current, 1));
+        assertEquals(2, current.idOf("Peru"));
+        assertEquals(-1, current.idOf("Chile"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CrossSectionCache
+ * Tests as-of-date values, per-date reuse and invalidation on refresh
+ */
+class CrossSectionCacheTest {
+
+    private OutbreakDataStore outbreakDataStore;
+    private CrossSectionCache crossSectionCache;
+    private CaseHistory history;
+
+    @BeforeEach
+    void setUp() {
+        outbreakDataStore = new OutbreakDataStore(event -> crossSectionCache.onDatasetRefreshed(
+                (DatasetRefreshedEvent) event));
+        crossSectionCache = new CrossSectionCache(outbreakDataStore, 2);
+
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Chile", new long[]{100L, 150L, 400L});
+        cumulative.put("Argentina", new long[]{10L, 30L, 60L});
+        history = new CaseHistory(
+                new LocalDate[]{LocalDate.of(2021, 6, 1), LocalDate.of(2021, 6, 2), LocalDate.of(2021, 6, 4)},
+                new String[]{"6/1/21", "6/2/21", "6/4/21"},
+                cumulative);
+        outbreakDataStore.publish(CsvParserUtil.toCovidData(history), history);
+    }
+
+    /**
+     * Tests that past values use the previous date for new cases, and gaps use the latest earlier date
+     */
+    @Test
+    void testValuesAsOfDate() {
+        CrossSection june2 = crossSectionCache.get(LocalDate.of(2021, 6, 2));
+
+        CovidData chile = june2.findCountry("chile");
+        assertEquals(150L, chile.getTotalCases());
+        assertEquals(50L, chile.getNewCases());
+        assertEquals("6/2/21", chile.getLastUpdated());
+        assertEquals(180L, june2.getGlobalTotals().getTotalCases());
+
+        // June 3 has no column: answered with June 2
+        assertEquals(LocalDate.of(2021, 6, 2), crossSectionCache.get(LocalDate.of(2021, 6, 3)).getDate());
+    }
+
+    /**
+     * Tests that a date is built once and dropped when a new snapshot is published
+     */
+    @Test
+    void testReuseAndInvalidation() {
+        CrossSection first = crossSectionCache.get(LocalDate.of(2021, 6, 1));
+        assertSame(first, crossSectionCache.get(LocalDate.of(2021, 6, 1)));
+
+        outbreakDataStore.publish(CsvParserUtil.toCovidData(history), history);
+
+        assertNotSame(first, crossSectionCache.get(LocalDate.of(2021, 6, 1)));
+    }
+
+    /**
+     * Tests that dates outside the history are rejected
+     */
+    @Test
+    void testDateOutsideHistoryRejected() {
+        assertThrows(IllegalArgumentException.class, () -> crossSectionCache.get(LocalDate.of(2021, 5, 31)));
+        assertThrows(IllegalArgumentException.class, () -> crossSectionCache.get(LocalDate.of(2021, 6, 5)));
+    }
+}
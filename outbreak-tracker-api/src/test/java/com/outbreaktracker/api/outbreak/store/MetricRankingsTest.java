@@ -0,0 +1,67 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MetricRankings
+ * Tests top-N reads in both directions, tie handling and countries without values
+ */
+class MetricRankingsTest {
+
+    private MetricRankings rankings;
+
+    @BeforeEach
+    void setUp() {
+        // Sorted by name: ids 0..4
+        List<CovidData> countries = Arrays.asList(
+                country("Brazil", 300L),
+                country("Chile", 900L),
+                country("India", 300L),
+                country("Samoa", null),
+                country("US", 1200L));
+        rankings = MetricRankings.build(CountryRecords.of(countries));
+    }
+
+    /**
+     * Tests that the highest values come first, ties alphabetical
+     */
+    @Test
+    void testTopDescending() {
+        assertArrayEquals(new int[]{4, 1, 0, 2}, rankings.top(CovidMetric.NEW_CASES, true, 10));
+        assertArrayEquals(new int[]{4, 1}, rankings.top(CovidMetric.NEW_CASES, true, 2));
+        assertEquals(4, rankings.getRankedCount(CovidMetric.NEW_CASES));
+    }
+
+    /**
+     * Tests that lowest-first reads skip countries without a value and keep ties alphabetical
+     */
+    @Test
+    void testTopAscendingSkipsMissingValues() {
+        assertArrayEquals(new int[]{0, 2, 1, 4}, rankings.top(CovidMetric.NEW_CASES, false, 10));
+        assertArrayEquals(new int[]{0}, rankings.top(CovidMetric.NEW_CASES, false, 1));
+    }
+
+    /**
+     * Tests competition ranks: equal values share a rank, missing values are unranked
+     */
+    @Test
+    void testRanks() {
+        assertEquals(1, rankings.getRank(CovidMetric.NEW_CASES, 4));
+        assertEquals(2, rankings.getRank(CovidMetric.NEW_CASES, 1));
+        assertEquals(3, rankings.getRank(CovidMetric.NEW_CASES, 0));
+        assertEquals(3, rankings.getRank(CovidMetric.NEW_CASES, 2));
+        assertEquals(0, rankings.getRank(CovidMetric.NEW_CASES, 3));
+    }
+
+    private static CovidData country(String name, Long newCases) {
+        return new CovidData(name, 10_000L, newCases, 100L, 1L, null, null, null, "3/9/23");
+    }
+}
@@ -0,0 +1,142 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CountryDelta;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OutbreakDataStore
+ * Tests dataset versioning, cache keys, changelog-based delta sync and series alignment
+ */
+class OutbreakDataStoreTest {
+
+    private OutbreakDataStore outbreakDataStore;
+
+    @BeforeEach
+    void setUp() {
+        outbreakDataStore = new OutbreakDataStore(event -> { });
+    }
+
+    /**
+     * Tests that versions strictly increase across publishes
+     */
+    @Test
+    void testVersionsIncrease() {
+        long first = outbreakDataStore.publish(dataset(100L, 200L, 300L)).getVersion();
+        long second = outbreakDataStore.publish(dataset(100L, 200L, 300L)).getVersion();
+
+        assertTrue(second > first);
+        assertEquals(second, outbreakDataStore.getVersion());
+    }
+
+    /**
+     * Tests that cache keys are scoped to the instance and version like the ETag
+     */
+    @Test
+    void testCacheKeyIsScopedToInstanceAndVersion() {
+        DatasetSnapshot snapshot = outbreakDataStore.publish(dataset(100L, 200L, 300L));
+        String scope = snapshot.getETag().replace("\"", "");
+
+        assertEquals(scope + ":all", outbreakDataStore.versionedKey("all"));
+        String brazil = outbreakDataStore.cacheKey("Brazil");
+        assertEquals(scope + ":brazil", brazil);
+        assertEquals(brazil, outbreakDataStore.cacheKey(" BRAZIL "));
+        assertNotEquals(brazil, outbreakDataStore.cacheKey("Chile"));
+
+        DatasetSnapshot next = outbreakDataStore.publish(dataset(100L, 200L, 300L));
+        assertNotEquals(brazil, outbreakDataStore.cacheKey("Brazil"));
+        assertEquals(next.getETag().replace("\"", "") + ":brazil", outbreakDataStore.cacheKey("Brazil"));
+    }
+
+    /**
+     * Tests that a delta contains only changed and removed countries
+     */
+    @Test
+    void testChangesSinceReturnsOnlyChangedCountries() {
+        long v1 = outbreakDataStore.publish(dataset(100L, 200L, 300L)).getVersion();
+        outbreakDataStore.publish(dataset(100L, 250L, 300L));
+
+        // Third refresh drops Chile entirely
+        List<CovidData> withoutChile = new ArrayList<>(dataset(100L, 250L, 300L));
+        withoutChile.removeIf(data -> data.getCountry().equals("Chile"));
+        long v3 = outbreakDataStore.publish(withoutChile).getVersion();
+
+        CountryDelta delta = outbreakDataStore.getChangesSince(v1);
+
+        assertFalse(delta.isFullResync());
+        assertEquals(v3, delta.getCurrentVersion());
+        assertEquals(1, delta.getChanged().size());
+        assertEquals("Brazil", delta.getChanged().get(0).getCountry());
+        assertEquals(250L, delta.getChanged().get(0).getTotalCases());
+        assertEquals(Arrays.asList("Chile"), delta.getRemoved());
+    }
+
+    /**
+     * Tests that the current version yields an empty delta
+     */
+    @Test
+    void testChangesSinceCurrentVersionIsEmpty() {
+        long v1 = outbreakDataStore.publish(dataset(100L, 200L, 300L)).getVersion();
+
+        CountryDelta delta = outbreakDataStore.getChangesSince(v1);
+
+        assertFalse(delta.isFullResync());
+        assertTrue(delta.getChanged().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+    }
+
+    /**
+     * Tests that unknown or aged-out versions produce a full-resync marker
+     */
+    @Test
+    void testChangesSinceUnknownVersionRequiresFullResync() {
+        outbreakDataStore.publish(dataset(100L, 200L, 300L));
+        outbreakDataStore.publish(dataset(110L, 200L, 300L));
+
+        CountryDelta delta = outbreakDataStore.getChangesSince(42L);
+
+        assertTrue(delta.isFullResync());
+        assertTrue(delta.getChanged().isEmpty());
+    }
+
+    /**
+     * Tests that published history is aligned with country ids, with daily deltas and global sums
+     */
+    @Test
+    void testSeriesAlignedWithCountryIds() {
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Chile", new long[]{10L, 15L, 15L});
+        cumulative.put("Argentina", new long[]{1L, 3L, 6L});
+        CaseHistory history = new CaseHistory(
+                new LocalDate[]{LocalDate.of(2023, 3, 7), LocalDate.of(2023, 3, 8), LocalDate.of(2023, 3, 9)},
+                new String[]{"3/7/23", "3/8/23", "3/9/23"},
+                cumulative);
+
+        DatasetSeries series = outbreakDataStore.publish(dataset(6L, 0L, 15L), history).getSeries();
+
+        assertEquals(3, series.getDayCount());
+        assertArrayEquals(new long[]{1L, 3L, 6L}, series.getCumulativeCases(0).toArray());
+        assertArrayEquals(new long[]{1L, 2L, 3L}, series.getNewCases(0).toArray());
+        assertArrayEquals(new long[]{0L, 0L, 0L}, series.getCumulativeCases(1).toArray()); // Brazil has no history
+        assertArrayEquals(new long[]{11L, 7L, 3L}, series.getGlobalNewCases().toArray());
+        assertEquals(1, series.indexOnOrAfter(LocalDate.of(2023, 3, 8)));
+        assertEquals(2, series.indexOnOrBefore(LocalDate.of(2023, 12, 31)));
+    }
+
+    private static List<CovidData> dataset(long argentina, long brazil, long chile) {
+        return Arrays.asList(
+                new CovidData("Argentina", argentina, 1L, 2L, 0L, 90L, 8L, 1L, "3/9/23"),
+                new CovidData("Brazil", brazil, 1L, 4L, 0L, 180L, 16L, 2L, "3/9/23"),
+                new CovidData("Chile", chile, 1L, 6L, 0L, 270L, 24L, 3L, "3/9/23"));
+    }
+}
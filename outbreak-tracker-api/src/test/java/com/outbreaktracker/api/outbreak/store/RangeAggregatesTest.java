@@ -0,0 +1,94 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.CovidMetric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RangeAggregates
+ * Tests that prefix-sum range totals match summing the daily values directly, for flow metrics only
+ */
+class RangeAggregatesTest {
+
+    private List<CovidData> countries;
+    private DatasetSeries series;
+    private RangeAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Chile", new long[]{100L, 150L, 400L, 1000L});
+        cumulative.put("Peru", new long[]{0L, 55L, 55L, 260L});
+        CaseHistory history = new CaseHistory(
+                new LocalDate[]{LocalDate.of(2021, 6, 1), LocalDate.of(2021, 6, 2),
+                        LocalDate.of(2021, 6, 3), LocalDate.of(2021, 6, 4)},
+                new String[]{"6/1/21", "6/2/21", "6/3/21", "6/4/21"},
+                cumulative);
+        countries = CsvParserUtil.toCovidData(history);
+        series = DatasetSeries.build(countries, history);
+        aggregates = RangeAggregates.build(countries.size(), series);
+    }
+
+    /**
+     * Tests that the sum of new cases over a range is the change in cumulative cases
+     */
+    @Test
+    void testNewCasesSumMatchesCumulativeChange() {
+        // Chile is country id 0: 150 -> 1000 over June 3-4
+        assertEquals(850L, aggregates.sum(CovidMetric.NEW_CASES, 0, 2, 3));
+        assertEquals(1000L, aggregates.sum(CovidMetric.NEW_CASES, 0, 0, 3));
+        assertEquals(50L + 55L, aggregates.sum(CovidMetric.NEW_CASES, RangeAggregates.GLOBAL, 1, 1));
+    }
+
+    /**
+     * Tests every flow metric and range against a brute-force sum of the daily values
+     */
+    @Test
+    void testMatchesBruteForceForEveryRange() {
+        for (CovidMetric metric : new CovidMetric[]{CovidMetric.NEW_CASES, CovidMetric.NEW_DEATHS}) {
+            for (int from = 0; from < series.getDayCount(); from++) {
+                for (int to = from; to < series.getDayCount(); to++) {
+                    long expectedGlobal = 0;
+                    for (int id = 0; id < countries.size(); id++) {
+                        long expected = bruteForce(metric, id, from, to);
+                        expectedGlobal += expected;
+                        assertEquals(expected, aggregates.sum(metric, id, from, to), metric + " " + from + ".." + to);
+                    }
+                    assertEquals(expectedGlobal, aggregates.sum(metric, RangeAggregates.GLOBAL, from, to));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that running totals are not summed day by day (that would add up e.g. 4 cumulative counts)
+     */
+    @Test
+    void testRunningTotalsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> aggregates.sum(CovidMetric.TOTAL_CASES, 0, 0, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> aggregates.sum(CovidMetric.ACTIVE_CASES, RangeAggregates.GLOBAL, 0, 3));
+        assertTrue(CovidMetric.NEW_DEATHS.isFlow());
+        assertFalse(CovidMetric.TOTAL_DEATHS.isFlow());
+    }
+
+    private long bruteForce(CovidMetric metric, int countryId, int from, int to) {
+        SeriesView cumulative = series.getCumulativeCases(countryId);
+        long sum = 0;
+        for (int day = from; day <= to; day++) {
+            long previous = day == 0 ? 0L : cumulative.get(day - 1);
+            Long value = metric.extract(CsvParserUtil.createCovidData("x", cumulative.get(day), previous, null));
+            sum += value != null ? value : 0L;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.common.util.CsvParserUtil;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RegionRollups
+ * Tests that region totals and series are the sums of their member countries
+ */
+class RegionRollupsTest {
+
+    private RegionRollups rollups;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, long[]> cumulative = new LinkedHashMap<>();
+        cumulative.put("Chile", new long[]{100L, 150L, 400L});
+        cumulative.put("Diamond Princess", new long[]{700L, 700L, 712L});
+        cumulative.put("France", new long[]{10L, 30L, 60L});
+        cumulative.put("Peru", new long[]{0L, 55L, 55L});
+        CaseHistory history = new CaseHistory(
+                new LocalDate[]{LocalDate.of(2021, 6, 1), LocalDate.of(2021, 6, 2), LocalDate.of(2021, 6, 3)},
+                new String[]{"6/1/21", "6/2/21", "6/3/21"},
+                cumulative);
+        List<CovidData> countries = CsvParserUtil.toCovidData(history);
+
+        Map<String, String[]> regions = new HashMap<>();
+        regions.put("Chile", new String[]{"South America", "AMR"});
+        regions.put("France", new String[]{"Europe", "EUR"});
+        regions.put("Peru", new String[]{"South America", "AMR"});
+        rollups = RegionRollups.build(CountryRecords.of(countries), DatasetSeries.build(countries, history), regions, Instant.now());
+    }
+
+    /**
+     * Tests that region totals and series add up their members only
+     */
+    @Test
+    void testRegionSumsMembers() {
+        RegionRollups.Region southAmerica = rollups.getRegion("South America");
+        assertEquals(RegionRollups.CONTINENT, southAmerica.getType());
+        assertEquals(Arrays.asList("Chile", "Peru"), southAmerica.getCountries());
+        assertEquals(455L, southAmerica.getTotals().getTotalCases());
+        assertEquals(2, southAmerica.getTotals().getAffectedCountries());
+        assertArrayEquals(new long[]{100L, 205L, 455L}, southAmerica.getCumulativeCases().toArray());
+        assertArrayEquals(new long[]{100L, 105L, 250L}, southAmerica.getNewCases().toArray());
+
+        assertEquals(RegionRollups.WHO_REGION, rollups.getRegion("AMR").getType());
+        assertEquals(1, rollups.getUnassignedCount());
+    }
+
+    /**
+     * Tests that lookups ignore case and punctuation and list continents first
+     */
+    @Test
+    void testLookupAndOrdering() {
+        assertSame(rollups.getRegion("South America"), rollups.getRegion("south-america"));
+        assertSame(rollups.getRegion("EUR"), rollups.getRegion("eur"));
+        assertNull(rollups.getRegion("Atlantis"));
+
+        assertEquals(Arrays.asList("Europe", "South America", "AMR", "EUR"),
+                rollups.getRegions().stream().map(RegionRollups.Region::getName).collect(Collectors.toList()));
+    }
+
+    /**
+     * Tests that the bundled mapping parses with a continent for every listed country
+     */
+    @Test
+    void testBundledMappingParses() throws Exception {
+        Map<String, String[]> regions = CsvParserUtil.parseCountryRegions(new ClassPathResource("data/country_regions.tsv"));
+        assertArrayEquals(new String[]{"North America", "AMR"}, regions.get("US"));
+        assertEquals("Antarctica", regions.get("Antarctica")[0]);
+        assertNull(regions.get("Antarctica")[1]);
+        assertFalse(regions.containsKey("MS Zaandam"));
+    }
+}
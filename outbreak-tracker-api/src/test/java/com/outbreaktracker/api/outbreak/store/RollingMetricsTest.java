@@ -0,0 +1,98 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.model.GlobalStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RollingMetrics
+ * Tests window averages, week-over-week growth, doubling time and worldwide aggregation
+ */
+class RollingMetricsTest {
+
+    /**
+     * Tests metrics for a series with 10 new cases a day for a week, then 20 a day
+     */
+    @Test
+    void testMetricsFromCumulativeSeries() {
+        long[] cumulative = new long[15];
+        cumulative[0] = 100;
+        for (int day = 1; day < cumulative.length; day++) {
+            cumulative[day] = cumulative[day - 1] + (day <= 7 ? 10 : 20);
+        }
+
+        CovidData data = new CovidData();
+        RollingMetrics.apply(data, cumulative, 14);
+
+        assertEquals(20.0, data.getAverageNewCases7d());
+        assertEquals(15.0, data.getAverageNewCases14d());
+        assertEquals(1.0, data.getWeekOverWeekGrowth(), 1e-9);
+        // 170 -> 310 in a week: 7 * ln 2 / ln(310 / 170)
+        assertEquals(7 * Math.log(2) / Math.log(310.0 / 170.0), data.getDoublingTimeDays(), 1e-9);
+    }
+
+    /**
+     * Tests that windows reaching before the first day, and flat series, yield nulls
+     */
+    @Test
+    void testShortOrFlatHistoryYieldsNulls() {
+        CovidData shortHistory = new CovidData();
+        RollingMetrics.apply(shortHistory, new long[]{1, 2, 3, 4, 5, 6, 7, 8}, 7);
+        assertEquals(1.0, shortHistory.getAverageNewCases7d());
+        assertNull(shortHistory.getAverageNewCases14d());
+        assertNull(shortHistory.getWeekOverWeekGrowth());
+
+        CovidData flat = new CovidData();
+        long[] constant = new long[15];
+        Arrays.fill(constant, 500L);
+        RollingMetrics.apply(flat, constant, 14);
+        assertEquals(0.0, flat.getAverageNewCases7d());
+        assertNull(flat.getWeekOverWeekGrowth());
+        assertNull(flat.getDoublingTimeDays());
+    }
+
+    /**
+     * Tests that worldwide metrics come straight from the summed cumulative series, so
+     * fractional per-country averages are not rounded before they are combined
+     */
+    @Test
+    void testTotalsFromSummedSeries() {
+        // Two countries adding 1 and 2 cases on alternate days, then 5 a day in the last week
+        long[] global = new long[15];
+        global[0] = 1000;
+        for (int day = 1; day < global.length; day++) {
+            long fast = day <= 7 ? (day % 2 == 0 ? 2 : 0) : 5;
+            long slow = day <= 7 ? (day % 2 == 1 ? 1 : 0) : 0;
+            global[day] = global[day - 1] + fast + slow;
+        }
+
+        GlobalStats stats = new GlobalStats();
+        RollingMetrics.applyTotals(stats, new SeriesView(global), 14);
+
+        assertEquals(35.0 / 7, stats.getAverageNewCases7d(), 1e-9);
+        assertEquals(45.0 / 14, stats.getAverageNewCases14d(), 1e-9);
+        assertEquals(35.0 / 10.0 - 1.0, stats.getWeekOverWeekGrowth(), 1e-9);
+        assertEquals(7 * Math.log(2) / Math.log(1045.0 / 1010.0), stats.getDoublingTimeDays(), 1e-9);
+    }
+
+    /**
+     * Tests that worldwide metrics stay null when the window reaches before the first day
+     */
+    @Test
+    void testTotalsWithShortOrEmptySeries() {
+        GlobalStats shortHistory = new GlobalStats();
+        RollingMetrics.applyTotals(shortHistory, new SeriesView(new long[]{10, 12, 15, 19, 20, 22, 25, 30}), 7);
+        assertEquals(20.0 / 7, shortHistory.getAverageNewCases7d(), 1e-9);
+        assertNull(shortHistory.getAverageNewCases14d());
+        assertNull(shortHistory.getWeekOverWeekGrowth());
+
+        GlobalStats empty = new GlobalStats();
+        RollingMetrics.applyTotals(empty, new SeriesView(new long[0]), -1);
+        assertNull(empty.getAverageNewCases7d());
+        assertNull(empty.getDoublingTimeDays());
+    }
+}
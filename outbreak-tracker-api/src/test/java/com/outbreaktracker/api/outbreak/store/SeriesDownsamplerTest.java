@@ -0,0 +1,64 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SeriesDownsampler
+ * Tests point budget, end points, peak preservation and zero-copy slicing
+ */
+class SeriesDownsamplerTest {
+
+    /**
+     * Tests that the result has exactly maxPoints ascending indexes including both ends
+     */
+    @Test
+    void testKeepsEndpointsAndBudget() {
+        long[] values = new long[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) (1000 * Math.sin(i / 40.0));
+        }
+
+        int[] points = SeriesDownsampler.largestTriangleThreeBuckets(new SeriesView(values), 50);
+
+        assertEquals(50, points.length);
+        assertEquals(0, points[0]);
+        assertEquals(999, points[49]);
+        for (int i = 1; i < points.length; i++) {
+            assertTrue(points[i] > points[i - 1]);
+        }
+    }
+
+    /**
+     * Tests that a single-day spike survives downsampling
+     */
+    @Test
+    void testPreservesSpike() {
+        long[] values = new long[1000];
+        values[613] = 50_000L;
+
+        int[] points = SeriesDownsampler.largestTriangleThreeBuckets(new SeriesView(values), 20);
+
+        boolean spikeKept = false;
+        for (int point : points) {
+            spikeKept |= point == 613;
+        }
+        assertTrue(spikeKept);
+    }
+
+    /**
+     * Tests that short series are returned in full, and slices index into the shared array
+     */
+    @Test
+    void testShortSeriesAndSlices() {
+        long[] values = {5, 6, 7, 8, 9, 10};
+        SeriesView slice = new SeriesView(values).slice(2, 5);
+
+        int[] points = SeriesDownsampler.largestTriangleThreeBuckets(slice, 10);
+
+        assertArrayEquals(new int[]{0, 1, 2}, points);
+        assertArrayEquals(new long[]{7, 8, 9}, slice.pick(points));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.get(3));
+    }
+}
@@ -0,0 +1,48 @@
+package com.outbreaktracker.api.outbreak.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SeriesView
+ * Tests that precomputed prefix hashes match folding extendHash() and back the resume check
+ */
+class SeriesViewTest {
+
+    /**
+     * Tests that stored prefix hashes equal the hashes computed from the values, also for slices
+     */
+    @Test
+    void testPrecomputedPrefixHashes() {
+        long[] values = {0L, 100L, 210L, 300L, 410L};
+        SeriesView stored = new SeriesView(values, SeriesView.prefixHashes(values));
+        SeriesView plain = new SeriesView(values);
+
+        long hash = SeriesView.EMPTY_PREFIX_HASH;
+        for (int length = 0; length <= values.length; length++) {
+            assertEquals(hash, stored.prefixHash(length));
+            assertEquals(hash, plain.prefixHash(length));
+            if (length < values.length) {
+                hash = SeriesView.extendHash(hash, values[length]);
+            }
+        }
+
+        assertEquals(plain.prefixHash(3), stored.slice(0, 4).prefixHash(3));
+        assertEquals(SeriesView.copyOf(100L, 210L).prefixHash(2), stored.slice(1, 4).prefixHash(2));
+    }
+
+    /**
+     * Tests that a consumed prefix resumes only on series that still start with the same values
+     */
+    @Test
+    void testStartsWith() {
+        long consumed = SeriesView.copyOf(0L, 100L, 210L).prefixHash(3);
+
+        assertTrue(SeriesView.copyOf(0L, 100L, 210L, 300L).startsWith(3, consumed));
+        assertTrue(SeriesView.copyOf(0L, 100L, 210L).startsWith(3, consumed));
+        assertFalse(SeriesView.copyOf(0L, 101L, 210L, 300L).startsWith(3, consumed));
+        assertFalse(SeriesView.copyOf(0L, 100L).startsWith(3, consumed));
+        assertFalse(SeriesView.copyOf(0L, 100L).startsWith(0, SeriesView.EMPTY_PREFIX_HASH));
+    }
+}
@@ -0,0 +1,178 @@
+package com.outbreaktracker.api.outbreak.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outbreaktracker.api.outbreak.model.CovidData;
+import com.outbreaktracker.api.outbreak.store.DatasetRefreshedEvent;
+import com.outbreaktracker.api.outbreak.store.OutbreakDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DatasetUpdateBroadcaster
+ * Tests the subscriber cap, slow-subscriber eviction, heartbeats and update fan-out
+ */
+class DatasetUpdateBroadcasterTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    private RecordingBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    /**
+     * Tests that connections beyond max-subscribers are rejected
+     */
+    @Test
+    void testSubscriberCap() {
+        broadcaster = new RecordingBroadcaster(2, 16);
+
+        assertNotNull(broadcaster.subscribe(null));
+        assertNotNull(broadcaster.subscribe(null));
+        assertNull(broadcaster.subscribe(null));
+        assertEquals(2, broadcaster.getSubscriberCount());
+    }
+
+    /**
+     * Tests that a subscriber whose queue exceeds max-pending is disconnected
+     * while its send thread is stuck on a slow client
+     */
+    @Test
+    void testSlowSubscriberIsEvicted() throws Exception {
+        broadcaster = new RecordingBroadcaster(10, 3);
+        broadcaster.blockSends = new CountDownLatch(1);
+        RecordingEmitter slow = (RecordingEmitter) broadcaster.subscribe(null);
+
+        // The first event is taken off the queue and blocks in send
+        broadcaster.sendHeartbeats();
+        assertNotNull(slow.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+
+        // Three more fill the queue up to max-pending; the fourth overflows it
+        for (int i = 0; i < 3; i++) {
+            broadcaster.sendHeartbeats();
+        }
+        assertEquals(1, broadcaster.getSubscriberCount());
+        assertFalse(slow.completed);
+
+        broadcaster.sendHeartbeats();
+        assertEquals(0, broadcaster.getSubscriberCount());
+        assertTrue(slow.completed);
+
+        // Queued events are dropped rather than sent once the client unblocks
+        broadcaster.blockSends.countDown();
+        assertNull(slow.sent.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Tests that a heartbeat is a comment line sent to every subscriber
+     */
+    @Test
+    void testHeartbeatIsSentAsComment() throws Exception {
+        broadcaster = new RecordingBroadcaster(10, 16);
+        RecordingEmitter first = (RecordingEmitter) broadcaster.subscribe(null);
+        RecordingEmitter second = (RecordingEmitter) broadcaster.subscribe(null);
+
+        broadcaster.sendHeartbeats();
+
+        assertEquals(":heartbeat\n\n", first.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(":heartbeat\n\n", second.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(2, broadcaster.getSubscriberCount());
+    }
+
+    /**
+     * Tests that a refresh reaches subscribers and a reconnect on an old version catches up
+     */
+    @Test
+    void testUpdatesAndReconnectCatchUp() throws Exception {
+        broadcaster = new RecordingBroadcaster(10, 16);
+        OutbreakDataStore store = new OutbreakDataStore(event -> {
+            if (event instanceof DatasetRefreshedEvent) {
+                broadcaster.onDatasetRefreshed((DatasetRefreshedEvent) event);
+            }
+        });
+        long v1 = store.publish(dataset(100L)).getVersion();
+        RecordingEmitter current = (RecordingEmitter) broadcaster.subscribe(Long.toString(v1));
+
+        long v2 = store.publish(dataset(150L)).getVersion();
+        String update = current.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(update.startsWith("id:" + v2 + "\nevent:" + DatasetUpdateBroadcaster.UPDATE_EVENT_NAME));
+        assertTrue(update.contains("\"Brazil\""));
+
+        RecordingEmitter behind = (RecordingEmitter) broadcaster.subscribe(Long.toString(v1));
+        assertTrue(behind.sent.poll(WAIT_SECONDS, TimeUnit.SECONDS).startsWith("id:" + v2 + "\n"));
+    }
+
+    private static List<CovidData> dataset(long brazil) {
+        return Arrays.asList(
+                new CovidData("Argentina", 100L, 1L, 2L, 0L, 90L, 8L, 1L, "3/9/23"),
+                new CovidData("Brazil", brazil, 1L, 4L, 0L, 180L, 16L, 2L, "3/9/23"));
+    }
+
+    /**
+     * Broadcaster with one send thread whose emitters record what they send
+     */
+    private static final class RecordingBroadcaster extends DatasetUpdateBroadcaster {
+
+        private volatile CountDownLatch blockSends;
+
+        private RecordingBroadcaster(int maxSubscribers, int maxPending) {
+            super(new ObjectMapper(), maxSubscribers, maxPending, 60000L, 1);
+        }
+
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            return new RecordingEmitter(this);
+        }
+    }
+
+    /**
+     * Emitter that records each sent event as its wire text and optionally blocks like a slow client
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final RecordingBroadcaster broadcaster;
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private volatile boolean completed;
+
+        private RecordingEmitter(RecordingBroadcaster broadcaster) {
+            this.broadcaster = broadcaster;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            String text = builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(Object::toString)
+                    .collect(Collectors.joining());
+            sent.add(text);
+            CountDownLatch latch = broadcaster.blockSends;
+            if (latch != null) {
+                try {
+                    latch.await(WAIT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -30,17 +30,15 @@ async function loadAnalytics() {
     try {
         showLoading(true);
         
-        const [summaryResponse, timelineResponse] = await Promise.all([
-            fetch(`${CONFIG.API_BASE_URL}/analytics/summary`),
-            fetch(`${CONFIG.API_BASE_URL}/analytics/timeline`)
-        ]);
+        // Summary and timeline come pre-assembled in one response
+        const response = await fetch(`${CONFIG.API_BASE_URL}/analytics/dashboard`);
 
-        if (!summaryResponse.ok || !timelineResponse.ok) {
+        if (!response.ok) {
             throw new Error('Failed to fetch analytics data');
         }
 
-        const summary = await summaryResponse.json();
-        const timeline = await timelineResponse.json();
+        const summary = await response.json();
+        const timeline = summary.timeline || [];
 
         console.log('[Analytics] Data loaded:', { 
             totalRequests: summary.totalRequests, 
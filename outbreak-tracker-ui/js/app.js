@@ -20,6 +20,12 @@ let countriesData = [];
 let sortDirection = 'asc';
 let sortColumnIndex = -1;
 
+// Search suggestions: keystrokes are debounced, and answers are cached per query
+// until the next data load (a refresh can add countries or aliases)
+const SEARCH_DEBOUNCE_MS = 200;
+let searchDebounceTimer = null;
+const suggestionCache = new Map();
+
 // ============================================
 // Application Initialization
 // ============================================
@@ -30,14 +36,74 @@ let sortColumnIndex = -1;
 document.addEventListener('DOMContentLoaded', function() {
     console.log('Respiratory Outbreak Monitoring Dashboard initialized');
     loadAllData();
+    subscribeToUpdates();
 });
 
 /**
- * Load all data (global stats and countries)
+ * Listen for dataset updates pushed by the API (Server-Sent Events)
+ * Reloads the dashboard when a refresh completes instead of polling;
+ * EventSource reconnects automatically if the stream drops
  */
-function loadAllData() {
-    fetchGlobalStats();
-    fetchCountriesData();
+function subscribeToUpdates() {
+    if (!window.EventSource) {
+        return;
+    }
+    
+    const source = new EventSource(`${CONFIG.API_BASE_URL}/stream/updates`);
+    let currentVersion = null;
+    
+    source.addEventListener('dataset-update', function(event) {
+        const update = JSON.parse(event.data);
+        if (currentVersion !== null && update.version !== currentVersion) {
+            console.log(`Dataset updated to version ${update.version} (${update.changedCountries.length} countries changed)`);
+            loadAllData();
+        }
+        currentVersion = update.version;
+    });
+}
+
+/**
+ * Load all data (global stats and countries) with a single request to /dashboard
+ * Falls back to separate /global and /countries requests if the bundle is unavailable
+ */
+async function loadAllData() {
+    suggestionCache.clear();
+    
+    const globalLoading = document.getElementById('global-loading');
+    const cardsDiv = document.getElementById('global-stats-cards');
+    const countriesLoading = document.getElementById('countries-loading');
+    const tableContainer = document.getElementById('countries-table-container');
+    
+    // Show loading state
+    globalLoading.style.display = 'block';
+    cardsDiv.style.display = 'none';
+    countriesLoading.style.display = 'block';
+    tableContainer.style.display = 'none';
+    
+    try {
+        const response = await fetch(`${CONFIG.API_BASE_URL}/dashboard`);
+        
+        if (!response.ok) {
+            throw new Error(`HTTP error! Status: ${response.status}`);
+        }
+        
+        const dashboard = await response.json();
+        renderGlobalStats(dashboard.global);
+        countriesData = dashboard.countries;
+        renderCountriesTable(countriesData);
+        populateCountryDropdown(countriesData);
+        
+        // Hide loading, show cards and table
+        globalLoading.style.display = 'none';
+        cardsDiv.style.display = 'flex';
+        countriesLoading.style.display = 'none';
+        tableContainer.style.display = 'block';
+        
+    } catch (error) {
+        console.warn('Dashboard bundle unavailable, loading sections separately:', error);
+        fetchGlobalStats();
+        fetchCountriesData();
+    }
 }
 
 /**
@@ -220,14 +286,50 @@ function populateCountryDropdown(countries) {
 // Search and Filter Functions
 // ============================================
 
+/**
+ * Schedule the country filter after the user stops typing
+ * Called on every keystroke; only the last one within SEARCH_DEBOUNCE_MS runs the filter
+ */
+function scheduleCountryFilter() {
+    clearTimeout(searchDebounceTimer);
+    searchDebounceTimer = setTimeout(filterCountries, SEARCH_DEBOUNCE_MS);
+}
+
 /**
  * Filter countries based on search input
+ * Substring matches are combined with server-side suggestions, so aliases
+ * such as "USA" or "South Korea" also find their country
  */
-function filterCountries() {
-    const searchInput = document.getElementById('search-input').value.toLowerCase();
+async function filterCountries() {
+    const rawInput = document.getElementById('search-input').value;
+    const searchInput = rawInput.toLowerCase();
+    
+    let suggestedCountries = [];
+    const query = searchInput.trim();
+    if (query) {
+        if (suggestionCache.has(query)) {
+            suggestedCountries = suggestionCache.get(query);
+        } else {
+            try {
+                const response = await fetch(`${CONFIG.API_BASE_URL}/countries/suggest?q=${encodeURIComponent(query)}`);
+                if (response.ok) {
+                    suggestedCountries = await response.json();
+                    suggestionCache.set(query, suggestedCountries);
+                }
+            } catch (error) {
+                console.warn('Country suggestions unavailable:', error);
+            }
+            
+            // Ignore stale responses if the user kept typing
+            if (document.getElementById('search-input').value !== rawInput) {
+                return;
+            }
+        }
+    }
     
     const filteredCountries = countriesData.filter(country => 
-        country.country.toLowerCase().includes(searchInput)
+        country.country.toLowerCase().includes(searchInput) ||
+        suggestedCountries.includes(country.country)
     );
     
     renderCountriesTable(filteredCountries);
@@ -239,18 +341,17 @@ function filterCountries() {
 
 /**
  * Sort table by column
+ * Sorting is done by the API (/countries?sort=...&order=...), which also returns
+ * only the columns shown in the table; the local sort is a fallback if the request fails
  * @param {number} columnIndex - Index of the column to sort by
  */
-function sortTable(columnIndex) {
-    // Column 0 is "#" (row number), not sortable - adjust index
-    const actualColumnIndex = columnIndex;
-    
+async function sortTable(columnIndex) {
     // Toggle sort direction if clicking the same column
-    if (sortColumnIndex === actualColumnIndex) {
+    if (sortColumnIndex === columnIndex) {
         sortDirection = sortDirection === 'asc' ? 'desc' : 'asc';
     } else {
         sortDirection = 'asc';
-        sortColumnIndex = actualColumnIndex;
+        sortColumnIndex = columnIndex;
     }
     
     // Define sort keys for each column (column 0 is "#", so start from index 1)
@@ -262,7 +363,45 @@ function sortTable(columnIndex) {
         return;
     }
     
-    // Sort the countries data
+    const requestedDirection = sortDirection;
+    try {
+        const params = new URLSearchParams({
+            sort: sortKey,
+            order: requestedDirection,
+            fields: sortKeys.slice(1).join(','),
+            limit: Math.min(Math.max(countriesData.length, 1), 500)
+        });
+        const response = await fetch(`${CONFIG.API_BASE_URL}/countries?${params}`);
+        if (!response.ok) {
+            throw new Error(`HTTP error! Status: ${response.status}`);
+        }
+        const page = await response.json();
+        
+        // Ignore stale responses if the user clicked another column meanwhile
+        if (sortColumnIndex !== columnIndex || sortDirection !== requestedDirection) {
+            return;
+        }
+        countriesData = page.items;
+    } catch (error) {
+        console.warn('Server-side sort unavailable, sorting locally:', error);
+        sortCountriesLocally(sortKey, requestedDirection);
+    }
+    
+    // Re-render the table with sorted data, keeping the current search filter
+    const searchInput = document.getElementById('search-input').value;
+    if (searchInput.trim()) {
+        filterCountries();
+    } else {
+        renderCountriesTable(countriesData);
+    }
+}
+
+/**
+ * Sort the loaded countries in the browser
+ * @param {string} sortKey - Field to sort by
+ * @param {string} direction - 'asc' or 'desc'
+ */
+function sortCountriesLocally(sortKey, direction) {
     countriesData.sort((a, b) => {
         let aValue = a[sortKey];
         let bValue = b[sortKey];
@@ -271,19 +410,16 @@ function sortTable(columnIndex) {
         if (sortKey === 'country') {
             aValue = aValue.toLowerCase();
             bValue = bValue.toLowerCase();
-            return sortDirection === 'asc' 
+            return direction === 'asc' 
                 ? aValue.localeCompare(bValue)
                 : bValue.localeCompare(aValue);
         }
         
         // Handle numeric comparison
-        return sortDirection === 'asc' 
+        return direction === 'asc' 
             ? (aValue || 0) - (bValue || 0)
             : (bValue || 0) - (aValue || 0);
     });
-    
-    // Re-render the table with sorted data
-    renderCountriesTable(countriesData);
 }
 
 // ============================================